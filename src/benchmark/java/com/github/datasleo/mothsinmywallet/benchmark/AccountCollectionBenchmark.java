@@ -0,0 +1,152 @@
+package com.github.datasleo.mothsinmywallet.benchmark;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.TimeUnit;
+
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Level;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.TearDown;
+import org.openjdk.jmh.annotations.Warmup;
+import org.springframework.context.ConfigurableApplicationContext;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.transaction.PlatformTransactionManager;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import com.github.datasleo.mothsinmywallet.dto.PaymentMethodDto;
+import com.github.datasleo.mothsinmywallet.dto.TagDto;
+import com.github.datasleo.mothsinmywallet.model.Account;
+import com.github.datasleo.mothsinmywallet.model.PaymentMethod;
+import com.github.datasleo.mothsinmywallet.model.Tag;
+import com.github.datasleo.mothsinmywallet.repository.AccountRepository;
+import com.github.datasleo.mothsinmywallet.service.PaymentMethodService;
+import com.github.datasleo.mothsinmywallet.service.TagService;
+
+import jakarta.persistence.EntityManager;
+
+/**
+ * Adds and removes one tag or payment method on an account that already has ten thousand of them:
+ * through the Account collection, relying on cascade and orphanRemoval (every child is read first),
+ * and through TagService / PaymentMethodService, which write the child on its own.
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+@Warmup(iterations = 3, time = 2)
+@Measurement(iterations = 5, time = 2)
+@Fork(value = 1, jvmArgsAppend = "-Xmx2g")
+public class AccountCollectionBenchmark {
+
+    private static final int BATCH_SIZE = 1_000;
+
+    @Param("10000")
+    private int children;
+
+    @Param({"tag", "payment"})
+    private String child;
+
+    private ConfigurableApplicationContext context;
+
+    private TagService tagService;
+    private PaymentMethodService paymentService;
+    private EntityManager entityManager;
+    private TransactionTemplate transactionTemplate;
+
+    private long accountId;
+    private long counter;
+
+    @Setup(Level.Trial)
+    public void setup() {
+
+        context = BenchmarkApplication.start();
+
+        tagService = context.getBean(TagService.class);
+        paymentService = context.getBean(PaymentMethodService.class);
+        entityManager = context.getBean(EntityManager.class);
+        transactionTemplate = new TransactionTemplate(context.getBean(PlatformTransactionManager.class));
+
+        accountId = context.getBean(AccountRepository.class).save(new Account("bench@bench.com", "hashed_password", "bench")).getId();
+
+        JdbcTemplate jdbcTemplate = context.getBean(JdbcTemplate.class);
+
+        List<Object[]> batch = new ArrayList<>(BATCH_SIZE);
+
+        for(int i = 0; i < children; i++) {
+
+            batch.add(new Object[] {"seed-" + i, "description", accountId});
+
+            if(batch.size() == BATCH_SIZE || i == children - 1) {
+                jdbcTemplate.batchUpdate("INSERT INTO tag_table (tag_name, tag_description, fk_account_table) VALUES (?, ?, ?)", batch);
+                jdbcTemplate.batchUpdate("INSERT INTO payment_method_table (payment_name, payment_description, fk_account_table) VALUES (?, ?, ?)", batch);
+                batch.clear();
+            }
+
+        }
+
+    }
+
+    @TearDown(Level.Trial)
+    public void tearDown() {
+        context.close();
+    }
+
+    @Benchmark
+    public void throughCollection() {
+
+        String name = "bench-" + counter++;
+
+        transactionTemplate.executeWithoutResult(status -> {
+
+            Account account = entityManager.find(Account.class, accountId);
+
+            if("tag".equals(child)) {
+
+                Tag tag = new Tag(name, "description", account);
+                account.getTags().add(tag);
+                entityManager.flush();
+
+                account.getTags().remove(tag);
+
+            } else {
+
+                PaymentMethod payment = new PaymentMethod(name, "description", account);
+                account.getPayments().add(payment);
+                entityManager.flush();
+
+                account.getPayments().remove(payment);
+
+            }
+
+        });
+
+    }
+
+    @Benchmark
+    public void throughService() {
+
+        String name = "bench-" + counter++;
+
+        if("tag".equals(child)) {
+
+            Tag tag = tagService.createTag(new TagDto(name, "description", accountId));
+            tagService.deleteTag(tag.getId(), accountId);
+
+        } else {
+
+            PaymentMethod payment = paymentService.createPayment(new PaymentMethodDto(name, "description", accountId));
+            paymentService.deletePayment(payment.getId(), accountId);
+
+        }
+
+    }
+
+}
@@ -0,0 +1,73 @@
+package com.github.datasleo.mothsinmywallet.benchmark;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.UUID;
+
+import org.springframework.boot.WebApplicationType;
+import org.springframework.boot.builder.SpringApplicationBuilder;
+import org.springframework.context.ConfigurableApplicationContext;
+
+import com.github.datasleo.mothsinmywallet.MothsinmywalletApplication;
+
+public final class BenchmarkApplication {
+
+    private BenchmarkApplication() {}
+
+    // Boots the application without a web server on a private in-memory H2 database.
+    // Run with -Dbenchmark.datasource.url (and .username, .password) to use a real database instead;
+    // it must be a scratch schema, as benchmarks migrate it and leave their rows behind.
+    public static ConfigurableApplicationContext start(String... properties) {
+        return start(WebApplicationType.NONE, "benchmark-" + UUID.randomUUID(), properties);
+    }
+
+    // Same, on a named in-memory database that outlives the context, so a later start sees its data.
+    public static ConfigurableApplicationContext startOn(String databaseName, String... properties) {
+        return start(WebApplicationType.NONE, databaseName, properties);
+    }
+
+    // Same, with Tomcat listening on a random port (local.server.port).
+    public static ConfigurableApplicationContext startWeb(String... properties) {
+        return start(WebApplicationType.SERVLET, "benchmark-" + UUID.randomUUID(), properties);
+    }
+
+    private static ConfigurableApplicationContext start(WebApplicationType webApplicationType, String databaseName, String... properties) {
+
+        System.setProperty("spring.devtools.restart.enabled", "false");
+
+        // Passed as command line arguments so they take precedence over application.properties.
+        List<String> args = new ArrayList<>(List.of(
+            "--spring.main.banner-mode=off",
+            "--logging.level.root=WARN",
+            "--server.port=0",
+            "--management.server.port=0",
+            // Accounts are seeded at cost 4 (HttpSession) and the load tests log hundreds of sessions in
+            // at once: hashing is not what they measure, so it is kept cheap and never turned away.
+            "--app.security.bcrypt.cost=4",
+            "--app.security.hashing.queue-capacity=10000"));
+
+        String url = System.getProperty("benchmark.datasource.url");
+
+        if(url != null) {
+            args.add("--spring.datasource.url=" + url);
+            args.add("--spring.datasource.username=" + System.getProperty("benchmark.datasource.username", ""));
+            args.add("--spring.datasource.password=" + System.getProperty("benchmark.datasource.password", ""));
+        } else {
+            args.add("--spring.datasource.url=jdbc:h2:mem:" + databaseName + ";DB_CLOSE_DELAY=-1;DB_CLOSE_ON_EXIT=FALSE;IGNORE_UNKNOWN_SETTINGS=TRUE");
+            args.add("--spring.datasource.driver-class-name=org.h2.Driver");
+            args.add("--spring.datasource.username=sa");
+            args.add("--spring.datasource.password=");
+        }
+
+        for(String property : properties) {
+            args.add("--" + property);
+        }
+
+        return new SpringApplicationBuilder(MothsinmywalletApplication.class)
+            .web(webApplicationType)
+            .logStartupInfo(false)
+            .run(args.toArray(String[]::new));
+
+    }
+
+}
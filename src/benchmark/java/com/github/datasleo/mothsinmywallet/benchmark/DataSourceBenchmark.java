@@ -0,0 +1,120 @@
+package com.github.datasleo.mothsinmywallet.benchmark;
+
+import java.util.UUID;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicLong;
+
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Level;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.TearDown;
+import org.openjdk.jmh.annotations.Threads;
+import org.openjdk.jmh.annotations.Warmup;
+import org.springframework.context.ConfigurableApplicationContext;
+import org.springframework.data.domain.Window;
+
+import com.github.datasleo.mothsinmywallet.dto.TagDto;
+import com.github.datasleo.mothsinmywallet.dto.TagSummaryDto;
+import com.github.datasleo.mothsinmywallet.model.Account;
+import com.github.datasleo.mothsinmywallet.model.Tag;
+import com.github.datasleo.mothsinmywallet.repository.AccountRepository;
+import com.github.datasleo.mothsinmywallet.service.TagService;
+
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.Timer;
+
+/**
+ * The tag manager list and create paths under 16 concurrent callers, on the tuned pool and driver
+ * options of application.properties and on the Hikari / Connector/J defaults. The time spent
+ * waiting for a connection (hikaricp.connections.acquire) is printed at the end of each trial.
+ *
+ * The driver options only matter on MySQL; on the default H2 database only the pool settings differ.
+ * Point it at a scratch MySQL schema with -Dbenchmark.datasource.url=jdbc:mysql://... (see BenchmarkApplication).
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.Throughput)
+@OutputTimeUnit(TimeUnit.SECONDS)
+@Warmup(iterations = 3, time = 2)
+@Measurement(iterations = 5, time = 2)
+@Threads(16)
+@Fork(1)
+public class DataSourceBenchmark {
+
+    private static final String[] DEFAULTS = {
+        "spring.datasource.hikari.connection-timeout=30000",
+        "spring.datasource.hikari.leak-detection-threshold=0",
+        "spring.datasource.hikari.data-source-properties.cachePrepStmts=false",
+        "spring.datasource.hikari.data-source-properties.prepStmtCacheSize=25",
+        "spring.datasource.hikari.data-source-properties.prepStmtCacheSqlLimit=256",
+        "spring.datasource.hikari.data-source-properties.useServerPrepStmts=false",
+        "spring.datasource.hikari.data-source-properties.cacheResultSetMetadata=false",
+        "spring.datasource.hikari.data-source-properties.cacheServerConfiguration=false",
+        "spring.datasource.hikari.data-source-properties.useLocalSessionState=false",
+        "spring.datasource.hikari.data-source-properties.elideSetAutoCommits=false",
+        "spring.datasource.hikari.data-source-properties.maintainTimeStats=true",
+        "spring.datasource.hikari.data-source-properties.rewriteBatchedStatements=false",
+        "spring.datasource.hikari.data-source-properties.useCursorFetch=false"
+    };
+
+    @Param({"tuned", "defaults"})
+    private String datasource;
+
+    @Param("200")
+    private int tags;
+
+    private ConfigurableApplicationContext context;
+
+    private TagService tagService;
+
+    private long accountId;
+
+    private final AtomicLong counter = new AtomicLong();
+
+    @Setup(Level.Trial)
+    public void setup() {
+
+        context = "defaults".equals(datasource) ? BenchmarkApplication.start(DEFAULTS) : BenchmarkApplication.start();
+
+        tagService = context.getBean(TagService.class);
+
+        String username = "bench-" + UUID.randomUUID();
+        accountId = context.getBean(AccountRepository.class).save(new Account(username + "@bench.com", "hashed_password", username)).getId();
+
+        for(int i = 0; i < tags; i++) {
+            tagService.createTag(new TagDto("seed-" + i, "description of tag " + i, accountId));
+        }
+
+    }
+
+    @TearDown(Level.Trial)
+    public void tearDown() {
+
+        Timer acquire = context.getBean(MeterRegistry.class).get("hikaricp.connections.acquire").timer();
+
+        System.out.printf("%n%s: %d connections acquired, wait mean %.3f ms, max %.3f ms%n",
+            datasource, acquire.count(), acquire.mean(TimeUnit.MILLISECONDS), acquire.max(TimeUnit.MILLISECONDS));
+
+        context.close();
+
+    }
+
+    @Benchmark
+    public Window<TagSummaryDto> list() {
+        return tagService.getTagPageByAccountId(accountId, null, 20);
+    }
+
+    @Benchmark
+    public Tag create() {
+        long i = counter.incrementAndGet();
+        return tagService.createTag(new TagDto("tag-" + i, "description of tag " + i, accountId));
+    }
+
+}
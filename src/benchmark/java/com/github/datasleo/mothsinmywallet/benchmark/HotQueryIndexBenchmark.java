@@ -0,0 +1,109 @@
+package com.github.datasleo.mothsinmywallet.benchmark;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.ThreadLocalRandom;
+import java.util.concurrent.TimeUnit;
+
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Level;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.TearDown;
+import org.openjdk.jmh.annotations.Warmup;
+import org.springframework.context.ConfigurableApplicationContext;
+import org.springframework.jdbc.core.JdbcTemplate;
+
+import com.github.datasleo.mothsinmywallet.model.Account;
+import com.github.datasleo.mothsinmywallet.model.Tag;
+import com.github.datasleo.mothsinmywallet.repository.AccountRepository;
+import com.github.datasleo.mothsinmywallet.repository.TagRepository;
+import com.github.datasleo.mothsinmywallet.service.TagService;
+
+/**
+ * The queries V2__hot_query_indexes serves, with and without its indexes: the account lookup
+ * of every login and a keyset page of an account's tags. 20k accounts, 50 tags each.
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+@Warmup(iterations = 3, time = 2)
+@Measurement(iterations = 5, time = 2)
+@Fork(1)
+public class HotQueryIndexBenchmark {
+
+    private static final int ACCOUNTS = 20_000;
+    private static final int TAGS_PER_ACCOUNT = 50;
+
+    @Param({"true", "false"})
+    public boolean indexes;
+
+    private ConfigurableApplicationContext context;
+
+    private AccountRepository accountRepository;
+    private TagService tagService;
+
+    private List<Long> accountIds;
+
+    @Setup(Level.Trial)
+    public void setup() {
+
+        context = BenchmarkApplication.start();
+
+        accountRepository = context.getBean(AccountRepository.class);
+        tagService = context.getBean(TagService.class);
+
+        List<Account> accounts = new ArrayList<>(ACCOUNTS);
+
+        for(int i = 0; i < ACCOUNTS; i++) {
+            accounts.add(new Account("user" + i + "@bench.com", "hashed_password", "user" + i));
+        }
+
+        accountRepository.saveAll(accounts);
+
+        accountIds = accounts.stream().map(Account::getId).toList();
+
+        // Tags of all accounts interleaved, as they arrive in production.
+        List<Tag> tags = new ArrayList<>(ACCOUNTS * TAGS_PER_ACCOUNT);
+
+        for(int j = 0; j < TAGS_PER_ACCOUNT; j++) {
+            for(Account account : accounts) {
+                tags.add(new Tag("tag " + j, "description", account));
+            }
+        }
+
+        context.getBean(TagRepository.class).saveAll(tags);
+
+        if(!indexes) {
+            JdbcTemplate jdbcTemplate = context.getBean(JdbcTemplate.class);
+            jdbcTemplate.execute("DROP INDEX uk_account_table_email");
+            jdbcTemplate.execute("DROP INDEX uk_account_table_username");
+            jdbcTemplate.execute("DROP INDEX idx_tag_table_account_id");
+            jdbcTemplate.execute("DROP INDEX idx_payment_method_table_account_id");
+        }
+
+    }
+
+    @TearDown(Level.Trial)
+    public void tearDown() {
+        context.close();
+    }
+
+    @Benchmark
+    public Object findByUsername() {
+        return accountRepository.findByUsername("user" + ThreadLocalRandom.current().nextInt(ACCOUNTS));
+    }
+
+    @Benchmark
+    public Object tagFirstPage() {
+        return tagService.getTagPageByAccountId(accountIds.get(ThreadLocalRandom.current().nextInt(ACCOUNTS)), null, 20);
+    }
+
+}
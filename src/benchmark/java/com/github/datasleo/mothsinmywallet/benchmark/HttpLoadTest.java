@@ -0,0 +1,275 @@
+package com.github.datasleo.mothsinmywallet.benchmark;
+
+import java.io.IOException;
+import java.net.http.HttpClient;
+import java.net.http.HttpRequest;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Locale;
+import java.util.Map;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+import java.util.concurrent.TimeUnit;
+
+import org.springframework.context.ConfigurableApplicationContext;
+
+/**
+ * End-to-end load test: boots the application on an in-memory H2 behind the real Tomcat, seeds
+ * accounts with tags and payment methods, logs in concurrent sessions through the login form and
+ * then has every session walk /home, /tag-manager and /payment-method until the time is up.
+ * Prints requests per second and latency percentiles per endpoint, and writes them as JSON.
+ *
+ * Everything runs in one JVM with no external service:
+ *
+ *   ./mvnw -Pbenchmark test-compile exec:java -Dexec.classpathScope=test \
+ *       -Dexec.mainClass=com.github.datasleo.mothsinmywallet.benchmark.HttpLoadTest \
+ *       -Dload.sessions=200 -Dload.seconds=60
+ *
+ * Settings (system properties): load.sessions (200), load.accounts (100), load.tags (20),
+ * load.payments (5), load.warmup-seconds (10), load.seconds (30),
+ * load.profile (Spring profiles, e.g. virtual-threads), load.output (target/load-test-result.json).
+ *
+ * Latency is measured from sending the request to receiving the last byte of the response, by
+ * the session itself: a session waits for its response before sending the next request (closed
+ * model), so the numbers are service times under the given concurrency, not under a fixed rate.
+ */
+public class HttpLoadTest {
+
+    private static final List<String> ENDPOINTS = List.of("/home", "/tag-manager", "/payment-method");
+
+    public static void main(String[] args) throws Exception {
+
+        int sessions = Integer.getInteger("load.sessions", 200);
+        int accounts = Integer.getInteger("load.accounts", 100);
+        int tags = Integer.getInteger("load.tags", 20);
+        int payments = Integer.getInteger("load.payments", 5);
+        long warmupNanos = TimeUnit.SECONDS.toNanos(Integer.getInteger("load.warmup-seconds", 10));
+        long measureNanos = TimeUnit.SECONDS.toNanos(Integer.getInteger("load.seconds", 30));
+        String profile = System.getProperty("load.profile", "");
+        Path output = Path.of(System.getProperty("load.output", "target/load-test-result.json"));
+
+        ConfigurableApplicationContext context = profile.isEmpty()
+            ? BenchmarkApplication.startWeb()
+            : BenchmarkApplication.startWeb("spring.profiles.active=" + profile);
+
+        try(HttpClient client = HttpSession.newClient();
+            ExecutorService executor = Executors.newVirtualThreadPerTaskExecutor()) {
+
+            String baseUrl = HttpSession.baseUrl(context);
+            List<String> usernames = HttpSession.seedAccounts(context, accounts, tags, payments);
+
+            System.out.printf("Logging in %d sessions over %d accounts...%n", sessions, accounts);
+
+            Recorder logins = new Recorder(sessions);
+            List<Future<HttpSession>> loggingIn = new ArrayList<>(sessions);
+            long loginStart = System.nanoTime();
+
+            for(int i = 0; i < sessions; i++) {
+                String username = usernames.get(i % accounts);
+                loggingIn.add(executor.submit(() -> {
+                    long start = System.nanoTime();
+                    HttpSession session = HttpSession.login(client, baseUrl, username);
+                    logins.record(System.nanoTime() - start);
+                    return session;
+                }));
+            }
+
+            List<HttpSession> loggedIn = new ArrayList<>(sessions);
+
+            for(Future<HttpSession> future : loggingIn) {
+                loggedIn.add(future.get());
+            }
+
+            long loginNanos = System.nanoTime() - loginStart;
+
+            System.out.printf("Warming up for %d s, then measuring for %d s...%n",
+                TimeUnit.NANOSECONDS.toSeconds(warmupNanos), TimeUnit.NANOSECONDS.toSeconds(measureNanos));
+
+            long measureStart = System.nanoTime() + warmupNanos;
+            long measureEnd = measureStart + measureNanos;
+
+            List<Future<Map<String, Recorder>>> running = new ArrayList<>(sessions);
+
+            for(HttpSession session : loggedIn) {
+                running.add(executor.submit(() -> walk(session, measureStart, measureEnd)));
+            }
+
+            Map<String, Recorder> results = new LinkedHashMap<>();
+            results.put("POST /login", logins);
+
+            for(String endpoint : ENDPOINTS) {
+                results.put("GET " + endpoint, new Recorder(1024));
+            }
+
+            for(Future<Map<String, Recorder>> future : running) {
+                future.get().forEach((endpoint, recorder) -> results.get("GET " + endpoint).addAll(recorder));
+            }
+
+            Map<String, Summary> summaries = new LinkedHashMap<>();
+            results.forEach((endpoint, recorder) -> summaries.put(endpoint,
+                recorder.summarize(endpoint.startsWith("POST") ? loginNanos : measureNanos)));
+
+            print(sessions, summaries);
+            write(output, sessions, profile, summaries);
+
+        } finally {
+            context.close();
+        }
+
+    }
+
+    // One session walking the endpoints in order; only responses completed inside the window count.
+    private static Map<String, Recorder> walk(HttpSession session, long measureStart, long measureEnd) throws IOException, InterruptedException {
+
+        Map<String, Recorder> recorders = new LinkedHashMap<>();
+        List<HttpRequest> requests = new ArrayList<>();
+
+        for(String endpoint : ENDPOINTS) {
+            recorders.put(endpoint, new Recorder(256));
+            requests.add(session.request(endpoint));
+        }
+
+        while(true) {
+            for(int i = 0; i < requests.size(); i++) {
+
+                long start = System.nanoTime();
+
+                if(start >= measureEnd) {
+                    return recorders;
+                }
+
+                int status = session.get(requests.get(i));
+                long end = System.nanoTime();
+
+                if(start >= measureStart && end <= measureEnd) {
+
+                    Recorder recorder = recorders.get(ENDPOINTS.get(i));
+
+                    if(status == 200) {
+                        recorder.record(end - start);
+                    } else {
+                        recorder.error();
+                    }
+
+                }
+
+            }
+        }
+
+    }
+
+    private static void print(int sessions, Map<String, Summary> summaries) {
+
+        System.out.printf("%n%d sessions%n", sessions);
+        System.out.printf("%-22s %9s %7s %9s %9s %9s %9s %9s %9s%n",
+            "endpoint", "requests", "errors", "req/s", "p50 ms", "p90 ms", "p99 ms", "p99.9 ms", "max ms");
+
+        summaries.forEach((endpoint, s) -> System.out.printf(Locale.ROOT, "%-22s %9d %7d %9.1f %9.2f %9.2f %9.2f %9.2f %9.2f%n",
+            endpoint, s.requests(), s.errors(), s.throughput(), s.p50(), s.p90(), s.p99(), s.p999(), s.max()));
+
+    }
+
+    private static void write(Path output, int sessions, String profile, Map<String, Summary> summaries) throws IOException {
+
+        StringBuilder json = new StringBuilder()
+            .append("{\"sessions\":").append(sessions)
+            .append(",\"profile\":\"").append(profile).append("\",\"endpoints\":[");
+
+        String separator = "";
+
+        for(Map.Entry<String, Summary> entry : summaries.entrySet()) {
+
+            Summary s = entry.getValue();
+
+            json.append(separator).append(String.format(Locale.ROOT,
+                "{\"endpoint\":\"%s\",\"requests\":%d,\"errors\":%d,\"requestsPerSecond\":%.2f,"
+                    + "\"p50Ms\":%.3f,\"p90Ms\":%.3f,\"p99Ms\":%.3f,\"p999Ms\":%.3f,\"maxMs\":%.3f}",
+                entry.getKey(), s.requests(), s.errors(), s.throughput(), s.p50(), s.p90(), s.p99(), s.p999(), s.max()));
+
+            separator = ",";
+
+        }
+
+        Files.createDirectories(output.toAbsolutePath().getParent());
+        Files.writeString(output, json.append("]}\n"));
+
+        System.out.println("Written " + output);
+
+    }
+
+    // Latencies in nanoseconds; every one is kept so the percentiles are exact.
+    private static final class Recorder {
+
+        private long[] latencies;
+        private int size;
+        private long errors;
+
+        Recorder(int capacity) {
+            this.latencies = new long[capacity];
+        }
+
+        synchronized void record(long nanos) {
+
+            if(size == latencies.length) {
+                latencies = Arrays.copyOf(latencies, size * 2);
+            }
+
+            latencies[size++] = nanos;
+
+        }
+
+        synchronized void error() {
+            errors++;
+        }
+
+        synchronized void addAll(Recorder other) {
+
+            if(size + other.size > latencies.length) {
+                latencies = Arrays.copyOf(latencies, Math.max(size + other.size, size * 2));
+            }
+
+            System.arraycopy(other.latencies, 0, latencies, size, other.size);
+            size += other.size;
+            errors += other.errors;
+
+        }
+
+        synchronized Summary summarize(long elapsedNanos) {
+
+            long[] sorted = Arrays.copyOf(latencies, size);
+            Arrays.sort(sorted);
+
+            return new Summary(
+                size,
+                errors,
+                size / (elapsedNanos / 1e9),
+                percentile(sorted, 0.50),
+                percentile(sorted, 0.90),
+                percentile(sorted, 0.99),
+                percentile(sorted, 0.999),
+                size == 0 ? 0 : sorted[size - 1] / 1e6);
+
+        }
+
+        // Nearest-rank percentile, in milliseconds.
+        private static double percentile(long[] sorted, double p) {
+
+            if(sorted.length == 0) {
+                return 0;
+            }
+
+            int rank = (int) Math.ceil(p * sorted.length);
+            return sorted[Math.max(rank, 1) - 1] / 1e6;
+
+        }
+
+    }
+
+    private record Summary(long requests, long errors, double throughput, double p50, double p90, double p99, double p999, double max) {}
+
+}
@@ -0,0 +1,153 @@
+package com.github.datasleo.mothsinmywallet.benchmark;
+
+import java.io.IOException;
+import java.net.URI;
+import java.net.URLEncoder;
+import java.net.http.HttpClient;
+import java.net.http.HttpRequest;
+import java.net.http.HttpResponse;
+import java.nio.charset.StandardCharsets;
+import java.time.Duration;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.regex.Matcher;
+import java.util.regex.Pattern;
+
+import org.springframework.context.ConfigurableApplicationContext;
+import org.springframework.security.crypto.bcrypt.BCryptPasswordEncoder;
+
+import com.github.datasleo.mothsinmywallet.model.Account;
+import com.github.datasleo.mothsinmywallet.model.PaymentMethod;
+import com.github.datasleo.mothsinmywallet.model.Tag;
+import com.github.datasleo.mothsinmywallet.repository.AccountRepository;
+import com.github.datasleo.mothsinmywallet.repository.PaymentMethodRepository;
+import com.github.datasleo.mothsinmywallet.repository.TagRepository;
+
+/**
+ * A browser-like session against the running application: form login with the CSRF token of
+ * the login page, then GETs carrying the session cookie.
+ */
+final class HttpSession {
+
+    static final String PASSWORD = "benchmark-password";
+
+    private static final Pattern CSRF_TOKEN = Pattern.compile("name=\"_csrf\" value=\"([^\"]+)\"");
+    private static final Pattern SESSION_COOKIE = Pattern.compile("JSESSIONID=([^;]+)");
+
+    private static final Duration REQUEST_TIMEOUT = Duration.ofSeconds(60);
+
+    private final HttpClient client;
+    private final String baseUrl;
+    private final String sessionId;
+
+    private HttpSession(HttpClient client, String baseUrl, String sessionId) {
+        this.client = client;
+        this.baseUrl = baseUrl;
+        this.sessionId = sessionId;
+    }
+
+    static HttpClient newClient() {
+        return HttpClient.newBuilder()
+            .followRedirects(HttpClient.Redirect.NEVER)
+            .connectTimeout(Duration.ofSeconds(30))
+            .build();
+    }
+
+    static String baseUrl(ConfigurableApplicationContext context) {
+        return "http://localhost:" + context.getEnvironment().getProperty("local.server.port");
+    }
+
+    static HttpSession login(HttpClient client, String baseUrl, String username) throws IOException, InterruptedException {
+
+        HttpResponse<String> loginPage = client.send(
+            HttpRequest.newBuilder(URI.create(baseUrl + "/login")).timeout(REQUEST_TIMEOUT).GET().build(),
+            HttpResponse.BodyHandlers.ofString());
+
+        String form = "username=" + URLEncoder.encode(username, StandardCharsets.UTF_8)
+            + "&password=" + URLEncoder.encode(PASSWORD, StandardCharsets.UTF_8)
+            + "&_csrf=" + URLEncoder.encode(find(CSRF_TOKEN, loginPage.body()), StandardCharsets.UTF_8);
+
+        HttpResponse<Void> login = client.send(
+            HttpRequest.newBuilder(URI.create(baseUrl + "/login"))
+                .timeout(REQUEST_TIMEOUT)
+                .header("Content-Type", "application/x-www-form-urlencoded")
+                .header("Cookie", "JSESSIONID=" + sessionId(loginPage))
+                .POST(HttpRequest.BodyPublishers.ofString(form))
+                .build(),
+            HttpResponse.BodyHandlers.discarding());
+
+        String location = login.headers().firstValue("Location").orElse("");
+
+        if(login.statusCode() != 302 || !location.endsWith("/home")) {
+            throw new IllegalStateException("Login of " + username + " failed: " + login.statusCode() + " " + location);
+        }
+
+        // The session id changes on login (session fixation protection).
+        return new HttpSession(client, baseUrl, sessionId(login));
+
+    }
+
+    HttpRequest request(String path) {
+        return HttpRequest.newBuilder(URI.create(baseUrl + path))
+            .header("Cookie", "JSESSIONID=" + sessionId)
+            .timeout(REQUEST_TIMEOUT)
+            .GET()
+            .build();
+    }
+
+    int get(HttpRequest request) throws IOException, InterruptedException {
+        return client.send(request, HttpResponse.BodyHandlers.discarding()).statusCode();
+    }
+
+    // Creates `accounts` accounts named load0, load1, ... with tags and payment methods, all with PASSWORD.
+    static List<String> seedAccounts(ConfigurableApplicationContext context, int accounts, int tagsPerAccount, int paymentsPerAccount) {
+
+        // Cost 4 keeps thousands of logins cheap; BCrypt reads the cost from the stored hash.
+        // Stored in the current {bcrypt} format, so the first login does not rehash it.
+        String hashedPassword = "{bcrypt}" + new BCryptPasswordEncoder(4).encode(PASSWORD);
+
+        AccountRepository accountRepository = context.getBean(AccountRepository.class);
+
+        List<String> usernames = new ArrayList<>(accounts);
+        List<Tag> tags = new ArrayList<>();
+        List<PaymentMethod> payments = new ArrayList<>();
+
+        for(int i = 0; i < accounts; i++) {
+
+            Account account = accountRepository.save(new Account("load" + i + "@bench.com", hashedPassword, "load" + i));
+            usernames.add(account.getUsername());
+
+            for(int j = 0; j < tagsPerAccount; j++) {
+                tags.add(new Tag("tag " + j, "description " + j, account));
+            }
+
+            for(int j = 0; j < paymentsPerAccount; j++) {
+                payments.add(new PaymentMethod("payment " + j, "description " + j, account));
+            }
+
+        }
+
+        context.getBean(TagRepository.class).saveAll(tags);
+        context.getBean(PaymentMethodRepository.class).saveAll(payments);
+
+        return usernames;
+
+    }
+
+    private static String sessionId(HttpResponse<?> response) {
+        return find(SESSION_COOKIE, String.join(";", response.headers().allValues("Set-Cookie")));
+    }
+
+    private static String find(Pattern pattern, String text) {
+
+        Matcher matcher = pattern.matcher(text);
+
+        if(!matcher.find()) {
+            throw new IllegalStateException("No match for " + pattern);
+        }
+
+        return matcher.group(1);
+
+    }
+
+}
@@ -0,0 +1,90 @@
+package com.github.datasleo.mothsinmywallet.benchmark;
+
+import java.io.File;
+import java.io.IOException;
+import java.util.LinkedHashMap;
+import java.util.Map;
+
+import com.fasterxml.jackson.databind.JsonNode;
+import com.fasterxml.jackson.databind.ObjectMapper;
+
+/**
+ * Compares two JMH JSON result files benchmark by benchmark:
+ *
+ * <pre>
+ * ./mvnw -Pbenchmark verify -Djmh.result=target/baseline.json       (on the old commit)
+ * ./mvnw -Pbenchmark verify                                         (on the new commit)
+ * ./mvnw -Pbenchmark test-compile exec:java -Dexec.classpathScope=test \
+ *     -Dexec.mainClass=com.github.datasleo.mothsinmywallet.benchmark.JmhResultDiff \
+ *     -Dexec.args="target/baseline.json target/jmh-result.json"
+ * </pre>
+ *
+ * A change is flagged when the scores differ by more than the sum of both error margins.
+ */
+public final class JmhResultDiff {
+
+    private JmhResultDiff() {}
+
+    public static void main(String[] args) throws IOException {
+
+        if(args.length != 2) {
+            System.err.println("Usage: JmhResultDiff <baseline.json> <current.json>");
+            System.exit(2);
+        }
+
+        Map<String, JsonNode> baseline = read(new File(args[0]));
+        Map<String, JsonNode> current = read(new File(args[1]));
+
+        System.out.printf("%-70s %14s %14s %9s%n", "Benchmark", "Baseline", "Current", "Change");
+
+        current.forEach((key, result) -> {
+
+            JsonNode metric = result.get("primaryMetric");
+            JsonNode baseMetric = baseline.containsKey(key) ? baseline.get(key).get("primaryMetric") : null;
+
+            String unit = metric.get("scoreUnit").asText();
+            double score = metric.get("score").asDouble();
+
+            if(baseMetric == null) {
+                System.out.printf("%-70s %14s %14.3f %9s  %s%n", key, "-", score, "new", unit);
+                return;
+            }
+
+            double baseScore = baseMetric.get("score").asDouble();
+            double margin = metric.get("scoreError").asDouble(0) + baseMetric.get("scoreError").asDouble(0);
+            double change = (score - baseScore) / baseScore * 100;
+
+            String flag = Math.abs(score - baseScore) > margin ? (isBetter(unit, score, baseScore) ? "faster" : "SLOWER") : "";
+
+            System.out.printf("%-70s %14.3f %14.3f %+8.1f%%  %s %s%n", key, baseScore, score, change, unit, flag);
+
+        });
+
+    }
+
+    // Throughput units are ops per time, everything else is time per op.
+    private static boolean isBetter(String unit, double score, double baseScore) {
+        return unit.startsWith("ops/") ? score > baseScore : score < baseScore;
+    }
+
+    private static Map<String, JsonNode> read(File file) throws IOException {
+
+        Map<String, JsonNode> results = new LinkedHashMap<>();
+
+        for(JsonNode result : new ObjectMapper().readTree(file)) {
+
+            String benchmark = result.get("benchmark").asText().replace(JmhResultDiff.class.getPackageName() + ".", "");
+
+            StringBuilder key = new StringBuilder(benchmark).append(" [").append(result.get("mode").asText()).append(']');
+
+            result.path("params").properties().forEach(param -> key.append(' ').append(param.getKey()).append('=').append(param.getValue().asText()));
+
+            results.put(key.toString(), result);
+
+        }
+
+        return results;
+
+    }
+
+}
@@ -0,0 +1,104 @@
+package com.github.datasleo.mothsinmywallet.benchmark;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.ThreadLocalRandom;
+import java.util.concurrent.TimeUnit;
+
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Level;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.TearDown;
+import org.openjdk.jmh.annotations.Warmup;
+import org.springframework.context.ConfigurableApplicationContext;
+import org.springframework.jdbc.core.JdbcTemplate;
+
+import com.github.datasleo.mothsinmywallet.repository.AccountRepository;
+
+import jakarta.persistence.EntityManager;
+
+/**
+ * The account id lookup behind every login and every request's principal resolution, on a table
+ * of one million accounts: the previous "email = ? OR username = ?" query against the lookup on
+ * the one unique index the identifier belongs to (AccountRepository.findIdByLoginIdentifier).
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+@Warmup(iterations = 3, time = 2)
+@Measurement(iterations = 5, time = 2)
+@Fork(value = 1, jvmArgsAppend = "-Xmx2g")
+public class LoginLookupBenchmark {
+
+    private static final String OR_QUERY = "SELECT a.id FROM Account a WHERE a.email = :identify OR a.username = :identify";
+
+    private static final int BATCH_SIZE = 10_000;
+
+    @Param("1000000")
+    private int accounts;
+
+    @Param({"username", "email"})
+    private String identifier;
+
+    private ConfigurableApplicationContext context;
+
+    private AccountRepository accountRepository;
+    private EntityManager entityManager;
+
+    @Setup(Level.Trial)
+    public void setup() {
+
+        context = BenchmarkApplication.start();
+
+        accountRepository = context.getBean(AccountRepository.class);
+        entityManager = context.getBean(EntityManager.class);
+
+        JdbcTemplate jdbcTemplate = context.getBean(JdbcTemplate.class);
+
+        List<Object[]> batch = new ArrayList<>(BATCH_SIZE);
+
+        for(int i = 0; i < accounts; i++) {
+
+            batch.add(new Object[] {"user" + i + "@bench.com", "hashed_password", "user" + i});
+
+            if(batch.size() == BATCH_SIZE || i == accounts - 1) {
+                jdbcTemplate.batchUpdate("INSERT INTO account_table (email, password, username) VALUES (?, ?, ?)", batch);
+                batch.clear();
+            }
+
+        }
+
+    }
+
+    @TearDown(Level.Trial)
+    public void tearDown() {
+        context.close();
+    }
+
+    @Benchmark
+    public Object orQuery() {
+        return entityManager.createQuery(OR_QUERY, Long.class).setParameter("identify", nextIdentifier()).getResultList();
+    }
+
+    @Benchmark
+    public Object singleIndexLookup() {
+        return accountRepository.findIdByLoginIdentifier(nextIdentifier());
+    }
+
+    private String nextIdentifier() {
+
+        int i = ThreadLocalRandom.current().nextInt(accounts);
+
+        return "email".equals(identifier) ? "user" + i + "@bench.com" : "user" + i;
+
+    }
+
+}
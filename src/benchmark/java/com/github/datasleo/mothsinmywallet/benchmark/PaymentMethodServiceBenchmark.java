@@ -0,0 +1,118 @@
+package com.github.datasleo.mothsinmywallet.benchmark;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.TimeUnit;
+
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Level;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.TearDown;
+import org.openjdk.jmh.annotations.Warmup;
+import org.springframework.context.ConfigurableApplicationContext;
+import org.springframework.data.domain.Window;
+
+import com.github.datasleo.mothsinmywallet.dto.PaymentMethodDto;
+import com.github.datasleo.mothsinmywallet.dto.PaymentMethodSummaryDto;
+import com.github.datasleo.mothsinmywallet.model.Account;
+import com.github.datasleo.mothsinmywallet.model.PaymentMethod;
+import com.github.datasleo.mothsinmywallet.repository.AccountRepository;
+import com.github.datasleo.mothsinmywallet.repository.PaymentMethodRepository;
+import com.github.datasleo.mothsinmywallet.service.PaymentMethodService;
+
+/**
+ * Create, list (first page), get, update and delete through PaymentMethodService, on an account
+ * that already has 1000 payment methods. Regression guard for the payment method manager hot paths.
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+@Warmup(iterations = 3, time = 2)
+@Measurement(iterations = 5, time = 2)
+@Fork(1)
+public class PaymentMethodServiceBenchmark {
+
+    private static final int EXISTING_PAYMENTS = 1000;
+
+    private ConfigurableApplicationContext context;
+
+    private PaymentMethodService paymentService;
+    private PaymentMethodRepository paymentRepository;
+
+    private Account account;
+    private long paymentId;
+    private long counter;
+
+    @Setup(Level.Trial)
+    public void setup() {
+
+        context = BenchmarkApplication.start();
+
+        paymentService = context.getBean(PaymentMethodService.class);
+        paymentRepository = context.getBean(PaymentMethodRepository.class);
+
+        account = context.getBean(AccountRepository.class).save(new Account("bench@bench.com", "hashed_password", "bench"));
+
+        List<PaymentMethod> payments = new ArrayList<>(EXISTING_PAYMENTS);
+
+        for(int i = 0; i < EXISTING_PAYMENTS; i++) {
+            payments.add(new PaymentMethod("existing-" + i, "description " + i, account));
+        }
+
+        paymentId = paymentRepository.saveAll(payments).get(0).getId();
+
+    }
+
+    @TearDown(Level.Trial)
+    public void tearDown() {
+        context.close();
+    }
+
+    @Benchmark
+    public PaymentMethod create() {
+        return paymentService.createPayment(new PaymentMethodDto("created-" + counter++, "description", account.getId()));
+    }
+
+    @Benchmark
+    public Window<PaymentMethodSummaryDto> listFirstPage() {
+        return paymentService.getPaymentPageByAccountId(account.getId(), null, 20);
+    }
+
+    @Benchmark
+    public PaymentMethod getOne() {
+        return paymentService.getOnePaymentMethod(paymentId, account.getId());
+    }
+
+    @Benchmark
+    public void update() {
+        String paymentName = "updated-" + counter++;
+        paymentService.updatePayment(paymentId, account.getId(), new PaymentMethodDto(paymentName, paymentName, account.getId()));
+    }
+
+    @Benchmark
+    public void delete(DeleteState state) {
+        paymentService.deletePayment(state.paymentId, account.getId());
+    }
+
+    @State(Scope.Thread)
+    public static class DeleteState {
+
+        private long paymentId;
+        private long counter;
+
+        // Each delete needs a fresh row; the insert is excluded from the measured time.
+        @Setup(Level.Invocation)
+        public void insertPayment(PaymentMethodServiceBenchmark benchmark) {
+            paymentId = benchmark.paymentRepository.save(new PaymentMethod("delete-" + counter++, "description", benchmark.account)).getId();
+        }
+
+    }
+
+}
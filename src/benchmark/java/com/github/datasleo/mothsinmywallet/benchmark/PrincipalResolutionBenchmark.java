@@ -0,0 +1,97 @@
+package com.github.datasleo.mothsinmywallet.benchmark;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.TimeUnit;
+
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Level;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.TearDown;
+import org.openjdk.jmh.annotations.Warmup;
+import org.springframework.context.ConfigurableApplicationContext;
+import org.springframework.security.core.userdetails.UserDetails;
+
+import com.github.datasleo.mothsinmywallet.cache.ExpiringCache;
+import com.github.datasleo.mothsinmywallet.model.Account;
+import com.github.datasleo.mothsinmywallet.repository.AccountRepository;
+import com.github.datasleo.mothsinmywallet.service.AccountService;
+import com.github.datasleo.mothsinmywallet.service.CustomUserDetailsService;
+
+/**
+ * Resolving the logged-in principal among 10k accounts: the cached account id lookup used by
+ * every authenticated request (hit and miss), and the full UserDetails load done at login.
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+@Warmup(iterations = 3, time = 2)
+@Measurement(iterations = 5, time = 2)
+@Fork(1)
+public class PrincipalResolutionBenchmark {
+
+    private static final int ACCOUNTS = 10_000;
+
+    private ConfigurableApplicationContext context;
+
+    private AccountService accountService;
+    private CustomUserDetailsService userDetailsService;
+    private ExpiringCache<String, Long> accountIdCache;
+
+    private long counter;
+
+    @Setup(Level.Trial)
+    @SuppressWarnings("unchecked")
+    public void setup() {
+
+        context = BenchmarkApplication.start();
+
+        accountService = context.getBean(AccountService.class);
+        userDetailsService = context.getBean(CustomUserDetailsService.class);
+        accountIdCache = context.getBean("accountIdCache", ExpiringCache.class);
+
+        List<Account> accounts = new ArrayList<>(ACCOUNTS);
+
+        for(int i = 0; i < ACCOUNTS; i++) {
+            accounts.add(new Account("user" + i + "@bench.com", "hashed_password", "user" + i));
+        }
+
+        context.getBean(AccountRepository.class).saveAll(accounts);
+
+    }
+
+    @TearDown(Level.Trial)
+    public void tearDown() {
+        context.close();
+    }
+
+    @Benchmark
+    public Long accountIdCacheHit() {
+        return accountService.getAccountIdByPrincipalName("user42");
+    }
+
+    @Benchmark
+    public Long accountIdCacheMiss() {
+        String username = "user" + counter++ % ACCOUNTS;
+        accountIdCache.invalidate(username);
+        return accountService.getAccountIdByPrincipalName(username);
+    }
+
+    @Benchmark
+    public UserDetails loadUserByUsername() {
+        return userDetailsService.loadUserByUsername("user" + counter++ % ACCOUNTS);
+    }
+
+    @Benchmark
+    public UserDetails loadUserByEmail() {
+        return userDetailsService.loadUserByUsername("user" + counter++ % ACCOUNTS + "@bench.com");
+    }
+
+}
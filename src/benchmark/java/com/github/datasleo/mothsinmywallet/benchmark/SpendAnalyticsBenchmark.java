@@ -0,0 +1,132 @@
+package com.github.datasleo.mothsinmywallet.benchmark;
+
+import java.io.StringReader;
+import java.sql.Timestamp;
+import java.time.LocalDate;
+import java.time.YearMonth;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.TimeUnit;
+
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Level;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.TearDown;
+import org.openjdk.jmh.annotations.Warmup;
+import org.springframework.context.ConfigurableApplicationContext;
+import org.springframework.jdbc.core.JdbcTemplate;
+
+import com.github.datasleo.mothsinmywallet.analytics.SpendColumns;
+import com.github.datasleo.mothsinmywallet.dto.MonthlyGroupSpendDto;
+import com.github.datasleo.mothsinmywallet.model.Account;
+import com.github.datasleo.mothsinmywallet.model.PaymentMethod;
+import com.github.datasleo.mothsinmywallet.model.Tag;
+import com.github.datasleo.mothsinmywallet.repository.AccountRepository;
+import com.github.datasleo.mothsinmywallet.repository.PaymentMethodRepository;
+import com.github.datasleo.mothsinmywallet.repository.TagRepository;
+import com.github.datasleo.mothsinmywallet.service.SpendAnalyticsService;
+import com.github.datasleo.mothsinmywallet.service.TransactionImportService;
+
+/**
+ * "Spend per tag per month for the last 3 years" over an account with 100k transactions:
+ * the SQL GROUP BY that a report would otherwise run, the same report from the cached
+ * columnar snapshot, and the cost of building that snapshot after an eviction.
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+@Warmup(iterations = 3, time = 2)
+@Measurement(iterations = 5, time = 2)
+@Fork(1)
+public class SpendAnalyticsBenchmark {
+
+    private static final int ROWS = 100_000;
+
+    private static final YearMonth FROM = YearMonth.of(2022, 1);
+    private static final YearMonth TO = YearMonth.of(2024, 12);
+
+    private static final String GROUP_BY_SQL = """
+        SELECT EXTRACT(YEAR FROM date_transaction), EXTRACT(MONTH FROM date_transaction), fk_tag_table, SUM(amount_transaction), COUNT(*)
+        FROM transaction_table
+        WHERE fk_account_table = ? AND date_transaction >= ? AND date_transaction < ?
+        GROUP BY EXTRACT(YEAR FROM date_transaction), EXTRACT(MONTH FROM date_transaction), fk_tag_table
+        """;
+
+    private ConfigurableApplicationContext context;
+
+    private SpendAnalyticsService analyticsService;
+    private JdbcTemplate jdbcTemplate;
+
+    private long accountId;
+
+    private long invocations;
+
+    @Setup(Level.Trial)
+    public void setup() throws Exception {
+
+        context = BenchmarkApplication.start();
+
+        analyticsService = context.getBean(SpendAnalyticsService.class);
+        jdbcTemplate = context.getBean(JdbcTemplate.class);
+
+        Account account = context.getBean(AccountRepository.class).save(new Account("bench@bench.com", "hashed_password", "bench"));
+        accountId = account.getId();
+
+        String[] tags = {"food", "transport", "health", "leisure", "home", "education"};
+        String[] payments = {"cash", "credit card", "pix"};
+
+        for(String tag : tags) {
+            context.getBean(TagRepository.class).save(new Tag(tag, null, account));
+        }
+
+        for(String payment : payments) {
+            context.getBean(PaymentMethodRepository.class).save(new PaymentMethod(payment, null, account));
+        }
+
+        StringBuilder builder = new StringBuilder("title,amount,date,tag,payment_method\n");
+        LocalDate first = FROM.atDay(1);
+
+        for(int i = 0; i < ROWS; i++) {
+            builder
+                .append("line ").append(i).append(',')
+                .append(i % 500).append('.').append(String.format("%02d", i % 100)).append(',')
+                .append(first.plusDays(i % 1095)).append(',')
+                .append(tags[i % tags.length]).append(',')
+                .append(payments[i % payments.length]).append('\n');
+        }
+
+        context.getBean(TransactionImportService.class).importCsv(accountId, new StringReader(builder.toString()));
+
+    }
+
+    @TearDown(Level.Trial)
+    public void tearDown() {
+        context.close();
+    }
+
+    // H2 hands back the previous result when a query runs again with the same parameters, so the
+    // upper bound alternates by one second (no row falls in between) to make it aggregate every time.
+    @Benchmark
+    public List<Map<String, Object>> sqlGroupBy() {
+        return jdbcTemplate.queryForList(GROUP_BY_SQL, accountId, Timestamp.valueOf(FROM.atDay(1).atStartOfDay()), Timestamp.valueOf(TO.plusMonths(1).atDay(1).atStartOfDay().minusSeconds(invocations++ & 1)));
+    }
+
+    @Benchmark
+    public List<MonthlyGroupSpendDto> cachedColumns() {
+        return analyticsService.getSpendPerTagPerMonth(accountId, FROM, TO);
+    }
+
+    @Benchmark
+    public SpendColumns buildColumns() {
+        analyticsService.evict(accountId);
+        return analyticsService.getColumns(accountId);
+    }
+
+}
@@ -0,0 +1,63 @@
+package com.github.datasleo.mothsinmywallet.benchmark;
+
+import java.util.UUID;
+import java.util.concurrent.TimeUnit;
+
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Level;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+
+/**
+ * Time to start the application context against a database that is already up to date, with
+ * the three ways of managing the schema: Hibernate's ddl-auto=update (the old setting), Flyway
+ * with Hibernate validating the mapping, and Flyway alone (the current setting).
+ *
+ * Every iteration is a full start and close in the same JVM, so class loading is paid once in
+ * warmup and the gap between modes is the schema work. H2 answers metadata queries in memory;
+ * on MySQL each table inspected by update or validate costs information_schema round trips.
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.SingleShotTime)
+@OutputTimeUnit(TimeUnit.MILLISECONDS)
+@Warmup(iterations = 5)
+@Measurement(iterations = 15)
+@Fork(1)
+public class StartupBenchmark {
+
+    @Param({"ddl-update", "migrations-validate", "migrations"})
+    public String schemaManagement;
+
+    private String databaseName;
+    private String[] properties;
+
+    @Setup(Level.Trial)
+    public void setup() {
+
+        databaseName = "startup-" + UUID.randomUUID();
+
+        // The first start migrates the empty database; the measured ones find nothing to do.
+        BenchmarkApplication.startOn(databaseName).close();
+
+        properties = switch(schemaManagement) {
+            case "ddl-update" -> new String[] {"spring.flyway.enabled=false", "spring.jpa.hibernate.ddl-auto=update"};
+            case "migrations-validate" -> new String[] {"spring.jpa.hibernate.ddl-auto=validate"};
+            default -> new String[0];
+        };
+
+    }
+
+    @Benchmark
+    public void start() {
+        BenchmarkApplication.startOn(databaseName, properties).close();
+    }
+
+}
@@ -0,0 +1,87 @@
+package com.github.datasleo.mothsinmywallet.benchmark;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.TimeUnit;
+
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Level;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.TearDown;
+import org.openjdk.jmh.annotations.Warmup;
+import org.springframework.context.ConfigurableApplicationContext;
+import org.springframework.data.domain.Limit;
+import org.springframework.data.domain.ScrollPosition;
+import org.springframework.data.domain.Window;
+
+import com.github.datasleo.mothsinmywallet.dto.TagSummaryDto;
+import com.github.datasleo.mothsinmywallet.model.Account;
+import com.github.datasleo.mothsinmywallet.model.Tag;
+import com.github.datasleo.mothsinmywallet.repository.AccountRepository;
+import com.github.datasleo.mothsinmywallet.repository.TagRepository;
+
+/**
+ * Lists every tag of one account as managed entities (with their lazy Account proxy)
+ * and as DTO projections. Run with -prof gc to compare allocation per operation.
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MILLISECONDS)
+@Warmup(iterations = 3, time = 2)
+@Measurement(iterations = 5, time = 2)
+@Fork(1)
+public class TagListingBenchmark {
+
+    @Param("10000")
+    private int rows;
+
+    private ConfigurableApplicationContext context;
+
+    private TagRepository tagRepository;
+
+    private long accountId;
+
+    @Setup(Level.Trial)
+    public void setup() {
+
+        context = BenchmarkApplication.start();
+
+        tagRepository = context.getBean(TagRepository.class);
+
+        Account account = context.getBean(AccountRepository.class).save(new Account("bench@bench.com", "hashed_password", "bench"));
+        accountId = account.getId();
+
+        List<Tag> tags = new ArrayList<>(rows);
+
+        for(int i = 0; i < rows; i++) {
+            tags.add(new Tag("tag-" + i, "description of tag " + i, account));
+        }
+
+        tagRepository.saveAll(tags);
+
+    }
+
+    @TearDown(Level.Trial)
+    public void tearDown() {
+        context.close();
+    }
+
+    @Benchmark
+    public List<Tag> listEntities() {
+        return tagRepository.findAllByAccountId(accountId);
+    }
+
+    @Benchmark
+    public Window<TagSummaryDto> listProjections() {
+        return tagRepository.findSummariesByAccountIdOrderByIdAsc(accountId, ScrollPosition.keyset(), Limit.of(rows));
+    }
+
+}
@@ -0,0 +1,118 @@
+package com.github.datasleo.mothsinmywallet.benchmark;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.TimeUnit;
+
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Level;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.TearDown;
+import org.openjdk.jmh.annotations.Warmup;
+import org.springframework.context.ConfigurableApplicationContext;
+import org.springframework.data.domain.Window;
+
+import com.github.datasleo.mothsinmywallet.dto.TagDto;
+import com.github.datasleo.mothsinmywallet.dto.TagSummaryDto;
+import com.github.datasleo.mothsinmywallet.model.Account;
+import com.github.datasleo.mothsinmywallet.model.Tag;
+import com.github.datasleo.mothsinmywallet.repository.AccountRepository;
+import com.github.datasleo.mothsinmywallet.repository.TagRepository;
+import com.github.datasleo.mothsinmywallet.service.TagService;
+
+/**
+ * Create, list (first page), get, update and delete through TagService, on an account
+ * that already has 1000 tags. Regression guard for the tag manager hot paths.
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+@Warmup(iterations = 3, time = 2)
+@Measurement(iterations = 5, time = 2)
+@Fork(1)
+public class TagServiceBenchmark {
+
+    private static final int EXISTING_TAGS = 1000;
+
+    private ConfigurableApplicationContext context;
+
+    private TagService tagService;
+    private TagRepository tagRepository;
+
+    private Account account;
+    private long tagId;
+    private long counter;
+
+    @Setup(Level.Trial)
+    public void setup() {
+
+        context = BenchmarkApplication.start();
+
+        tagService = context.getBean(TagService.class);
+        tagRepository = context.getBean(TagRepository.class);
+
+        account = context.getBean(AccountRepository.class).save(new Account("bench@bench.com", "hashed_password", "bench"));
+
+        List<Tag> tags = new ArrayList<>(EXISTING_TAGS);
+
+        for(int i = 0; i < EXISTING_TAGS; i++) {
+            tags.add(new Tag("existing-" + i, "description " + i, account));
+        }
+
+        tagId = tagRepository.saveAll(tags).get(0).getId();
+
+    }
+
+    @TearDown(Level.Trial)
+    public void tearDown() {
+        context.close();
+    }
+
+    @Benchmark
+    public Tag create() {
+        return tagService.createTag(new TagDto("created-" + counter++, "description", account.getId()));
+    }
+
+    @Benchmark
+    public Window<TagSummaryDto> listFirstPage() {
+        return tagService.getTagPageByAccountId(account.getId(), null, 20);
+    }
+
+    @Benchmark
+    public Tag getOne() {
+        return tagService.getTagByIdAndAccountId(tagId, account.getId());
+    }
+
+    @Benchmark
+    public void update() {
+        String tagName = "updated-" + counter++;
+        tagService.updateTag(tagId, account.getId(), new TagDto(tagName, tagName, account.getId()));
+    }
+
+    @Benchmark
+    public void delete(DeleteState state) {
+        tagService.deleteTag(state.tagId, account.getId());
+    }
+
+    @State(Scope.Thread)
+    public static class DeleteState {
+
+        private long tagId;
+        private long counter;
+
+        // Each delete needs a fresh row; the insert is excluded from the measured time.
+        @Setup(Level.Invocation)
+        public void insertTag(TagServiceBenchmark benchmark) {
+            tagId = benchmark.tagRepository.save(new Tag("delete-" + counter++, "description", benchmark.account)).getId();
+        }
+
+    }
+
+}
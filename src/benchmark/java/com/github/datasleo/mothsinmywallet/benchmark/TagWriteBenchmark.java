@@ -0,0 +1,124 @@
+package com.github.datasleo.mothsinmywallet.benchmark;
+
+import java.util.concurrent.TimeUnit;
+
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Level;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.TearDown;
+import org.openjdk.jmh.annotations.Warmup;
+import org.springframework.context.ConfigurableApplicationContext;
+
+import com.github.datasleo.mothsinmywallet.dto.TagDto;
+import com.github.datasleo.mothsinmywallet.exception.TagNameAlreadyExistsException;
+import com.github.datasleo.mothsinmywallet.exception.TagNotFoundOrNotAuthorizedException;
+import com.github.datasleo.mothsinmywallet.model.Account;
+import com.github.datasleo.mothsinmywallet.model.Tag;
+import com.github.datasleo.mothsinmywallet.repository.AccountRepository;
+import com.github.datasleo.mothsinmywallet.repository.TagRepository;
+import com.github.datasleo.mothsinmywallet.service.TagService;
+
+/**
+ * Compares the single-statement tag update and delete of TagService with the
+ * previous load-then-save flow (find by id and account, duplicate name check, save or delete).
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+@Warmup(iterations = 3, time = 2)
+@Measurement(iterations = 5, time = 2)
+@Fork(1)
+public class TagWriteBenchmark {
+
+    private ConfigurableApplicationContext context;
+
+    private TagService tagService;
+    private TagRepository tagRepository;
+
+    private Account account;
+    private long tagId;
+    private long counter;
+
+    @Setup(Level.Trial)
+    public void setup() {
+
+        context = BenchmarkApplication.start();
+
+        tagService = context.getBean(TagService.class);
+        tagRepository = context.getBean(TagRepository.class);
+
+        account = context.getBean(AccountRepository.class).save(new Account("bench@bench.com", "hashed_password", "bench"));
+        tagId = tagRepository.save(new Tag("tag", "description", account)).getId();
+
+    }
+
+    @TearDown(Level.Trial)
+    public void tearDown() {
+        context.close();
+    }
+
+    @Benchmark
+    public void updateLoadThenSave() {
+
+        String tagName = "tag-" + counter++;
+
+        Tag existingTag = tagRepository.findByIdAndAccountId(tagId, account.getId())
+            .orElseThrow(() -> new TagNotFoundOrNotAuthorizedException("Tag not found or not authorized."));
+
+        if(!existingTag.getTagName().equals(tagName) && tagRepository.findByTagNameAndAccountId(tagName, account.getId()).isPresent()) {
+            throw new TagNameAlreadyExistsException("Tag '" + tagName + "' already exists in this account.");
+        }
+
+        existingTag.setTagName(tagName);
+        existingTag.setTagDescription(tagName);
+
+        tagRepository.save(existingTag);
+
+    }
+
+    @Benchmark
+    public void updateSingleStatement() {
+
+        String tagName = "tag-" + counter++;
+
+        tagService.updateTag(tagId, account.getId(), new TagDto(tagName, tagName, account.getId()));
+
+    }
+
+    @Benchmark
+    public void deleteLoadThenDelete(DeleteState state) {
+
+        Tag tagToDelete = tagRepository.findByIdAndAccountId(state.tagId, account.getId())
+            .orElseThrow(() -> new TagNotFoundOrNotAuthorizedException("Tag not found or not authorized."));
+
+        tagRepository.delete(tagToDelete);
+
+    }
+
+    @Benchmark
+    public void deleteSingleStatement(DeleteState state) {
+        tagService.deleteTag(state.tagId, account.getId());
+    }
+
+    @State(Scope.Thread)
+    public static class DeleteState {
+
+        private long tagId;
+        private long counter;
+
+        // Each delete needs a fresh row; the insert is excluded from the measured time.
+        @Setup(Level.Invocation)
+        public void insertTag(TagWriteBenchmark benchmark) {
+            tagId = benchmark.tagRepository.save(new Tag("delete-" + counter++, "description", benchmark.account)).getId();
+        }
+
+    }
+
+}
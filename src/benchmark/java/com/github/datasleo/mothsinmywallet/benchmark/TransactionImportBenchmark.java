@@ -0,0 +1,110 @@
+package com.github.datasleo.mothsinmywallet.benchmark;
+
+import java.io.StringReader;
+import java.util.concurrent.TimeUnit;
+
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Level;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OperationsPerInvocation;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.TearDown;
+import org.openjdk.jmh.annotations.Warmup;
+import org.springframework.context.ConfigurableApplicationContext;
+
+import com.github.datasleo.mothsinmywallet.dto.TransactionImportResultDto;
+import com.github.datasleo.mothsinmywallet.model.Account;
+import com.github.datasleo.mothsinmywallet.model.PaymentMethod;
+import com.github.datasleo.mothsinmywallet.model.Tag;
+import com.github.datasleo.mothsinmywallet.repository.AccountRepository;
+import com.github.datasleo.mothsinmywallet.repository.MonthlySpendRepository;
+import com.github.datasleo.mothsinmywallet.repository.PaymentMethodRepository;
+import com.github.datasleo.mothsinmywallet.repository.TagRepository;
+import com.github.datasleo.mothsinmywallet.repository.TransactionRepository;
+import com.github.datasleo.mothsinmywallet.service.TransactionImportService;
+
+/**
+ * Imports a 50k line CSV per iteration. Scores are per imported row, so the
+ * throughput in rows per second is 1 / score.
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.SingleShotTime)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+@Warmup(iterations = 3)
+@Measurement(iterations = 5)
+@Fork(1)
+public class TransactionImportBenchmark {
+
+    private static final int ROWS = 50_000;
+
+    private ConfigurableApplicationContext context;
+
+    private TransactionImportService importService;
+    private TransactionRepository transactionRepository;
+    private MonthlySpendRepository monthlySpendRepository;
+
+    private long accountId;
+    private String csv;
+
+    @Setup(Level.Trial)
+    public void setup() {
+
+        context = BenchmarkApplication.start();
+
+        importService = context.getBean(TransactionImportService.class);
+        transactionRepository = context.getBean(TransactionRepository.class);
+        monthlySpendRepository = context.getBean(MonthlySpendRepository.class);
+
+        Account account = context.getBean(AccountRepository.class).save(new Account("bench@bench.com", "hashed_password", "bench"));
+        accountId = account.getId();
+
+        String[] tags = {"food", "transport", "health", "leisure"};
+        String[] payments = {"cash", "credit card", "pix"};
+
+        for(String tag : tags) {
+            context.getBean(TagRepository.class).save(new Tag(tag, null, account));
+        }
+
+        for(String payment : payments) {
+            context.getBean(PaymentMethodRepository.class).save(new PaymentMethod(payment, null, account));
+        }
+
+        StringBuilder builder = new StringBuilder("title,description,amount,date,tag,payment_method\n");
+
+        for(int i = 0; i < ROWS; i++) {
+            builder
+                .append("bank line ").append(i).append(",\"imported, from bank\",")
+                .append(i % 500).append('.').append(i % 100 < 10 ? "0" : "").append(i % 100).append(',')
+                .append("2024-").append(String.format("%02d", i % 12 + 1)).append('-').append(String.format("%02d", i % 28 + 1)).append(',')
+                .append(tags[i % tags.length]).append(',')
+                .append(payments[i % payments.length]).append('\n');
+        }
+
+        csv = builder.toString();
+
+    }
+
+    @TearDown(Level.Iteration)
+    public void clearTransactions() {
+        transactionRepository.deleteAllInBatch();
+        monthlySpendRepository.deleteAllInBatch();
+    }
+
+    @TearDown(Level.Trial)
+    public void tearDown() {
+        context.close();
+    }
+
+    @Benchmark
+    @OperationsPerInvocation(ROWS)
+    public TransactionImportResultDto importCsv() throws Exception {
+        return importService.importCsv(accountId, new StringReader(csv));
+    }
+
+}
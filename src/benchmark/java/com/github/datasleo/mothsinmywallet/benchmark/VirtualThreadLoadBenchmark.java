@@ -0,0 +1,107 @@
+package com.github.datasleo.mothsinmywallet.benchmark;
+
+import java.io.IOException;
+import java.net.http.HttpClient;
+import java.net.http.HttpRequest;
+import java.util.List;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
+
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Level;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.TearDown;
+import org.openjdk.jmh.annotations.Threads;
+import org.openjdk.jmh.annotations.Warmup;
+import org.springframework.context.ConfigurableApplicationContext;
+
+/**
+ * 1000 logged-in sessions (one JMH thread each) loading the tag manager as fast as the server
+ * answers, once with Tomcat on platform threads and once with the virtual-threads profile.
+ * Throughput is in requests per millisecond; the sample-time run reports p50/p99/p99.9 latencies.
+ *
+ * The database is an in-memory H2, so JDBC calls block for microseconds rather than a network
+ * round trip: the gap between the two modes grows with real database latency.
+ */
+@BenchmarkMode({Mode.Throughput, Mode.SampleTime})
+@OutputTimeUnit(TimeUnit.MILLISECONDS)
+@Warmup(iterations = 1, time = 10)
+@Measurement(iterations = 3, time = 10)
+@Threads(1000)
+@Fork(value = 1, jvmArgsAppend = "-Xss512k")
+public class VirtualThreadLoadBenchmark {
+
+    private static final int ACCOUNTS = 100;
+    private static final int TAGS_PER_ACCOUNT = 20;
+
+    @State(Scope.Benchmark)
+    public static class Server {
+
+        @Param({"false", "true"})
+        public boolean virtualThreads;
+
+        private ConfigurableApplicationContext context;
+
+        HttpClient client;
+        String baseUrl;
+        List<String> usernames;
+
+        final AtomicInteger sessions = new AtomicInteger();
+
+        @Setup(Level.Trial)
+        public void setup() {
+
+            context = virtualThreads
+                ? BenchmarkApplication.startWeb("spring.profiles.active=virtual-threads")
+                : BenchmarkApplication.startWeb("spring.threads.virtual.enabled=false");
+
+            baseUrl = HttpSession.baseUrl(context);
+            usernames = HttpSession.seedAccounts(context, ACCOUNTS, TAGS_PER_ACCOUNT, 0);
+            client = HttpSession.newClient();
+
+        }
+
+        @TearDown(Level.Trial)
+        public void tearDown() {
+            client.close();
+            context.close();
+        }
+
+    }
+
+    @State(Scope.Thread)
+    public static class Session {
+
+        private HttpSession session;
+        private HttpRequest tagManager;
+
+        @Setup(Level.Trial)
+        public void login(Server server) throws Exception {
+            session = HttpSession.login(server.client, server.baseUrl, server.usernames.get(server.sessions.getAndIncrement() % ACCOUNTS));
+            tagManager = session.request("/tag-manager");
+        }
+
+    }
+
+    @Benchmark
+    public int tagManager(Server server, Session session) throws IOException, InterruptedException {
+
+        int status = session.session.get(session.tagManager);
+
+        if(status != 200) {
+            throw new IllegalStateException("GET /tag-manager returned " + status);
+        }
+
+        return status;
+
+    }
+
+}
@@ -0,0 +1,343 @@
+package com.github.datasleo.mothsinmywallet.analytics;
+
+import java.time.LocalDate;
+import java.time.YearMonth;
+import java.util.Arrays;
+import java.util.HashMap;
+import java.util.Map;
+
+/**
+ * Immutable column-oriented snapshot of the transactions of one account.
+ *
+ * Each transaction is a position in parallel primitive arrays sorted by date, so a date range is
+ * two binary searches and every operator is a tight loop over contiguous ints and longs that the
+ * JIT can unroll and vectorize. Tags and payment methods are dictionary encoded: code 0 is always
+ * "none", other codes index {@link #tagName(int)} / {@link #paymentName(int)}.
+ */
+public final class SpendColumns {
+
+    private final int size;
+
+    private final int[] epochDays;
+    private final int[] months;
+    private final long[] amountCents;
+    private final int[] tagCodes;
+    private final int[] paymentCodes;
+
+    private final long[] tagIds;
+    private final String[] tagNames;
+    private final long[] paymentIds;
+    private final String[] paymentNames;
+
+    private SpendColumns(Builder builder) {
+        this.size = builder.size;
+        this.epochDays = Arrays.copyOf(builder.epochDays, size);
+        this.months = Arrays.copyOf(builder.months, size);
+        this.amountCents = Arrays.copyOf(builder.amountCents, size);
+        this.tagCodes = Arrays.copyOf(builder.tagCodes, size);
+        this.paymentCodes = Arrays.copyOf(builder.paymentCodes, size);
+        this.tagIds = builder.tags.ids();
+        this.tagNames = builder.tags.names();
+        this.paymentIds = builder.payments.ids();
+        this.paymentNames = builder.payments.names();
+    }
+
+    public static Builder builder() {
+        return new Builder();
+    }
+
+    public int size() {
+        return size;
+    }
+
+    public int tagCount() {
+        return tagIds.length;
+    }
+
+    public long tagId(int code) {
+        return tagIds[code];
+    }
+
+    public String tagName(int code) {
+        return tagNames[code];
+    }
+
+    public int paymentCount() {
+        return paymentIds.length;
+    }
+
+    public long paymentId(int code) {
+        return paymentIds[code];
+    }
+
+    public String paymentName(int code) {
+        return paymentNames[code];
+    }
+
+    // SUM over [from, to).
+    public long sumCents(LocalDate from, LocalDate to) {
+
+        int start = lowerBound(from);
+        int end = lowerBound(to);
+
+        long sum = 0;
+
+        for(int i = start; i < end; i++) {
+            sum += amountCents[i];
+        }
+
+        return sum;
+
+    }
+
+    // SUM over [from, to) WHERE tag = tagId. An unknown tag sums to zero.
+    public long sumCentsByTag(LocalDate from, LocalDate to, long tagId) {
+
+        int code = codeOf(tagIds, tagId);
+
+        if(code < 0) {
+            return 0;
+        }
+
+        return sumWhere(tagCodes, code, lowerBound(from), lowerBound(to));
+
+    }
+
+    // SUM over [from, to) WHERE payment method = paymentId. An unknown payment method sums to zero.
+    public long sumCentsByPayment(LocalDate from, LocalDate to, long paymentId) {
+
+        int code = codeOf(paymentIds, paymentId);
+
+        if(code < 0) {
+            return 0;
+        }
+
+        return sumWhere(paymentCodes, code, lowerBound(from), lowerBound(to));
+
+    }
+
+    // SUM, COUNT over [from, to] months GROUP BY month, tag.
+    public MonthGrid groupByMonthAndTag(YearMonth from, YearMonth to) {
+        return groupByMonth(tagCodes, tagCount(), from, to);
+    }
+
+    // SUM, COUNT over [from, to] months GROUP BY month, payment method.
+    public MonthGrid groupByMonthAndPayment(YearMonth from, YearMonth to) {
+        return groupByMonth(paymentCodes, paymentCount(), from, to);
+    }
+
+    private MonthGrid groupByMonth(int[] codes, int cardinality, YearMonth from, YearMonth to) {
+
+        int firstMonth = monthKey(from);
+        int monthCount = Math.max(0, monthKey(to) - firstMonth + 1);
+
+        long[] cents = new long[monthCount * cardinality];
+        int[] counts = new int[monthCount * cardinality];
+
+        int end = lowerBound(to.plusMonths(1).atDay(1));
+
+        for(int i = lowerBound(from.atDay(1)); i < end; i++) {
+            int cell = (months[i] - firstMonth) * cardinality + codes[i];
+            cents[cell] += amountCents[i];
+            counts[cell]++;
+        }
+
+        return new MonthGrid(from, monthCount, cardinality, cents, counts);
+
+    }
+
+    private long sumWhere(int[] codes, int code, int start, int end) {
+
+        long sum = 0;
+
+        // Branch-free so the loop stays vectorizable whatever the selectivity.
+        for(int i = start; i < end; i++) {
+            sum += codes[i] == code ? amountCents[i] : 0;
+        }
+
+        return sum;
+
+    }
+
+    // First position whose date is on or after the given day.
+    private int lowerBound(LocalDate date) {
+
+        long day = date.toEpochDay();
+
+        int low = 0;
+        int high = size;
+
+        while(low < high) {
+
+            int middle = (low + high) >>> 1;
+
+            if(epochDays[middle] < day) {
+                low = middle + 1;
+            } else {
+                high = middle;
+            }
+
+        }
+
+        return low;
+
+    }
+
+    private static int codeOf(long[] ids, long id) {
+
+        for(int code = 0; code < ids.length; code++) {
+            if(ids[code] == id) {
+                return code;
+            }
+        }
+
+        return -1;
+
+    }
+
+    static int monthKey(YearMonth month) {
+        return month.getYear() * 12 + month.getMonthValue() - 1;
+    }
+
+    /**
+     * Result of a group-by: one cell per month and dimension code, months in ascending order.
+     */
+    public static final class MonthGrid {
+
+        private final YearMonth firstMonth;
+        private final int monthCount;
+        private final int cardinality;
+        private final long[] cents;
+        private final int[] counts;
+
+        private MonthGrid(YearMonth firstMonth, int monthCount, int cardinality, long[] cents, int[] counts) {
+            this.firstMonth = firstMonth;
+            this.monthCount = monthCount;
+            this.cardinality = cardinality;
+            this.cents = cents;
+            this.counts = counts;
+        }
+
+        public int monthCount() {
+            return monthCount;
+        }
+
+        public int cardinality() {
+            return cardinality;
+        }
+
+        public YearMonth month(int monthIndex) {
+            return firstMonth.plusMonths(monthIndex);
+        }
+
+        public long cents(int monthIndex, int code) {
+            return cents[monthIndex * cardinality + code];
+        }
+
+        public int count(int monthIndex, int code) {
+            return counts[monthIndex * cardinality + code];
+        }
+
+    }
+
+    /**
+     * Appends transactions in date order. Not thread-safe.
+     */
+    public static final class Builder {
+
+        private int size;
+
+        private int[] epochDays = new int[256];
+        private int[] months = new int[256];
+        private long[] amountCents = new long[256];
+        private int[] tagCodes = new int[256];
+        private int[] paymentCodes = new int[256];
+
+        private final Dictionary tags = new Dictionary();
+        private final Dictionary payments = new Dictionary();
+
+        private Builder() {}
+
+        // Null tag and payment ids mean "none".
+        public Builder add(LocalDate date, long amountCents, Long tagId, String tagName, Long paymentId, String paymentName) {
+
+            int epochDay = Math.toIntExact(date.toEpochDay());
+
+            if(size > 0 && epochDay < epochDays[size - 1]) {
+                throw new IllegalArgumentException("Transactions must be added in date order.");
+            }
+
+            if(size == epochDays.length) {
+                grow();
+            }
+
+            epochDays[size] = epochDay;
+            months[size] = monthKey(YearMonth.from(date));
+            this.amountCents[size] = amountCents;
+            tagCodes[size] = tags.encode(tagId, tagName);
+            paymentCodes[size] = payments.encode(paymentId, paymentName);
+
+            size++;
+
+            return this;
+
+        }
+
+        public SpendColumns build() {
+            return new SpendColumns(this);
+        }
+
+        private void grow() {
+
+            int capacity = epochDays.length * 2;
+
+            epochDays = Arrays.copyOf(epochDays, capacity);
+            months = Arrays.copyOf(months, capacity);
+            amountCents = Arrays.copyOf(amountCents, capacity);
+            tagCodes = Arrays.copyOf(tagCodes, capacity);
+            paymentCodes = Arrays.copyOf(paymentCodes, capacity);
+
+        }
+
+    }
+
+    private static final class Dictionary {
+
+        private final Map<Long, Integer> codes = new HashMap<>();
+        private long[] ids = new long[16];
+        private String[] names = new String[16];
+        private int size = 1;
+
+        int encode(Long id, String name) {
+
+            if(id == null) {
+                return 0;
+            }
+
+            return codes.computeIfAbsent(id, key -> {
+
+                if(size == ids.length) {
+                    ids = Arrays.copyOf(ids, size * 2);
+                    names = Arrays.copyOf(names, size * 2);
+                }
+
+                ids[size] = key;
+                names[size] = name;
+
+                return size++;
+
+            });
+
+        }
+
+        long[] ids() {
+            return Arrays.copyOf(ids, size);
+        }
+
+        String[] names() {
+            return Arrays.copyOf(names, size);
+        }
+
+    }
+
+}
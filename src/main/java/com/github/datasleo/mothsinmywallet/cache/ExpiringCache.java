@@ -0,0 +1,177 @@
+package com.github.datasleo.mothsinmywallet.cache;
+
+import java.time.Clock;
+import java.time.Duration;
+import java.util.HashMap;
+import java.util.LinkedHashMap;
+import java.util.Map;
+import java.util.concurrent.atomic.LongAdder;
+import java.util.function.Function;
+
+/**
+ * Small in-process LRU cache bounded by size and by time to live.
+ * Null values are never stored, so a failed lookup is retried on the next call.
+ *
+ * A value loaded by {@link #computeIfAbsent} is only stored if its key was not invalidated
+ * while the loader ran, so a read that started before a write cannot cache what the write
+ * replaced.
+ */
+public class ExpiringCache<K, V> {
+
+    private final int maxSize;
+    private final long ttlMillis;
+    private final Clock clock;
+
+    private final LinkedHashMap<K, Entry<V>> entries;
+
+    // Keys with a load in flight; invalidate bumps their generation. Guarded by this.
+    private final Map<K, Load> loads = new HashMap<>();
+
+    private final LongAdder hits = new LongAdder();
+    private final LongAdder misses = new LongAdder();
+    private final LongAdder evictions = new LongAdder();
+
+    public ExpiringCache(int maxSize, Duration ttl) {
+        this(maxSize, ttl, Clock.systemUTC());
+    }
+
+    public ExpiringCache(int maxSize, Duration ttl, Clock clock) {
+
+        if(maxSize <= 0) {
+            throw new IllegalArgumentException("Cache max size must be greater than zero.");
+        }
+
+        this.maxSize = maxSize;
+        this.ttlMillis = ttl.toMillis();
+        this.clock = clock;
+
+        this.entries = new LinkedHashMap<>(16, 0.75f, true) {
+            @Override
+            protected boolean removeEldestEntry(Map.Entry<K, Entry<V>> eldest) {
+                boolean remove = size() > ExpiringCache.this.maxSize;
+
+                if(remove) {
+                    evictions.increment();
+                }
+
+                return remove;
+            }
+        };
+    }
+
+    public synchronized V get(K key) {
+
+        Entry<V> entry = entries.get(key);
+
+        if(entry == null) {
+            misses.increment();
+            return null;
+        }
+
+        if(entry.expiresAt() <= clock.millis()) {
+            entries.remove(key);
+            evictions.increment();
+            misses.increment();
+            return null;
+        }
+
+        hits.increment();
+        return entry.value();
+
+    }
+
+    public synchronized void put(K key, V value) {
+
+        if(value == null) {
+            return;
+        }
+
+        entries.put(key, new Entry<>(value, clock.millis() + ttlMillis));
+
+    }
+
+    public V computeIfAbsent(K key, Function<? super K, ? extends V> loader) {
+
+        V value = get(key);
+
+        if(value != null) {
+            return value;
+        }
+
+        Load load;
+        long generation;
+
+        synchronized(this) {
+            load = loads.computeIfAbsent(key, k -> new Load());
+            load.loaders++;
+            generation = load.generation;
+        }
+
+        try {
+
+            // The loader runs outside the lock so a slow query does not block other keys.
+            value = loader.apply(key);
+
+        } finally {
+
+            synchronized(this) {
+
+                if(value != null && load.generation == generation) {
+                    put(key, value);
+                }
+
+                if(--load.loaders == 0) {
+                    loads.remove(key);
+                }
+
+            }
+
+        }
+
+        return value;
+
+    }
+
+    public synchronized void invalidate(K key) {
+
+        entries.remove(key);
+
+        Load load = loads.get(key);
+
+        if(load != null) {
+            load.generation++;
+        }
+
+    }
+
+    public synchronized void invalidateAll() {
+
+        entries.clear();
+        loads.values().forEach(load -> load.generation++);
+
+    }
+
+    public synchronized int size() {
+        return entries.size();
+    }
+
+    public long getHitCount() {
+        return hits.sum();
+    }
+
+    public long getMissCount() {
+        return misses.sum();
+    }
+
+    public long getEvictionCount() {
+        return evictions.sum();
+    }
+
+    private record Entry<V>(V value, long expiresAt) {}
+
+    private static final class Load {
+        private long generation;
+        private int loaders;
+    }
+
+}
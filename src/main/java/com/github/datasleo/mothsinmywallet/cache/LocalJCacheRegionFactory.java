@@ -0,0 +1,80 @@
+package com.github.datasleo.mothsinmywallet.cache;
+
+import java.net.URI;
+import java.time.Duration;
+import java.util.Map;
+import java.util.OptionalLong;
+import java.util.UUID;
+
+import javax.cache.Cache;
+import javax.cache.CacheManager;
+import javax.cache.Caching;
+import javax.cache.spi.CachingProvider;
+
+import org.hibernate.boot.spi.SessionFactoryOptions;
+import org.hibernate.cache.jcache.internal.JCacheRegionFactory;
+import org.hibernate.engine.spi.SessionFactoryImplementor;
+import org.springframework.boot.convert.DurationStyle;
+
+import com.github.benmanes.caffeine.jcache.configuration.CaffeineConfiguration;
+import com.github.benmanes.caffeine.jcache.spi.CaffeineCachingProvider;
+
+/**
+ * Hibernate second-level cache regions kept in local Caffeine caches through JCache, each one
+ * bounded by app.cache.second-level.max-size entries and app.cache.second-level.ttl.
+ *
+ * Every session factory gets a cache manager of its own: the provider's default manager is a
+ * JVM-wide singleton, so two application contexts (as in a test run, each with its own H2
+ * database) would otherwise serve each other's rows under the same ids.
+ */
+public class LocalJCacheRegionFactory extends JCacheRegionFactory {
+
+    public static final String MAX_SIZE = "app.cache.second-level.max-size";
+    public static final String TTL = "app.cache.second-level.ttl";
+
+    private long maxSize;
+    private Duration ttl;
+
+    @Override
+    protected void prepareForUse(SessionFactoryOptions settings, Map<String, Object> configValues) {
+
+        maxSize = Long.parseLong(configValues.getOrDefault(MAX_SIZE, "10000").toString());
+        ttl = DurationStyle.detectAndParse(configValues.getOrDefault(TTL, "30m").toString());
+
+        super.prepareForUse(settings, configValues);
+
+    }
+
+    @Override
+    protected CacheManager resolveCacheManager(SessionFactoryOptions settings, Map<String, Object> properties) {
+
+        CachingProvider provider = Caching.getCachingProvider(CaffeineCachingProvider.class.getName());
+
+        return provider.getCacheManager(URI.create("mothsinmywallet-" + UUID.randomUUID()), provider.getDefaultClassLoader());
+
+    }
+
+    // Regions are created on first use with the bounds above instead of the provider defaults (unbounded).
+    @Override
+    protected Cache<Object, Object> getOrCreateCache(String regionName, SessionFactoryImplementor sessionFactory) {
+
+        Cache<Object, Object> cache = getCacheManager().getCache(regionName);
+
+        return cache != null ? cache : createCache(regionName);
+
+    }
+
+    @Override
+    protected Cache<Object, Object> createCache(String regionName) {
+
+        CaffeineConfiguration<Object, Object> configuration = new CaffeineConfiguration<>();
+
+        configuration.setMaximumSize(OptionalLong.of(maxSize));
+        configuration.setExpireAfterWrite(OptionalLong.of(ttl.toNanos()));
+        configuration.setStatisticsEnabled(true);
+
+        return getCacheManager().createCache(regionName, configuration);
+
+    }
+
+}
@@ -0,0 +1,44 @@
+package com.github.datasleo.mothsinmywallet.config;
+
+import java.time.Duration;
+
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Configuration;
+
+import com.github.datasleo.mothsinmywallet.analytics.SpendColumns;
+import com.github.datasleo.mothsinmywallet.cache.ExpiringCache;
+import com.github.datasleo.mothsinmywallet.dto.DashboardSummaryDto;
+
+@Configuration
+public class CacheConfig {
+
+    @Bean
+    public ExpiringCache<String, Long> accountIdCache(
+        @Value("${app.cache.account-id.max-size:10000}") int maxSize,
+        @Value("${app.cache.account-id.ttl:15m}") Duration ttl) {
+
+        return new ExpiringCache<>(maxSize, ttl);
+
+    }
+
+    // A snapshot costs about 24 bytes per transaction, so the bound is kept small.
+    @Bean
+    public ExpiringCache<Long, SpendColumns> spendColumnsCache(
+        @Value("${app.cache.spend-columns.max-size:64}") int maxSize,
+        @Value("${app.cache.spend-columns.ttl:30m}") Duration ttl) {
+
+        return new ExpiringCache<>(maxSize, ttl);
+
+    }
+
+    @Bean
+    public ExpiringCache<Long, DashboardSummaryDto> dashboardCache(
+        @Value("${app.cache.dashboard.max-size:10000}") int maxSize,
+        @Value("${app.cache.dashboard.ttl:10m}") Duration ttl) {
+
+        return new ExpiringCache<>(maxSize, ttl);
+
+    }
+
+}
@@ -0,0 +1,71 @@
+package com.github.datasleo.mothsinmywallet.config;
+
+import javax.cache.CacheManager;
+
+import org.hibernate.cache.jcache.internal.JCacheRegionFactory;
+import org.hibernate.engine.spi.SessionFactoryImplementor;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.boot.web.servlet.FilterRegistrationBean;
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Configuration;
+import org.springframework.core.Ordered;
+import org.springframework.http.server.observation.ServerRequestObservationConvention;
+
+import com.github.datasleo.mothsinmywallet.metrics.OutcomeServerRequestObservationConvention;
+import com.github.datasleo.mothsinmywallet.metrics.ServiceMetricsAspect;
+import com.github.datasleo.mothsinmywallet.metrics.SqlStatementBudgetFilter;
+
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.binder.MeterBinder;
+import io.micrometer.core.instrument.binder.cache.JCacheMetrics;
+import jakarta.persistence.EntityManagerFactory;
+
+// Controllers are timed by http.server.requests and repositories by spring.data.repository.invocations,
+// both auto-configured by actuator; services by the aspect below.
+@Configuration
+public class MetricsConfig {
+
+    @Bean
+    public ServiceMetricsAspect serviceMetricsAspect(MeterRegistry meterRegistry) {
+        return new ServiceMetricsAspect(meterRegistry);
+    }
+
+    @Bean
+    public ServerRequestObservationConvention serverRequestObservationConvention() {
+        return new OutcomeServerRequestObservationConvention();
+    }
+
+    // First in the chain so the statements of the security filters (account lookups) are counted too.
+    @Bean
+    public FilterRegistrationBean<SqlStatementBudgetFilter> sqlStatementBudgetFilterRegistration(
+        MeterRegistry meterRegistry,
+        @Value("${app.sql.statement-budget:10}") int budget,
+        @Value("${app.sql.n-plus-one-threshold:5}") int nPlusOneThreshold) {
+
+        FilterRegistrationBean<SqlStatementBudgetFilter> registration = new FilterRegistrationBean<>(new SqlStatementBudgetFilter(meterRegistry, budget, nPlusOneThreshold));
+        registration.setOrder(Ordered.HIGHEST_PRECEDENCE);
+        return registration;
+
+    }
+
+    // Hit, miss and size of every second-level cache region (cache.gets, cache.puts, ... tagged by cache name).
+    @Bean
+    public MeterBinder secondLevelCacheMetrics(EntityManagerFactory entityManagerFactory) {
+
+        return registry -> {
+
+            if(!(entityManagerFactory.unwrap(SessionFactoryImplementor.class).getCache().getRegionFactory() instanceof JCacheRegionFactory regionFactory)) {
+                return;
+            }
+
+            CacheManager cacheManager = regionFactory.getCacheManager();
+
+            for(String cacheName : cacheManager.getCacheNames()) {
+                JCacheMetrics.monitor(registry, cacheManager.getCache(cacheName));
+            }
+
+        };
+
+    }
+
+}
@@ -1,5 +1,9 @@
 package com.github.datasleo.mothsinmywallet.config;
 
+import java.time.Duration;
+import java.util.Map;
+
+import org.springframework.beans.factory.annotation.Value;
 import org.springframework.boot.web.servlet.FilterRegistrationBean;
 import org.springframework.context.annotation.Bean;
 import org.springframework.context.annotation.Configuration;
@@ -7,11 +11,17 @@ import org.springframework.security.config.annotation.web.builders.HttpSecurity;
 import org.springframework.security.config.annotation.web.configuration.EnableWebSecurity;
 import org.springframework.security.core.userdetails.UserDetailsService;
 import org.springframework.security.crypto.bcrypt.BCryptPasswordEncoder;
+import org.springframework.security.crypto.password.DelegatingPasswordEncoder;
 import org.springframework.security.crypto.password.PasswordEncoder;
 import org.springframework.security.web.SecurityFilterChain;
+import org.springframework.security.web.authentication.ExceptionMappingAuthenticationFailureHandler;
 import org.springframework.web.filter.CharacterEncodingFilter;
 import org.springframework.web.filter.HiddenHttpMethodFilter;
 
+import com.github.datasleo.mothsinmywallet.exception.PasswordHashingRejectedException;
+import com.github.datasleo.mothsinmywallet.security.BCryptCost;
+import com.github.datasleo.mothsinmywallet.security.BoundedPasswordEncoder;
+
 
 @Configuration
 @EnableWebSecurity
@@ -30,12 +40,15 @@ public class SecurityConfig {
         http
             .authorizeHttpRequests(auth -> auth
                 .requestMatchers("/", "/login", "/signup").permitAll()
+                // Served only on the management port (management.server.port), which listens on the
+                // loopback address alone (management.server.address), so other hosts cannot reach it.
+                .requestMatchers("/actuator/health", "/actuator/prometheus").permitAll()
                 .anyRequest().authenticated()
             )
             .formLogin(login -> login
                 .loginPage("/login")
                 .defaultSuccessUrl("/home", true)
-                .failureUrl("/login?error")
+                .failureHandler(loginFailureHandler())
             
             )
             .logout(logout -> logout
@@ -50,9 +63,38 @@ public class SecurityConfig {
 
     }
 
+    // New hashes are stored as {bcrypt}$2a$<cost>$...; older hashes without the prefix are still
+    // read as BCrypt. Both are upgraded on the next successful login (CustomUserDetailsService)
+    // when the stored cost is below the current one.
     @Bean
-    public PasswordEncoder passwordEncoder() {
-        return new BCryptPasswordEncoder();
+    public BoundedPasswordEncoder passwordEncoder(
+        @Value("${app.security.bcrypt.cost:0}") int cost,
+        @Value("${app.security.bcrypt.target-latency:250ms}") Duration targetLatency,
+        @Value("${app.security.bcrypt.min-cost:10}") int minCost,
+        @Value("${app.security.bcrypt.max-cost:14}") int maxCost,
+        @Value("${app.security.hashing.threads:0}") int threads,
+        @Value("${app.security.hashing.queue-capacity:32}") int queueCapacity) {
+
+        BCryptPasswordEncoder bcrypt = new BCryptPasswordEncoder(cost > 0 ? cost : BCryptCost.calibrate(targetLatency, minCost, maxCost));
+
+        DelegatingPasswordEncoder delegating = new DelegatingPasswordEncoder("bcrypt", Map.of("bcrypt", bcrypt));
+        delegating.setDefaultPasswordEncoderForMatches(bcrypt);
+
+        // Half the cores by default, so the other requests keep the rest during a login burst.
+        int hashingThreads = threads > 0 ? threads : Math.max(1, Runtime.getRuntime().availableProcessors() / 2);
+
+        return new BoundedPasswordEncoder(delegating, hashingThreads, queueCapacity);
+
+    }
+
+    private static ExceptionMappingAuthenticationFailureHandler loginFailureHandler() {
+
+        ExceptionMappingAuthenticationFailureHandler handler = new ExceptionMappingAuthenticationFailureHandler();
+        handler.setDefaultFailureUrl("/login?error");
+        handler.setExceptionMappings(Map.of(PasswordHashingRejectedException.class.getName(), "/login?busy"));
+
+        return handler;
+
     }
 
     @Bean
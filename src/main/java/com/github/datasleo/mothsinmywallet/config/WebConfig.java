@@ -0,0 +1,26 @@
+package com.github.datasleo.mothsinmywallet.config;
+
+import java.util.List;
+
+import org.springframework.context.annotation.Configuration;
+import org.springframework.web.method.support.HandlerMethodArgumentResolver;
+import org.springframework.web.servlet.config.annotation.WebMvcConfigurer;
+
+import com.github.datasleo.mothsinmywallet.security.CurrentAccountIdArgumentResolver;
+import com.github.datasleo.mothsinmywallet.service.AccountService;
+
+@Configuration
+public class WebConfig implements WebMvcConfigurer {
+
+    private final AccountService accountService;
+
+    public WebConfig(AccountService accountService) {
+        this.accountService = accountService;
+    }
+
+    @Override
+    public void addArgumentResolvers(List<HandlerMethodArgumentResolver> resolvers) {
+        resolvers.add(new CurrentAccountIdArgumentResolver(accountService));
+    }
+
+}
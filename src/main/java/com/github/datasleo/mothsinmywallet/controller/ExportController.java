@@ -0,0 +1,68 @@
+package com.github.datasleo.mothsinmywallet.controller;
+
+import java.nio.charset.StandardCharsets;
+
+import org.springframework.http.ContentDisposition;
+import org.springframework.http.HttpHeaders;
+import org.springframework.http.MediaType;
+import org.springframework.http.ResponseEntity;
+import org.springframework.stereotype.Controller;
+import org.springframework.web.bind.annotation.GetMapping;
+import org.springframework.web.bind.annotation.RequestMapping;
+import org.springframework.web.servlet.mvc.method.annotation.StreamingResponseBody;
+
+import com.github.datasleo.mothsinmywallet.security.CurrentAccountId;
+import com.github.datasleo.mothsinmywallet.service.AccountExportService;
+
+// Downloads are written by StreamingResponseBody on an async thread, straight from the
+// database cursor to the response, without building the file in memory.
+@Controller
+@RequestMapping("/export")
+public class ExportController {
+
+    private static final MediaType TEXT_CSV = new MediaType("text", "csv", StandardCharsets.UTF_8);
+
+    private final AccountExportService exportService;
+
+    public ExportController(AccountExportService exportService) {
+        this.exportService = exportService;
+    }
+
+    // GET /export
+    @GetMapping
+    public String getExport() {
+        return "auth/export";
+    }
+
+    // GET /export/tags.csv
+    @GetMapping("/tags.csv")
+    public ResponseEntity<StreamingResponseBody> exportTags(@CurrentAccountId Long accountId) {
+        return download("tags.csv", TEXT_CSV, out -> exportService.writeTagsCsv(accountId, out));
+    }
+
+    // GET /export/payment-methods.csv
+    @GetMapping("/payment-methods.csv")
+    public ResponseEntity<StreamingResponseBody> exportPaymentMethods(@CurrentAccountId Long accountId) {
+        return download("payment-methods.csv", TEXT_CSV, out -> exportService.writePaymentMethodsCsv(accountId, out));
+    }
+
+    // GET /export/transactions.csv
+    @GetMapping("/transactions.csv")
+    public ResponseEntity<StreamingResponseBody> exportTransactions(@CurrentAccountId Long accountId) {
+        return download("transactions.csv", TEXT_CSV, out -> exportService.writeTransactionsCsv(accountId, out));
+    }
+
+    // GET /export/account.json
+    @GetMapping("/account.json")
+    public ResponseEntity<StreamingResponseBody> exportAccount(@CurrentAccountId Long accountId) {
+        return download("account.json", MediaType.APPLICATION_JSON, out -> exportService.writeAccountJson(accountId, out));
+    }
+
+    private static ResponseEntity<StreamingResponseBody> download(String filename, MediaType mediaType, StreamingResponseBody body) {
+        return ResponseEntity.ok()
+            .header(HttpHeaders.CONTENT_DISPOSITION, ContentDisposition.attachment().filename(filename).build().toString())
+            .contentType(mediaType)
+            .body(body);
+    }
+
+}
@@ -1,23 +1,28 @@
 package com.github.datasleo.mothsinmywallet.controller;
 
-import org.springframework.security.core.context.SecurityContextHolder;
-import org.springframework.security.core.userdetails.UserDetails;
-import org.springframework.security.core.userdetails.UsernameNotFoundException;
+import java.time.YearMonth;
+
+import org.springframework.security.core.Authentication;
 import org.springframework.stereotype.Controller;
 import org.springframework.ui.Model;
 import org.springframework.web.bind.annotation.GetMapping;
 import org.springframework.web.bind.annotation.RequestMapping;
 
-import com.github.datasleo.mothsinmywallet.model.Account;
-import com.github.datasleo.mothsinmywallet.repository.AccountRepository;
+import com.github.datasleo.mothsinmywallet.security.CurrentAccountId;
+import com.github.datasleo.mothsinmywallet.service.DashboardService;
+import com.github.datasleo.mothsinmywallet.service.MonthlySpendService;
 
 @Controller
 public class HomeController {
 
-    private final AccountRepository accountRepository;
+    private static final int HOME_MONTHS = 12;
+
+    private final DashboardService dashboardService;
+    private final MonthlySpendService monthlySpendService;
 
-    public HomeController (AccountRepository accountRepository) {
-        this.accountRepository = accountRepository;
+    public HomeController (DashboardService dashboardService, MonthlySpendService monthlySpendService) {
+        this.dashboardService = dashboardService;
+        this.monthlySpendService = monthlySpendService;
     }
 
     @GetMapping("/")
@@ -25,27 +30,19 @@ public class HomeController {
         return "index";
     }
 
+    // The username comes from the principal and the id from @CurrentAccountId, so the Account
+    // entity is never loaded; the counts are one cached query. The id is null when the principal
+    // no longer has an account.
     @RequestMapping("/home")
-    public String getHome(Model model) {
-
-        Object principal = SecurityContextHolder.getContext().getAuthentication().getPrincipal();
-        String username;
-
-        if(principal instanceof UserDetails userDetails) {
-            
-            username = userDetails.getUsername();
-        
-        } else {
-            
-            // username = principal.toString(); I commented this code beacuse VSCode is warning a possible null pointer
-            username = principal != null ? principal.toString() : "anonymousUser";
-        
-        }
+    public String getHome(@CurrentAccountId Long accountId, Authentication authentication, Model model) {
 
-        Account account = accountRepository.findByUsername(username)
-            .orElseThrow(() -> new UsernameNotFoundException("Username " + username + " not found."));
+        if(accountId == null) {
+            return "redirect:/login";
+        }
 
-        model.addAttribute("username", account.getUsername());
+        model.addAttribute("username", authentication.getName());
+        model.addAttribute("summary", dashboardService.getSummary(accountId));
+        model.addAttribute("monthlyTotals", monthlySpendService.getMonthlyTotals(accountId, YearMonth.now(), HOME_MONTHS));
 
         return "auth/home";
     }
@@ -1,8 +1,6 @@
 package com.github.datasleo.mothsinmywallet.controller;
 
-import java.security.Principal;
-import java.util.List;
-
+import org.springframework.data.domain.Window;
 import org.springframework.stereotype.Controller;
 import org.springframework.ui.Model;
 import org.springframework.web.bind.annotation.DeleteMapping;
@@ -12,13 +10,15 @@ import org.springframework.web.bind.annotation.PatchMapping;
 import org.springframework.web.bind.annotation.PathVariable;
 import org.springframework.web.bind.annotation.PostMapping;
 import org.springframework.web.bind.annotation.RequestMapping;
+import org.springframework.web.bind.annotation.RequestParam;
 
 import com.github.datasleo.mothsinmywallet.dto.PaymentMethodDto;
+import com.github.datasleo.mothsinmywallet.dto.PaymentMethodSummaryDto;
 import com.github.datasleo.mothsinmywallet.exception.PaymentMethodAlreadyExistsException;
 import com.github.datasleo.mothsinmywallet.exception.PaymentMethodNotFoundOrNotAuthorizedException;
 import com.github.datasleo.mothsinmywallet.exception.UnauthorizedAccountException;
 import com.github.datasleo.mothsinmywallet.model.PaymentMethod;
-import com.github.datasleo.mothsinmywallet.service.AccountService;
+import com.github.datasleo.mothsinmywallet.security.CurrentAccountId;
 import com.github.datasleo.mothsinmywallet.service.PaymentMethodService;
 
 @Controller
@@ -26,24 +26,25 @@ import com.github.datasleo.mothsinmywallet.service.PaymentMethodService;
 public class PaymentMethodController {
 
     private final PaymentMethodService paymentService;
-    private final AccountService accountService;
 
-    public PaymentMethodController (PaymentMethodService paymentService, AccountService accountService) {
+    public PaymentMethodController (PaymentMethodService paymentService) {
         this.paymentService = paymentService;
-        this.accountService = accountService;
     }
 
     // GET /payment-method/
     @GetMapping
-    public String getPaymentMethod(Principal principal, Model model) {
+    public String getPaymentMethod(@RequestParam(required = false) Long after, @RequestParam(defaultValue = "20") int size, @CurrentAccountId Long accountId, Model model) {
         
-        String identify = principal.getName();
-        Long accountId = accountService.getAccountIdByPrincipalName(identify);
-
         if(accountId != null) {
 
-            List<PaymentMethod> listOfPaymentsMethod = paymentService.getAllPaymentsByAccountId(accountId);
-            model.addAttribute("payments_method", listOfPaymentsMethod);
+            Window<PaymentMethodSummaryDto> pageOfPaymentsMethod = paymentService.getPaymentPageByAccountId(accountId, after, size);
+
+            model.addAttribute("payments_method", pageOfPaymentsMethod.getContent());
+            model.addAttribute("size", size);
+
+            if(pageOfPaymentsMethod.hasNext()) {
+                model.addAttribute("nextAfter", pageOfPaymentsMethod.getContent().getLast().getId());
+            }
 
         }
         
@@ -59,11 +60,8 @@ public class PaymentMethodController {
 
     // POST /payment-method/add/
     @PostMapping("/add")
-    public String setPaymentMethod(@ModelAttribute PaymentMethodDto paymentDto, Principal principal, Model model) {
+    public String setPaymentMethod(@ModelAttribute PaymentMethodDto paymentDto, @CurrentAccountId Long accountId, Model model) {
       
-        String identify = principal.getName();
-        Long accountId = accountService.getAccountIdByPrincipalName(identify);
-        
         paymentDto.setAccountId(accountId);
 
         try {
@@ -83,10 +81,7 @@ public class PaymentMethodController {
 
     // GET /payment-method/edit/{id}
     @GetMapping("/edit/{id}")
-    public String getPaymentMethodByEdit(@PathVariable("id") Long id, Principal principal, Model model) {
-        
-        String identify = principal.getName();
-        Long accountId = accountService.getAccountIdByPrincipalName(identify);
+    public String getPaymentMethodByEdit(@PathVariable("id") Long id, @CurrentAccountId Long accountId, Model model) {
         
         try {
 
@@ -106,15 +101,12 @@ public class PaymentMethodController {
 
     // PATCH /payment-method/edit
     @PatchMapping("/edit/{id}")
-    public String setPaymentMethodById(@PathVariable("id") Long id, @ModelAttribute PaymentMethodDto paymentDto, Principal principal, Model model) {
+    public String setPaymentMethodById(@PathVariable("id") Long id, @ModelAttribute PaymentMethodDto paymentDto, @CurrentAccountId Long accountId, Model model) {
 
-        String identify = principal.getName();
-        Long accountId = accountService.getAccountIdByPrincipalName(identify);
-        
         try {
 
-            PaymentMethod payment = paymentService.updatePayment(id, accountId, paymentDto);
-            model.addAttribute("success", "Payment method '" + payment.getPaymentName() + "' was updated with success");
+            paymentService.updatePayment(id, accountId, paymentDto);
+            model.addAttribute("success", "Payment method '" + paymentDto.getPaymentName() + "' was updated with success");
 
         } catch (UnauthorizedAccountException | PaymentMethodNotFoundOrNotAuthorizedException | PaymentMethodAlreadyExistsException e) {
 
@@ -127,15 +119,12 @@ public class PaymentMethodController {
 
     // DELETE /payment-method/delete
     @DeleteMapping("/delete/{id}")
-    public String removePaymentMethod(@PathVariable("id") Long id, Principal principal, Model model) {
-
-        String identify = principal.getName();
-        Long accountId = accountService.getAccountIdByPrincipalName(identify);
+    public String removePaymentMethod(@PathVariable("id") Long id, @CurrentAccountId Long accountId, Model model) {
 
         try {
 
-            PaymentMethod payment = paymentService.deletePayment(id, accountId);
-            model.addAttribute("success", "Payment method '" + payment.getPaymentName() + "' was deleted with success.");
+            paymentService.deletePayment(id, accountId);
+            model.addAttribute("success", "Payment method was deleted with success.");
             
         } catch (UnauthorizedAccountException | PaymentMethodNotFoundOrNotAuthorizedException e) {
 
@@ -0,0 +1,60 @@
+package com.github.datasleo.mothsinmywallet.controller;
+
+import java.time.YearMonth;
+
+import org.springframework.stereotype.Controller;
+import org.springframework.ui.Model;
+import org.springframework.web.bind.annotation.GetMapping;
+import org.springframework.web.bind.annotation.RequestMapping;
+import org.springframework.web.bind.annotation.RequestParam;
+
+import com.github.datasleo.mothsinmywallet.security.CurrentAccountId;
+import com.github.datasleo.mothsinmywallet.service.SpendAnalyticsService;
+
+// Spend over a range of months, per tag and per payment method, answered from the account's
+// cached SpendColumns snapshot.
+@Controller
+@RequestMapping("/report")
+public class ReportController {
+
+    static final int DEFAULT_MONTHS = 12;
+
+    // Each report allocates one cell per month and tag, so the range is capped.
+    static final int MAX_MONTHS = 60;
+
+    private final SpendAnalyticsService spendAnalyticsService;
+
+    public ReportController(SpendAnalyticsService spendAnalyticsService) {
+        this.spendAnalyticsService = spendAnalyticsService;
+    }
+
+    // GET /report?from=2025-01&to=2025-12
+    @GetMapping
+    public String getReport(@RequestParam(required = false) YearMonth from, @RequestParam(required = false) YearMonth to, @CurrentAccountId Long accountId, Model model) {
+
+        if(accountId == null) {
+            return "redirect:/login";
+        }
+
+        YearMonth until = to != null ? to : YearMonth.now();
+        YearMonth since = from != null ? from : until.minusMonths(DEFAULT_MONTHS - 1);
+
+        if(since.isAfter(until)) {
+            since = until;
+        }
+
+        if(since.isBefore(until.minusMonths(MAX_MONTHS - 1))) {
+            since = until.minusMonths(MAX_MONTHS - 1);
+        }
+
+        model.addAttribute("from", since);
+        model.addAttribute("to", until);
+        model.addAttribute("total", spendAnalyticsService.getTotal(accountId, since.atDay(1), until.plusMonths(1).atDay(1)));
+        model.addAttribute("spendPerTag", spendAnalyticsService.getSpendPerTagPerMonth(accountId, since, until));
+        model.addAttribute("spendPerPaymentMethod", spendAnalyticsService.getSpendPerPaymentMethodPerMonth(accountId, since, until));
+
+        return "auth/report";
+
+    }
+
+}
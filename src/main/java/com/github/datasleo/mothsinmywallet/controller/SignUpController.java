@@ -10,6 +10,7 @@ import org.springframework.web.bind.annotation.RequestMapping;
 import com.github.datasleo.mothsinmywallet.dto.SignUpDto;
 import com.github.datasleo.mothsinmywallet.exception.EmailAlreadyExistsException;
 import com.github.datasleo.mothsinmywallet.exception.PasswordAndRepeatPasswordAreNotEqualsException;
+import com.github.datasleo.mothsinmywallet.exception.PasswordHashingRejectedException;
 import com.github.datasleo.mothsinmywallet.exception.UsernameAlreadyExistsException;
 import com.github.datasleo.mothsinmywallet.service.AccountService;
 
@@ -36,7 +37,7 @@ public class SignUpController {
             accountService.createAccount(signUpDto);
             return "redirect:/login";
       
-        } catch (EmailAlreadyExistsException | PasswordAndRepeatPasswordAreNotEqualsException | UsernameAlreadyExistsException e) {
+        } catch (EmailAlreadyExistsException | PasswordAndRepeatPasswordAreNotEqualsException | UsernameAlreadyExistsException | PasswordHashingRejectedException e) {
       
           model.addAttribute("error", e.getMessage());            
     
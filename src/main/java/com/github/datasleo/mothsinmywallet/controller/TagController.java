@@ -1,8 +1,6 @@
 package com.github.datasleo.mothsinmywallet.controller;
 
-import java.security.Principal;
-import java.util.List;
-
+import org.springframework.data.domain.Window;
 import org.springframework.stereotype.Controller;
 import org.springframework.ui.Model;
 import org.springframework.web.bind.annotation.DeleteMapping;
@@ -11,13 +9,15 @@ import org.springframework.web.bind.annotation.ModelAttribute;
 import org.springframework.web.bind.annotation.PatchMapping;
 import org.springframework.web.bind.annotation.PathVariable;
 import org.springframework.web.bind.annotation.PostMapping;
+import org.springframework.web.bind.annotation.RequestParam;
 
 import com.github.datasleo.mothsinmywallet.dto.TagDto;
+import com.github.datasleo.mothsinmywallet.dto.TagSummaryDto;
 import com.github.datasleo.mothsinmywallet.exception.UnauthorizedAccountException;
 import com.github.datasleo.mothsinmywallet.exception.TagNameAlreadyExistsException;
 import com.github.datasleo.mothsinmywallet.exception.TagNotFoundOrNotAuthorizedException;
 import com.github.datasleo.mothsinmywallet.model.Tag;
-import com.github.datasleo.mothsinmywallet.service.AccountService;
+import com.github.datasleo.mothsinmywallet.security.CurrentAccountId;
 import com.github.datasleo.mothsinmywallet.service.TagService;
 
 
@@ -26,33 +26,33 @@ import com.github.datasleo.mothsinmywallet.service.TagService;
 public class TagController {
     
     private final TagService tagService;
-    private final AccountService accountService;
     
-    public TagController(TagService tagService, AccountService accountService) {
+    public TagController(TagService tagService) {
         this.tagService = tagService;
-        this.accountService = accountService;
     } 
 
     @GetMapping("/tag-manager")
-    public String getTag(Principal principal, Model model) {
-
-        String identify = principal.getName();
-        Long accountId = accountService.getAccountIdByPrincipalName(identify);
+    public String getTag(@RequestParam(required = false) Long after, @RequestParam(defaultValue = "20") int size, @CurrentAccountId Long accountId, Model model) {
 
         if(accountId != null) {
-            List<Tag> tags = tagService.getAllTagsByAccountId(accountId);
-            model.addAttribute("tags", tags);
+
+            Window<TagSummaryDto> tags = tagService.getTagPageByAccountId(accountId, after, size);
+
+            model.addAttribute("tags", tags.getContent());
+            model.addAttribute("size", size);
+
+            if(tags.hasNext()) {
+                model.addAttribute("nextAfter", tags.getContent().getLast().getId());
+            }
+
         }
 
         return "auth/tag_manager";
     }
 
     @PostMapping("/tag-manager")
-    public String setTag(@ModelAttribute TagDto tagDto, Principal principal, Model model) {
+    public String setTag(@ModelAttribute TagDto tagDto, @CurrentAccountId Long accountId, Model model) {
         
-        String identify = principal.getName();
-        Long accountId = accountService.getAccountIdByPrincipalName(identify);
-
         tagDto.setAccountId(accountId);
 
         try {
@@ -71,11 +71,8 @@ public class TagController {
     }
 
     @DeleteMapping("/tag-manager/{id}")
-    public String deleteTag(@PathVariable long id, Principal principal, Model model) {
+    public String deleteTag(@PathVariable long id, @CurrentAccountId Long accountId, Model model) {
         
-        String identify = principal.getName();
-        Long accountId = accountService.getAccountIdByPrincipalName(identify);
-
         try {
 
             tagService.deleteTag(id, accountId);
@@ -91,10 +88,7 @@ public class TagController {
     }
 
     @GetMapping("/tag-manager/{id}/edit")
-    public String editTag(@PathVariable long id, Principal principal, Model model) {
-        
-        String identify = principal.getName();
-        Long accountId = accountService.getAccountIdByPrincipalName(identify);
+    public String editTag(@PathVariable long id, @CurrentAccountId Long accountId, Model model) {
         
         try {
 
@@ -112,17 +106,14 @@ public class TagController {
 
 
     @PatchMapping("/tag-manager/{id}")
-    public String updateTag(@PathVariable long id, @ModelAttribute TagDto tagDto, Principal principal, Model model) {
+    public String updateTag(@PathVariable long id, @ModelAttribute TagDto tagDto, @CurrentAccountId Long accountId, Model model) {
         
-        String identify = principal.getName();
-        Long accountId = accountService.getAccountIdByPrincipalName(identify);
-
         try {
 
             tagService.updateTag(id, accountId, tagDto);
             model.addAttribute("success", "Tag was updated with success.");
 
-        } catch (TagNotFoundOrNotAuthorizedException e) {
+        } catch (TagNotFoundOrNotAuthorizedException | TagNameAlreadyExistsException e) {
             
             model.addAttribute("error", e.getMessage());
 
@@ -0,0 +1,63 @@
+package com.github.datasleo.mothsinmywallet.controller;
+
+import java.io.IOException;
+import java.io.InputStreamReader;
+import java.io.Reader;
+import java.nio.charset.StandardCharsets;
+
+import org.springframework.stereotype.Controller;
+import org.springframework.ui.Model;
+import org.springframework.web.bind.annotation.GetMapping;
+import org.springframework.web.bind.annotation.PostMapping;
+import org.springframework.web.bind.annotation.RequestMapping;
+import org.springframework.web.bind.annotation.RequestParam;
+import org.springframework.web.multipart.MultipartFile;
+
+import com.github.datasleo.mothsinmywallet.dto.TransactionImportResultDto;
+import com.github.datasleo.mothsinmywallet.exception.InvalidCsvFileException;
+import com.github.datasleo.mothsinmywallet.security.CurrentAccountId;
+import com.github.datasleo.mothsinmywallet.service.TransactionImportService;
+
+@Controller
+@RequestMapping("/transaction/import")
+public class TransactionImportController {
+
+    private final TransactionImportService importService;
+
+    public TransactionImportController(TransactionImportService importService) {
+        this.importService = importService;
+    }
+
+    // GET /transaction/import
+    @GetMapping
+    public String getImport() {
+        return "auth/transaction_import";
+    }
+
+    // POST /transaction/import
+    @PostMapping
+    public String importTransactions(@RequestParam("file") MultipartFile file, @CurrentAccountId Long accountId, Model model) {
+
+        // The upload is streamed from the multipart part, never loaded whole in memory.
+        try (Reader reader = new InputStreamReader(file.getInputStream(), StandardCharsets.UTF_8)) {
+
+            TransactionImportResultDto result = importService.importCsv(accountId, reader);
+
+            model.addAttribute("result", result);
+            model.addAttribute("success", result.getImportedRows() + " transactions were imported with success.");
+
+        } catch (InvalidCsvFileException e) {
+
+            model.addAttribute("error", e.getMessage());
+
+        } catch (IOException e) {
+
+            model.addAttribute("error", "The file could not be read.");
+
+        }
+
+        return "auth/transaction_import";
+
+    }
+
+}
@@ -0,0 +1,37 @@
+package com.github.datasleo.mothsinmywallet.dto;
+
+import java.time.LocalDateTime;
+
+// Counts shown on the home dashboard, selected in one statement by AccountRepository.findDashboardSummary.
+public class DashboardSummaryDto {
+
+    private final long tagCount;
+    private final long paymentMethodCount;
+    private final long recentTransactionCount;
+    private final LocalDateTime lastTransactionDate;
+
+    public DashboardSummaryDto(Long tagCount, Long paymentMethodCount, Long recentTransactionCount, LocalDateTime lastTransactionDate) {
+        this.tagCount = tagCount;
+        this.paymentMethodCount = paymentMethodCount;
+        this.recentTransactionCount = recentTransactionCount;
+        this.lastTransactionDate = lastTransactionDate;
+    }
+
+    public long getTagCount() {
+        return tagCount;
+    }
+
+    public long getPaymentMethodCount() {
+        return paymentMethodCount;
+    }
+
+    public long getRecentTransactionCount() {
+        return recentTransactionCount;
+    }
+
+    // Null when the account has no transaction.
+    public LocalDateTime getLastTransactionDate() {
+        return lastTransactionDate;
+    }
+
+}
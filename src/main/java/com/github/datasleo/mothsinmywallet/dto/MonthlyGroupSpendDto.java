@@ -0,0 +1,37 @@
+package com.github.datasleo.mothsinmywallet.dto;
+
+import java.math.BigDecimal;
+import java.time.LocalDate;
+
+// Spend of one month for one tag or payment method. A null name means "no tag" / "no payment method".
+public class MonthlyGroupSpendDto {
+
+    private final LocalDate month;
+    private final String name;
+    private final BigDecimal amount;
+    private final long transactionCount;
+
+    public MonthlyGroupSpendDto(LocalDate month, String name, BigDecimal amount, long transactionCount) {
+        this.month = month;
+        this.name = name;
+        this.amount = amount;
+        this.transactionCount = transactionCount;
+    }
+
+    public LocalDate getMonth() {
+        return month;
+    }
+
+    public String getName() {
+        return name;
+    }
+
+    public BigDecimal getAmount() {
+        return amount;
+    }
+
+    public long getTransactionCount() {
+        return transactionCount;
+    }
+
+}
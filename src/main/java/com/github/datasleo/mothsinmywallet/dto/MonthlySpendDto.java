@@ -0,0 +1,43 @@
+package com.github.datasleo.mothsinmywallet.dto;
+
+import java.math.BigDecimal;
+import java.time.LocalDate;
+
+// Spend of one month for a tag and payment method pair. Null names mean "no tag" / "no payment method".
+public class MonthlySpendDto {
+
+    private final LocalDate month;
+    private final String tagName;
+    private final String paymentName;
+    private final BigDecimal amount;
+    private final long transactionCount;
+
+    public MonthlySpendDto(LocalDate month, String tagName, String paymentName, BigDecimal amount, Long transactionCount) {
+        this.month = month;
+        this.tagName = tagName;
+        this.paymentName = paymentName;
+        this.amount = amount;
+        this.transactionCount = transactionCount;
+    }
+
+    public LocalDate getMonth() {
+        return month;
+    }
+
+    public String getTagName() {
+        return tagName;
+    }
+
+    public String getPaymentName() {
+        return paymentName;
+    }
+
+    public BigDecimal getAmount() {
+        return amount;
+    }
+
+    public long getTransactionCount() {
+        return transactionCount;
+    }
+
+}
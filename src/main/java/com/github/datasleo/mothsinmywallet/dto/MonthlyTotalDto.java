@@ -0,0 +1,31 @@
+package com.github.datasleo.mothsinmywallet.dto;
+
+import java.math.BigDecimal;
+import java.time.LocalDate;
+
+// Spend of one month, summed from the monthly rollups.
+public class MonthlyTotalDto {
+
+    private final LocalDate month;
+    private final BigDecimal amount;
+    private final long transactionCount;
+
+    public MonthlyTotalDto(LocalDate month, BigDecimal amount, Long transactionCount) {
+        this.month = month;
+        this.amount = amount;
+        this.transactionCount = transactionCount;
+    }
+
+    public LocalDate getMonth() {
+        return month;
+    }
+
+    public BigDecimal getAmount() {
+        return amount;
+    }
+
+    public long getTransactionCount() {
+        return transactionCount;
+    }
+
+}
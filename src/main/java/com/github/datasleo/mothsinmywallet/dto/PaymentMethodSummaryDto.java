@@ -0,0 +1,28 @@
+package com.github.datasleo.mothsinmywallet.dto;
+
+// Read-only row of the payment method manager list, selected straight from payment_method_table.
+public class PaymentMethodSummaryDto {
+
+    private final long id;
+    private final String paymentName;
+    private final String paymentDescription;
+
+    public PaymentMethodSummaryDto(long id, String paymentName, String paymentDescription) {
+        this.id = id;
+        this.paymentName = paymentName;
+        this.paymentDescription = paymentDescription;
+    }
+
+    public long getId() {
+        return id;
+    }
+
+    public String getPaymentName() {
+        return paymentName;
+    }
+
+    public String getPaymentDescription() {
+        return paymentDescription;
+    }
+
+}
@@ -0,0 +1,28 @@
+package com.github.datasleo.mothsinmywallet.dto;
+
+// Read-only row of the tag manager list, selected straight from tag_table.
+public class TagSummaryDto {
+
+    private final long id;
+    private final String tagName;
+    private final String tagDescription;
+
+    public TagSummaryDto(long id, String tagName, String tagDescription) {
+        this.id = id;
+        this.tagName = tagName;
+        this.tagDescription = tagDescription;
+    }
+
+    public long getId() {
+        return id;
+    }
+
+    public String getTagName() {
+        return tagName;
+    }
+
+    public String getTagDescription() {
+        return tagDescription;
+    }
+
+}
@@ -0,0 +1,37 @@
+package com.github.datasleo.mothsinmywallet.dto;
+
+import java.math.BigDecimal;
+import java.time.LocalDateTime;
+
+// The columns of a transaction that its monthly rollup bucket depends on.
+public class TransactionAmountDto {
+
+    private final BigDecimal amount;
+    private final LocalDateTime date;
+    private final Long tagId;
+    private final Long paymentId;
+
+    public TransactionAmountDto(BigDecimal amount, LocalDateTime date, Long tagId, Long paymentId) {
+        this.amount = amount;
+        this.date = date;
+        this.tagId = tagId;
+        this.paymentId = paymentId;
+    }
+
+    public BigDecimal getAmount() {
+        return amount;
+    }
+
+    public LocalDateTime getDate() {
+        return date;
+    }
+
+    public Long getTagId() {
+        return tagId;
+    }
+
+    public Long getPaymentId() {
+        return paymentId;
+    }
+
+}
@@ -0,0 +1,82 @@
+package com.github.datasleo.mothsinmywallet.dto;
+
+import java.math.BigDecimal;
+import java.time.LocalDateTime;
+
+public class TransactionDto {
+
+    private String title;
+    private String description;
+    private BigDecimal amount;
+    private LocalDateTime date;
+    private Long tagId;
+    private Long paymentMethodId;
+    private Long accountId;
+
+    public TransactionDto(String title, String description, BigDecimal amount, LocalDateTime date, Long tagId, Long paymentMethodId, Long accountId) {
+        this.title = title;
+        this.description = description;
+        this.amount = amount;
+        this.date = date;
+        this.tagId = tagId;
+        this.paymentMethodId = paymentMethodId;
+        this.accountId = accountId;
+    }
+
+    public String getTitle() {
+        return title;
+    }
+
+    public void setTitle(String title) {
+        this.title = title;
+    }
+
+    public String getDescription() {
+        return description;
+    }
+
+    public void setDescription(String description) {
+        this.description = description;
+    }
+
+    public BigDecimal getAmount() {
+        return amount;
+    }
+
+    public void setAmount(BigDecimal amount) {
+        this.amount = amount;
+    }
+
+    public LocalDateTime getDate() {
+        return date;
+    }
+
+    public void setDate(LocalDateTime date) {
+        this.date = date;
+    }
+
+    public Long getTagId() {
+        return tagId;
+    }
+
+    public void setTagId(Long tagId) {
+        this.tagId = tagId;
+    }
+
+    public Long getPaymentMethodId() {
+        return paymentMethodId;
+    }
+
+    public void setPaymentMethodId(Long paymentMethodId) {
+        this.paymentMethodId = paymentMethodId;
+    }
+
+    public Long getAccountId() {
+        return accountId;
+    }
+
+    public void setAccountId(Long accountId) {
+        this.accountId = accountId;
+    }
+
+}
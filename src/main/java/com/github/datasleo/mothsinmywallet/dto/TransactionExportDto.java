@@ -0,0 +1,49 @@
+package com.github.datasleo.mothsinmywallet.dto;
+
+import java.math.BigDecimal;
+import java.time.LocalDateTime;
+
+// One exported transaction, with the same columns the CSV import reads back.
+public class TransactionExportDto {
+
+    private final String title;
+    private final String description;
+    private final BigDecimal amount;
+    private final LocalDateTime date;
+    private final String tagName;
+    private final String paymentName;
+
+    public TransactionExportDto(String title, String description, BigDecimal amount, LocalDateTime date, String tagName, String paymentName) {
+        this.title = title;
+        this.description = description;
+        this.amount = amount;
+        this.date = date;
+        this.tagName = tagName;
+        this.paymentName = paymentName;
+    }
+
+    public String getTitle() {
+        return title;
+    }
+
+    public String getDescription() {
+        return description;
+    }
+
+    public BigDecimal getAmount() {
+        return amount;
+    }
+
+    public LocalDateTime getDate() {
+        return date;
+    }
+
+    public String getTagName() {
+        return tagName;
+    }
+
+    public String getPaymentName() {
+        return paymentName;
+    }
+
+}
@@ -0,0 +1,42 @@
+package com.github.datasleo.mothsinmywallet.dto;
+
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.List;
+
+public class TransactionImportResultDto {
+
+    // Only the first errors are kept, so a broken file cannot make the report grow without bound.
+    private static final int MAX_REPORTED_ERRORS = 20;
+
+    private long importedRows;
+    private long rejectedRows;
+    private final List<String> errors = new ArrayList<>();
+
+    public void addImported(int rows) {
+        importedRows += rows;
+    }
+
+    public void addRejected(long lineNumber, String reason) {
+
+        rejectedRows++;
+
+        if(errors.size() < MAX_REPORTED_ERRORS) {
+            errors.add("Line " + lineNumber + ": " + reason);
+        }
+
+    }
+
+    public long getImportedRows() {
+        return importedRows;
+    }
+
+    public long getRejectedRows() {
+        return rejectedRows;
+    }
+
+    public List<String> getErrors() {
+        return Collections.unmodifiableList(errors);
+    }
+
+}
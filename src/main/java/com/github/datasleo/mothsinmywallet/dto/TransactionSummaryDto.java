@@ -0,0 +1,49 @@
+package com.github.datasleo.mothsinmywallet.dto;
+
+import java.math.BigDecimal;
+import java.time.LocalDateTime;
+
+// Read-only row of a transaction listing; tag and payment method names come from outer joins.
+public class TransactionSummaryDto {
+
+    private final Long id;
+    private final String title;
+    private final BigDecimal amount;
+    private final LocalDateTime date;
+    private final String tagName;
+    private final String paymentName;
+
+    public TransactionSummaryDto(Long id, String title, BigDecimal amount, LocalDateTime date, String tagName, String paymentName) {
+        this.id = id;
+        this.title = title;
+        this.amount = amount;
+        this.date = date;
+        this.tagName = tagName;
+        this.paymentName = paymentName;
+    }
+
+    public Long getId() {
+        return id;
+    }
+
+    public String getTitle() {
+        return title;
+    }
+
+    public BigDecimal getAmount() {
+        return amount;
+    }
+
+    public LocalDateTime getDate() {
+        return date;
+    }
+
+    public String getTagName() {
+        return tagName;
+    }
+
+    public String getPaymentName() {
+        return paymentName;
+    }
+
+}
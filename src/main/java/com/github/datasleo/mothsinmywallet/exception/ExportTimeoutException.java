@@ -0,0 +1,9 @@
+package com.github.datasleo.mothsinmywallet.exception;
+
+public class ExportTimeoutException extends RuntimeException {
+    
+    public ExportTimeoutException(String message) {
+        super(message);
+    }
+
+}
@@ -0,0 +1,9 @@
+package com.github.datasleo.mothsinmywallet.exception;
+
+public class InvalidCsvFileException extends RuntimeException {
+    
+    public InvalidCsvFileException(String message) {
+        super(message);
+    }
+
+}
@@ -0,0 +1,10 @@
+package com.github.datasleo.mothsinmywallet.exception;
+
+import org.springframework.security.authentication.AuthenticationServiceException;
+
+// An AuthenticationException so a rejected login goes to the failure handler instead of failing the request.
+public class PasswordHashingRejectedException extends AuthenticationServiceException {
+    public PasswordHashingRejectedException (String message) {
+        super(message);
+    }
+}
@@ -0,0 +1,9 @@
+package com.github.datasleo.mothsinmywallet.exception;
+
+public class TransactionNotFoundOrNotAuthorizedException extends RuntimeException {
+    
+    public TransactionNotFoundOrNotAuthorizedException(String message) {
+        super(message);
+    }
+
+}
@@ -0,0 +1,29 @@
+package com.github.datasleo.mothsinmywallet.metrics;
+
+import org.springframework.http.server.observation.DefaultServerRequestObservationConvention;
+import org.springframework.http.server.observation.ServerRequestObservationContext;
+
+import io.micrometer.common.KeyValue;
+import io.micrometer.common.KeyValues;
+
+/**
+ * Adds a "result" tag to http.server.requests with the outcome of the first failed service call
+ * of the request, or "success". The built-in "outcome" tag only reflects the status code, and
+ * the controllers answer business errors with a 200 page.
+ */
+public class OutcomeServerRequestObservationConvention extends DefaultServerRequestObservationConvention {
+
+    @Override
+    public KeyValues getLowCardinalityKeyValues(ServerRequestObservationContext context) {
+        return super.getLowCardinalityKeyValues(context).and(result(context));
+    }
+
+    private static KeyValue result(ServerRequestObservationContext context) {
+
+        Object outcome = context.getCarrier().getAttribute(ServiceMetricsAspect.OUTCOME_ATTRIBUTE);
+
+        return KeyValue.of("result", outcome == null ? Outcomes.SUCCESS : outcome.toString());
+
+    }
+
+}
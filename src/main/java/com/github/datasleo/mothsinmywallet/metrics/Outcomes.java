@@ -0,0 +1,50 @@
+package com.github.datasleo.mothsinmywallet.metrics;
+
+import com.github.datasleo.mothsinmywallet.exception.EmailAlreadyExistsException;
+import com.github.datasleo.mothsinmywallet.exception.InvalidCsvFileException;
+import com.github.datasleo.mothsinmywallet.exception.PasswordAndRepeatPasswordAreNotEqualsException;
+import com.github.datasleo.mothsinmywallet.exception.PaymentMethodAlreadyExistsException;
+import com.github.datasleo.mothsinmywallet.exception.PaymentMethodNotFoundException;
+import com.github.datasleo.mothsinmywallet.exception.PaymentMethodNotFoundOrNotAuthorizedException;
+import com.github.datasleo.mothsinmywallet.exception.TagNameAlreadyExistsException;
+import com.github.datasleo.mothsinmywallet.exception.TagNotFoundOrNotAuthorizedException;
+import com.github.datasleo.mothsinmywallet.exception.TransactionNotFoundOrNotAuthorizedException;
+import com.github.datasleo.mothsinmywallet.exception.UnauthorizedAccountException;
+import com.github.datasleo.mothsinmywallet.exception.UsernameAlreadyExistsException;
+
+/**
+ * Maps the result of an operation to the value of the outcome tag. The set of values is closed
+ * so the tag stays low-cardinality.
+ */
+public final class Outcomes {
+
+    public static final String SUCCESS = "success";
+    public static final String ALREADY_EXISTS = "already-exists";
+    public static final String NOT_FOUND = "not-found";
+    public static final String UNAUTHORIZED = "unauthorized";
+    public static final String INVALID = "invalid";
+    public static final String ERROR = "error";
+
+    private Outcomes() {}
+
+    public static String of(Throwable exception) {
+
+        return switch(exception) {
+            case null -> SUCCESS;
+            case TagNameAlreadyExistsException e -> ALREADY_EXISTS;
+            case PaymentMethodAlreadyExistsException e -> ALREADY_EXISTS;
+            case EmailAlreadyExistsException e -> ALREADY_EXISTS;
+            case UsernameAlreadyExistsException e -> ALREADY_EXISTS;
+            case TagNotFoundOrNotAuthorizedException e -> NOT_FOUND;
+            case PaymentMethodNotFoundOrNotAuthorizedException e -> NOT_FOUND;
+            case PaymentMethodNotFoundException e -> NOT_FOUND;
+            case TransactionNotFoundOrNotAuthorizedException e -> NOT_FOUND;
+            case UnauthorizedAccountException e -> UNAUTHORIZED;
+            case PasswordAndRepeatPasswordAreNotEqualsException e -> INVALID;
+            case InvalidCsvFileException e -> INVALID;
+            default -> ERROR;
+        };
+
+    }
+
+}
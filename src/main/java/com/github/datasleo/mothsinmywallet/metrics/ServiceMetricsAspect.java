@@ -0,0 +1,77 @@
+package com.github.datasleo.mothsinmywallet.metrics;
+
+import org.aspectj.lang.ProceedingJoinPoint;
+import org.aspectj.lang.annotation.Around;
+import org.aspectj.lang.annotation.Aspect;
+import org.springframework.web.context.request.RequestAttributes;
+import org.springframework.web.context.request.RequestContextHolder;
+
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.Timer;
+
+/**
+ * Times every public method of the application services, tagged by class, method and outcome.
+ * A failed call inside a web request also leaves its outcome on the request, so the
+ * http.server.requests timer can tell an "already exists" form error from a success even though
+ * the controllers turn both into a 200 page.
+ */
+@Aspect
+public class ServiceMetricsAspect {
+
+    public static final String METRIC_NAME = "mothsinmywallet.service";
+
+    static final String OUTCOME_ATTRIBUTE = ServiceMetricsAspect.class.getName() + ".outcome";
+
+    private final MeterRegistry meterRegistry;
+
+    public ServiceMetricsAspect(MeterRegistry meterRegistry) {
+        this.meterRegistry = meterRegistry;
+    }
+
+    @Around("execution(public * com.github.datasleo.mothsinmywallet.service..*(..)) && @within(org.springframework.stereotype.Service)")
+    public Object time(ProceedingJoinPoint joinPoint) throws Throwable {
+
+        Timer.Sample sample = Timer.start(meterRegistry);
+        Throwable failure = null;
+
+        try {
+
+            return joinPoint.proceed();
+
+        } catch (Throwable e) {
+
+            failure = e;
+            throw e;
+
+        } finally {
+
+            String outcome = Outcomes.of(failure);
+
+            sample.stop(Timer.builder(METRIC_NAME)
+                .description("Service method invocations")
+                .tag("class", joinPoint.getSignature().getDeclaringType().getSimpleName())
+                .tag("method", joinPoint.getSignature().getName())
+                .tag("outcome", outcome)
+                .tag("exception", failure == null ? "none" : failure.getClass().getSimpleName())
+                .register(meterRegistry));
+
+            if(failure != null) {
+                recordOnRequest(outcome);
+            }
+
+        }
+
+    }
+
+    // The first failure wins: a controller may call more services after the one that failed.
+    private static void recordOnRequest(String outcome) {
+
+        RequestAttributes attributes = RequestContextHolder.getRequestAttributes();
+
+        if(attributes != null && attributes.getAttribute(OUTCOME_ATTRIBUTE, RequestAttributes.SCOPE_REQUEST) == null) {
+            attributes.setAttribute(OUTCOME_ATTRIBUTE, outcome, RequestAttributes.SCOPE_REQUEST);
+        }
+
+    }
+
+}
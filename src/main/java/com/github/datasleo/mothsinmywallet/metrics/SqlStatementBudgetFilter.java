@@ -0,0 +1,87 @@
+package com.github.datasleo.mothsinmywallet.metrics;
+
+import java.io.IOException;
+import java.util.Map;
+
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.web.filter.OncePerRequestFilter;
+import org.springframework.web.servlet.HandlerMapping;
+
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.DistributionSummary;
+import io.micrometer.core.instrument.MeterRegistry;
+import jakarta.servlet.FilterChain;
+import jakarta.servlet.ServletException;
+import jakarta.servlet.http.HttpServletRequest;
+import jakarta.servlet.http.HttpServletResponse;
+
+/**
+ * Counts the SQL statements of each HTTP request, view rendering included (open-in-view), and
+ * records them as mothsinmywallet.sql.statements{method, uri}. A request over the statement
+ * budget, or running one statement n-plus-one-threshold times or more, is logged with the
+ * offending statement and counted.
+ */
+public class SqlStatementBudgetFilter extends OncePerRequestFilter {
+
+    private static final Logger log = LoggerFactory.getLogger(SqlStatementBudgetFilter.class);
+
+    private final MeterRegistry meterRegistry;
+    private final int budget;
+    private final int nPlusOneThreshold;
+
+    public SqlStatementBudgetFilter(MeterRegistry meterRegistry, int budget, int nPlusOneThreshold) {
+        this.meterRegistry = meterRegistry;
+        this.budget = budget;
+        this.nPlusOneThreshold = nPlusOneThreshold;
+    }
+
+    @Override
+    protected void doFilterInternal(HttpServletRequest request, HttpServletResponse response, FilterChain filterChain) throws ServletException, IOException {
+
+        try(SqlStatementInspector.Scope scope = SqlStatementInspector.start()) {
+
+            try {
+                filterChain.doFilter(request, response);
+            } finally {
+                check(request, scope);
+            }
+
+        }
+
+    }
+
+    private void check(HttpServletRequest request, SqlStatementInspector.Scope scope) {
+
+        int count = scope.getCount();
+
+        // The matched pattern (/tag-manager/{id}) rather than the path keeps the uri tag bounded.
+        Object pattern = request.getAttribute(HandlerMapping.BEST_MATCHING_PATTERN_ATTRIBUTE);
+        String uri = pattern == null ? "UNKNOWN" : pattern.toString();
+
+        DistributionSummary.builder("mothsinmywallet.sql.statements")
+            .description("SQL statements per HTTP request")
+            .tag("method", request.getMethod())
+            .tag("uri", uri)
+            .register(meterRegistry)
+            .record(count);
+
+        if(count > budget) {
+
+            Counter.builder("mothsinmywallet.sql.budget.exceeded").tag("method", request.getMethod()).tag("uri", uri).register(meterRegistry).increment();
+            log.warn("{} {} ran {} SQL statements, over the budget of {}", request.getMethod(), request.getRequestURI(), count, budget);
+
+        }
+
+        Map.Entry<String, Integer> mostRepeated = scope.getMostRepeated();
+
+        if(mostRepeated != null && mostRepeated.getValue() >= nPlusOneThreshold) {
+
+            Counter.builder("mothsinmywallet.sql.n-plus-one").tag("method", request.getMethod()).tag("uri", uri).register(meterRegistry).increment();
+            log.warn("Possible N+1 in {} {}: ran {} times: {}", request.getMethod(), request.getRequestURI(), mostRepeated.getValue(), mostRepeated.getKey());
+
+        }
+
+    }
+
+}
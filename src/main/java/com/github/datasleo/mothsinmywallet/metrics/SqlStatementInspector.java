@@ -0,0 +1,91 @@
+package com.github.datasleo.mothsinmywallet.metrics;
+
+import java.util.HashMap;
+import java.util.Map;
+
+import org.hibernate.resource.jdbc.spi.StatementInspector;
+
+/**
+ * Counts the SQL statements Hibernate prepares on the current thread while a {@link Scope} is
+ * open. Registered by class name (hibernate.session_factory.statement_inspector), so every
+ * bit of state lives in the thread-local scope and the inspector itself is stateless.
+ *
+ * Statements issued through JdbcTemplate do not go through Hibernate and are not counted.
+ */
+public class SqlStatementInspector implements StatementInspector {
+
+    private static final ThreadLocal<Scope> CURRENT = new ThreadLocal<>();
+
+    @Override
+    public String inspect(String sql) {
+
+        Scope scope = CURRENT.get();
+
+        if(scope != null) {
+            scope.record(sql);
+        }
+
+        return sql;
+
+    }
+
+    /**
+     * Starts counting on the current thread until the returned scope is closed. Scopes nest:
+     * closing one restores the enclosing scope, which does not see the inner statements.
+     */
+    public static Scope start() {
+
+        Scope scope = new Scope(CURRENT.get());
+        CURRENT.set(scope);
+
+        return scope;
+
+    }
+
+    public static final class Scope implements AutoCloseable {
+
+        private final Scope parent;
+
+        // Hibernate renders parameters as '?', so the same query for another id is the same string.
+        private final Map<String, Integer> counts = new HashMap<>();
+        private int total;
+
+        private Scope(Scope parent) {
+            this.parent = parent;
+        }
+
+        private void record(String sql) {
+            counts.merge(sql, 1, Integer::sum);
+            total++;
+        }
+
+        public int getCount() {
+            return total;
+        }
+
+        public Map<String, Integer> getCountsByStatement() {
+            return Map.copyOf(counts);
+        }
+
+        /**
+         * The statement run the most times, or null if nothing ran. The same statement run once per
+         * row of an earlier result is the signature of an N+1.
+         */
+        public Map.Entry<String, Integer> getMostRepeated() {
+            return counts.entrySet().stream().max(Map.Entry.comparingByValue()).map(entry -> Map.entry(entry.getKey(), entry.getValue())).orElse(null);
+        }
+
+        @Override
+        public void close() {
+
+            if(parent == null) {
+                CURRENT.remove();
+            } else {
+                CURRENT.set(parent);
+            }
+
+        }
+
+    }
+
+}
@@ -10,9 +10,16 @@ import jakarta.persistence.GenerationType;
 import jakarta.persistence.Id;
 import jakarta.persistence.OneToMany;
 import jakarta.persistence.Table;
+import jakarta.persistence.UniqueConstraint;
 
 @Entity
-@Table(name="account_table")
+@Table(
+    name="account_table",
+    uniqueConstraints={
+        @UniqueConstraint(name="uk_account_table_email", columnNames="email"),
+        @UniqueConstraint(name="uk_account_table_username", columnNames="username")
+    }
+)
 public class Account {
     
     @Id
@@ -23,6 +30,10 @@ public class Account {
     private String password;
     private String username;
 
+    // Not a write path: TagService and PaymentMethodService save and delete tags and payment
+    // methods on their own, so that writing one never reads every other child of the account.
+    // Adding to or removing from these sets loads them whole; removing persists as a delete
+    // through orphanRemoval.
     @OneToMany(mappedBy = "account", cascade = CascadeType.ALL, orphanRemoval=true)
     private final Set<Tag> tags = new HashSet<>();
 
@@ -37,26 +48,6 @@ public class Account {
         this.username = username;
     }
 
-    public void addTag(Tag tag) {
-        tags.add(tag);
-        tag.setAccount(this);
-    }
-
-    public void addPayment(PaymentMethod payment) {
-        payments.add(payment);
-        payment.setAccount(this);
-    }
-
-    public void removeTag(Tag tag) {
-        tags.remove(tag);
-        tag.setAccount(null);
-    }
-
-    public void removePayment(PaymentMethod payment) {
-        payments.remove(payment);
-        payment.setAccount(null);
-    }
-
     public Long getId() {
         return id;
     }
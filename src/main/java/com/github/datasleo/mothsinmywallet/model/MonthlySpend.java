@@ -0,0 +1,89 @@
+package com.github.datasleo.mothsinmywallet.model;
+
+import java.math.BigDecimal;
+import java.time.LocalDate;
+
+import org.hibernate.annotations.OnDelete;
+import org.hibernate.annotations.OnDeleteAction;
+
+import jakarta.persistence.Column;
+import jakarta.persistence.Entity;
+import jakarta.persistence.FetchType;
+import jakarta.persistence.GeneratedValue;
+import jakarta.persistence.GenerationType;
+import jakarta.persistence.Id;
+import jakarta.persistence.JoinColumn;
+import jakarta.persistence.ManyToOne;
+import jakarta.persistence.Table;
+import jakarta.persistence.UniqueConstraint;
+
+// Pre-aggregated spend of one account per month, tag and payment method. Rows are only written
+// by MonthlySpendService, in the same transaction as the transaction_table change they sum up.
+@Entity
+@Table(
+    name="monthly_spend_table",
+    uniqueConstraints=@UniqueConstraint(name="uk_monthly_spend_table_bucket", columnNames={"fk_account_table", "month_spend", "tag_id", "payment_id"})
+)
+public class MonthlySpend {
+
+    // Stands for "no tag" / "no payment method": NULL would make every untagged row a distinct key.
+    public static final long NONE = 0L;
+
+    @Id
+    @GeneratedValue(strategy=GenerationType.IDENTITY)
+    private Long id;
+
+    // First day of the month.
+    @Column(name="month_spend", nullable=false)
+    private LocalDate month;
+
+    // Plain ids, not foreign keys: deleting a tag or payment method must not touch the rollups.
+    // Ids of deleted rows no longer join and are reported as "no tag" / "no payment method".
+    @Column(name="tag_id", nullable=false)
+    private long tagId;
+
+    @Column(name="payment_id", nullable=false)
+    private long paymentId;
+
+    @Column(name="amount_spend", nullable=false, precision=13, scale=2)
+    private BigDecimal amount;
+
+    @Column(name="count_spend", nullable=false)
+    private long transactionCount;
+
+    @ManyToOne(fetch=FetchType.LAZY, optional=false)
+    @JoinColumn(name="fk_account_table", nullable=false)
+    @OnDelete(action=OnDeleteAction.CASCADE)
+    private Account account;
+
+    public MonthlySpend() {}
+
+    public Long getId() {
+        return id;
+    }
+
+    public LocalDate getMonth() {
+        return month;
+    }
+
+    public long getTagId() {
+        return tagId;
+    }
+
+    public long getPaymentId() {
+        return paymentId;
+    }
+
+    public BigDecimal getAmount() {
+        return amount;
+    }
+
+    public long getTransactionCount() {
+        return transactionCount;
+    }
+
+    public Account getAccount() {
+        return account;
+    }
+
+}
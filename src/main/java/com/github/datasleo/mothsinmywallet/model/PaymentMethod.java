@@ -1,17 +1,29 @@
 package com.github.datasleo.mothsinmywallet.model;
 
+import org.hibernate.annotations.Cache;
+import org.hibernate.annotations.CacheConcurrencyStrategy;
+
+import jakarta.persistence.Cacheable;
 import jakarta.persistence.Column;
 import jakarta.persistence.Entity;
 import jakarta.persistence.FetchType;
 import jakarta.persistence.GeneratedValue;
 import jakarta.persistence.GenerationType;
 import jakarta.persistence.Id;
+import jakarta.persistence.Index;
 import jakarta.persistence.JoinColumn;
 import jakarta.persistence.ManyToOne;
 import jakarta.persistence.Table;
+import jakarta.persistence.UniqueConstraint;
 
 @Entity
-@Table(name="payment_method_table")
+@Cacheable
+@Cache(usage=CacheConcurrencyStrategy.READ_WRITE, region="payment-method")
+@Table(
+    name="payment_method_table",
+    uniqueConstraints=@UniqueConstraint(name="uk_payment_method_table_account_payment_name", columnNames={"fk_account_table", "payment_name"}),
+    indexes=@Index(name="idx_payment_method_table_account_id", columnList="fk_account_table, id")
+)
 public class PaymentMethod {
 
     @Id
@@ -24,7 +36,7 @@ public class PaymentMethod {
     @Column(name="payment_description", nullable=true)
     private String paymentDescription;
 
-    @ManyToOne(fetch=FetchType.LAZY)
+    @ManyToOne(fetch=FetchType.LAZY, optional=false)
     @JoinColumn(name="fk_account_table", nullable=false)
     private Account account;
 
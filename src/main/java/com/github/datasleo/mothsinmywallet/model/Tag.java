@@ -1,17 +1,29 @@
 package com.github.datasleo.mothsinmywallet.model;
 
+import org.hibernate.annotations.Cache;
+import org.hibernate.annotations.CacheConcurrencyStrategy;
+
+import jakarta.persistence.Cacheable;
 import jakarta.persistence.Column;
 import jakarta.persistence.Entity;
 import jakarta.persistence.FetchType;
 import jakarta.persistence.GeneratedValue;
 import jakarta.persistence.GenerationType;
 import jakarta.persistence.Id;
+import jakarta.persistence.Index;
 import jakarta.persistence.JoinColumn;
 import jakarta.persistence.ManyToOne;
 import jakarta.persistence.Table;
+import jakarta.persistence.UniqueConstraint;
 
 @Entity
-@Table(name="tag_table")
+@Cacheable
+@Cache(usage=CacheConcurrencyStrategy.READ_WRITE, region="tag")
+@Table(
+    name="tag_table",
+    uniqueConstraints=@UniqueConstraint(name="uk_tag_table_account_tag_name", columnNames={"fk_account_table", "tag_name"}),
+    indexes=@Index(name="idx_tag_table_account_id", columnList="fk_account_table, id")
+)
 public class Tag {
     
     @Id
@@ -24,7 +36,7 @@ public class Tag {
     @Column(name="tag_description")
     private String tagDescription;
 
-    @ManyToOne(fetch = FetchType.LAZY)
+    @ManyToOne(fetch = FetchType.LAZY, optional = false)
     @JoinColumn(name="fk_account_table", nullable=false)
     private Account account;
 
@@ -0,0 +1,144 @@
+package com.github.datasleo.mothsinmywallet.model;
+
+import java.math.BigDecimal;
+import java.time.LocalDateTime;
+
+import org.hibernate.annotations.OnDelete;
+import org.hibernate.annotations.OnDeleteAction;
+
+import jakarta.persistence.Column;
+import jakarta.persistence.Entity;
+import jakarta.persistence.FetchType;
+import jakarta.persistence.GeneratedValue;
+import jakarta.persistence.GenerationType;
+import jakarta.persistence.Id;
+import jakarta.persistence.Index;
+import jakarta.persistence.JoinColumn;
+import jakarta.persistence.ManyToOne;
+import jakarta.persistence.Table;
+
+@Entity
+@Table(
+    name="transaction_table",
+    indexes=@Index(name="idx_transaction_table_account_date", columnList="fk_account_table, date_transaction")
+)
+public class Transaction {
+
+    @Id
+    @GeneratedValue(strategy=GenerationType.IDENTITY)
+    private Long id;
+
+    @Column(name="title_transaction", nullable=false, length=60)
+    private String title;
+
+    @Column(name="description_transaction")
+    private String description;
+
+    @Column(name="amount_transaction", nullable=false, precision=11, scale=2)
+    private BigDecimal amount;
+
+    @Column(name="date_transaction", nullable=false)
+    private LocalDateTime date;
+
+    @ManyToOne(fetch=FetchType.LAZY)
+    @JoinColumn(name="fk_tag_table")
+    @OnDelete(action=OnDeleteAction.SET_NULL)
+    private Tag tag;
+
+    @ManyToOne(fetch=FetchType.LAZY)
+    @JoinColumn(name="fk_payment_table")
+    @OnDelete(action=OnDeleteAction.SET_NULL)
+    private PaymentMethod paymentMethod;
+
+    // company_table has no entity yet, so only its id is kept.
+    @Column(name="fk_company_table")
+    private Long companyId;
+
+    @ManyToOne(fetch=FetchType.LAZY, optional=false)
+    @JoinColumn(name="fk_account_table", nullable=false)
+    @OnDelete(action=OnDeleteAction.CASCADE)
+    private Account account;
+
+    public Transaction() {}
+
+    public Transaction(String title, String description, BigDecimal amount, LocalDateTime date, Account account) {
+        this.title = title;
+        this.description = description;
+        this.amount = amount;
+        this.date = date;
+        this.account = account;
+    }
+
+    public Long getId() {
+        return id;
+    }
+
+    public void setId(Long id) {
+        this.id = id;
+    }
+
+    public String getTitle() {
+        return title;
+    }
+
+    public void setTitle(String title) {
+        this.title = title;
+    }
+
+    public String getDescription() {
+        return description;
+    }
+
+    public void setDescription(String description) {
+        this.description = description;
+    }
+
+    public BigDecimal getAmount() {
+        return amount;
+    }
+
+    public void setAmount(BigDecimal amount) {
+        this.amount = amount;
+    }
+
+    public LocalDateTime getDate() {
+        return date;
+    }
+
+    public void setDate(LocalDateTime date) {
+        this.date = date;
+    }
+
+    public Tag getTag() {
+        return tag;
+    }
+
+    public void setTag(Tag tag) {
+        this.tag = tag;
+    }
+
+    public PaymentMethod getPaymentMethod() {
+        return paymentMethod;
+    }
+
+    public void setPaymentMethod(PaymentMethod paymentMethod) {
+        this.paymentMethod = paymentMethod;
+    }
+
+    public Long getCompanyId() {
+        return companyId;
+    }
+
+    public void setCompanyId(Long companyId) {
+        this.companyId = companyId;
+    }
+
+    public Account getAccount() {
+        return account;
+    }
+
+    public void setAccount(Account account) {
+        this.account = account;
+    }
+
+}
@@ -1,20 +1,77 @@
 package com.github.datasleo.mothsinmywallet.repository;
 
+import java.time.LocalDateTime;
+import java.util.List;
 import java.util.Optional;
 
 import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Modifying;
 import org.springframework.data.jpa.repository.Query;
 import org.springframework.data.repository.query.Param;
 import org.springframework.stereotype.Repository;
+import org.springframework.transaction.annotation.Transactional;
 
+import com.github.datasleo.mothsinmywallet.dto.DashboardSummaryDto;
 import com.github.datasleo.mothsinmywallet.model.Account;
 
 @Repository
 public interface AccountRepository extends JpaRepository<Account, Long> {
     Optional<Account> findByEmail (String email);
     Optional<Account> findByUsername (String username);
-    Optional<Account> findByEmailOrUsername (String email, String username);
 
-    @Query("SELECT a.id FROM Account a WHERE a.email = :identify OR a.username = :identify")
-    Long findIdByIdentify(@Param("identify") String identify);
+    // Which of the two sign-up values are already taken ("email", "username" or both), in one round
+    // trip: each branch is a point lookup on its own unique index, and nothing is hydrated.
+    @Query("SELECT 'email' FROM Account a WHERE a.email = :email UNION ALL SELECT 'username' FROM Account a WHERE a.username = :username")
+    List<String> findTakenFields(@Param("email") String email, @Param("username") String username);
+
+    @Query("SELECT a.id FROM Account a WHERE a.email = :email")
+    Long findIdByEmail(@Param("email") String email);
+
+    @Query("SELECT a.id FROM Account a WHERE a.username = :username")
+    Long findIdByUsername(@Param("username") String username);
+
+    // Login accepts an email or a username. Instead of one query with "email = ? OR username = ?",
+    // which MySQL may run as an index merge or a full scan, the identifier is sent to the unique
+    // index it looks like it belongs to. The other index is only tried when that lookup misses, so
+    // accounts whose email has no "@" or whose username has one still sign in.
+
+    default Optional<Account> findByLoginIdentifier(String identifier) {
+        return looksLikeEmail(identifier)
+            ? findByEmail(identifier).or(() -> findByUsername(identifier))
+            : findByUsername(identifier).or(() -> findByEmail(identifier));
+    }
+
+    default Long findIdByLoginIdentifier(String identifier) {
+
+        Long id = looksLikeEmail(identifier) ? findIdByEmail(identifier) : findIdByUsername(identifier);
+
+        if(id != null) {
+            return id;
+        }
+
+        return looksLikeEmail(identifier) ? findIdByUsername(identifier) : findIdByEmail(identifier);
+
+    }
+
+    private static boolean looksLikeEmail(String identifier) {
+        return identifier.indexOf('@') >= 0;
+    }
+
+    // Every count of the home dashboard in one statement. Each subquery is answered from an index
+    // that starts with fk_account_table; the account row itself is only read by primary key.
+    @Query("""
+        SELECT new com.github.datasleo.mothsinmywallet.dto.DashboardSummaryDto(
+            (SELECT COUNT(t) FROM Tag t WHERE t.account.id = a.id),
+            (SELECT COUNT(p) FROM PaymentMethod p WHERE p.account.id = a.id),
+            (SELECT COUNT(r) FROM Transaction r WHERE r.account.id = a.id AND r.date >= :since),
+            (SELECT MAX(l.date) FROM Transaction l WHERE l.account.id = a.id))
+        FROM Account a
+        WHERE a.id = :accountId
+        """)
+    Optional<DashboardSummaryDto> findDashboardSummary(@Param("accountId") long accountId, @Param("since") LocalDateTime since);
+
+    @Transactional
+    @Modifying
+    @Query("UPDATE Account a SET a.password = :password WHERE a.id = :id")
+    int updatePasswordById(@Param("id") long id, @Param("password") String password);
 }
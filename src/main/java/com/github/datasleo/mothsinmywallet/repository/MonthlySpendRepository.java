@@ -0,0 +1,44 @@
+package com.github.datasleo.mothsinmywallet.repository;
+
+import java.time.LocalDate;
+import java.util.List;
+
+import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.repository.query.Param;
+import org.springframework.stereotype.Repository;
+
+import com.github.datasleo.mothsinmywallet.dto.MonthlySpendDto;
+import com.github.datasleo.mothsinmywallet.dto.MonthlyTotalDto;
+import com.github.datasleo.mothsinmywallet.model.MonthlySpend;
+
+// Reads only: rollups are written with plain JDBC by MonthlySpendService. Every query scans at
+// most months x tags x payment methods rows of the account, never the transactions themselves.
+@Repository
+public interface MonthlySpendRepository extends JpaRepository<MonthlySpend, Long> {
+
+    // Newest month first, months in [from, to). Months whose transactions were all deleted are left out.
+    @Query("""
+        SELECT new com.github.datasleo.mothsinmywallet.dto.MonthlyTotalDto(s.month, SUM(s.amount), SUM(s.transactionCount))
+        FROM MonthlySpend s
+        WHERE s.account.id = :accountId AND s.month >= :from AND s.month < :to
+        GROUP BY s.month
+        HAVING SUM(s.transactionCount) > 0
+        ORDER BY s.month DESC
+        """)
+    List<MonthlyTotalDto> findMonthlyTotals(@Param("accountId") long accountId, @Param("from") LocalDate from, @Param("to") LocalDate to);
+
+    // Grouped by name so the buckets of a deleted tag or payment method fold into the "none" bucket.
+    @Query("""
+        SELECT new com.github.datasleo.mothsinmywallet.dto.MonthlySpendDto(s.month, tag.tagName, payment.paymentName, SUM(s.amount), SUM(s.transactionCount))
+        FROM MonthlySpend s
+        LEFT JOIN Tag tag ON tag.id = s.tagId
+        LEFT JOIN PaymentMethod payment ON payment.id = s.paymentId
+        WHERE s.account.id = :accountId AND s.month >= :from AND s.month < :to
+        GROUP BY s.month, tag.tagName, payment.paymentName
+        HAVING SUM(s.transactionCount) > 0
+        ORDER BY s.month DESC, SUM(s.amount) DESC
+        """)
+    List<MonthlySpendDto> findBreakdown(@Param("accountId") long accountId, @Param("from") LocalDate from, @Param("to") LocalDate to);
+
+}
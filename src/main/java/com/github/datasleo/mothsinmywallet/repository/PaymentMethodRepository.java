@@ -1,10 +1,25 @@
 package com.github.datasleo.mothsinmywallet.repository;
 
 import java.util.List;
+import java.util.Optional;
+import java.util.stream.Stream;
 
+import org.hibernate.jpa.HibernateHints;
+
+import org.springframework.data.domain.Limit;
+import org.springframework.data.domain.ScrollPosition;
+import org.springframework.data.domain.Window;
 import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Modifying;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.jpa.repository.QueryHints;
+import org.springframework.data.repository.query.Param;
 import org.springframework.stereotype.Repository;
 
+import jakarta.persistence.QueryHint;
+import org.springframework.transaction.annotation.Transactional;
+
+import com.github.datasleo.mothsinmywallet.dto.PaymentMethodSummaryDto;
 import com.github.datasleo.mothsinmywallet.model.PaymentMethod;
 
 @Repository
@@ -12,6 +27,32 @@ public interface PaymentMethodRepository extends JpaRepository<PaymentMethod, Lo
 
     PaymentMethod findByPaymentNameAndAccountId(String paymentName, long accountId);
     List<PaymentMethod> findAllByAccountId(long accountId);
+    List<PaymentMethodSummaryDto> findSummariesByAccountId(long accountId);
+    Window<PaymentMethodSummaryDto> findSummariesByAccountIdOrderByIdAsc(long accountId, ScrollPosition position, Limit limit);
+
+    // Must be consumed inside a transaction and closed; rows are fetched from the cursor 1000 at a time.
+    @QueryHints(@QueryHint(name = HibernateHints.HINT_FETCH_SIZE, value = "1000"))
+    Stream<PaymentMethodSummaryDto> streamSummariesByAccountIdOrderByIdAsc(long accountId);
     PaymentMethod findOneByIdAndAccountId(long id, long accountId);
 
+    // A lookup by primary key, answered by the second-level cache once the payment method is there.
+    // The owner is checked on the cached foreign key, which does not load the account.
+    default Optional<PaymentMethod> findCachedByIdAndAccountId(long id, long accountId) {
+        return findById(id).filter(payment -> payment.getAccount().getId() == accountId);
+    }
+
+    // Native, and synchronized with a query space no entity uses, for the reason given on
+    // TagRepository.updateByIdAndAccountId.
+    @Transactional
+    @Modifying
+    @QueryHints(@QueryHint(name = HibernateHints.HINT_NATIVE_SPACES, value = "payment_method_table_row"))
+    @Query(value = "UPDATE payment_method_table SET payment_name = :paymentName, payment_description = :paymentDescription WHERE id = :id AND fk_account_table = :accountId", nativeQuery = true)
+    int updateByIdAndAccountId(@Param("id") long id, @Param("accountId") long accountId, @Param("paymentName") String paymentName, @Param("paymentDescription") String paymentDescription);
+
+    @Transactional
+    @Modifying
+    @QueryHints(@QueryHint(name = HibernateHints.HINT_NATIVE_SPACES, value = "payment_method_table_row"))
+    @Query(value = "DELETE FROM payment_method_table WHERE id = :id AND fk_account_table = :accountId", nativeQuery = true)
+    int deleteByIdAndAccountId(@Param("id") long id, @Param("accountId") long accountId);
+
 }
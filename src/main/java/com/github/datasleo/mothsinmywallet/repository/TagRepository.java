@@ -2,10 +2,24 @@ package com.github.datasleo.mothsinmywallet.repository;
 
 import java.util.List;
 import java.util.Optional;
+import java.util.stream.Stream;
 
+import org.hibernate.jpa.HibernateHints;
+
+import org.springframework.data.domain.Limit;
+import org.springframework.data.domain.ScrollPosition;
+import org.springframework.data.domain.Window;
 import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Modifying;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.jpa.repository.QueryHints;
+import org.springframework.data.repository.query.Param;
 import org.springframework.stereotype.Repository;
 
+import jakarta.persistence.QueryHint;
+import org.springframework.transaction.annotation.Transactional;
+
+import com.github.datasleo.mothsinmywallet.dto.TagSummaryDto;
 import com.github.datasleo.mothsinmywallet.model.Tag;
 
 @Repository
@@ -13,5 +27,32 @@ public interface TagRepository extends JpaRepository<Tag, Long>{
     Optional<Tag> findByTagNameAndAccountId (String tag, Long accountId);
     Optional<Tag> findByIdAndAccountId (long id, long accountId);
 
+    // A lookup by primary key, answered by the second-level cache once the tag is there. The owner
+    // is checked on the cached foreign key, which does not load the account.
+    default Optional<Tag> findCachedByIdAndAccountId (long id, long accountId) {
+        return findById(id).filter(tag -> tag.getAccount().getId() == accountId);
+    }
+
     List<Tag> findAllByAccountId (Long accountId);
-}
+    List<TagSummaryDto> findSummariesByAccountId (long accountId);
+    Window<TagSummaryDto> findSummariesByAccountIdOrderByIdAsc (long accountId, ScrollPosition position, Limit limit);
+
+    // Must be consumed inside a transaction and closed; rows are fetched from the cursor 1000 at a time.
+    @QueryHints(@QueryHint(name = HibernateHints.HINT_FETCH_SIZE, value = "1000"))
+    Stream<TagSummaryDto> streamSummariesByAccountIdOrderByIdAsc (long accountId);
+
+    // Native statements that name only the "tag_table_row" query space, which no entity uses, so
+    // Hibernate does not empty the whole tag cache region after them as it does for a bulk HQL
+    // statement. The caller evicts the one tag it changed.
+    @Transactional
+    @Modifying
+    @QueryHints(@QueryHint(name = HibernateHints.HINT_NATIVE_SPACES, value = "tag_table_row"))
+    @Query(value = "UPDATE tag_table SET tag_name = :tagName, tag_description = :tagDescription WHERE id = :id AND fk_account_table = :accountId", nativeQuery = true)
+    int updateByIdAndAccountId (@Param("id") long id, @Param("accountId") long accountId, @Param("tagName") String tagName, @Param("tagDescription") String tagDescription);
+
+    @Transactional
+    @Modifying
+    @QueryHints(@QueryHint(name = HibernateHints.HINT_NATIVE_SPACES, value = "tag_table_row"))
+    @Query(value = "DELETE FROM tag_table WHERE id = :id AND fk_account_table = :accountId", nativeQuery = true)
+    int deleteByIdAndAccountId (@Param("id") long id, @Param("accountId") long accountId);
+}
\ No newline at end of file
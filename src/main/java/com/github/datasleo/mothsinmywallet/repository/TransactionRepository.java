@@ -0,0 +1,75 @@
+package com.github.datasleo.mothsinmywallet.repository;
+
+import java.math.BigDecimal;
+import java.time.LocalDateTime;
+import java.util.List;
+import java.util.stream.Stream;
+
+import org.hibernate.jpa.HibernateHints;
+
+import org.springframework.data.domain.Limit;
+import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Modifying;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.jpa.repository.QueryHints;
+import org.springframework.data.repository.query.Param;
+import org.springframework.stereotype.Repository;
+import org.springframework.transaction.annotation.Transactional;
+
+import com.github.datasleo.mothsinmywallet.dto.TransactionAmountDto;
+import com.github.datasleo.mothsinmywallet.dto.TransactionExportDto;
+import com.github.datasleo.mothsinmywallet.dto.TransactionSummaryDto;
+import com.github.datasleo.mothsinmywallet.model.Transaction;
+
+import jakarta.persistence.QueryHint;
+
+// Range queries filter on fk_account_table and date_transaction first, so they are served
+// by the idx_transaction_table_account_date index whatever the size of the account history.
+@Repository
+public interface TransactionRepository extends JpaRepository<Transaction, Long> {
+
+    Transaction findOneByIdAndAccountId(long id, long accountId);
+
+    @Query("SELECT new com.github.datasleo.mothsinmywallet.dto.TransactionAmountDto(t.amount, t.date, t.tag.id, t.paymentMethod.id) FROM Transaction t WHERE t.id = :id AND t.account.id = :accountId")
+    TransactionAmountDto findAmountByIdAndAccountId(@Param("id") long id, @Param("accountId") long accountId);
+
+    // Newest first. The page starts right after the (beforeDate, beforeId) cursor of the previous page.
+    @Query("""
+        SELECT new com.github.datasleo.mothsinmywallet.dto.TransactionSummaryDto(t.id, t.title, t.amount, t.date, tag.tagName, payment.paymentName)
+        FROM Transaction t
+        LEFT JOIN t.tag tag
+        LEFT JOIN t.paymentMethod payment
+        WHERE t.account.id = :accountId
+            AND t.date >= :from AND t.date < :to
+            AND (t.date < :beforeDate OR (t.date = :beforeDate AND t.id < :beforeId))
+        ORDER BY t.date DESC, t.id DESC
+        """)
+    List<TransactionSummaryDto> findSummariesByAccountIdAndDateRange(
+        @Param("accountId") long accountId,
+        @Param("from") LocalDateTime from,
+        @Param("to") LocalDateTime to,
+        @Param("beforeDate") LocalDateTime beforeDate,
+        @Param("beforeId") long beforeId,
+        Limit limit);
+
+    // Must be consumed inside a transaction and closed; rows are fetched from the cursor 1000 at a time.
+    @QueryHints(@QueryHint(name = HibernateHints.HINT_FETCH_SIZE, value = "1000"))
+    @Query("""
+        SELECT new com.github.datasleo.mothsinmywallet.dto.TransactionExportDto(t.title, t.description, t.amount, t.date, tag.tagName, payment.paymentName)
+        FROM Transaction t
+        LEFT JOIN t.tag tag
+        LEFT JOIN t.paymentMethod payment
+        WHERE t.account.id = :accountId
+        ORDER BY t.date, t.id
+        """)
+    Stream<TransactionExportDto> streamExportByAccountId(@Param("accountId") long accountId);
+
+    @Query("SELECT COALESCE(SUM(t.amount), 0) FROM Transaction t WHERE t.account.id = :accountId AND t.date >= :from AND t.date < :to")
+    BigDecimal sumAmountByAccountIdAndDateRange(@Param("accountId") long accountId, @Param("from") LocalDateTime from, @Param("to") LocalDateTime to);
+
+    @Transactional
+    @Modifying
+    @Query("DELETE FROM Transaction t WHERE t.id = :id AND t.account.id = :accountId")
+    int deleteByIdAndAccountId(@Param("id") long id, @Param("accountId") long accountId);
+
+}
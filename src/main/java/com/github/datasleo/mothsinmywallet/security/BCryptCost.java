@@ -0,0 +1,70 @@
+package com.github.datasleo.mothsinmywallet.security;
+
+import java.time.Duration;
+import java.util.function.IntFunction;
+
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.security.crypto.bcrypt.BCryptPasswordEncoder;
+
+/**
+ * Picks the highest BCrypt cost whose hash stays within a target latency on this machine.
+ * Each step of the cost doubles the work, so one hash timed at the minimum cost predicts the others.
+ */
+public final class BCryptCost {
+
+    private static final Logger log = LoggerFactory.getLogger(BCryptCost.class);
+
+    private static final String SAMPLE = "calibration-password";
+
+    private BCryptCost() {}
+
+    public static int calibrate(Duration target, int minCost, int maxCost) {
+
+        int cost = calibrate(target, minCost, maxCost, BCryptCost::timeHash);
+
+        log.info("BCrypt cost {} selected for a target of {} ms per hash.", cost, target.toMillis());
+
+        return cost;
+
+    }
+
+    // Never below minCost, even on a machine too slow to meet the target.
+    static int calibrate(Duration target, int minCost, int maxCost, IntFunction<Duration> hashTime) {
+
+        if(minCost < 4 || maxCost > 31 || minCost > maxCost) {
+            throw new IllegalArgumentException("BCrypt cost must be between 4 and 31, got " + minCost + ".." + maxCost + ".");
+        }
+
+        long nanos = Math.max(1, hashTime.apply(minCost).toNanos());
+        long targetNanos = target.toNanos();
+
+        int cost = minCost;
+
+        while(cost < maxCost && nanos * 2 <= targetNanos) {
+            nanos *= 2;
+            cost++;
+        }
+
+        return cost;
+
+    }
+
+    private static Duration timeHash(int cost) {
+
+        BCryptPasswordEncoder encoder = new BCryptPasswordEncoder(cost);
+
+        // The first hash also pays for class loading and JIT warm-up, so the faster of two is kept.
+        long best = Long.MAX_VALUE;
+
+        for(int i = 0; i < 2; i++) {
+            long start = System.nanoTime();
+            encoder.encode(SAMPLE);
+            best = Math.min(best, System.nanoTime() - start);
+        }
+
+        return Duration.ofNanos(best);
+
+    }
+
+}
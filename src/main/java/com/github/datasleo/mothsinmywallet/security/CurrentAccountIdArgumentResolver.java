@@ -0,0 +1,46 @@
+package com.github.datasleo.mothsinmywallet.security;
+
+import org.springframework.core.MethodParameter;
+import org.springframework.security.core.Authentication;
+import org.springframework.security.core.context.SecurityContextHolder;
+import org.springframework.web.bind.support.WebDataBinderFactory;
+import org.springframework.web.context.request.NativeWebRequest;
+import org.springframework.web.method.support.HandlerMethodArgumentResolver;
+import org.springframework.web.method.support.ModelAndViewContainer;
+
+import com.github.datasleo.mothsinmywallet.service.AccountService;
+
+public class CurrentAccountIdArgumentResolver implements HandlerMethodArgumentResolver {
+
+    private final AccountService accountService;
+
+    public CurrentAccountIdArgumentResolver(AccountService accountService) {
+        this.accountService = accountService;
+    }
+
+    @Override
+    public boolean supportsParameter(MethodParameter parameter) {
+        return parameter.hasParameterAnnotation(CurrentAccountId.class)
+            && (parameter.getParameterType() == Long.class || parameter.getParameterType() == long.class);
+    }
+
+    @Override
+    public Object resolveArgument(MethodParameter parameter, ModelAndViewContainer mavContainer,
+            NativeWebRequest webRequest, WebDataBinderFactory binderFactory) {
+
+        Authentication authentication = SecurityContextHolder.getContext().getAuthentication();
+
+        if(authentication == null) {
+            return null;
+        }
+
+        if(authentication.getPrincipal() instanceof AccountUserDetails accountUserDetails) {
+            return accountUserDetails.getId();
+        }
+
+        // Principals that were not created by CustomUserDetailsService fall back to the cached lookup.
+        return accountService.getAccountIdByPrincipalName(authentication.getName());
+
+    }
+
+}
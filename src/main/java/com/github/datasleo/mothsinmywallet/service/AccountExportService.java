@@ -0,0 +1,179 @@
+package com.github.datasleo.mothsinmywallet.service;
+
+import java.io.BufferedWriter;
+import java.io.IOException;
+import java.io.OutputStream;
+import java.io.OutputStreamWriter;
+import java.io.Writer;
+import java.nio.charset.StandardCharsets;
+import java.time.Duration;
+import java.util.Iterator;
+import java.util.stream.Stream;
+
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.annotation.Transactional;
+
+import com.fasterxml.jackson.core.JsonGenerator;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.github.datasleo.mothsinmywallet.dto.PaymentMethodSummaryDto;
+import com.github.datasleo.mothsinmywallet.dto.TagSummaryDto;
+import com.github.datasleo.mothsinmywallet.dto.TransactionExportDto;
+import com.github.datasleo.mothsinmywallet.exception.ExportTimeoutException;
+import com.github.datasleo.mothsinmywallet.repository.PaymentMethodRepository;
+import com.github.datasleo.mothsinmywallet.repository.TagRepository;
+import com.github.datasleo.mothsinmywallet.repository.TransactionRepository;
+
+/**
+ * Writes an account's data straight to an output stream. Rows come from Stream repository
+ * queries over a database cursor and are written one at a time, so memory does not grow with
+ * the number of rows. Every method must run inside its read-only transaction, which keeps the
+ * cursor open while the response is written.
+ *
+ * That transaction holds a pooled connection, so an export is cut off with an
+ * ExportTimeoutException once it has run for app.export.timeout. The bound keeps exports under
+ * the pool's leak-detection threshold.
+ */
+@Service
+public class AccountExportService {
+
+    private final TagRepository tagRepository;
+    private final PaymentMethodRepository paymentRepository;
+    private final TransactionRepository transactionRepository;
+    private final ObjectMapper objectMapper;
+    private final Duration timeout;
+
+    public AccountExportService(TagRepository tagRepository, PaymentMethodRepository paymentRepository, TransactionRepository transactionRepository, ObjectMapper objectMapper, @Value("${app.export.timeout:15s}") Duration timeout) {
+        this.tagRepository = tagRepository;
+        this.paymentRepository = paymentRepository;
+        this.transactionRepository = transactionRepository;
+        this.objectMapper = objectMapper;
+        this.timeout = timeout;
+    }
+
+    @Transactional(readOnly = true)
+    public void writeTagsCsv(long accountId, OutputStream out) throws IOException {
+
+        long deadline = deadline();
+
+        Writer writer = writerOf(out);
+        CsvLineWriter.write(writer, "tag_name", "tag_description");
+
+        try (Stream<TagSummaryDto> tags = tagRepository.streamSummariesByAccountIdOrderByIdAsc(accountId)) {
+            for(Iterator<TagSummaryDto> it = tags.iterator(); it.hasNext();) {
+                checkDeadline(deadline);
+                TagSummaryDto tag = it.next();
+                CsvLineWriter.write(writer, tag.getTagName(), tag.getTagDescription());
+            }
+        }
+
+        writer.flush();
+
+    }
+
+    @Transactional(readOnly = true)
+    public void writePaymentMethodsCsv(long accountId, OutputStream out) throws IOException {
+
+        long deadline = deadline();
+
+        Writer writer = writerOf(out);
+        CsvLineWriter.write(writer, "payment_name", "payment_description");
+
+        try (Stream<PaymentMethodSummaryDto> payments = paymentRepository.streamSummariesByAccountIdOrderByIdAsc(accountId)) {
+            for(Iterator<PaymentMethodSummaryDto> it = payments.iterator(); it.hasNext();) {
+                checkDeadline(deadline);
+                PaymentMethodSummaryDto payment = it.next();
+                CsvLineWriter.write(writer, payment.getPaymentName(), payment.getPaymentDescription());
+            }
+        }
+
+        writer.flush();
+
+    }
+
+    // Same columns as the CSV import, so an export can be imported back.
+    @Transactional(readOnly = true)
+    public void writeTransactionsCsv(long accountId, OutputStream out) throws IOException {
+
+        long deadline = deadline();
+
+        Writer writer = writerOf(out);
+        CsvLineWriter.write(writer, "title", "description", "amount", "date", "tag", "payment_method");
+
+        try (Stream<TransactionExportDto> transactions = transactionRepository.streamExportByAccountId(accountId)) {
+            for(Iterator<TransactionExportDto> it = transactions.iterator(); it.hasNext();) {
+                checkDeadline(deadline);
+                TransactionExportDto transaction = it.next();
+                CsvLineWriter.write(writer,
+                    transaction.getTitle(),
+                    transaction.getDescription(),
+                    transaction.getAmount().toPlainString(),
+                    transaction.getDate(),
+                    transaction.getTagName(),
+                    transaction.getPaymentName());
+            }
+        }
+
+        writer.flush();
+
+    }
+
+    // {"tags": [...], "paymentMethods": [...], "transactions": [...]}
+    @Transactional(readOnly = true)
+    public void writeAccountJson(long accountId, OutputStream out) throws IOException {
+
+        long deadline = deadline();
+
+        try (JsonGenerator json = objectMapper.getFactory().createGenerator(out)) {
+
+            // The response stream belongs to the caller.
+            json.disable(JsonGenerator.Feature.AUTO_CLOSE_TARGET);
+
+            json.writeStartObject();
+
+            try (Stream<TagSummaryDto> tags = tagRepository.streamSummariesByAccountIdOrderByIdAsc(accountId)) {
+                writeArray(json, "tags", tags, deadline);
+            }
+
+            try (Stream<PaymentMethodSummaryDto> payments = paymentRepository.streamSummariesByAccountIdOrderByIdAsc(accountId)) {
+                writeArray(json, "paymentMethods", payments, deadline);
+            }
+
+            try (Stream<TransactionExportDto> transactions = transactionRepository.streamExportByAccountId(accountId)) {
+                writeArray(json, "transactions", transactions, deadline);
+            }
+
+            json.writeEndObject();
+
+        }
+
+    }
+
+    private void writeArray(JsonGenerator json, String name, Stream<?> rows, long deadline) throws IOException {
+
+        json.writeArrayFieldStart(name);
+
+        for(Iterator<?> it = rows.iterator(); it.hasNext();) {
+            checkDeadline(deadline);
+            json.writeObject(it.next());
+        }
+
+        json.writeEndArray();
+
+    }
+
+    private long deadline() {
+        return System.nanoTime() + timeout.toNanos();
+    }
+
+    private void checkDeadline(long deadline) {
+        if(System.nanoTime() - deadline >= 0) {
+            throw new ExportTimeoutException("Export did not finish within " + timeout.toSeconds() + " seconds.");
+        }
+    }
+
+    private static Writer writerOf(OutputStream out) {
+        return new BufferedWriter(new OutputStreamWriter(out, StandardCharsets.UTF_8));
+    }
+
+}
@@ -1,8 +1,12 @@
 package com.github.datasleo.mothsinmywallet.service;
 
+import java.util.List;
+
+import org.springframework.dao.DataIntegrityViolationException;
 import org.springframework.security.crypto.password.PasswordEncoder;
 import org.springframework.stereotype.Service;
 
+import com.github.datasleo.mothsinmywallet.cache.ExpiringCache;
 import com.github.datasleo.mothsinmywallet.dto.SignUpDto;
 import com.github.datasleo.mothsinmywallet.exception.EmailAlreadyExistsException;
 import com.github.datasleo.mothsinmywallet.exception.PasswordAndRepeatPasswordAreNotEqualsException;
@@ -14,14 +18,22 @@ import com.github.datasleo.mothsinmywallet.repository.AccountRepository;
 @Service
 public class AccountService {
 
+    private static final String EMAIL_CONSTRAINT = "uk_account_table_email";
+    private static final String USERNAME_CONSTRAINT = "uk_account_table_username";
+
     private final AccountRepository accountRepository;
     private final PasswordEncoder passwordEncoder;
+    private final ExpiringCache<String, Long> accountIdCache;
 
-    public AccountService (AccountRepository accountRepository, PasswordEncoder passwordEncoder) {
+    public AccountService (AccountRepository accountRepository, PasswordEncoder passwordEncoder, ExpiringCache<String, Long> accountIdCache) {
         this.accountRepository = accountRepository;
         this.passwordEncoder = passwordEncoder;
+        this.accountIdCache = accountIdCache;
     }
 
+    // The password check needs no I/O and goes first. One probe then tells which of email and
+    // username is taken, so a clash costs a single statement and no hashing. Two sign-ups racing
+    // for the same values both pass the probe; the unique constraints settle it on insert.
     public Account createAccount(SignUpDto signUpDto) {
 
         String email = signUpDto.getEmail();
@@ -29,17 +41,11 @@ public class AccountService {
         String repeatPassword = signUpDto.getRepeatPassword();
         String username = signUpDto.getUsername();
 
-        if(accountRepository.findByEmail(email).isPresent()) {
-            throw new EmailAlreadyExistsException("Email " + email + " already exists.");
-        }
-
         if(!password.equals(repeatPassword)) {
             throw new PasswordAndRepeatPasswordAreNotEqualsException("Passwords are not equals.");
         }
 
-        if(accountRepository.findByUsername(username).isPresent()) {
-            throw new UsernameAlreadyExistsException("Username " + username + " already exists.");
-        }
+        throwIfTaken(accountRepository.findTakenFields(email, username), email, username);
 
         Account account = new Account();
 
@@ -49,12 +55,57 @@ public class AccountService {
         account.setPassword(encrypt);
         account.setUsername(username);
 
-        return accountRepository.save(account);
+        Account savedAccount;
+
+        try {
+
+            savedAccount = accountRepository.save(account);
+
+        } catch (DataIntegrityViolationException e) {
+
+            if(ConstraintViolations.isUniqueViolationOf(e, EMAIL_CONSTRAINT)) {
+                throw new EmailAlreadyExistsException("Email " + email + " already exists.");
+            }
+
+            if(ConstraintViolations.isUniqueViolationOf(e, USERNAME_CONSTRAINT)) {
+                throw new UsernameAlreadyExistsException("Username " + username + " already exists.");
+            }
+
+            // A driver that does not report the constraint name: ask again which value is now taken.
+            if(ConstraintViolations.isUniqueViolation(e)) {
+                throwIfTaken(accountRepository.findTakenFields(email, username), email, username);
+            }
+
+            throw e;
+
+        }
+
+        evictAccount(savedAccount);
+
+        return savedAccount;
 
     }
 
     public Long getAccountIdByPrincipalName(String identify) {
-        return accountRepository.findIdByIdentify(identify);
+        return accountIdCache.computeIfAbsent(identify, accountRepository::findIdByLoginIdentifier);
+    }
+
+    public void evictAccount(Account account) {
+        accountIdCache.invalidate(account.getEmail());
+        accountIdCache.invalidate(account.getUsername());
+    }
+
+    // Email first, as sign-up always reported it.
+    private static void throwIfTaken(List<String> takenFields, String email, String username) {
+
+        if(takenFields.contains("email")) {
+            throw new EmailAlreadyExistsException("Email " + email + " already exists.");
+        }
+
+        if(takenFields.contains("username")) {
+            throw new UsernameAlreadyExistsException("Username " + username + " already exists.");
+        }
+
     }
 
 }
@@ -0,0 +1,57 @@
+package com.github.datasleo.mothsinmywallet.service;
+
+import java.sql.SQLException;
+import java.util.Locale;
+import java.util.Set;
+
+import org.hibernate.exception.ConstraintViolationException;
+import org.springframework.dao.DataIntegrityViolationException;
+
+final class ConstraintViolations {
+
+    // MySQL (ER_NO_REFERENCED_ROW, ER_NO_REFERENCED_ROW_2) and H2 (REFERENTIAL_INTEGRITY_VIOLATED_PARENT_MISSING)
+    private static final Set<Integer> FOREIGN_KEY_ERROR_CODES = Set.of(1216, 1452, 23506);
+
+    // MySQL (ER_DUP_ENTRY) and H2 (DUPLICATE_KEY)
+    private static final Set<Integer> UNIQUE_ERROR_CODES = Set.of(1062, 23505);
+
+    private ConstraintViolations() {}
+
+    static boolean isForeignKeyViolation(DataIntegrityViolationException exception) {
+        return FOREIGN_KEY_ERROR_CODES.contains(errorCodeOf(exception));
+    }
+
+    static boolean isUniqueViolation(DataIntegrityViolationException exception) {
+        return UNIQUE_ERROR_CODES.contains(errorCodeOf(exception));
+    }
+
+    // MySQL reports the name as "account_table.uk_..." and H2 in upper case, hence the loose match.
+    static boolean isUniqueViolationOf(DataIntegrityViolationException exception, String constraintName) {
+
+        if(!isUniqueViolation(exception)) {
+            return false;
+        }
+
+        for(Throwable cause = exception; cause != null; cause = cause.getCause()) {
+            if(cause instanceof ConstraintViolationException violation && violation.getConstraintName() != null) {
+                return violation.getConstraintName().toLowerCase(Locale.ROOT).contains(constraintName);
+            }
+        }
+
+        return false;
+
+    }
+
+    private static int errorCodeOf(Throwable exception) {
+
+        for(Throwable cause = exception; cause != null; cause = cause.getCause()) {
+            if(cause instanceof SQLException sqlException) {
+                return sqlException.getErrorCode();
+            }
+        }
+
+        return 0;
+
+    }
+
+}
@@ -0,0 +1,77 @@
+package com.github.datasleo.mothsinmywallet.service;
+
+import java.util.ArrayList;
+import java.util.List;
+
+import com.github.datasleo.mothsinmywallet.exception.InvalidCsvFileException;
+
+// RFC 4180 fields of one record: comma separated, optionally double quoted, "" inside quotes
+// for a literal quote. A quoted field may hold line breaks; the import joins the physical lines
+// of such a record (see endsInsideQuotes) before parsing it.
+final class CsvLineParser {
+
+    private CsvLineParser() {}
+
+    // True when the text stops inside a quoted field, i.e. the record goes on on the next line.
+    // An escaped quote ("") counts twice, so an odd count means a quote is still open.
+    static boolean endsInsideQuotes(CharSequence text) {
+
+        boolean quoted = false;
+
+        for(int i = 0; i < text.length(); i++) {
+            if(text.charAt(i) == '"') {
+                quoted = !quoted;
+            }
+        }
+
+        return quoted;
+
+    }
+
+    static List<String> parse(String line) {
+
+        List<String> fields = new ArrayList<>();
+        StringBuilder field = new StringBuilder();
+
+        boolean quoted = false;
+        int i = 0;
+
+        while(i < line.length()) {
+
+            char c = line.charAt(i);
+
+            if(quoted) {
+
+                if(c == '"' && i + 1 < line.length() && line.charAt(i + 1) == '"') {
+                    field.append('"');
+                    i++;
+                } else if(c == '"') {
+                    quoted = false;
+                } else {
+                    field.append(c);
+                }
+
+            } else if(c == '"') {
+                quoted = true;
+            } else if(c == ',') {
+                fields.add(field.toString());
+                field.setLength(0);
+            } else {
+                field.append(c);
+            }
+
+            i++;
+
+        }
+
+        if(quoted) {
+            throw new InvalidCsvFileException("Unclosed quote.");
+        }
+
+        fields.add(field.toString());
+
+        return fields;
+
+    }
+
+}
@@ -0,0 +1,45 @@
+package com.github.datasleo.mothsinmywallet.service;
+
+import java.io.IOException;
+import java.io.Writer;
+
+// Writes one RFC 4180 record, quoting only the fields that need it. Nulls are written as empty fields.
+// Line breaks stay inside the quotes; the import joins them back, reading \r and \r\n as \n.
+final class CsvLineWriter {
+
+    private CsvLineWriter() {}
+
+    static void write(Writer writer, Object... fields) throws IOException {
+
+        for(int i = 0; i < fields.length; i++) {
+
+            if(i > 0) {
+                writer.write(',');
+            }
+
+            if(fields[i] != null) {
+                writeField(writer, fields[i].toString());
+            }
+
+        }
+
+        writer.write('\n');
+
+    }
+
+    private static void writeField(Writer writer, String field) throws IOException {
+
+        boolean quote = field.indexOf(',') >= 0 || field.indexOf('"') >= 0 || field.indexOf('\n') >= 0 || field.indexOf('\r') >= 0;
+
+        if(!quote) {
+            writer.write(field);
+            return;
+        }
+
+        writer.write('"');
+        writer.write(field.replace("\"", "\"\""));
+        writer.write('"');
+
+    }
+
+}
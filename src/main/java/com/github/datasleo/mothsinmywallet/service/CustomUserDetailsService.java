@@ -1,16 +1,17 @@
 package com.github.datasleo.mothsinmywallet.service;
 
-import org.springframework.security.core.userdetails.User;
 import org.springframework.security.core.userdetails.UserDetails;
+import org.springframework.security.core.userdetails.UserDetailsPasswordService;
 import org.springframework.security.core.userdetails.UserDetailsService;
 import org.springframework.security.core.userdetails.UsernameNotFoundException;
 import org.springframework.stereotype.Service;
 
 import com.github.datasleo.mothsinmywallet.model.Account;
 import com.github.datasleo.mothsinmywallet.repository.AccountRepository;
+import com.github.datasleo.mothsinmywallet.security.AccountUserDetails;
 
 @Service
-public class CustomUserDetailsService implements UserDetailsService {
+public class CustomUserDetailsService implements UserDetailsService, UserDetailsPasswordService {
 
     private final AccountRepository accountRepository;
 
@@ -20,14 +21,23 @@ public class CustomUserDetailsService implements UserDetailsService {
 
     @Override
     public UserDetails loadUserByUsername (String emailOrUsername) throws UsernameNotFoundException {
-        Account account = accountRepository.findByEmailOrUsername(emailOrUsername, emailOrUsername)
+        Account account = accountRepository.findByLoginIdentifier(emailOrUsername)
             .orElseThrow(() -> new UsernameNotFoundException("Username " + emailOrUsername + " not found."));
 
-        return User.builder()
-            .username(account.getUsername())
-            .password(account.getPassword())
-            .roles("USER")
-            .build();
+        return AccountUserDetails.from(account);
+
+    }
+
+    // Called by Spring Security after a successful login when the stored hash is weaker than the
+    // current encoder (lower BCrypt cost or no {bcrypt} prefix), with the password hashed again.
+    @Override
+    public UserDetails updatePassword (UserDetails user, String newPassword) {
+
+        AccountUserDetails account = (AccountUserDetails) user;
+
+        accountRepository.updatePasswordById(account.getId(), newPassword);
+
+        return new AccountUserDetails(account.getId(), account.getEmail(), account.getUsername(), newPassword);
 
     }
 
@@ -0,0 +1,60 @@
+package com.github.datasleo.mothsinmywallet.service;
+
+import java.time.LocalDate;
+
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.support.TransactionSynchronization;
+import org.springframework.transaction.support.TransactionSynchronizationManager;
+
+import com.github.datasleo.mothsinmywallet.cache.ExpiringCache;
+import com.github.datasleo.mothsinmywallet.dto.DashboardSummaryDto;
+import com.github.datasleo.mothsinmywallet.repository.AccountRepository;
+
+/**
+ * Summary counts of the home dashboard, read with one aggregated query and kept per account in a
+ * bounded cache. Creating or deleting a tag, a payment method or a transaction must call
+ * {@link #evict(long)} so that the next visit to /home reads them again.
+ */
+@Service
+public class DashboardService {
+
+    static final int RECENT_DAYS = 30;
+
+    private final AccountRepository accountRepository;
+    private final ExpiringCache<Long, DashboardSummaryDto> dashboardCache;
+
+    public DashboardService(AccountRepository accountRepository, ExpiringCache<Long, DashboardSummaryDto> dashboardCache) {
+        this.accountRepository = accountRepository;
+        this.dashboardCache = dashboardCache;
+    }
+
+    public DashboardSummaryDto getSummary(long accountId) {
+        return dashboardCache.computeIfAbsent(accountId, this::load);
+    }
+
+    // Same as SpendAnalyticsService.evict: now, and again after commit. A summary being loaded while
+    // either eviction runs is returned but not cached (see ExpiringCache.computeIfAbsent).
+    public void evict(long accountId) {
+
+        dashboardCache.invalidate(accountId);
+
+        if(TransactionSynchronizationManager.isSynchronizationActive()) {
+            TransactionSynchronizationManager.registerSynchronization(new TransactionSynchronization() {
+                @Override
+                public void afterCommit() {
+                    dashboardCache.invalidate(accountId);
+                }
+            });
+        }
+
+    }
+
+    // The window starts at midnight so that it only moves once a day; the cache ttl bounds how long
+    // a summary read just before midnight is shown. An account that no longer exists (a session that
+    // outlived it) gets an empty summary rather than null, which /home would dereference.
+    private DashboardSummaryDto load(long accountId) {
+        return accountRepository.findDashboardSummary(accountId, LocalDate.now().minusDays(RECENT_DAYS).atStartOfDay())
+            .orElseGet(() -> new DashboardSummaryDto(0L, 0L, 0L, null));
+    }
+
+}
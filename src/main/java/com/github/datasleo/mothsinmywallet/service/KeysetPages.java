@@ -0,0 +1,30 @@
+package com.github.datasleo.mothsinmywallet.service;
+
+import java.util.Map;
+
+import org.springframework.data.domain.Limit;
+import org.springframework.data.domain.ScrollPosition;
+
+// Keyset pages are ordered by id inside one account, so the cursor is the last id seen
+// and every page is a range read on (fk_account_table, id), whatever the account size.
+final class KeysetPages {
+
+    static final int MAX_PAGE_SIZE = 100;
+
+    private KeysetPages() {}
+
+    static ScrollPosition after(Long lastSeenId) {
+
+        if(lastSeenId == null) {
+            return ScrollPosition.keyset();
+        }
+
+        return ScrollPosition.forward(Map.of("id", lastSeenId));
+
+    }
+
+    static Limit limit(int pageSize) {
+        return Limit.of(Math.clamp(pageSize, 1, MAX_PAGE_SIZE));
+    }
+
+}
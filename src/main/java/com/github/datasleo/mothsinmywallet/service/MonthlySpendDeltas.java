@@ -0,0 +1,62 @@
+package com.github.datasleo.mothsinmywallet.service;
+
+import java.math.BigDecimal;
+import java.time.LocalDate;
+import java.time.LocalDateTime;
+import java.util.Comparator;
+import java.util.Map;
+import java.util.TreeMap;
+import java.util.function.BiConsumer;
+
+import com.github.datasleo.mothsinmywallet.model.MonthlySpend;
+
+/**
+ * Rollup changes of a bulk write, summed per month, tag and payment method so that
+ * MonthlySpendService writes each bucket once instead of once per transaction. Buckets are
+ * visited in the order of the bucket unique key, so two bulk writes lock rows in the same order.
+ */
+public class MonthlySpendDeltas {
+
+    private final Map<Bucket, Delta> deltas = new TreeMap<>(Bucket.KEY_ORDER);
+
+    public void add(LocalDateTime date, Long tagId, Long paymentId, BigDecimal amount) {
+
+        Delta delta = deltas.computeIfAbsent(Bucket.of(date, tagId, paymentId), bucket -> new Delta());
+
+        delta.amount = delta.amount.add(amount);
+        delta.transactionCount++;
+
+    }
+
+    public boolean isEmpty() {
+        return deltas.isEmpty();
+    }
+
+    void forEach(BiConsumer<Bucket, Delta> action) {
+        deltas.forEach(action);
+    }
+
+    record Bucket(LocalDate month, long tagId, long paymentId) {
+
+        static final Comparator<Bucket> KEY_ORDER = Comparator.comparing(Bucket::month)
+            .thenComparingLong(Bucket::tagId)
+            .thenComparingLong(Bucket::paymentId);
+
+        static Bucket of(LocalDateTime date, Long tagId, Long paymentId) {
+            return new Bucket(
+                date.toLocalDate().withDayOfMonth(1),
+                tagId != null ? tagId : MonthlySpend.NONE,
+                paymentId != null ? paymentId : MonthlySpend.NONE
+            );
+        }
+
+    }
+
+    static final class Delta {
+
+        BigDecimal amount = BigDecimal.ZERO;
+        long transactionCount;
+
+    }
+
+}
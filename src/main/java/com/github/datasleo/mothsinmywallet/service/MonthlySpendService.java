@@ -0,0 +1,112 @@
+package com.github.datasleo.mothsinmywallet.service;
+
+import java.math.BigDecimal;
+import java.sql.Date;
+import java.time.LocalDateTime;
+import java.time.YearMonth;
+import java.util.List;
+
+import org.springframework.jdbc.core.ConnectionCallback;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.annotation.Propagation;
+import org.springframework.transaction.annotation.Transactional;
+
+import com.github.datasleo.mothsinmywallet.dto.MonthlySpendDto;
+import com.github.datasleo.mothsinmywallet.dto.MonthlyTotalDto;
+import com.github.datasleo.mothsinmywallet.repository.MonthlySpendRepository;
+import com.github.datasleo.mothsinmywallet.service.MonthlySpendDeltas.Bucket;
+
+/**
+ * Keeps monthly_spend_table in step with transaction_table.
+ *
+ * Writes must join the transaction that changes the ledger, so a rollup is never ahead of or
+ * behind the rows it sums. Each bucket change is one upsert on the bucket's unique key: an
+ * UPDATE that misses followed by an INSERT takes gap locks under MySQL REPEATABLE READ, and two
+ * transactions creating the same bucket that way deadlock on each other's insert. Bulk writes
+ * apply their buckets in key order (MonthlySpendDeltas) so concurrent imports lock them in the
+ * same order.
+ */
+@Service
+public class MonthlySpendService {
+
+    private static final String MYSQL_UPSERT_BUCKET = """
+        INSERT INTO monthly_spend_table
+            (fk_account_table, month_spend, tag_id, payment_id, amount_spend, count_spend)
+        VALUES (?, ?, ?, ?, ?, ?)
+        ON DUPLICATE KEY UPDATE
+            amount_spend = amount_spend + VALUES(amount_spend),
+            count_spend = count_spend + VALUES(count_spend)
+        """;
+
+    // Standard MERGE for the H2 database of the tests, which has no ON DUPLICATE KEY outside MySQL mode.
+    private static final String MERGE_BUCKET = """
+        MERGE INTO monthly_spend_table m
+        USING (VALUES (CAST(? AS BIGINT), CAST(? AS DATE), CAST(? AS BIGINT), CAST(? AS BIGINT), CAST(? AS DECIMAL(13,2)), CAST(? AS BIGINT)))
+            AS d (fk_account_table, month_spend, tag_id, payment_id, amount_spend, count_spend)
+        ON m.fk_account_table = d.fk_account_table AND m.month_spend = d.month_spend AND m.tag_id = d.tag_id AND m.payment_id = d.payment_id
+        WHEN MATCHED THEN UPDATE SET
+            amount_spend = m.amount_spend + d.amount_spend,
+            count_spend = m.count_spend + d.count_spend
+        WHEN NOT MATCHED THEN INSERT
+            (fk_account_table, month_spend, tag_id, payment_id, amount_spend, count_spend)
+            VALUES (d.fk_account_table, d.month_spend, d.tag_id, d.payment_id, d.amount_spend, d.count_spend)
+        """;
+
+    private final JdbcTemplate jdbcTemplate;
+    private final MonthlySpendRepository monthlySpendRepository;
+
+    private volatile String upsertBucket;
+
+    public MonthlySpendService(JdbcTemplate jdbcTemplate, MonthlySpendRepository monthlySpendRepository) {
+        this.jdbcTemplate = jdbcTemplate;
+        this.monthlySpendRepository = monthlySpendRepository;
+    }
+
+    // RECORD
+    @Transactional(propagation = Propagation.MANDATORY)
+    public void add(long accountId, LocalDateTime date, Long tagId, Long paymentId, BigDecimal amount) {
+        apply(accountId, Bucket.of(date, tagId, paymentId), amount, 1);
+    }
+
+    @Transactional(propagation = Propagation.MANDATORY)
+    public void subtract(long accountId, LocalDateTime date, Long tagId, Long paymentId, BigDecimal amount) {
+        apply(accountId, Bucket.of(date, tagId, paymentId), amount.negate(), -1);
+    }
+
+    @Transactional(propagation = Propagation.MANDATORY)
+    public void addAll(long accountId, MonthlySpendDeltas deltas) {
+        deltas.forEach((bucket, delta) -> apply(accountId, bucket, delta.amount, delta.transactionCount));
+    }
+
+    // READ
+    // Newest month first, from the month `months - 1` months before `until` up to `until` included.
+    @Transactional(readOnly = true)
+    public List<MonthlyTotalDto> getMonthlyTotals(long accountId, YearMonth until, int months) {
+        return monthlySpendRepository.findMonthlyTotals(accountId, until.minusMonths(months - 1L).atDay(1), until.plusMonths(1).atDay(1));
+    }
+
+    @Transactional(readOnly = true)
+    public List<MonthlySpendDto> getBreakdown(long accountId, YearMonth month) {
+        return monthlySpendRepository.findBreakdown(accountId, month.atDay(1), month.plusMonths(1).atDay(1));
+    }
+
+    private void apply(long accountId, Bucket bucket, BigDecimal amount, long transactionCount) {
+        jdbcTemplate.update(upsertBucket(), accountId, Date.valueOf(bucket.month()), bucket.tagId(), bucket.paymentId(), amount, transactionCount);
+    }
+
+    private String upsertBucket() {
+
+        String upsert = upsertBucket;
+
+        if(upsert == null) {
+            upsert = jdbcTemplate.execute((ConnectionCallback<String>) connection ->
+                "H2".equals(connection.getMetaData().getDatabaseProductName()) ? MERGE_BUCKET : MYSQL_UPSERT_BUCKET);
+            upsertBucket = upsert;
+        }
+
+        return upsert;
+
+    }
+
+}
@@ -1,11 +1,12 @@
 package com.github.datasleo.mothsinmywallet.service;
 
-import java.util.List;
-import java.util.Optional;
-
+import org.springframework.dao.DataIntegrityViolationException;
+import org.springframework.data.domain.Window;
 import org.springframework.stereotype.Service;
+import org.springframework.transaction.annotation.Transactional;
 
 import com.github.datasleo.mothsinmywallet.dto.PaymentMethodDto;
+import com.github.datasleo.mothsinmywallet.dto.PaymentMethodSummaryDto;
 import com.github.datasleo.mothsinmywallet.exception.PaymentMethodAlreadyExistsException;
 import com.github.datasleo.mothsinmywallet.exception.PaymentMethodNotFoundOrNotAuthorizedException;
 import com.github.datasleo.mothsinmywallet.exception.UnauthorizedAccountException;
@@ -14,17 +15,29 @@ import com.github.datasleo.mothsinmywallet.model.PaymentMethod;
 import com.github.datasleo.mothsinmywallet.repository.AccountRepository;
 import com.github.datasleo.mothsinmywallet.repository.PaymentMethodRepository;
 
+import jakarta.persistence.EntityManagerFactory;
+
 @Service
 public class PaymentMethodService {
 
     private final PaymentMethodRepository paymentRepository;
     private final AccountRepository accountRepository;
+    private final SpendAnalyticsService spendAnalyticsService;
+    private final DashboardService dashboardService;
+    private final EntityManagerFactory entityManagerFactory;
 
-    public PaymentMethodService(PaymentMethodRepository paymentRepository, AccountRepository accountRepository) {
+    public PaymentMethodService(PaymentMethodRepository paymentRepository, AccountRepository accountRepository, SpendAnalyticsService spendAnalyticsService, DashboardService dashboardService, EntityManagerFactory entityManagerFactory) {
         this.paymentRepository = paymentRepository;
         this.accountRepository = accountRepository;
+        this.spendAnalyticsService = spendAnalyticsService;
+        this.dashboardService = dashboardService;
+        this.entityManagerFactory = entityManagerFactory;
     }
 
+    // Every query below is scoped by accountId, so the account itself is never loaded.
+    // The database checks the rest: the foreign key of the insert that the account exists,
+    // and the (fk_account_table, payment_name) unique index that the name is free.
+
     // CREATE
     public PaymentMethod createPayment(PaymentMethodDto dto) {
 
@@ -32,109 +45,104 @@ public class PaymentMethodService {
         String paymentDescriptionByDto = dto.getPaymentDescription();
         long paymentAccountIdByDto = dto.getAccountId();
 
-        Optional<Account> account = accountRepository.findById(paymentAccountIdByDto);
+        Account account = accountRepository.getReferenceById(paymentAccountIdByDto);
 
-        if(account.isEmpty()) {
-            throw new UnauthorizedAccountException("Unauthorized account."); 
-        }
+        PaymentMethod newPayment = new PaymentMethod(paymentNameByDto, paymentDescriptionByDto, account);
 
-        PaymentMethod resultByPaymentRepository = paymentRepository.findByPaymentNameAndAccountId(paymentNameByDto, paymentAccountIdByDto);
+        PaymentMethod saved;
 
-        if(resultByPaymentRepository != null) {
-            throw new PaymentMethodAlreadyExistsException("Payment method '" + paymentNameByDto + "' already exists.");
-        } 
+        try {
 
-        PaymentMethod newPayment = new PaymentMethod(paymentNameByDto, paymentDescriptionByDto, account.get());
+            saved = paymentRepository.save(newPayment);
 
-        return paymentRepository.save(newPayment);
+        } catch (DataIntegrityViolationException e) {
 
-    }
+            if(ConstraintViolations.isForeignKeyViolation(e)) {
+                throw new UnauthorizedAccountException("Unauthorized account.");
+            }
 
-    // READ ALL
-    public List<PaymentMethod> getAllPaymentsByAccountId(long accountId) {
+            if(ConstraintViolations.isUniqueViolation(e)) {
+                throw new PaymentMethodAlreadyExistsException("Payment method '" + paymentNameByDto + "' already exists.");
+            }
 
-        Optional<Account> account = accountRepository.findById(accountId);
+            throw e;
 
-        if(account.isEmpty()) {
-            throw new UnauthorizedAccountException("Unauthorized account.");        
         }
 
-        return paymentRepository.findAllByAccountId(accountId);
-    }
+        dashboardService.evict(paymentAccountIdByDto);
 
-    // READ ONE
-    public PaymentMethod getOnePaymentMethod(long paymentId, long accountId) {
-        
-        Optional<Account> account = accountRepository.findById(accountId);
-        
-        if(account.isEmpty()) {
-            throw new UnauthorizedAccountException("Unauthorized account.");               
-        }
+        return saved;
 
-        PaymentMethod payment = paymentRepository.findOneByIdAndAccountId(paymentId, accountId);
+    }
 
-        if(payment == null) {
-            throw new PaymentMethodNotFoundOrNotAuthorizedException("Payment method not found or not authorized.");
-        }
+    // READ PAGE
+    @Transactional(readOnly = true)
+    public Window<PaymentMethodSummaryDto> getPaymentPageByAccountId(long accountId, Long afterId, int pageSize) {
+        return paymentRepository.findSummariesByAccountIdOrderByIdAsc(accountId, KeysetPages.after(afterId), KeysetPages.limit(pageSize));
+    }
 
-        return payment;
+    // Lookups go by primary key so they are served by the second-level cache. Update and delete are
+    // one statement scoped by id and account id, like TagService, and evict only that payment
+    // method's cache entry.
+
+    // READ ONE
+    public PaymentMethod getOnePaymentMethod(long paymentId, long accountId) {
+        return findOwnedPayment(paymentId, accountId);
     }
 
     // UPDATE
-    public PaymentMethod updatePayment(long paymentId, long accountId, PaymentMethodDto dto) {
+    @Transactional
+    public void updatePayment(long paymentId, long accountId, PaymentMethodDto dto) {
         
         String paymentNameByDto = dto.getPaymentName();
         String paymentDescriptionByDto = dto.getPaymentDescription();
 
-        Optional<Account> account = accountRepository.findById(accountId);
+        int updatedRows;
 
-        if(account.isEmpty()) {
-            throw new UnauthorizedAccountException("Unauthorized account.");
-        }
-        
-        PaymentMethod payment = paymentRepository.findOneByIdAndAccountId(paymentId, accountId);
+        try {
 
-        if(payment == null) {
-            throw new PaymentMethodNotFoundOrNotAuthorizedException("Payment method not found or not authorized.");
-        }
+            updatedRows = paymentRepository.updateByIdAndAccountId(paymentId, accountId, paymentNameByDto, paymentDescriptionByDto);
 
-        PaymentMethod isExistsPayment = paymentRepository.findByPaymentNameAndAccountId(paymentNameByDto, accountId);
+        } catch (DataIntegrityViolationException e) {
 
-        if(isExistsPayment != null) {
-            if((!isExistsPayment.getPaymentName().equals(paymentNameByDto)) && isExistsPayment.getId() != paymentId) {
+            if(ConstraintViolations.isUniqueViolation(e)) {
                 throw new PaymentMethodAlreadyExistsException("Payment method '" + paymentNameByDto + "' already exists.");
-        
             }
+
+            throw e;
+
         }
 
-        payment.setPaymentName(paymentNameByDto);
-        payment.setPaymentDescription(paymentDescriptionByDto);
+        if(updatedRows == 0) {
+            throw new PaymentMethodNotFoundOrNotAuthorizedException("Payment method not found or not authorized.");
+        }
 
-        paymentRepository.save(payment);
+        entityManagerFactory.getCache().evict(PaymentMethod.class, paymentId);
 
-        return payment;
+        // Reports carry the payment method name.
+        spendAnalyticsService.evict(accountId);
 
     }
 
     // DELETE
-    public PaymentMethod deletePayment(long paymentId, long accountId) { 
+    @Transactional
+    public void deletePayment(long paymentId, long accountId) { 
 
-        Optional<Account> account = accountRepository.findById(accountId);
-
-        if(account.isEmpty()) {
-            throw new UnauthorizedAccountException("Unauthorized account.");            
-        }
-
-        PaymentMethod deletedPayment = paymentRepository.findOneByIdAndAccountId(paymentId, accountId);
-
-        if(deletedPayment == null) {
+        if(paymentRepository.deleteByIdAndAccountId(paymentId, accountId) == 0) {
             throw new PaymentMethodNotFoundOrNotAuthorizedException("Payment method not found or not authorized.");
         }
 
-        paymentRepository.delete(deletedPayment);
+        entityManagerFactory.getCache().evict(PaymentMethod.class, paymentId);
 
-        return deletedPayment;
+        // The transactions of the payment method were set to no payment method.
+        spendAnalyticsService.evict(accountId);
+        dashboardService.evict(accountId);
+
+    }
 
+    private PaymentMethod findOwnedPayment(long paymentId, long accountId) {
+        return paymentRepository.findCachedByIdAndAccountId(paymentId, accountId)
+            .orElseThrow(() -> new PaymentMethodNotFoundOrNotAuthorizedException("Payment method not found or not authorized."));
     }
 
-}
\ No newline at end of file
+}
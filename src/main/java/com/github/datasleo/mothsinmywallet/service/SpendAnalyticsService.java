@@ -0,0 +1,144 @@
+package com.github.datasleo.mothsinmywallet.service;
+
+import java.math.BigDecimal;
+import java.sql.PreparedStatement;
+import java.sql.ResultSet;
+import java.sql.SQLException;
+import java.time.LocalDate;
+import java.time.YearMonth;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.function.IntFunction;
+
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.support.TransactionSynchronization;
+import org.springframework.transaction.support.TransactionSynchronizationManager;
+
+import com.github.datasleo.mothsinmywallet.analytics.SpendColumns;
+import com.github.datasleo.mothsinmywallet.analytics.SpendColumns.MonthGrid;
+import com.github.datasleo.mothsinmywallet.cache.ExpiringCache;
+import com.github.datasleo.mothsinmywallet.dto.MonthlyGroupSpendDto;
+
+/**
+ * Spending reports answered from an in-memory {@link SpendColumns} snapshot of the account.
+ *
+ * The snapshot is read once with a single ordered scan of the account's transactions and kept in
+ * a bounded cache. Any change to the account's transactions, tags or payment methods must call
+ * {@link #evict(long)} so that the next report rebuilds it.
+ */
+@Service
+public class SpendAnalyticsService {
+
+    private static final String SELECT_COLUMNS = """
+        SELECT t.date_transaction, t.amount_transaction, t.fk_tag_table, tag.tag_name, t.fk_payment_table, payment.payment_name
+        FROM transaction_table t
+        LEFT JOIN tag_table tag ON tag.id = t.fk_tag_table
+        LEFT JOIN payment_method_table payment ON payment.id = t.fk_payment_table
+        WHERE t.fk_account_table = ?
+        ORDER BY t.date_transaction, t.id
+        """;
+
+    private static final int FETCH_SIZE = 1000;
+
+    private final JdbcTemplate jdbcTemplate;
+    private final ExpiringCache<Long, SpendColumns> spendColumnsCache;
+
+    public SpendAnalyticsService(JdbcTemplate jdbcTemplate, ExpiringCache<Long, SpendColumns> spendColumnsCache) {
+        this.jdbcTemplate = jdbcTemplate;
+        this.spendColumnsCache = spendColumnsCache;
+    }
+
+    public SpendColumns getColumns(long accountId) {
+        return spendColumnsCache.computeIfAbsent(accountId, this::load);
+    }
+
+    // TOTAL over [from, to)
+    public BigDecimal getTotal(long accountId, LocalDate from, LocalDate to) {
+        return BigDecimal.valueOf(getColumns(accountId).sumCents(from, to), 2);
+    }
+
+    // PER TAG PER MONTH over [from, to], oldest month first, empty cells left out.
+    public List<MonthlyGroupSpendDto> getSpendPerTagPerMonth(long accountId, YearMonth from, YearMonth to) {
+        SpendColumns columns = getColumns(accountId);
+        return toDtos(columns.groupByMonthAndTag(from, to), columns::tagName);
+    }
+
+    // PER PAYMENT METHOD PER MONTH over [from, to], oldest month first, empty cells left out.
+    public List<MonthlyGroupSpendDto> getSpendPerPaymentMethodPerMonth(long accountId, YearMonth from, YearMonth to) {
+        SpendColumns columns = getColumns(accountId);
+        return toDtos(columns.groupByMonthAndPayment(from, to), columns::paymentName);
+    }
+
+    // Drops the snapshot now and, inside a transaction, again after commit: a report running
+    // concurrently could otherwise rebuild it from the rows as they were before the commit.
+    public void evict(long accountId) {
+
+        spendColumnsCache.invalidate(accountId);
+
+        if(TransactionSynchronizationManager.isSynchronizationActive()) {
+            TransactionSynchronizationManager.registerSynchronization(new TransactionSynchronization() {
+                @Override
+                public void afterCommit() {
+                    spendColumnsCache.invalidate(accountId);
+                }
+            });
+        }
+
+    }
+
+    private SpendColumns load(long accountId) {
+
+        SpendColumns.Builder builder = SpendColumns.builder();
+
+        jdbcTemplate.query(connection -> {
+
+            PreparedStatement statement = connection.prepareStatement(SELECT_COLUMNS);
+            statement.setFetchSize(FETCH_SIZE);
+            statement.setLong(1, accountId);
+
+            return statement;
+
+        }, (ResultSet row) -> {
+
+            builder.add(
+                row.getTimestamp(1).toLocalDateTime().toLocalDate(),
+                row.getBigDecimal(2).movePointRight(2).longValueExact(),
+                nullableLong(row, 3),
+                row.getString(4),
+                nullableLong(row, 5),
+                row.getString(6)
+            );
+
+        });
+
+        return builder.build();
+
+    }
+
+    private static Long nullableLong(ResultSet row, int column) throws SQLException {
+        long value = row.getLong(column);
+        return row.wasNull() ? null : value;
+    }
+
+    private static List<MonthlyGroupSpendDto> toDtos(MonthGrid grid, IntFunction<String> names) {
+
+        List<MonthlyGroupSpendDto> dtos = new ArrayList<>();
+
+        for(int month = 0; month < grid.monthCount(); month++) {
+            for(int code = 0; code < grid.cardinality(); code++) {
+
+                int count = grid.count(month, code);
+
+                if(count > 0) {
+                    dtos.add(new MonthlyGroupSpendDto(grid.month(month).atDay(1), names.apply(code), BigDecimal.valueOf(grid.cents(month, code), 2), count));
+                }
+
+            }
+        }
+
+        return dtos;
+
+    }
+
+}
@@ -1,11 +1,12 @@
 package com.github.datasleo.mothsinmywallet.service;
 
-import java.util.List;
-import java.util.Optional;
-
+import org.springframework.dao.DataIntegrityViolationException;
+import org.springframework.data.domain.Window;
 import org.springframework.stereotype.Service;
+import org.springframework.transaction.annotation.Transactional;
 
 import com.github.datasleo.mothsinmywallet.dto.TagDto;
+import com.github.datasleo.mothsinmywallet.dto.TagSummaryDto;
 import com.github.datasleo.mothsinmywallet.exception.UnauthorizedAccountException;
 import com.github.datasleo.mothsinmywallet.exception.TagNameAlreadyExistsException;
 import com.github.datasleo.mothsinmywallet.exception.TagNotFoundOrNotAuthorizedException;
@@ -14,29 +15,34 @@ import com.github.datasleo.mothsinmywallet.model.Tag;
 import com.github.datasleo.mothsinmywallet.repository.AccountRepository;
 import com.github.datasleo.mothsinmywallet.repository.TagRepository;
 
+import jakarta.persistence.EntityManagerFactory;
+
 @Service
 public class TagService {
 
     private final TagRepository tagRepository;
     private final AccountRepository accountRepository;
+    private final SpendAnalyticsService spendAnalyticsService;
+    private final DashboardService dashboardService;
+    private final EntityManagerFactory entityManagerFactory;
 
-    public TagService(TagRepository tagRepository, AccountRepository accountRepository) {
+    public TagService(TagRepository tagRepository, AccountRepository accountRepository, SpendAnalyticsService spendAnalyticsService, DashboardService dashboardService, EntityManagerFactory entityManagerFactory) {
         this.tagRepository = tagRepository;
         this.accountRepository = accountRepository;
+        this.spendAnalyticsService = spendAnalyticsService;
+        this.dashboardService = dashboardService;
+        this.entityManagerFactory = entityManagerFactory;
     }
 
+    // Name uniqueness and account existence are enforced by the database: the
+    // (fk_account_table, tag_name) unique index and the account foreign key.
     public Tag createTag(TagDto dto) {
         
         String tagName = dto.getTagName();
         String tagDescription = dto.getTagDescription();
         Long accountId = dto.getAccountId();
 
-        Account account = accountRepository.findById(accountId)
-            .orElseThrow(() -> new UnauthorizedAccountException("Account id " + accountId + " was not founded."));
-
-        if(tagRepository.findByTagNameAndAccountId(tagName, accountId).isPresent()){
-            throw new TagNameAlreadyExistsException("Tag " + tagName + " already exists.");
-        }
+        Account account = accountRepository.getReferenceById(accountId);
 
         Tag tag = new Tag();
 
@@ -44,60 +50,98 @@ public class TagService {
         tag.setTagDescription(tagDescription);
         tag.setAccount(account);
 
-        return tagRepository.save(tag);
+        Tag saved;
 
-    }
+        try {
 
-    public List<Tag> getAllTagsByAccountId(Long accountId) {
-        return tagRepository.findAllByAccountId(accountId);
-    }
+            saved = tagRepository.save(tag);
 
-    public Tag getTagByIdAndAccountId(long tagId, long accountId) {
-        
-        Optional<Tag> optionalTag = tagRepository.findByIdAndAccountId(tagId, accountId);
+        } catch (DataIntegrityViolationException e) {
+
+            if(ConstraintViolations.isForeignKeyViolation(e)) {
+                throw new UnauthorizedAccountException("Account id " + accountId + " was not founded.");
+            }
+
+            if(ConstraintViolations.isUniqueViolation(e)) {
+                throw new TagNameAlreadyExistsException("Tag " + tagName + " already exists.");
+            }
+
+            throw e;
 
-        if(optionalTag.isEmpty()) {
-            throw new TagNotFoundOrNotAuthorizedException("Tag not found or not authorized.");
         }
 
-        return optionalTag.get();
+        dashboardService.evict(accountId);
+
+        return saved;
 
     }
 
-    public void deleteTag(long tagId, long accountId) {
+    // Lists DTOs instead of entities: nothing is attached to the persistence context,
+    // so there is no dirty checking on flush and no lazy Account proxy reachable from the view.
+    @Transactional(readOnly = true)
+    public Window<TagSummaryDto> getTagPageByAccountId(long accountId, Long afterId, int pageSize) {
+        return tagRepository.findSummariesByAccountIdOrderByIdAsc(accountId, KeysetPages.after(afterId), KeysetPages.limit(pageSize));
+    }
 
-        Optional<Tag> optionalTag = tagRepository.findByIdAndAccountId(tagId, accountId);
+    // Lookups go by primary key so they are served by the second-level cache. Update and delete are
+    // one statement scoped by id and account id; the affected row count tells a foreign or missing
+    // tag apart. Only that tag's cache entry is evicted afterwards.
 
-        if (optionalTag.isEmpty()) {
+    public Tag getTagByIdAndAccountId(long tagId, long accountId) {
+        return findOwnedTag(tagId, accountId);
+    }
+
+    @Transactional
+    public void deleteTag(long tagId, long accountId) {
+
+        if(tagRepository.deleteByIdAndAccountId(tagId, accountId) == 0) {
             throw new TagNotFoundOrNotAuthorizedException("Tag not found or not authorized.");
         }
 
-        Tag tagToDelete = optionalTag.get();
+        entityManagerFactory.getCache().evict(Tag.class, tagId);
 
-        tagRepository.delete(tagToDelete);
+        // The transactions of the tag were set to no tag.
+        spendAnalyticsService.evict(accountId);
+        dashboardService.evict(accountId);
 
     }
 
-    public Tag updateTag(Long tagId, long accountId, TagDto dto) {
+    @Transactional
+    public void updateTag(long tagId, long accountId, TagDto dto) {
 
         String tagNameDto = dto.getTagName();
         String tagDescriptionDto = dto.getTagDescription();
 
+        int updatedRows;
 
-        Tag existingTag = tagRepository.findByIdAndAccountId(tagId, accountId)
-            .orElseThrow(() -> new TagNotFoundOrNotAuthorizedException("Tag not found or not authorized."));
+        try {
+
+            updatedRows = tagRepository.updateByIdAndAccountId(tagId, accountId, tagNameDto, tagDescriptionDto);
+
+        } catch (DataIntegrityViolationException e) {
 
-        if(!existingTag.getTagName().equals(tagNameDto)) {
-            if(tagRepository.findByTagNameAndAccountId(tagNameDto, accountId).isPresent()) {
+            if(ConstraintViolations.isUniqueViolation(e)) {
                 throw new TagNameAlreadyExistsException("Tag '" + tagNameDto + "' already exists in this account.");
             }
+
+            throw e;
+
+        }
+
+        if(updatedRows == 0) {
+            throw new TagNotFoundOrNotAuthorizedException("Tag not found or not authorized.");
         }
 
-        existingTag.setTagName(tagNameDto);
-        existingTag.setTagDescription(tagDescriptionDto);
+        entityManagerFactory.getCache().evict(Tag.class, tagId);
+
+        // Reports carry the tag name.
+        spendAnalyticsService.evict(accountId);
 
-        return tagRepository.save(existingTag);
+    }
 
+    private Tag findOwnedTag(long tagId, long accountId) {
+        return tagRepository.findCachedByIdAndAccountId(tagId, accountId)
+            .orElseThrow(() -> new TagNotFoundOrNotAuthorizedException("Tag not found or not authorized."));
     }
 
 }
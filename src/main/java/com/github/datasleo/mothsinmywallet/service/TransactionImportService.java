@@ -0,0 +1,313 @@
+package com.github.datasleo.mothsinmywallet.service;
+
+import java.io.BufferedReader;
+import java.io.IOException;
+import java.io.Reader;
+import java.math.BigDecimal;
+import java.sql.Timestamp;
+import java.sql.Types;
+import java.time.LocalDate;
+import java.time.LocalDateTime;
+import java.time.format.DateTimeParseException;
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Locale;
+import java.util.Map;
+
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.annotation.Transactional;
+
+import com.github.datasleo.mothsinmywallet.dto.PaymentMethodSummaryDto;
+import com.github.datasleo.mothsinmywallet.dto.TagSummaryDto;
+import com.github.datasleo.mothsinmywallet.dto.TransactionImportResultDto;
+import com.github.datasleo.mothsinmywallet.exception.InvalidCsvFileException;
+import com.github.datasleo.mothsinmywallet.repository.PaymentMethodRepository;
+import com.github.datasleo.mothsinmywallet.repository.TagRepository;
+
+/**
+ * Imports transactions from a CSV file with the header
+ * {@code title,description,amount,date,tag,payment_method} (columns in any order,
+ * description, tag and payment_method optional).
+ *
+ * The file is read line by line and rows are inserted with plain JDBC batches: the
+ * Transaction entity uses IDENTITY ids, which turns Hibernate batching off. Memory stays
+ * bounded by the batch size and the tag/payment method name maps of the account.
+ *
+ * Monthly rollups are summed per bucket while reading and written once per bucket at the end,
+ * inside the import transaction.
+ */
+@Service
+public class TransactionImportService {
+
+    private static final String INSERT_TRANSACTION = """
+        INSERT INTO transaction_table
+            (title_transaction, description_transaction, amount_transaction, date_transaction, fk_tag_table, fk_payment_table, fk_account_table)
+        VALUES (?, ?, ?, ?, ?, ?, ?)
+        """;
+
+    private static final int[] INSERT_TYPES = {
+        Types.VARCHAR, Types.VARCHAR, Types.DECIMAL, Types.TIMESTAMP, Types.BIGINT, Types.BIGINT, Types.BIGINT
+    };
+
+    private static final int MAX_TITLE_LENGTH = 60;
+    private static final int MAX_DESCRIPTION_LENGTH = 255;
+
+    // amount_transaction is DECIMAL(11,2).
+    private static final int AMOUNT_SCALE = 2;
+    private static final int AMOUNT_INTEGER_DIGITS = 9;
+
+    private static final int MAX_RECORD_LENGTH = 8192;
+
+    private final JdbcTemplate jdbcTemplate;
+    private final TagRepository tagRepository;
+    private final PaymentMethodRepository paymentRepository;
+    private final MonthlySpendService monthlySpendService;
+    private final SpendAnalyticsService spendAnalyticsService;
+    private final DashboardService dashboardService;
+    private final int batchSize;
+
+    public TransactionImportService(JdbcTemplate jdbcTemplate, TagRepository tagRepository, PaymentMethodRepository paymentRepository, MonthlySpendService monthlySpendService, SpendAnalyticsService spendAnalyticsService, DashboardService dashboardService, @Value("${app.import.batch-size:1000}") int batchSize) {
+        this.jdbcTemplate = jdbcTemplate;
+        this.tagRepository = tagRepository;
+        this.paymentRepository = paymentRepository;
+        this.monthlySpendService = monthlySpendService;
+        this.spendAnalyticsService = spendAnalyticsService;
+        this.dashboardService = dashboardService;
+        this.batchSize = batchSize;
+    }
+
+    // One transaction for the whole file: either every valid row is imported or none is.
+    @Transactional
+    public TransactionImportResultDto importCsv(long accountId, Reader reader) throws IOException {
+
+        Map<String, Long> tagIds = new HashMap<>();
+        for(TagSummaryDto tag : tagRepository.findSummariesByAccountId(accountId)) {
+            tagIds.put(tag.getTagName(), tag.getId());
+        }
+
+        Map<String, Long> paymentIds = new HashMap<>();
+        for(PaymentMethodSummaryDto payment : paymentRepository.findSummariesByAccountId(accountId)) {
+            paymentIds.put(payment.getPaymentName(), payment.getId());
+        }
+
+        TransactionImportResultDto result = new TransactionImportResultDto();
+        List<Object[]> batch = new ArrayList<>(batchSize);
+        MonthlySpendDeltas deltas = new MonthlySpendDeltas();
+
+        BufferedReader lines = reader instanceof BufferedReader bufferedReader ? bufferedReader : new BufferedReader(reader);
+
+        String headerLine = lines.readLine();
+
+        if(headerLine == null) {
+            throw new InvalidCsvFileException("The file is empty.");
+        }
+
+        Columns columns = Columns.of(CsvLineParser.parse(stripByteOrderMark(headerLine)));
+
+        String line;
+        long lineNumber = 1;
+
+        while((line = lines.readLine()) != null) {
+
+            lineNumber++;
+
+            if(line.isBlank()) {
+                continue;
+            }
+
+            long recordLineNumber = lineNumber;
+            StringBuilder record = new StringBuilder(line);
+
+            // A quoted field may span lines (the export writes descriptions with line breaks that way).
+            // The record is capped so that a stray quote cannot pull the rest of the file into it.
+            while(CsvLineParser.endsInsideQuotes(record) && record.length() <= MAX_RECORD_LENGTH && (line = lines.readLine()) != null) {
+                lineNumber++;
+                record.append('\n').append(line);
+            }
+
+            Object[] row;
+
+            try {
+
+                row = toRow(CsvLineParser.parse(record.toString()), columns, tagIds, paymentIds, accountId);
+
+            } catch (InvalidCsvFileException e) {
+
+                result.addRejected(recordLineNumber, e.getMessage());
+                continue;
+
+            }
+
+            batch.add(row);
+            deltas.add(((Timestamp) row[3]).toLocalDateTime(), (Long) row[4], (Long) row[5], (BigDecimal) row[2]);
+
+            if(batch.size() == batchSize) {
+                flush(batch, result);
+            }
+
+        }
+
+        flush(batch, result);
+
+        monthlySpendService.addAll(accountId, deltas);
+        spendAnalyticsService.evict(accountId);
+        dashboardService.evict(accountId);
+
+        return result;
+
+    }
+
+    private Object[] toRow(List<String> fields, Columns columns, Map<String, Long> tagIds, Map<String, Long> paymentIds, long accountId) {
+
+        String title = columns.value(fields, columns.title);
+
+        if(title == null) {
+            throw new InvalidCsvFileException("Title is required.");
+        }
+
+        if(title.length() > MAX_TITLE_LENGTH) {
+            throw new InvalidCsvFileException("Title is longer than " + MAX_TITLE_LENGTH + " characters.");
+        }
+
+        String amount = columns.value(fields, columns.amount);
+
+        if(amount == null) {
+            throw new InvalidCsvFileException("Amount is required.");
+        }
+
+        BigDecimal parsedAmount;
+
+        try {
+            parsedAmount = new BigDecimal(amount);
+        } catch (NumberFormatException e) {
+            throw new InvalidCsvFileException("Invalid amount '" + amount + "'.");
+        }
+
+        // Checked here, as the title is: a value the column cannot hold would fail the whole batch.
+        BigDecimal significant = parsedAmount.stripTrailingZeros();
+
+        if(significant.scale() > AMOUNT_SCALE) {
+            throw new InvalidCsvFileException("Amount '" + amount + "' has more than " + AMOUNT_SCALE + " decimal places.");
+        }
+
+        if(significant.precision() - significant.scale() > AMOUNT_INTEGER_DIGITS) {
+            throw new InvalidCsvFileException("Amount '" + amount + "' is out of range.");
+        }
+
+        String description = columns.value(fields, columns.description);
+
+        if(description != null && description.length() > MAX_DESCRIPTION_LENGTH) {
+            throw new InvalidCsvFileException("Description is longer than " + MAX_DESCRIPTION_LENGTH + " characters.");
+        }
+
+        return new Object[] {
+            title,
+            description,
+            parsedAmount,
+            Timestamp.valueOf(parseDate(columns.value(fields, columns.date))),
+            resolve(tagIds, columns.value(fields, columns.tag), "Tag"),
+            resolve(paymentIds, columns.value(fields, columns.paymentMethod), "Payment method"),
+            accountId
+        };
+
+    }
+
+    private static LocalDateTime parseDate(String date) {
+
+        if(date == null) {
+            throw new InvalidCsvFileException("Date is required.");
+        }
+
+        try {
+
+            if(date.length() == 10) {
+                return LocalDate.parse(date).atStartOfDay();
+            }
+
+            return LocalDateTime.parse(date);
+
+        } catch (DateTimeParseException e) {
+            throw new InvalidCsvFileException("Invalid date '" + date + "', expected yyyy-MM-dd or yyyy-MM-ddTHH:mm.");
+        }
+
+    }
+
+    private static Long resolve(Map<String, Long> ids, String name, String label) {
+
+        if(name == null) {
+            return null;
+        }
+
+        Long id = ids.get(name);
+
+        if(id == null) {
+            throw new InvalidCsvFileException(label + " '" + name + "' was not found.");
+        }
+
+        return id;
+
+    }
+
+    private void flush(List<Object[]> batch, TransactionImportResultDto result) {
+
+        if(batch.isEmpty()) {
+            return;
+        }
+
+        jdbcTemplate.batchUpdate(INSERT_TRANSACTION, batch, INSERT_TYPES);
+        result.addImported(batch.size());
+
+        batch.clear();
+
+    }
+
+    private static String stripByteOrderMark(String line) {
+        return line.startsWith("\uFEFF") ? line.substring(1) : line;
+    }
+
+    private record Columns(int title, int description, int amount, int date, int tag, int paymentMethod) {
+
+        static Columns of(List<String> header) {
+
+            Map<String, Integer> indexes = new HashMap<>();
+
+            for(int i = 0; i < header.size(); i++) {
+                indexes.put(header.get(i).trim().toLowerCase(Locale.ROOT), i);
+            }
+
+            for(String required : List.of("title", "amount", "date")) {
+                if(!indexes.containsKey(required)) {
+                    throw new InvalidCsvFileException("Missing column '" + required + "' in the header.");
+                }
+            }
+
+            return new Columns(
+                indexes.get("title"),
+                indexes.getOrDefault("description", -1),
+                indexes.get("amount"),
+                indexes.get("date"),
+                indexes.getOrDefault("tag", -1),
+                indexes.getOrDefault("payment_method", -1)
+            );
+
+        }
+
+        // Blank and missing fields are null.
+        String value(List<String> fields, int index) {
+
+            if(index < 0 || index >= fields.size()) {
+                return null;
+            }
+
+            String value = fields.get(index).trim();
+
+            return value.isEmpty() ? null : value;
+
+        }
+
+    }
+
+}
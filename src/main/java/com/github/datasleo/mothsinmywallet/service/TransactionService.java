@@ -0,0 +1,173 @@
+package com.github.datasleo.mothsinmywallet.service;
+
+import java.math.BigDecimal;
+import java.time.LocalDateTime;
+import java.util.List;
+import java.util.Map;
+
+import org.springframework.dao.DataIntegrityViolationException;
+import org.springframework.data.domain.KeysetScrollPosition;
+import org.springframework.data.domain.Limit;
+import org.springframework.data.domain.ScrollPosition;
+import org.springframework.data.domain.Window;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.annotation.Transactional;
+
+import com.github.datasleo.mothsinmywallet.dto.TransactionAmountDto;
+import com.github.datasleo.mothsinmywallet.dto.TransactionDto;
+import com.github.datasleo.mothsinmywallet.dto.TransactionSummaryDto;
+import com.github.datasleo.mothsinmywallet.exception.PaymentMethodNotFoundOrNotAuthorizedException;
+import com.github.datasleo.mothsinmywallet.exception.TagNotFoundOrNotAuthorizedException;
+import com.github.datasleo.mothsinmywallet.exception.TransactionNotFoundOrNotAuthorizedException;
+import com.github.datasleo.mothsinmywallet.exception.UnauthorizedAccountException;
+import com.github.datasleo.mothsinmywallet.model.Transaction;
+import com.github.datasleo.mothsinmywallet.repository.AccountRepository;
+import com.github.datasleo.mothsinmywallet.repository.PaymentMethodRepository;
+import com.github.datasleo.mothsinmywallet.repository.TagRepository;
+import com.github.datasleo.mothsinmywallet.repository.TransactionRepository;
+
+@Service
+public class TransactionService {
+
+    private final TransactionRepository transactionRepository;
+    private final TagRepository tagRepository;
+    private final PaymentMethodRepository paymentRepository;
+    private final AccountRepository accountRepository;
+    private final MonthlySpendService monthlySpendService;
+    private final SpendAnalyticsService spendAnalyticsService;
+    private final DashboardService dashboardService;
+
+    public TransactionService(TransactionRepository transactionRepository, TagRepository tagRepository, PaymentMethodRepository paymentRepository, AccountRepository accountRepository, MonthlySpendService monthlySpendService, SpendAnalyticsService spendAnalyticsService, DashboardService dashboardService) {
+        this.transactionRepository = transactionRepository;
+        this.tagRepository = tagRepository;
+        this.paymentRepository = paymentRepository;
+        this.accountRepository = accountRepository;
+        this.monthlySpendService = monthlySpendService;
+        this.spendAnalyticsService = spendAnalyticsService;
+        this.dashboardService = dashboardService;
+    }
+
+    // CREATE
+    // The monthly rollup is updated in the same transaction as the insert.
+    @Transactional
+    public Transaction createTransaction(TransactionDto dto) {
+
+        long accountId = dto.getAccountId();
+        Long tagId = dto.getTagId();
+        Long paymentId = dto.getPaymentMethodId();
+
+        LocalDateTime date = dto.getDate() != null ? dto.getDate() : LocalDateTime.now();
+
+        Transaction transaction = new Transaction(dto.getTitle(), dto.getDescription(), dto.getAmount(), date, accountRepository.getReferenceById(accountId));
+
+        // The foreign keys only say that the tag and the payment method exist, not that they belong to this account.
+        // Both checks are primary key lookups, served by the second-level cache.
+        if(tagId != null) {
+
+            if(tagRepository.findCachedByIdAndAccountId(tagId, accountId).isEmpty()) {
+                throw new TagNotFoundOrNotAuthorizedException("Tag not found or not authorized.");
+            }
+
+            transaction.setTag(tagRepository.getReferenceById(tagId));
+
+        }
+
+        if(paymentId != null) {
+
+            if(paymentRepository.findCachedByIdAndAccountId(paymentId, accountId).isEmpty()) {
+                throw new PaymentMethodNotFoundOrNotAuthorizedException("Payment method not found or not authorized.");
+            }
+
+            transaction.setPaymentMethod(paymentRepository.getReferenceById(paymentId));
+
+        }
+
+        Transaction saved;
+
+        try {
+
+            saved = transactionRepository.save(transaction);
+
+        } catch (DataIntegrityViolationException e) {
+
+            if(ConstraintViolations.isForeignKeyViolation(e)) {
+                throw new UnauthorizedAccountException("Unauthorized account.");
+            }
+
+            throw e;
+
+        }
+
+        monthlySpendService.add(accountId, date, tagId, paymentId, dto.getAmount());
+        spendAnalyticsService.evict(accountId);
+        dashboardService.evict(accountId);
+
+        return saved;
+
+    }
+
+    // READ PAGE
+    // Newest first inside [from, to). Pass ScrollPosition.keyset() for the first page and
+    // window.positionAt(window.size() - 1) for the next one.
+    @Transactional(readOnly = true)
+    public Window<TransactionSummaryDto> getTransactionPage(long accountId, LocalDateTime from, LocalDateTime to, ScrollPosition position, int pageSize) {
+
+        int limit = KeysetPages.limit(pageSize).max();
+
+        LocalDateTime beforeDate = to;
+        long beforeId = Long.MAX_VALUE;
+
+        if(position instanceof KeysetScrollPosition keyset && !keyset.isInitial()) {
+            beforeDate = (LocalDateTime) keyset.getKeys().get("date");
+            beforeId = ((Number) keyset.getKeys().get("id")).longValue();
+        }
+
+        // One extra row tells whether there is a next page.
+        List<TransactionSummaryDto> rows = transactionRepository.findSummariesByAccountIdAndDateRange(accountId, from, to, beforeDate, beforeId, Limit.of(limit + 1));
+
+        boolean hasNext = rows.size() > limit;
+        List<TransactionSummaryDto> content = hasNext ? rows.subList(0, limit) : rows;
+
+        return Window.from(content, index -> {
+            TransactionSummaryDto last = content.get(index);
+            return ScrollPosition.forward(Map.of("date", last.getDate(), "id", last.getId()));
+        }, hasNext);
+
+    }
+
+    // READ ONE
+    public Transaction getOneTransaction(long transactionId, long accountId) {
+
+        Transaction transaction = transactionRepository.findOneByIdAndAccountId(transactionId, accountId);
+
+        if(transaction == null) {
+            throw new TransactionNotFoundOrNotAuthorizedException("Transaction not found or not authorized.");
+        }
+
+        return transaction;
+
+    }
+
+    // TOTAL
+    public BigDecimal getTotalAmount(long accountId, LocalDateTime from, LocalDateTime to) {
+        return transactionRepository.sumAmountByAccountIdAndDateRange(accountId, from, to);
+    }
+
+    // DELETE
+    // The row is read first for its rollup bucket; only the delete that removed it updates the rollup.
+    @Transactional
+    public void deleteTransaction(long transactionId, long accountId) {
+
+        TransactionAmountDto deleted = transactionRepository.findAmountByIdAndAccountId(transactionId, accountId);
+
+        if(deleted == null || transactionRepository.deleteByIdAndAccountId(transactionId, accountId) == 0) {
+            throw new TransactionNotFoundOrNotAuthorizedException("Transaction not found or not authorized.");
+        }
+
+        monthlySpendService.subtract(accountId, deleted.getDate(), deleted.getTagId(), deleted.getPaymentId(), deleted.getAmount());
+        spendAnalyticsService.evict(accountId);
+        dashboardService.evict(accountId);
+
+    }
+
+}
@@ -0,0 +1,33 @@
+-- The schema as Hibernate's ddl-auto=update built it from the entities of the baseline release,
+-- including the foreign key names it generated. Existing databases are baselined at this version
+-- (spring.flyway.baseline-on-migrate) and only run later migrations.
+
+CREATE TABLE account_table (
+  id BIGINT NOT NULL AUTO_INCREMENT,
+  email VARCHAR(255),
+  password VARCHAR(255),
+  username VARCHAR(255),
+  PRIMARY KEY (id)
+);
+
+CREATE TABLE tag_table (
+  id BIGINT NOT NULL AUTO_INCREMENT,
+  fk_account_table BIGINT NOT NULL,
+  tag_description VARCHAR(255),
+  tag_name VARCHAR(255),
+  PRIMARY KEY (id),
+  CONSTRAINT FKctr1o5rv196bhk1oqj6vtregh
+    FOREIGN KEY (fk_account_table)
+    REFERENCES account_table (id)
+);
+
+CREATE TABLE payment_method_table (
+  id BIGINT NOT NULL AUTO_INCREMENT,
+  fk_account_table BIGINT NOT NULL,
+  payment_description VARCHAR(255),
+  payment_name VARCHAR(255) NOT NULL,
+  PRIMARY KEY (id),
+  CONSTRAINT FKtqd5ma1efogdq5m79285govt2
+    FOREIGN KEY (fk_account_table)
+    REFERENCES account_table (id)
+);
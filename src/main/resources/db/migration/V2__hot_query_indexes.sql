@@ -0,0 +1,34 @@
+-- Login resolves the principal by email or by username: one unique index each, which also
+-- makes the database the last word on duplicate sign-ups. Databases created before the indexes
+-- can already hold accounts that share an email or a username, which would make CREATE UNIQUE
+-- INDEX fail. As in V3, every repeat after the first (lowest id) gets its id appended: the first
+-- account keeps its login and no account or its data is lost. The inner DISTINCT makes MySQL
+-- materialize the subquery instead of reading the table it updates.
+
+UPDATE account_table
+SET email = CONCAT(LEFT(email, 230), ' (', id, ')')
+WHERE id IN (
+  SELECT id FROM (
+    SELECT DISTINCT a.id
+    FROM account_table a
+    JOIN account_table o ON o.email = a.email AND o.id < a.id
+  ) AS repeated
+);
+
+UPDATE account_table
+SET username = CONCAT(LEFT(username, 230), ' (', id, ')')
+WHERE id IN (
+  SELECT id FROM (
+    SELECT DISTINCT a.id
+    FROM account_table a
+    JOIN account_table o ON o.username = a.username AND o.id < a.id
+  ) AS repeated
+);
+
+CREATE UNIQUE INDEX uk_account_table_email ON account_table (email);
+CREATE UNIQUE INDEX uk_account_table_username ON account_table (username);
+
+-- Keyset pages (WHERE fk_account_table = ? AND id > ? ORDER BY id) read the index in order
+-- instead of sorting every row of the account.
+CREATE INDEX idx_tag_table_account_id ON tag_table (fk_account_table, id);
+CREATE INDEX idx_payment_method_table_account_id ON payment_method_table (fk_account_table, id);
@@ -0,0 +1,30 @@
+-- One name per account for tags and payment methods. Databases created before the keys can
+-- already hold repeated names, which would make ADD CONSTRAINT fail: every repeat after the
+-- first (lowest id) gets its id appended, so no row and no description is lost. The inner
+-- DISTINCT makes MySQL materialize the subquery instead of reading the table it updates.
+
+UPDATE tag_table
+SET tag_name = CONCAT(LEFT(tag_name, 230), ' (', id, ')')
+WHERE id IN (
+  SELECT id FROM (
+    SELECT DISTINCT t.id
+    FROM tag_table t
+    JOIN tag_table o ON o.fk_account_table = t.fk_account_table AND o.tag_name = t.tag_name AND o.id < t.id
+  ) AS repeated
+);
+
+UPDATE payment_method_table
+SET payment_name = CONCAT(LEFT(payment_name, 230), ' (', id, ')')
+WHERE id IN (
+  SELECT id FROM (
+    SELECT DISTINCT p.id
+    FROM payment_method_table p
+    JOIN payment_method_table o ON o.fk_account_table = p.fk_account_table AND o.payment_name = p.payment_name AND o.id < p.id
+  ) AS repeated
+);
+
+ALTER TABLE tag_table
+  ADD CONSTRAINT uk_tag_table_account_tag_name UNIQUE (fk_account_table, tag_name);
+
+ALTER TABLE payment_method_table
+  ADD CONSTRAINT uk_payment_method_table_account_payment_name UNIQUE (fk_account_table, payment_name);
@@ -0,0 +1,35 @@
+-- Deleting a tag or a payment method keeps its transactions with no tag or payment method;
+-- deleting an account takes its transactions with it. Range queries over an account's ledger
+-- read (fk_account_table, date_transaction) in order.
+--
+-- Databases built from the former database/schema_mothsinmywallet.sql script already have a
+-- transaction_table with the same columns and foreign key actions, so it is kept as it is. That
+-- script never had the (fk_account_table, date_transaction) index, so the index is created on
+-- both paths.
+
+CREATE TABLE IF NOT EXISTS transaction_table (
+  id BIGINT NOT NULL AUTO_INCREMENT,
+  title_transaction VARCHAR(60) NOT NULL,
+  description_transaction VARCHAR(255),
+  amount_transaction DECIMAL(11,2) NOT NULL,
+  date_transaction DATETIME(6) NOT NULL,
+  fk_tag_table BIGINT,
+  fk_company_table BIGINT,
+  fk_payment_table BIGINT,
+  fk_account_table BIGINT NOT NULL,
+  PRIMARY KEY (id),
+  CONSTRAINT fk_transaction_table_tag_table
+    FOREIGN KEY (fk_tag_table)
+    REFERENCES tag_table (id)
+    ON DELETE SET NULL,
+  CONSTRAINT fk_transaction_table_payment_method_table
+    FOREIGN KEY (fk_payment_table)
+    REFERENCES payment_method_table (id)
+    ON DELETE SET NULL,
+  CONSTRAINT fk_transaction_table_account_table
+    FOREIGN KEY (fk_account_table)
+    REFERENCES account_table (id)
+    ON DELETE CASCADE
+);
+
+CREATE INDEX idx_transaction_table_account_date ON transaction_table (fk_account_table, date_transaction);
@@ -0,0 +1,18 @@
+-- Spend per account, month, tag and payment method, kept in step with transaction_table by
+-- MonthlySpendService. No tag or no payment method is stored as 0 so the bucket key has no NULLs.
+
+CREATE TABLE monthly_spend_table (
+  id BIGINT NOT NULL AUTO_INCREMENT,
+  month_spend DATE NOT NULL,
+  tag_id BIGINT NOT NULL,
+  payment_id BIGINT NOT NULL,
+  amount_spend DECIMAL(13,2) NOT NULL,
+  count_spend BIGINT NOT NULL,
+  fk_account_table BIGINT NOT NULL,
+  PRIMARY KEY (id),
+  CONSTRAINT uk_monthly_spend_table_bucket UNIQUE (fk_account_table, month_spend, tag_id, payment_id),
+  CONSTRAINT fk_monthly_spend_table_account_table
+    FOREIGN KEY (fk_account_table)
+    REFERENCES account_table (id)
+    ON DELETE CASCADE
+);
@@ -0,0 +1,115 @@
+package com.github.datasleo.mothsinmywallet.analytics;
+
+import java.time.LocalDate;
+import java.time.YearMonth;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+
+import com.github.datasleo.mothsinmywallet.analytics.SpendColumns.MonthGrid;
+
+public class SpendColumnsTest {
+
+    private SpendColumns columns;
+
+    @BeforeEach
+    public void setup() {
+
+        columns = SpendColumns.builder()
+            .add(LocalDate.of(2024, 12, 31), 1_000, 1L, "food", null, null)
+            .add(LocalDate.of(2025, 1, 1), 2_590, 1L, "food", 7L, "cash")
+            .add(LocalDate.of(2025, 1, 15), 440, null, null, 7L, "cash")
+            .add(LocalDate.of(2025, 1, 15), 4_010, 2L, "travel", 8L, "card")
+            .add(LocalDate.of(2025, 3, 2), 300, 1L, "food", 8L, "card")
+            .build();
+
+    }
+
+// -------------------------------------------------- sum -------------------------------------------------- 
+
+    @Test
+    public void WhenSumCents_ThenIncludeFromAndExcludeTo() throws Exception {
+
+        assertThat(columns.sumCents(LocalDate.of(2025, 1, 1), LocalDate.of(2025, 3, 2))).isEqualTo(2_590 + 440 + 4_010);
+        assertThat(columns.sumCents(LocalDate.of(2020, 1, 1), LocalDate.of(2030, 1, 1))).isEqualTo(8_340);
+        assertThat(columns.sumCents(LocalDate.of(2025, 2, 1), LocalDate.of(2025, 3, 1))).isZero();
+
+    }
+
+    @Test
+    public void WhenSumCentsByTag_ThenFilterOnTagInsideRange() throws Exception {
+
+        assertThat(columns.sumCentsByTag(LocalDate.of(2025, 1, 1), LocalDate.of(2026, 1, 1), 1L)).isEqualTo(2_590 + 300);
+        assertThat(columns.sumCentsByTag(LocalDate.of(2025, 1, 1), LocalDate.of(2026, 1, 1), 99L)).isZero();
+
+    }
+
+    @Test
+    public void WhenSumCentsByPayment_ThenFilterOnPaymentInsideRange() throws Exception {
+
+        assertThat(columns.sumCentsByPayment(LocalDate.of(2025, 1, 1), LocalDate.of(2026, 1, 1), 8L)).isEqualTo(4_010 + 300);
+
+    }
+
+// -------------------------------------------------- group by -------------------------------------------------- 
+
+    @Test
+    public void WhenGroupByMonthAndTag_ThenSumEveryCellOfTheWindow() throws Exception {
+
+        MonthGrid grid = columns.groupByMonthAndTag(YearMonth.of(2025, 1), YearMonth.of(2025, 3));
+
+        assertThat(grid.monthCount()).isEqualTo(3);
+        assertThat(grid.cardinality()).isEqualTo(columns.tagCount());
+
+        // code 0 is "no tag", codes follow first appearance: food, travel
+        assertThat(grid.month(0)).isEqualTo(YearMonth.of(2025, 1));
+        assertThat(grid.cents(0, 0)).isEqualTo(440);
+        assertThat(grid.cents(0, 1)).isEqualTo(2_590);
+        assertThat(grid.cents(0, 2)).isEqualTo(4_010);
+        assertThat(grid.count(1, 1)).isZero();
+        assertThat(grid.cents(2, 1)).isEqualTo(300);
+        assertThat(columns.tagName(2)).isEqualTo("travel");
+
+    }
+
+    @Test
+    public void WhenGroupByMonthAndPayment_ThenNoneIsCodeZero() throws Exception {
+
+        MonthGrid grid = columns.groupByMonthAndPayment(YearMonth.of(2024, 12), YearMonth.of(2024, 12));
+
+        assertThat(grid.cents(0, 0)).isEqualTo(1_000);
+        assertThat(columns.paymentName(0)).isNull();
+
+    }
+
+// -------------------------------------------------- builder -------------------------------------------------- 
+
+    @Test
+    public void WhenAddOutOfDateOrder_ThenThrowIllegalArgumentException() throws Exception {
+
+        SpendColumns.Builder builder = SpendColumns.builder().add(LocalDate.of(2025, 1, 2), 100, null, null, null, null);
+
+        assertThrows(IllegalArgumentException.class, () -> builder.add(LocalDate.of(2025, 1, 1), 100, null, null, null, null));
+
+    }
+
+    @Test
+    public void WhenAddMoreRowsThanInitialCapacity_ThenKeepEveryRow() throws Exception {
+
+        SpendColumns.Builder builder = SpendColumns.builder();
+
+        for(int i = 0; i < 1_000; i++) {
+            builder.add(LocalDate.of(2025, 1, 1).plusDays(i / 10), 1, (long) (i % 40), "tag " + (i % 40), null, null);
+        }
+
+        SpendColumns built = builder.build();
+
+        assertThat(built.size()).isEqualTo(1_000);
+        assertThat(built.tagCount()).isEqualTo(41);
+        assertThat(built.sumCents(LocalDate.MIN, LocalDate.of(3000, 1, 1))).isEqualTo(1_000);
+
+    }
+
+}
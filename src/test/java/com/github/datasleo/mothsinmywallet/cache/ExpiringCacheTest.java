@@ -0,0 +1,183 @@
+package com.github.datasleo.mothsinmywallet.cache;
+
+import java.time.Clock;
+import java.time.Duration;
+import java.time.Instant;
+import java.time.ZoneId;
+import java.time.ZoneOffset;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertNull;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+import org.junit.jupiter.api.Test;
+
+public class ExpiringCacheTest {
+
+    @Test
+    public void WhenGetAfterPut_MustReturnValueAndCountHit() throws Exception {
+
+        ExpiringCache<String, Long> cache = new ExpiringCache<>(10, Duration.ofMinutes(1));
+
+        cache.put("foo", 1L);
+
+        assertEquals(1L, cache.get("foo"));
+        assertNull(cache.get("bar"));
+        assertEquals(1L, cache.getHitCount());
+        assertEquals(1L, cache.getMissCount());
+
+    }
+
+    @Test
+    public void WhenMaxSizeIsExceeded_MustEvictLeastRecentlyUsed() throws Exception {
+
+        ExpiringCache<String, Long> cache = new ExpiringCache<>(2, Duration.ofMinutes(1));
+
+        cache.put("foo", 1L);
+        cache.put("bar", 2L);
+        cache.get("foo");
+        cache.put("baz", 3L);
+
+        assertEquals(2, cache.size());
+        assertEquals(1L, cache.get("foo"));
+        assertNull(cache.get("bar"));
+        assertEquals(1L, cache.getEvictionCount());
+
+    }
+
+    @Test
+    public void WhenTtlHasPassed_MustExpireEntry() throws Exception {
+
+        MutableClock clock = new MutableClock();
+        ExpiringCache<String, Long> cache = new ExpiringCache<>(10, Duration.ofSeconds(30), clock);
+
+        cache.put("foo", 1L);
+        clock.advance(Duration.ofSeconds(29));
+
+        assertEquals(1L, cache.get("foo"));
+
+        clock.advance(Duration.ofSeconds(1));
+
+        assertNull(cache.get("foo"));
+        assertEquals(0, cache.size());
+
+    }
+
+    @Test
+    public void WhenComputeIfAbsent_MustLoadOnlyOnMiss() throws Exception {
+
+        ExpiringCache<String, Long> cache = new ExpiringCache<>(10, Duration.ofMinutes(1));
+        AtomicInteger loads = new AtomicInteger();
+
+        cache.computeIfAbsent("foo", key -> (long) loads.incrementAndGet());
+        cache.computeIfAbsent("foo", key -> (long) loads.incrementAndGet());
+
+        assertEquals(1, loads.get());
+
+    }
+
+    @Test
+    public void WhenInvalidate_MustRemoveEntry() throws Exception {
+
+        ExpiringCache<String, Long> cache = new ExpiringCache<>(10, Duration.ofMinutes(1));
+
+        cache.put("foo", 1L);
+        cache.invalidate("foo");
+
+        assertNull(cache.get("foo"));
+
+    }
+
+    @Test
+    public void WhenInvalidatedWhileLoading_MustNotStoreStaleValue() throws Exception {
+
+        ExpiringCache<String, Long> cache = new ExpiringCache<>(10, Duration.ofMinutes(1));
+        CountDownLatch loading = new CountDownLatch(1);
+        CountDownLatch evicted = new CountDownLatch(1);
+
+        // A slow read that started before a write...
+        CompletableFuture<Long> stale = CompletableFuture.supplyAsync(() -> cache.computeIfAbsent("foo", key -> {
+            loading.countDown();
+            await(evicted);
+            return 1L;
+        }));
+
+        // ...which evicts the key while the read is still loading.
+        assertTrue(loading.await(5, TimeUnit.SECONDS));
+        cache.invalidate("foo");
+        evicted.countDown();
+
+        assertEquals(1L, stale.get(5, TimeUnit.SECONDS));
+        assertNull(cache.get("foo"));
+        assertEquals(2L, cache.computeIfAbsent("foo", key -> 2L));
+        assertEquals(2L, cache.get("foo"));
+
+    }
+
+    @Test
+    public void WhenInvalidateAllWhileLoading_MustNotStoreStaleValue() throws Exception {
+
+        ExpiringCache<String, Long> cache = new ExpiringCache<>(10, Duration.ofMinutes(1));
+        CountDownLatch loading = new CountDownLatch(1);
+        CountDownLatch evicted = new CountDownLatch(1);
+
+        CompletableFuture<Long> stale = CompletableFuture.supplyAsync(() -> cache.computeIfAbsent("foo", key -> {
+            loading.countDown();
+            await(evicted);
+            return 1L;
+        }));
+
+        assertTrue(loading.await(5, TimeUnit.SECONDS));
+        cache.invalidateAll();
+        evicted.countDown();
+
+        assertEquals(1L, stale.get(5, TimeUnit.SECONDS));
+        assertEquals(0, cache.size());
+
+    }
+
+    @Test
+    public void WhenMaxSizeIsNotPositive_MustThrowIllegalArgumentException() throws Exception {
+
+        assertThrows(IllegalArgumentException.class, () -> new ExpiringCache<String, Long>(0, Duration.ofMinutes(1)));
+
+    }
+
+    private static void await(CountDownLatch latch) {
+        try {
+            latch.await(5, TimeUnit.SECONDS);
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+        }
+    }
+
+    private static class MutableClock extends Clock {
+
+        private Instant now = Instant.EPOCH;
+
+        void advance(Duration duration) {
+            now = now.plus(duration);
+        }
+
+        @Override
+        public ZoneId getZone() {
+            return ZoneOffset.UTC;
+        }
+
+        @Override
+        public Clock withZone(ZoneId zone) {
+            return this;
+        }
+
+        @Override
+        public Instant instant() {
+            return now;
+        }
+
+    }
+
+}
@@ -0,0 +1,124 @@
+package com.github.datasleo.mothsinmywallet.controller;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.autoconfigure.jdbc.AutoConfigureTestDatabase;
+import org.springframework.boot.test.autoconfigure.web.servlet.AutoConfigureMockMvc;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.jdbc.core.JdbcTemplate;
+import static org.springframework.security.test.web.servlet.request.SecurityMockMvcRequestPostProcessors.csrf;
+import static org.springframework.security.test.web.servlet.request.SecurityMockMvcRequestPostProcessors.user;
+import org.springframework.test.web.servlet.MockMvc;
+import static org.springframework.test.web.servlet.request.MockMvcRequestBuilders.get;
+import static org.springframework.test.web.servlet.request.MockMvcRequestBuilders.patch;
+import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.model;
+import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.status;
+
+import com.github.datasleo.mothsinmywallet.model.Account;
+import com.github.datasleo.mothsinmywallet.model.PaymentMethod;
+import com.github.datasleo.mothsinmywallet.model.Tag;
+import com.github.datasleo.mothsinmywallet.repository.AccountRepository;
+import com.github.datasleo.mothsinmywallet.repository.PaymentMethodRepository;
+import com.github.datasleo.mothsinmywallet.repository.TagRepository;
+import com.github.datasleo.mothsinmywallet.security.AccountUserDetails;
+
+// The whole request path, with open-session-in-view and the second-level cache as the running
+// application has them: an edit posted through the controller must reach the database.
+@SpringBootTest(properties = "app.security.bcrypt.cost=4")
+@AutoConfigureMockMvc
+@AutoConfigureTestDatabase
+public class EditThroughControllerTest {
+
+    @Autowired
+    private MockMvc mockMvc;
+
+    @Autowired
+    private AccountRepository accountRepository;
+
+    @Autowired
+    private TagRepository tagRepository;
+
+    @Autowired
+    private PaymentMethodRepository paymentRepository;
+
+    @Autowired
+    private JdbcTemplate jdbcTemplate;
+
+    private Account account;
+    private AccountUserDetails principal;
+
+    @BeforeEach
+    public void setup() {
+        account = accountRepository.save(new Account("foo@foo.com", "hashed_password", "foo"));
+        principal = AccountUserDetails.from(account);
+    }
+
+    @AfterEach
+    public void cleanup() {
+        tagRepository.deleteAllInBatch();
+        paymentRepository.deleteAllInBatch();
+        accountRepository.deleteAllInBatch();
+    }
+
+    @Test
+    public void WhenPatchTag_ThenTheNewValuesAreStored() throws Exception {
+
+        // ARRANGE
+        Tag tag = tagRepository.save(new Tag("service", "service description", account));
+
+        // Puts the tag in the second-level cache, as opening the edit page does.
+        mockMvc.perform(get("/tag-manager/" + tag.getId() + "/edit").with(user(principal)))
+            .andExpect(status().isOk());
+
+
+        // ACT
+        mockMvc.perform(patch("/tag-manager/" + tag.getId())
+                .with(user(principal))
+                .with(csrf())
+                .param("tagName", "sport")
+                .param("tagDescription", "sport description"))
+            .andExpect(status().isOk())
+            .andExpect(model().attribute("success", "Tag was updated with success."));
+
+
+        // ASSERT
+        assertThat(jdbcTemplate.queryForMap("SELECT tag_name, tag_description FROM tag_table WHERE id = ?", tag.getId()))
+            .containsEntry("TAG_NAME", "sport")
+            .containsEntry("TAG_DESCRIPTION", "sport description");
+
+        assertThat(tagRepository.findById(tag.getId())).get().extracting(Tag::getTagName).isEqualTo("sport");
+
+    }
+
+    @Test
+    public void WhenPatchPaymentMethod_ThenTheNewValuesAreStored() throws Exception {
+
+        // ARRANGE
+        PaymentMethod payment = paymentRepository.save(new PaymentMethod("credit card", "credit card description", account));
+
+        mockMvc.perform(get("/payment-method/edit/" + payment.getId()).with(user(principal)))
+            .andExpect(status().isOk());
+
+
+        // ACT
+        mockMvc.perform(patch("/payment-method/edit/" + payment.getId())
+                .with(user(principal))
+                .with(csrf())
+                .param("paymentName", "pix")
+                .param("paymentDescription", "pix description"))
+            .andExpect(status().isOk());
+
+
+        // ASSERT
+        assertThat(jdbcTemplate.queryForMap("SELECT payment_name, payment_description FROM payment_method_table WHERE id = ?", payment.getId()))
+            .containsEntry("PAYMENT_NAME", "pix")
+            .containsEntry("PAYMENT_DESCRIPTION", "pix description");
+
+        assertThat(paymentRepository.findById(payment.getId())).get().extracting(PaymentMethod::getPaymentName).isEqualTo("pix");
+
+    }
+
+}
@@ -0,0 +1,161 @@
+package com.github.datasleo.mothsinmywallet.controller;
+
+import java.io.OutputStream;
+import java.nio.charset.StandardCharsets;
+
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.anyString;
+import static org.mockito.ArgumentMatchers.eq;
+import org.mockito.Mockito;
+import static org.mockito.Mockito.doAnswer;
+import static org.mockito.Mockito.never;
+import static org.mockito.Mockito.times;
+import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.when;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.autoconfigure.web.servlet.AutoConfigureMockMvc;
+import org.springframework.boot.test.autoconfigure.web.servlet.WebMvcTest;
+import org.springframework.boot.test.context.TestConfiguration;
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Import;
+import org.springframework.http.HttpHeaders;
+import org.springframework.security.core.userdetails.User;
+import org.springframework.security.core.userdetails.UserDetailsService;
+import org.springframework.security.test.context.support.WithMockUser;
+import org.springframework.test.web.servlet.MockMvc;
+import org.springframework.test.web.servlet.MvcResult;
+import static org.springframework.test.web.servlet.request.MockMvcRequestBuilders.asyncDispatch;
+import static org.springframework.test.web.servlet.request.MockMvcRequestBuilders.get;
+import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.content;
+import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.header;
+import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.redirectedUrlPattern;
+import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.request;
+import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.status;
+
+import com.github.datasleo.mothsinmywallet.config.SecurityConfig;
+import com.github.datasleo.mothsinmywallet.service.AccountExportService;
+import com.github.datasleo.mothsinmywallet.service.AccountService;
+
+@WebMvcTest(ExportController.class)
+@Import({SecurityConfig.class, ExportControllerTest.TestConfig.class})
+@AutoConfigureMockMvc(addFilters=true)
+public class ExportControllerTest {
+
+    @Autowired
+    private MockMvc mockMvc;
+
+    @Autowired
+    private AccountExportService exportService;
+
+    @Autowired
+    private AccountService accountService;
+
+    @BeforeEach
+    public void setup() {
+        Mockito.reset(exportService);
+        Mockito.reset(accountService);
+    }
+
+    @Test
+    public void WhenExportTransactionsButUserIsNotAuthenticated_ThenRedirectToLoginPage() throws Exception {
+
+        // ACT & ASSERT
+        mockMvc
+            .perform(get("/export/transactions.csv"))
+            .andExpect(status().is3xxRedirection())
+            .andExpect(redirectedUrlPattern("**/login"));
+
+        verify(exportService, never()).writeTransactionsCsv(Mockito.anyLong(), any(OutputStream.class));
+
+    }
+
+    @Test
+    @WithMockUser
+    public void WhenExportTransactions_ThenStreamCsvAsAttachment() throws Exception {
+
+        // ARRANGE
+        when(accountService.getAccountIdByPrincipalName(anyString())).thenReturn(1L);
+
+        doAnswer(invocation -> {
+            OutputStream out = invocation.getArgument(1);
+            out.write("title,description,amount,date,tag,payment_method\n".getBytes(StandardCharsets.UTF_8));
+            return null;
+        }).when(exportService).writeTransactionsCsv(eq(1L), any(OutputStream.class));
+
+
+        // ACT
+        MvcResult result = mockMvc
+            .perform(get("/export/transactions.csv"))
+            .andExpect(request().asyncStarted())
+            .andReturn();
+
+
+        // ASSERT
+        mockMvc
+            .perform(asyncDispatch(result))
+            .andExpect(status().isOk())
+            .andExpect(header().string(HttpHeaders.CONTENT_DISPOSITION, "attachment; filename=\"transactions.csv\""))
+            .andExpect(content().contentType("text/csv;charset=UTF-8"))
+            .andExpect(content().string("title,description,amount,date,tag,payment_method\n"));
+
+        verify(exportService, times(1)).writeTransactionsCsv(eq(1L), any(OutputStream.class));
+
+    }
+
+    @Test
+    @WithMockUser
+    public void WhenExportAccountJson_ThenStreamJsonAsAttachment() throws Exception {
+
+        // ARRANGE
+        when(accountService.getAccountIdByPrincipalName(anyString())).thenReturn(1L);
+
+        doAnswer(invocation -> {
+            OutputStream out = invocation.getArgument(1);
+            out.write("{}".getBytes(StandardCharsets.UTF_8));
+            return null;
+        }).when(exportService).writeAccountJson(eq(1L), any(OutputStream.class));
+
+
+        // ACT
+        MvcResult result = mockMvc
+            .perform(get("/export/account.json"))
+            .andExpect(request().asyncStarted())
+            .andReturn();
+
+
+        // ASSERT
+        mockMvc
+            .perform(asyncDispatch(result))
+            .andExpect(status().isOk())
+            .andExpect(header().string(HttpHeaders.CONTENT_DISPOSITION, "attachment; filename=\"account.json\""))
+            .andExpect(content().string("{}"));
+
+    }
+
+    @TestConfiguration
+    static class TestConfig {
+
+        @Bean
+        public AccountExportService exportService() {
+            return Mockito.mock(AccountExportService.class);
+        }
+
+        @Bean
+        public AccountService accountService() {
+            return Mockito.mock(AccountService.class);
+        }
+
+        @Bean
+        public UserDetailsService userDetailsService() {
+            return username -> User
+                .withUsername(username)
+                .password("hashed_password")
+                .roles("USER")
+                .build();
+        }
+
+    }
+
+}
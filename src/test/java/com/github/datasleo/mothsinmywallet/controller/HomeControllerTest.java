@@ -1,9 +1,22 @@
 package com.github.datasleo.mothsinmywallet.controller;
 
-import java.util.Optional;
-
+import java.math.BigDecimal;
+import java.time.LocalDate;
+import java.time.LocalDateTime;
+import java.time.YearMonth;
+import java.util.List;
+
+import static org.hamcrest.Matchers.containsString;
+import org.junit.jupiter.api.BeforeEach;
 import org.junit.jupiter.api.Test;
 import org.mockito.Mockito;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.anyInt;
+import static org.mockito.ArgumentMatchers.anyLong;
+import static org.mockito.ArgumentMatchers.anyString;
+import static org.mockito.ArgumentMatchers.eq;
+import static org.mockito.Mockito.never;
+import static org.mockito.Mockito.verify;
 import static org.mockito.Mockito.when;
 import org.springframework.beans.factory.annotation.Autowired;
 import org.springframework.boot.test.autoconfigure.web.servlet.AutoConfigureMockMvc;
@@ -13,16 +26,23 @@ import org.springframework.context.annotation.Bean;
 import org.springframework.context.annotation.Import;
 import org.springframework.security.core.userdetails.UserDetailsService;
 import org.springframework.security.test.context.support.WithMockUser;
+import static org.springframework.security.test.web.servlet.request.SecurityMockMvcRequestPostProcessors.user;
 import org.springframework.test.web.servlet.MockMvc;
 import static org.springframework.test.web.servlet.request.MockMvcRequestBuilders.get;
+import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.content;
 import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.model;
+import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.redirectedUrl;
 import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.redirectedUrlPattern;
 import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.status;
 import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.view;
 
 import com.github.datasleo.mothsinmywallet.config.SecurityConfig;
-import com.github.datasleo.mothsinmywallet.model.Account;
-import com.github.datasleo.mothsinmywallet.repository.AccountRepository;
+import com.github.datasleo.mothsinmywallet.dto.DashboardSummaryDto;
+import com.github.datasleo.mothsinmywallet.dto.MonthlyTotalDto;
+import com.github.datasleo.mothsinmywallet.security.AccountUserDetails;
+import com.github.datasleo.mothsinmywallet.service.AccountService;
+import com.github.datasleo.mothsinmywallet.service.DashboardService;
+import com.github.datasleo.mothsinmywallet.service.MonthlySpendService;
 
 
 @WebMvcTest(HomeController.class)
@@ -34,8 +54,18 @@ public class HomeControllerTest {
     private MockMvc mockMvc;
 
     @Autowired
-    @SuppressWarnings("unused")
-    private AccountRepository accountRepository; 
+    private AccountService accountService;
+
+    @Autowired
+    private DashboardService dashboardService;
+
+    @Autowired
+    private MonthlySpendService monthlySpendService;
+
+    @BeforeEach
+    public void setup() {
+        Mockito.reset(accountService, dashboardService, monthlySpendService);
+    }
 
 
     @Test
@@ -61,14 +91,68 @@ public class HomeControllerTest {
     @WithMockUser(username = "testUser", roles = "USER")
     public void WhenAuthenticated_MustReturnHomeView() throws Exception {
 
-        when(accountRepository.findByUsername("testUser"))
-            .thenReturn(Optional.of(new Account("test@test.com", "hashed_password", "testUser")));
+        when(accountService.getAccountIdByPrincipalName("testUser")).thenReturn(1L);
 
         mockMvc
             .perform(get("/home"))
             .andExpect(status().isOk())
             .andExpect(view().name("auth/home"))
-            .andExpect(model().attributeExists("username"));
+            .andExpect(model().attribute("username", "testUser"));
+
+    }
+
+    @Test
+    @WithMockUser(username = "testUser", roles = "USER")
+    public void WhenAuthenticated_MustShowMonthlyTotalsFromRollups() throws Exception {
+
+        List<MonthlyTotalDto> totals = List.of(new MonthlyTotalDto(LocalDate.of(2025, 1, 1), new BigDecimal("30.30"), 2L));
+
+        when(accountService.getAccountIdByPrincipalName("testUser")).thenReturn(1L);
+        when(monthlySpendService.getMonthlyTotals(eq(1L), any(YearMonth.class), eq(12))).thenReturn(totals);
+
+        mockMvc
+            .perform(get("/home"))
+            .andExpect(status().isOk())
+            .andExpect(model().attribute("monthlyTotals", totals));
+
+    }
+
+    @Test
+    public void WhenAuthenticatedByLogin_MustRenderFromPrincipalWithoutAnyLookup() throws Exception {
+
+        // ARRANGE
+        AccountUserDetails principal = new AccountUserDetails(7L, "test@test.com", "testUser", null);
+        DashboardSummaryDto summary = new DashboardSummaryDto(3L, 2L, 15L, LocalDateTime.of(2025, 1, 10, 12, 0));
+
+        when(dashboardService.getSummary(7L)).thenReturn(summary);
+
+        // ACT & ASSERT
+        mockMvc
+            .perform(get("/home").with(user(principal)))
+            .andExpect(status().isOk())
+            .andExpect(model().attribute("username", "testUser"))
+            .andExpect(model().attribute("summary", summary))
+            .andExpect(content().string(containsString("15</span> transactions in the last 30 days")));
+
+        verify(accountService, never()).getAccountIdByPrincipalName(anyString());
+
+    }
+
+    @Test
+    @WithMockUser(username = "deletedUser", roles = "USER")
+    public void WhenPrincipalHasNoAccount_MustRedirectToLogin() throws Exception {
+
+        // ARRANGE
+        when(accountService.getAccountIdByPrincipalName("deletedUser")).thenReturn(null);
+
+        // ACT & ASSERT
+        mockMvc
+            .perform(get("/home"))
+            .andExpect(status().is3xxRedirection())
+            .andExpect(redirectedUrl("/login"));
+
+        verify(dashboardService, never()).getSummary(anyLong());
+        verify(monthlySpendService, never()).getMonthlyTotals(anyLong(), any(YearMonth.class), anyInt());
 
     }
 
@@ -76,8 +160,18 @@ public class HomeControllerTest {
     static class TestConfig {
         
         @Bean
-        public AccountRepository accountRepository() {
-            return Mockito.mock(AccountRepository.class);
+        public DashboardService dashboardService() {
+            return Mockito.mock(DashboardService.class);
+        }
+
+        @Bean
+        public MonthlySpendService monthlySpendService() {
+            return Mockito.mock(MonthlySpendService.class);
+        }
+
+        @Bean
+        public AccountService accountService() {
+            return Mockito.mock(AccountService.class);
         }
 
         @Bean
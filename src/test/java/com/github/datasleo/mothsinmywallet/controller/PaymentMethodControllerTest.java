@@ -12,8 +12,10 @@ import static org.mockito.ArgumentMatchers.any;
 import static org.mockito.ArgumentMatchers.anyLong;
 import static org.mockito.ArgumentMatchers.anyString;
 import static org.mockito.ArgumentMatchers.eq;
+import static org.mockito.ArgumentMatchers.isNull;
 import org.mockito.Mockito;
 import static org.mockito.Mockito.doThrow;
+import static org.mockito.Mockito.never;
 import static org.mockito.Mockito.times;
 import static org.mockito.Mockito.verify;
 import static org.mockito.Mockito.when;
@@ -23,11 +25,14 @@ import org.springframework.boot.test.autoconfigure.web.servlet.WebMvcTest;
 import org.springframework.boot.test.context.TestConfiguration;
 import org.springframework.context.annotation.Bean;
 import org.springframework.context.annotation.Import;
+import org.springframework.data.domain.ScrollPosition;
+import org.springframework.data.domain.Window;
 import org.springframework.http.MediaType;
 import org.springframework.security.core.userdetails.User;
 import org.springframework.security.core.userdetails.UserDetailsService;
 import org.springframework.security.test.context.support.WithMockUser;
 import static org.springframework.security.test.web.servlet.request.SecurityMockMvcRequestPostProcessors.csrf;
+import static org.springframework.security.test.web.servlet.request.SecurityMockMvcRequestPostProcessors.user;
 import org.springframework.test.web.servlet.MockMvc;
 import static org.springframework.test.web.servlet.request.MockMvcRequestBuilders.delete;
 import static org.springframework.test.web.servlet.request.MockMvcRequestBuilders.get;
@@ -40,10 +45,12 @@ import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.
 
 import com.github.datasleo.mothsinmywallet.config.SecurityConfig;
 import com.github.datasleo.mothsinmywallet.dto.PaymentMethodDto;
+import com.github.datasleo.mothsinmywallet.dto.PaymentMethodSummaryDto;
 import com.github.datasleo.mothsinmywallet.exception.PaymentMethodAlreadyExistsException;
 import com.github.datasleo.mothsinmywallet.exception.PaymentMethodNotFoundOrNotAuthorizedException;
 import com.github.datasleo.mothsinmywallet.exception.UnauthorizedAccountException;
 import com.github.datasleo.mothsinmywallet.model.PaymentMethod;
+import com.github.datasleo.mothsinmywallet.security.AccountUserDetails;
 import com.github.datasleo.mothsinmywallet.service.AccountService;
 import com.github.datasleo.mothsinmywallet.service.PaymentMethodService;
 
@@ -84,6 +91,10 @@ public class PaymentMethodControllerTest {
     @WithMockUser
     public void WhenGetPaymentMethodPage_ThenReturnTheViewPaymentMethodMan() throws Exception {
 
+        // ARRANGE
+        when(paymentService.getPaymentPageByAccountId(anyLong(), isNull(), eq(20))).thenReturn(Window.from(List.of(), ScrollPosition::offset));
+
+
         // ACT & ASSERT
         mockMvc
             .perform(get("/payment-method"))
@@ -97,13 +108,13 @@ public class PaymentMethodControllerTest {
     public void WhenGetPaymentMethodPageWithModel_TheReturnViewPaymentsMethodAndModel() throws Exception {
 
         // ARRANGE
-        List<PaymentMethod> listOfPayment = List.of(
-            new PaymentMethod("credit card", "credit card description", null),
-            new PaymentMethod("cash", "cash description", null)
+        List<PaymentMethodSummaryDto> listOfPayment = List.of(
+            new PaymentMethodSummaryDto(1L, "credit card", "credit card description"),
+            new PaymentMethodSummaryDto(2L, "cash", "cash description")
         );
 
         when(accountService.getAccountIdByPrincipalName(anyString())).thenReturn(1L);
-        when(paymentService.getAllPaymentsByAccountId(1L)).thenReturn(listOfPayment);
+        when(paymentService.getPaymentPageByAccountId(1L, null, 20)).thenReturn(Window.from(listOfPayment, ScrollPosition::offset));
 
 
         // ACT & ASSERT
@@ -121,7 +132,54 @@ public class PaymentMethodControllerTest {
             )));
 
         verify(accountService, times(1)).getAccountIdByPrincipalName(anyString());
-        verify(paymentService, times(1)).getAllPaymentsByAccountId(anyLong());
+        verify(paymentService, times(1)).getPaymentPageByAccountId(anyLong(), isNull(), eq(20));
+
+    }
+
+    @Test
+    @WithMockUser
+    public void WhenGetPaymentMethodPageWithMorePages_ThenExposeLastIdAsNextCursor() throws Exception {
+
+        // ARRANGE
+        List<PaymentMethodSummaryDto> listOfPayment = List.of(
+            new PaymentMethodSummaryDto(21L, "credit card", "credit card description"),
+            new PaymentMethodSummaryDto(22L, "cash", "cash description")
+        );
+
+        when(accountService.getAccountIdByPrincipalName(anyString())).thenReturn(1L);
+        when(paymentService.getPaymentPageByAccountId(1L, 20L, 2)).thenReturn(Window.from(listOfPayment, ScrollPosition::offset, true));
+
+
+        // ACT & ASSERT
+        mockMvc
+            .perform(get("/payment-method").param("after", "20").param("size", "2"))
+            .andExpect(status().isOk())
+            .andExpect(view().name("auth/payment_method_man"))
+            .andExpect(model().attribute("payments_method", hasSize(2)))
+            .andExpect(model().attribute("nextAfter", 22L))
+            .andExpect(model().attribute("size", 2));
+
+        verify(paymentService, times(1)).getPaymentPageByAccountId(1L, 20L, 2);
+
+    }
+
+    @Test
+    public void WhenGetPaymentMethodPageWithAccountPrincipal_ThenUseAccountIdFromPrincipal() throws Exception {
+
+        // ARRANGE
+        AccountUserDetails principal = new AccountUserDetails(7L, "foo@foo.com", "foo", "hashed_password");
+
+        when(paymentService.getPaymentPageByAccountId(7L, null, 20)).thenReturn(Window.from(List.of(), ScrollPosition::offset));
+
+
+        // ACT & ASSERT
+        mockMvc
+            .perform(get("/payment-method").with(user(principal)))
+            .andExpect(status().isOk())
+            .andExpect(view().name("auth/payment_method_man"));
+
+        verify(paymentService, times(1)).getPaymentPageByAccountId(eq(7L), isNull(), eq(20));
+        verify(accountService, never()).getAccountIdByPrincipalName(anyString());
 
     }
 
@@ -449,10 +507,7 @@ public class PaymentMethodControllerTest {
     public void WhenPatchPaymentMethodEditPage_ThenReturnModelWithSuccess() throws Exception {
 
         // ARRANGE
-        PaymentMethod mockPayment = new PaymentMethod("credit card", "description", null);
-
         when(accountService.getAccountIdByPrincipalName(anyString())).thenReturn(1L);
-        when(paymentService.updatePayment(anyLong(), anyLong(), any(PaymentMethodDto.class))).thenReturn(mockPayment);
 
 
         // ACT & ASSERT
@@ -545,10 +600,7 @@ public class PaymentMethodControllerTest {
     public void WhenDeletePaymentMethodPage_ThenReturnModelWithSuccess() throws Exception {
         
         // ARRANGE
-        PaymentMethod mockPayment = new PaymentMethod("credit card", "description", null);
-
         when(accountService.getAccountIdByPrincipalName(anyString())).thenReturn(1L);
-        when(paymentService.deletePayment(anyLong(), anyLong())).thenReturn(mockPayment);
         
 
         // ACT & ASSERT
@@ -559,7 +611,7 @@ public class PaymentMethodControllerTest {
             .andExpect(status().isOk())
             .andExpect(view().name("auth/payment_method_man"))
             .andExpect(model().attributeExists("success"))
-            .andExpect(model().attribute("success", "Payment method 'credit card' was deleted with success."));
+            .andExpect(model().attribute("success", "Payment method was deleted with success."));
 
         verify(accountService, times(1)).getAccountIdByPrincipalName(anyString());
         verify(paymentService, times(1)).deletePayment(anyLong(), anyLong());
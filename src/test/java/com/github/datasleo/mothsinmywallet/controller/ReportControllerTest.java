@@ -0,0 +1,149 @@
+package com.github.datasleo.mothsinmywallet.controller;
+
+import java.math.BigDecimal;
+import java.time.LocalDate;
+import java.time.YearMonth;
+import java.util.List;
+
+import static org.hamcrest.Matchers.containsString;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.anyLong;
+import static org.mockito.ArgumentMatchers.anyString;
+import org.mockito.Mockito;
+import static org.mockito.Mockito.never;
+import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.when;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.autoconfigure.web.servlet.AutoConfigureMockMvc;
+import org.springframework.boot.test.autoconfigure.web.servlet.WebMvcTest;
+import org.springframework.boot.test.context.TestConfiguration;
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Import;
+import org.springframework.security.core.userdetails.User;
+import org.springframework.security.core.userdetails.UserDetailsService;
+import org.springframework.security.test.context.support.WithMockUser;
+import org.springframework.test.web.servlet.MockMvc;
+import static org.springframework.test.web.servlet.request.MockMvcRequestBuilders.get;
+import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.content;
+import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.model;
+import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.redirectedUrlPattern;
+import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.status;
+import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.view;
+
+import com.github.datasleo.mothsinmywallet.config.SecurityConfig;
+import com.github.datasleo.mothsinmywallet.dto.MonthlyGroupSpendDto;
+import com.github.datasleo.mothsinmywallet.service.AccountService;
+import com.github.datasleo.mothsinmywallet.service.SpendAnalyticsService;
+
+@WebMvcTest(ReportController.class)
+@Import({SecurityConfig.class, ReportControllerTest.TestConfig.class})
+@AutoConfigureMockMvc(addFilters=true)
+public class ReportControllerTest {
+
+    @Autowired
+    private MockMvc mockMvc;
+
+    @Autowired
+    private SpendAnalyticsService spendAnalyticsService;
+
+    @Autowired
+    private AccountService accountService;
+
+    @BeforeEach
+    public void setup() {
+        Mockito.reset(spendAnalyticsService);
+        Mockito.reset(accountService);
+    }
+
+    @Test
+    public void WhenGetReportButUserIsNotAuthenticated_ThenRedirectToLoginPage() throws Exception {
+
+        // ACT & ASSERT
+        mockMvc
+            .perform(get("/report"))
+            .andExpect(status().is3xxRedirection())
+            .andExpect(redirectedUrlPattern("**/login"));
+
+        verify(spendAnalyticsService, never()).getTotal(anyLong(), any(LocalDate.class), any(LocalDate.class));
+
+    }
+
+    @Test
+    @WithMockUser
+    public void WhenGetReportForRange_ThenShowTotalAndSpendPerTagAndPaymentMethod() throws Exception {
+
+        // ARRANGE
+        YearMonth from = YearMonth.of(2025, 1);
+        YearMonth to = YearMonth.of(2025, 3);
+
+        List<MonthlyGroupSpendDto> perTag = List.of(new MonthlyGroupSpendDto(LocalDate.of(2025, 2, 1), "food", new BigDecimal("25.90"), 1L));
+        List<MonthlyGroupSpendDto> perPayment = List.of(new MonthlyGroupSpendDto(LocalDate.of(2025, 2, 1), null, new BigDecimal("25.90"), 1L));
+
+        when(accountService.getAccountIdByPrincipalName(anyString())).thenReturn(1L);
+        when(spendAnalyticsService.getTotal(1L, LocalDate.of(2025, 1, 1), LocalDate.of(2025, 4, 1))).thenReturn(new BigDecimal("25.90"));
+        when(spendAnalyticsService.getSpendPerTagPerMonth(1L, from, to)).thenReturn(perTag);
+        when(spendAnalyticsService.getSpendPerPaymentMethodPerMonth(1L, from, to)).thenReturn(perPayment);
+
+
+        // ACT & ASSERT
+        mockMvc
+            .perform(get("/report").param("from", "2025-01").param("to", "2025-03"))
+            .andExpect(status().isOk())
+            .andExpect(view().name("auth/report"))
+            .andExpect(model().attribute("total", new BigDecimal("25.90")))
+            .andExpect(model().attribute("spendPerTag", perTag))
+            .andExpect(model().attribute("spendPerPaymentMethod", perPayment))
+            .andExpect(content().string(containsString("<td>food</td>")))
+            .andExpect(content().string(containsString("<td>No payment method</td>")));
+
+    }
+
+    @Test
+    @WithMockUser
+    public void WhenGetReportForHugeRange_ThenCapItToTheLastMonths() throws Exception {
+
+        // ARRANGE
+        YearMonth to = YearMonth.of(2025, 12);
+
+        when(accountService.getAccountIdByPrincipalName(anyString())).thenReturn(1L);
+        when(spendAnalyticsService.getTotal(anyLong(), any(LocalDate.class), any(LocalDate.class))).thenReturn(BigDecimal.ZERO);
+
+
+        // ACT & ASSERT
+        mockMvc
+            .perform(get("/report").param("from", "0001-01").param("to", "2025-12"))
+            .andExpect(status().isOk())
+            .andExpect(model().attribute("from", to.minusMonths(ReportController.MAX_MONTHS - 1)))
+            .andExpect(model().attribute("to", to));
+
+        verify(spendAnalyticsService).getSpendPerTagPerMonth(1L, to.minusMonths(ReportController.MAX_MONTHS - 1), to);
+
+    }
+
+    @TestConfiguration
+    static class TestConfig {
+
+        @Bean
+        public SpendAnalyticsService spendAnalyticsService() {
+            return Mockito.mock(SpendAnalyticsService.class);
+        }
+
+        @Bean
+        public AccountService accountService() {
+            return Mockito.mock(AccountService.class);
+        }
+
+        @Bean
+        public UserDetailsService userDetailsService() {
+            return username -> User
+                .withUsername(username)
+                .password("hashed_password")
+                .roles("USER")
+                .build();
+        }
+
+    }
+
+}
@@ -28,6 +28,7 @@ import com.github.datasleo.mothsinmywallet.config.SecurityConfig;
 import com.github.datasleo.mothsinmywallet.dto.SignUpDto;
 import com.github.datasleo.mothsinmywallet.exception.EmailAlreadyExistsException;
 import com.github.datasleo.mothsinmywallet.exception.PasswordAndRepeatPasswordAreNotEqualsException;
+import com.github.datasleo.mothsinmywallet.exception.PasswordHashingRejectedException;
 import com.github.datasleo.mothsinmywallet.exception.UsernameAlreadyExistsException;
 import com.github.datasleo.mothsinmywallet.service.AccountService;
 
@@ -135,6 +136,30 @@ public class SignUpControllerTest {
 
     }
 
+    @Test
+    public void WhenPostSignUpPathWhileHashingIsSaturated_MustReturnSignUpViewWithError() throws Exception {
+
+        String errorMessage = "Too many sign-ins right now, please try again in a moment.";
+
+        doThrow(new PasswordHashingRejectedException(errorMessage))
+            .when(accountService).createAccount(any(SignUpDto.class));
+
+        mockMvc
+            .perform(post("/signup")
+                .with(csrf())
+                .contentType(MediaType.APPLICATION_FORM_URLENCODED)
+                .param("email", "test@test.com")
+                .param("password", "12345678")
+                .param("repeatPassword", "12345678")
+                .param("username", "fooandbar123"))
+            .andExpect(status().isOk())
+            .andExpect(view().name("signup"))
+            .andExpect(model().attribute("error", errorMessage));
+
+        verify(accountService, times(1)).createAccount(any(SignUpDto.class));
+
+    }
+
     @Test
     public void WhenPostSignUpPath_MustRedirectToLoginPath() throws Exception {
 
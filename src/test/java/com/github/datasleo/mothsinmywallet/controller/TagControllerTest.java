@@ -13,8 +13,10 @@ import org.junit.jupiter.api.Test;
 import static org.mockito.ArgumentMatchers.any;
 import static org.mockito.ArgumentMatchers.anyString;
 import static org.mockito.ArgumentMatchers.eq;
+import static org.mockito.ArgumentMatchers.isNull;
 import org.mockito.Mockito;
 import static org.mockito.Mockito.doThrow;
+import static org.mockito.Mockito.never;
 import static org.mockito.Mockito.times;
 import static org.mockito.Mockito.verify;
 import static org.mockito.Mockito.when;
@@ -24,10 +26,13 @@ import org.springframework.boot.test.autoconfigure.web.servlet.WebMvcTest;
 import org.springframework.boot.test.context.TestConfiguration;
 import org.springframework.context.annotation.Bean;
 import org.springframework.context.annotation.Import;
+import org.springframework.data.domain.ScrollPosition;
+import org.springframework.data.domain.Window;
 import org.springframework.http.MediaType;
 import org.springframework.security.core.userdetails.UserDetailsService;
 import org.springframework.security.test.context.support.WithMockUser;
 import static org.springframework.security.test.web.servlet.request.SecurityMockMvcRequestPostProcessors.csrf;
+import static org.springframework.security.test.web.servlet.request.SecurityMockMvcRequestPostProcessors.user;
 import org.springframework.test.web.servlet.MockMvc;
 import static org.springframework.test.web.servlet.request.MockMvcRequestBuilders.delete;
 import static org.springframework.test.web.servlet.request.MockMvcRequestBuilders.get;
@@ -40,10 +45,12 @@ import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.
 
 import com.github.datasleo.mothsinmywallet.config.SecurityConfig;
 import com.github.datasleo.mothsinmywallet.dto.TagDto;
+import com.github.datasleo.mothsinmywallet.dto.TagSummaryDto;
 import com.github.datasleo.mothsinmywallet.exception.TagNameAlreadyExistsException;
 import com.github.datasleo.mothsinmywallet.exception.TagNotFoundOrNotAuthorizedException;
 import com.github.datasleo.mothsinmywallet.exception.UnauthorizedAccountException;
 import com.github.datasleo.mothsinmywallet.model.Tag;
+import com.github.datasleo.mothsinmywallet.security.AccountUserDetails;
 import com.github.datasleo.mothsinmywallet.service.AccountService;
 import com.github.datasleo.mothsinmywallet.service.TagService;
 
@@ -91,6 +98,7 @@ public class TagControllerTest {
         long mockAccountId = 1L;
 
         when(accountService.getAccountIdByPrincipalName(anyString())).thenReturn(mockAccountId);
+        when(tagService.getTagPageByAccountId(mockAccountId, null, 20)).thenReturn(Window.from(List.of(), ScrollPosition::offset));
 
 
         // ACT & ASSERT
@@ -99,7 +107,8 @@ public class TagControllerTest {
             .andExpect(status().isOk())
             .andExpect(view().name("auth/tag_manager"))
             .andExpect(model().attributeExists("tags"))
-            .andExpect(model().attribute("tags", hasSize(0)));
+            .andExpect(model().attribute("tags", hasSize(0)))
+            .andExpect(model().attributeDoesNotExist("nextAfter"));
 
         verify(accountService, times(1)).getAccountIdByPrincipalName(anyString());
 
@@ -114,16 +123,13 @@ public class TagControllerTest {
         String mockUsername = "testUser";
         long mockAccountId = 1L;
 
-        List<Tag> mockTags = Arrays.asList(
-            new Tag("service", "service description", null),
-            new Tag("food", "food description", null)
+        List<TagSummaryDto> mockTags = Arrays.asList(
+            new TagSummaryDto(1L, "service", "service description"),
+            new TagSummaryDto(2L, "food", "food description")
         );
 
-        mockTags.get(0).setId(1L);
-        mockTags.get(1).setId(2L);
-
         when(accountService.getAccountIdByPrincipalName(mockUsername)).thenReturn(mockAccountId);
-        when(tagService.getAllTagsByAccountId(mockAccountId)).thenReturn(mockTags);
+        when(tagService.getTagPageByAccountId(mockAccountId, null, 20)).thenReturn(Window.from(mockTags, ScrollPosition::offset));
 
 
         // ACT & ASSERT
@@ -141,7 +147,60 @@ public class TagControllerTest {
             )));
 
         verify(accountService, times(1)).getAccountIdByPrincipalName(anyString());
-        verify(tagService, times(1)).getAllTagsByAccountId(eq(mockAccountId));
+        verify(tagService, times(1)).getTagPageByAccountId(eq(mockAccountId), isNull(), eq(20));
+
+    }
+
+    @Test
+    @WithMockUser(username = "testUser", roles = "USER")
+    public void WhenGetTagPathWithMorePages_MustExposeLastIdAsNextCursor() throws Exception {
+
+
+        // ARRANGE
+        long mockAccountId = 1L;
+
+        List<TagSummaryDto> mockTags = Arrays.asList(
+            new TagSummaryDto(11L, "service", "service description"),
+            new TagSummaryDto(12L, "food", "food description")
+        );
+
+        when(accountService.getAccountIdByPrincipalName(anyString())).thenReturn(mockAccountId);
+        when(tagService.getTagPageByAccountId(mockAccountId, 10L, 2)).thenReturn(Window.from(mockTags, ScrollPosition::offset, true));
+
+
+        // ACT & ASSERT
+        mockMvc
+            .perform(get("/tag-manager").param("after", "10").param("size", "2"))
+            .andExpect(status().isOk())
+            .andExpect(view().name("auth/tag_manager"))
+            .andExpect(model().attribute("tags", hasSize(2)))
+            .andExpect(model().attribute("nextAfter", 12L))
+            .andExpect(model().attribute("size", 2));
+
+        verify(tagService, times(1)).getTagPageByAccountId(eq(mockAccountId), eq(10L), eq(2));
+
+    }
+
+    @Test
+    public void WhenGetTagPathWithAccountPrincipal_MustUseAccountIdFromPrincipal() throws Exception {
+
+
+        // ARRANGE
+        long mockAccountId = 7L;
+
+        AccountUserDetails principal = new AccountUserDetails(mockAccountId, "test@test.com", "testUser", "hashed_password");
+
+        when(tagService.getTagPageByAccountId(mockAccountId, null, 20)).thenReturn(Window.from(List.of(), ScrollPosition::offset));
+
+
+        // ACT & ASSERT
+        mockMvc
+            .perform(get("/tag-manager").with(user(principal)))
+            .andExpect(status().isOk())
+            .andExpect(view().name("auth/tag_manager"));
+
+        verify(tagService, times(1)).getTagPageByAccountId(eq(mockAccountId), isNull(), eq(20));
+        verify(accountService, never()).getAccountIdByPrincipalName(anyString());
 
     }
 
@@ -365,7 +424,6 @@ public class TagControllerTest {
         long mockAccountId = 1L;
 
         when(accountService.getAccountIdByPrincipalName(anyString())).thenReturn(mockAccountId);
-        when(tagService.updateTag(eq(mockTagId), eq(mockAccountId), any(TagDto.class))).thenReturn(any(Tag.class));
 
 
         // ACT & ASSERT
@@ -419,6 +477,38 @@ public class TagControllerTest {
 
     }
 
+    @Test
+    @WithMockUser(username = "testUser", roles = "USER")
+    public void WhenUpdateTagButTagNameAlreadyExists_MustReturnModelByTagNameAlreadyExistsException() throws Exception {
+
+
+        // ARRANGE
+        long mockTagId = 1L;
+        long mockAccountId = 1L;
+        
+        when(accountService.getAccountIdByPrincipalName(anyString())).thenReturn(mockAccountId);
+        
+
+        // ACT & ASSERT
+        doThrow(new TagNameAlreadyExistsException("Tag 'service' already exists in this account."))
+            .when(tagService)
+            .updateTag(eq(mockTagId), eq(mockAccountId), any(TagDto.class));
+        
+
+        mockMvc
+            .perform(patch("/tag-manager/1")
+                .with(csrf())
+                .contentType(MediaType.APPLICATION_FORM_URLENCODED)
+                .param("tagName", "service")
+                .param("tagDescription", "tag description"))
+            .andExpect(status().isOk())
+            .andExpect(view().name("auth/tag_manager"))
+            .andExpect(model().attribute("error", "Tag 'service' already exists in this account."));
+
+        verify(tagService, times(1)).updateTag(eq(mockTagId), eq(mockAccountId), any(TagDto.class));
+
+    }
+
     @TestConfiguration
     static class TestConfig {
         
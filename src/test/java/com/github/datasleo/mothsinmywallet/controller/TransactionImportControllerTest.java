@@ -0,0 +1,139 @@
+package com.github.datasleo.mothsinmywallet.controller;
+
+import java.io.Reader;
+
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.anyString;
+import static org.mockito.ArgumentMatchers.eq;
+import org.mockito.Mockito;
+import static org.mockito.Mockito.times;
+import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.when;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.autoconfigure.web.servlet.AutoConfigureMockMvc;
+import org.springframework.boot.test.autoconfigure.web.servlet.WebMvcTest;
+import org.springframework.boot.test.context.TestConfiguration;
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Import;
+import org.springframework.mock.web.MockMultipartFile;
+import org.springframework.security.core.userdetails.User;
+import org.springframework.security.core.userdetails.UserDetailsService;
+import org.springframework.security.test.context.support.WithMockUser;
+import static org.springframework.security.test.web.servlet.request.SecurityMockMvcRequestPostProcessors.csrf;
+import org.springframework.test.web.servlet.MockMvc;
+import static org.springframework.test.web.servlet.request.MockMvcRequestBuilders.get;
+import static org.springframework.test.web.servlet.request.MockMvcRequestBuilders.multipart;
+import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.model;
+import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.redirectedUrlPattern;
+import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.status;
+import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.view;
+
+import com.github.datasleo.mothsinmywallet.config.SecurityConfig;
+import com.github.datasleo.mothsinmywallet.dto.TransactionImportResultDto;
+import com.github.datasleo.mothsinmywallet.exception.InvalidCsvFileException;
+import com.github.datasleo.mothsinmywallet.service.AccountService;
+import com.github.datasleo.mothsinmywallet.service.TransactionImportService;
+
+@WebMvcTest(TransactionImportController.class)
+@Import({SecurityConfig.class, TransactionImportControllerTest.TestConfig.class})
+@AutoConfigureMockMvc(addFilters=true)
+public class TransactionImportControllerTest {
+
+    @Autowired
+    private MockMvc mockMvc;
+
+    @Autowired
+    private TransactionImportService importService;
+
+    @Autowired
+    private AccountService accountService;
+
+    private final MockMultipartFile csvFile = new MockMultipartFile(
+        "file", "transactions.csv", "text/csv", "title,amount,date\nlunch,25.90,2025-01-10\n".getBytes());
+
+    @BeforeEach
+    public void setup() {
+        Mockito.reset(importService);
+        Mockito.reset(accountService);
+    }
+
+    @Test
+    public void WhenGetImportPageButUserIsNotAuthenticated_ThenRedirectToLoginPage() throws Exception {
+
+        // ACT & ASSERT
+        mockMvc
+            .perform(get("/transaction/import"))
+            .andExpect(status().is3xxRedirection())
+            .andExpect(redirectedUrlPattern("**/login"));
+
+    }
+
+    @Test
+    @WithMockUser
+    public void WhenImportTransactions_ThenReturnImportResult() throws Exception {
+
+        // ARRANGE
+        TransactionImportResultDto result = new TransactionImportResultDto();
+        result.addImported(1);
+
+        when(accountService.getAccountIdByPrincipalName(anyString())).thenReturn(1L);
+        when(importService.importCsv(eq(1L), any(Reader.class))).thenReturn(result);
+
+
+        // ACT & ASSERT
+        mockMvc
+            .perform(multipart("/transaction/import").file(csvFile).with(csrf()))
+            .andExpect(status().isOk())
+            .andExpect(view().name("auth/transaction_import"))
+            .andExpect(model().attribute("result", result))
+            .andExpect(model().attribute("success", "1 transactions were imported with success."));
+
+        verify(importService, times(1)).importCsv(eq(1L), any(Reader.class));
+
+    }
+
+    @Test
+    @WithMockUser
+    public void WhenImportInvalidFile_ThenReturnModelByInvalidCsvFileException() throws Exception {
+
+        // ARRANGE
+        when(accountService.getAccountIdByPrincipalName(anyString())).thenReturn(1L);
+        when(importService.importCsv(eq(1L), any(Reader.class))).thenThrow(new InvalidCsvFileException("Missing column 'amount' in the header."));
+
+
+        // ACT & ASSERT
+        mockMvc
+            .perform(multipart("/transaction/import").file(csvFile).with(csrf()))
+            .andExpect(status().isOk())
+            .andExpect(view().name("auth/transaction_import"))
+            .andExpect(model().attribute("error", "Missing column 'amount' in the header."));
+
+    }
+
+    @TestConfiguration
+    static class TestConfig {
+
+        @Bean
+        public TransactionImportService importService() {
+            return Mockito.mock(TransactionImportService.class);
+        }
+
+        @Bean
+        public AccountService accountService() {
+            return Mockito.mock(AccountService.class);
+        }
+
+        @Bean
+        public UserDetailsService userDetailsService() {
+            return username -> User
+                .withUsername(username)
+                .password("hashed_password")
+                .roles("USER")
+                .build();
+        }
+
+    }
+
+}
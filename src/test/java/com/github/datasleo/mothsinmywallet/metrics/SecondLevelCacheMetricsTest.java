@@ -0,0 +1,65 @@
+package com.github.datasleo.mothsinmywallet.metrics;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.autoconfigure.orm.jpa.DataJpaTest;
+import org.springframework.context.annotation.Import;
+import org.springframework.transaction.annotation.Propagation;
+import org.springframework.transaction.annotation.Transactional;
+
+import com.github.datasleo.mothsinmywallet.config.CacheConfig;
+import com.github.datasleo.mothsinmywallet.config.MetricsConfig;
+import com.github.datasleo.mothsinmywallet.model.Account;
+import com.github.datasleo.mothsinmywallet.model.Tag;
+import com.github.datasleo.mothsinmywallet.repository.AccountRepository;
+import com.github.datasleo.mothsinmywallet.repository.TagRepository;
+import com.github.datasleo.mothsinmywallet.service.DashboardService;
+import com.github.datasleo.mothsinmywallet.service.SpendAnalyticsService;
+import com.github.datasleo.mothsinmywallet.service.TagService;
+
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import jakarta.persistence.EntityManagerFactory;
+
+@DataJpaTest
+@Import({TagService.class, SpendAnalyticsService.class, DashboardService.class, CacheConfig.class})
+@Transactional(propagation = Propagation.NOT_SUPPORTED)
+public class SecondLevelCacheMetricsTest {
+
+    @Autowired
+    private TagService tagService;
+
+    @Autowired
+    private AccountRepository accountRepository;
+
+    @Autowired
+    private TagRepository tagRepository;
+
+    @Autowired
+    private EntityManagerFactory entityManagerFactory;
+
+    @Test
+    public void WhenTagIsReadTwice_ThenCountMissThenHit() throws Exception {
+
+        // ARRANGE
+        SimpleMeterRegistry registry = new SimpleMeterRegistry();
+        new MetricsConfig().secondLevelCacheMetrics(entityManagerFactory).bindTo(registry);
+
+        Account account = accountRepository.save(new Account("foo@foo.com", "hashed_password", "foo"));
+        Tag tag = tagRepository.save(new Tag("food", "food description", account));
+
+        // ACT
+        tagService.getTagByIdAndAccountId(tag.getId(), account.getId());
+        tagService.getTagByIdAndAccountId(tag.getId(), account.getId());
+
+        // ASSERT (the read-write strategy also looks the entry up when it puts it, so misses count twice)
+        assertThat(registry.get("cache.gets").tag("cache", "tag").tag("result", "miss").functionCounter().count()).isPositive();
+        assertThat(registry.get("cache.gets").tag("cache", "tag").tag("result", "hit").functionCounter().count()).isEqualTo(1);
+        assertThat(registry.find("cache.gets").tag("cache", "payment-method").functionCounters()).isNotEmpty();
+
+        tagRepository.deleteAllInBatch();
+        accountRepository.deleteAllInBatch();
+
+    }
+
+}
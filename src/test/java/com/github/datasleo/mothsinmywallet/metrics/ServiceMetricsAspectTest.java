@@ -0,0 +1,133 @@
+package com.github.datasleo.mothsinmywallet.metrics;
+
+import java.util.Optional;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import static org.mockito.ArgumentMatchers.anyLong;
+import org.mockito.Mock;
+import static org.mockito.Mockito.when;
+import org.mockito.junit.jupiter.MockitoExtension;
+import org.springframework.aop.aspectj.annotation.AspectJProxyFactory;
+import org.springframework.mock.web.MockHttpServletRequest;
+import org.springframework.web.context.request.RequestContextHolder;
+import org.springframework.web.context.request.ServletRequestAttributes;
+
+import com.github.datasleo.mothsinmywallet.exception.TagNotFoundOrNotAuthorizedException;
+import com.github.datasleo.mothsinmywallet.model.Tag;
+import com.github.datasleo.mothsinmywallet.repository.AccountRepository;
+import com.github.datasleo.mothsinmywallet.repository.TagRepository;
+import com.github.datasleo.mothsinmywallet.service.DashboardService;
+import com.github.datasleo.mothsinmywallet.service.SpendAnalyticsService;
+import com.github.datasleo.mothsinmywallet.service.TagService;
+
+import io.micrometer.core.instrument.Timer;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+
+import jakarta.persistence.EntityManagerFactory;
+
+@ExtendWith(MockitoExtension.class)
+public class ServiceMetricsAspectTest {
+
+    @Mock
+    private TagRepository tagRepository;
+
+    @Mock
+    private AccountRepository accountRepository;
+
+    @Mock
+    private SpendAnalyticsService spendAnalyticsService;
+
+    @Mock
+    private DashboardService dashboardService;
+
+    @Mock
+    private EntityManagerFactory entityManagerFactory;
+
+    private SimpleMeterRegistry meterRegistry;
+
+    private TagService tagService;
+
+    private MockHttpServletRequest request;
+
+    @BeforeEach
+    public void setup() {
+
+        meterRegistry = new SimpleMeterRegistry();
+
+        AspectJProxyFactory proxyFactory = new AspectJProxyFactory(new TagService(tagRepository, accountRepository, spendAnalyticsService, dashboardService, entityManagerFactory));
+        proxyFactory.setProxyTargetClass(true);
+        proxyFactory.addAspect(new ServiceMetricsAspect(meterRegistry));
+        tagService = proxyFactory.getProxy();
+
+        request = new MockHttpServletRequest();
+        RequestContextHolder.setRequestAttributes(new ServletRequestAttributes(request));
+
+    }
+
+    @AfterEach
+    public void cleanup() {
+        RequestContextHolder.resetRequestAttributes();
+    }
+
+    @Test
+    public void WhenServiceMethodSucceeds_ThenTimeItWithSuccessOutcome() throws Exception {
+
+        // ARRANGE
+        when(tagRepository.findCachedByIdAndAccountId(anyLong(), anyLong())).thenReturn(Optional.of(new Tag()));
+
+        // ACT
+        tagService.getTagByIdAndAccountId(1L, 1L);
+        tagService.getTagByIdAndAccountId(2L, 1L);
+
+        // ASSERT
+        assertThat(timer("getTagByIdAndAccountId", Outcomes.SUCCESS).count()).isEqualTo(2);
+        assertThat(request.getAttribute(ServiceMetricsAspect.OUTCOME_ATTRIBUTE)).isNull();
+
+    }
+
+    @Test
+    public void WhenServiceMethodThrows_ThenTimeItWithOutcomeOfException() throws Exception {
+
+        // ARRANGE
+        when(tagRepository.deleteByIdAndAccountId(anyLong(), anyLong())).thenReturn(0);
+
+        // ACT
+        assertThrows(TagNotFoundOrNotAuthorizedException.class, () -> tagService.deleteTag(1L, 1L));
+
+        // ASSERT
+        Timer timer = timer("deleteTag", Outcomes.NOT_FOUND);
+
+        assertThat(timer.count()).isEqualTo(1);
+        assertThat(timer.getId().getTag("exception")).isEqualTo("TagNotFoundOrNotAuthorizedException");
+        assertThat(request.getAttribute(ServiceMetricsAspect.OUTCOME_ATTRIBUTE)).isEqualTo(Outcomes.NOT_FOUND);
+
+    }
+
+    @Test
+    public void WhenExceptionIsUnknown_ThenOutcomeIsError() throws Exception {
+
+        // ARRANGE
+        when(tagRepository.deleteByIdAndAccountId(anyLong(), anyLong())).thenThrow(new IllegalStateException());
+
+        // ACT
+        assertThrows(IllegalStateException.class, () -> tagService.deleteTag(1L, 1L));
+
+        // ASSERT
+        assertThat(timer("deleteTag", Outcomes.ERROR).count()).isEqualTo(1);
+
+    }
+
+    private Timer timer(String method, String outcome) {
+        return meterRegistry.get(ServiceMetricsAspect.METRIC_NAME)
+            .tag("class", "TagService")
+            .tag("method", method)
+            .tag("outcome", outcome)
+            .timer();
+    }
+
+}
@@ -0,0 +1,110 @@
+package com.github.datasleo.mothsinmywallet.metrics;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import org.junit.jupiter.api.Test;
+import org.springframework.mock.web.MockFilterChain;
+import org.springframework.mock.web.MockHttpServletRequest;
+import org.springframework.mock.web.MockHttpServletResponse;
+import org.springframework.web.servlet.HandlerMapping;
+
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import jakarta.servlet.http.HttpServlet;
+import jakarta.servlet.http.HttpServletRequest;
+import jakarta.servlet.http.HttpServletResponse;
+
+public class SqlStatementInspectorTest {
+
+    private final SqlStatementInspector inspector = new SqlStatementInspector();
+
+// ------------------------------------ scope ------------------------------------
+
+    @Test
+    public void WhenNoScopeIsOpen_ThenStatementsAreNotCounted() throws Exception {
+
+        // ACT
+        inspector.inspect("select 1");
+
+        try(SqlStatementInspector.Scope scope = SqlStatementInspector.start()) {
+
+            // ASSERT
+            assertThat(scope.getCount()).isZero();
+            assertThat(scope.getMostRepeated()).isNull();
+
+        }
+
+    }
+
+    @Test
+    public void WhenStatementsRun_ThenCountThemAndFindTheMostRepeated() throws Exception {
+
+        try(SqlStatementInspector.Scope scope = SqlStatementInspector.start()) {
+
+            // ACT
+            inspector.inspect("select a from t where id=?");
+            inspector.inspect("select b from u where id=?");
+            inspector.inspect("select b from u where id=?");
+
+            // ASSERT
+            assertThat(scope.getCount()).isEqualTo(3);
+            assertThat(scope.getMostRepeated().getKey()).isEqualTo("select b from u where id=?");
+            assertThat(scope.getMostRepeated().getValue()).isEqualTo(2);
+
+        }
+
+    }
+
+    @Test
+    public void WhenInnerScopeCloses_ThenOuterScopeCountsAgainWithoutInnerStatements() throws Exception {
+
+        try(SqlStatementInspector.Scope outer = SqlStatementInspector.start()) {
+
+            // ACT
+            inspector.inspect("select 1");
+
+            try(SqlStatementInspector.Scope inner = SqlStatementInspector.start()) {
+                inspector.inspect("select 2");
+                assertThat(inner.getCount()).isEqualTo(1);
+            }
+
+            inspector.inspect("select 3");
+
+            // ASSERT
+            assertThat(outer.getCount()).isEqualTo(2);
+
+        }
+
+    }
+
+// ------------------------------------ budget filter ------------------------------------
+
+    @Test
+    public void WhenRequestRunsStatements_ThenRecordThemAndCountBudgetAndNPlusOne() throws Exception {
+
+        // ARRANGE
+        SimpleMeterRegistry meterRegistry = new SimpleMeterRegistry();
+        SqlStatementBudgetFilter filter = new SqlStatementBudgetFilter(meterRegistry, 3, 3);
+
+        MockHttpServletRequest request = new MockHttpServletRequest("GET", "/tag-manager/7/edit");
+        request.setAttribute(HandlerMapping.BEST_MATCHING_PATTERN_ATTRIBUTE, "/tag-manager/{id}/edit");
+
+        HttpServlet servlet = new HttpServlet() {
+            @Override
+            protected void doGet(HttpServletRequest req, HttpServletResponse resp) {
+                inspector.inspect("select a from account where id=?");
+                for(int i = 0; i < 3; i++) {
+                    inspector.inspect("select t from tag where id=?");
+                }
+            }
+        };
+
+        // ACT
+        filter.doFilter(request, new MockHttpServletResponse(), new MockFilterChain(servlet));
+
+        // ASSERT
+        assertThat(meterRegistry.get("mothsinmywallet.sql.statements").tag("uri", "/tag-manager/{id}/edit").summary().totalAmount()).isEqualTo(4);
+        assertThat(meterRegistry.get("mothsinmywallet.sql.budget.exceeded").counter().count()).isEqualTo(1);
+        assertThat(meterRegistry.get("mothsinmywallet.sql.n-plus-one").counter().count()).isEqualTo(1);
+
+    }
+
+}
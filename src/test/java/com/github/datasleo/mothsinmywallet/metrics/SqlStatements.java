@@ -0,0 +1,81 @@
+package com.github.datasleo.mothsinmywallet.metrics;
+
+import java.util.Map;
+import java.util.stream.Collectors;
+
+import org.junit.jupiter.api.function.Executable;
+import org.junit.jupiter.api.function.ThrowingSupplier;
+import org.opentest4j.AssertionFailedError;
+
+/**
+ * Query-count assertions for tests. Needs the SqlStatementInspector registered, which
+ * application.properties does for every Spring test context.
+ *
+ *   Tag tag = SqlStatements.assertCount(1, () -> tagService.createTag(dto));
+ */
+public final class SqlStatements {
+
+    private SqlStatements() {}
+
+    public static void assertCount(int expected, Executable action) {
+        assertCount(expected, () -> {
+            action.execute();
+            return null;
+        });
+    }
+
+    public static <T> T assertCount(int expected, ThrowingSupplier<T> action) {
+
+        try(SqlStatementInspector.Scope scope = SqlStatementInspector.start()) {
+
+            T result = run(action);
+
+            if(scope.getCount() != expected) {
+                throw new AssertionFailedError("Expected " + expected + " SQL statements but ran " + scope.getCount() + ":" + describe(scope), expected, scope.getCount());
+            }
+
+            return result;
+
+        }
+
+    }
+
+    // Fails if any statement ran more than once, the signature of an N+1.
+    public static void assertNoRepeatedStatements(Executable action) {
+
+        try(SqlStatementInspector.Scope scope = SqlStatementInspector.start()) {
+
+            run(() -> {
+                action.execute();
+                return null;
+            });
+
+            Map.Entry<String, Integer> mostRepeated = scope.getMostRepeated();
+
+            if(mostRepeated != null && mostRepeated.getValue() > 1) {
+                throw new AssertionFailedError("Statement ran " + mostRepeated.getValue() + " times: " + mostRepeated.getKey());
+            }
+
+        }
+
+    }
+
+    private static <T> T run(ThrowingSupplier<T> action) {
+
+        try {
+            return action.get();
+        } catch (RuntimeException | Error e) {
+            throw e;
+        } catch (Throwable e) {
+            throw new IllegalStateException(e);
+        }
+
+    }
+
+    private static String describe(SqlStatementInspector.Scope scope) {
+        return scope.getCountsByStatement().entrySet().stream()
+            .map(entry -> "\n  " + entry.getValue() + "x " + entry.getKey())
+            .collect(Collectors.joining());
+    }
+
+}
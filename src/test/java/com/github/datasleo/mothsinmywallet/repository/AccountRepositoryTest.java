@@ -7,6 +7,7 @@ import org.junit.jupiter.api.Test;
 import org.springframework.beans.factory.annotation.Autowired;
 import org.springframework.boot.test.autoconfigure.orm.jpa.DataJpaTest;
 
+import com.github.datasleo.mothsinmywallet.metrics.SqlStatements;
 import com.github.datasleo.mothsinmywallet.model.Account;
 
 import jakarta.persistence.EntityManager;
@@ -69,4 +70,70 @@ public class AccountRepositoryTest {
 
     }
 
+    @Test
+    public void WhenFindByLoginIdentifierWithEmailOrUsername_MustReturnSameAccount() throws Exception {
+
+        Account account = new Account("test@test.com", "password123", "fooandbar123");
+
+        entityManager.persist(account);
+        entityManager.flush();
+
+        assertThat(accountRepository.findByLoginIdentifier("test@test.com")).contains(account);
+        assertThat(accountRepository.findByLoginIdentifier("fooandbar123")).contains(account);
+        assertThat(accountRepository.findIdByLoginIdentifier("test@test.com")).isEqualTo(account.getId());
+        assertThat(accountRepository.findIdByLoginIdentifier("fooandbar123")).isEqualTo(account.getId());
+
+        // One point lookup on the matching unique index, no second query.
+        SqlStatements.assertCount(1, () -> accountRepository.findIdByLoginIdentifier("test@test.com"));
+        SqlStatements.assertCount(1, () -> accountRepository.findIdByLoginIdentifier("fooandbar123"));
+
+    }
+
+    @Test
+    public void WhenIdentifierDoesNotLookLikeItsColumn_MustFallBackToTheOtherIndex() throws Exception {
+
+        Account account = new Account("legacy-email", "password123", "foo@bar");
+
+        entityManager.persist(account);
+        entityManager.flush();
+
+        assertThat(accountRepository.findByLoginIdentifier("legacy-email")).contains(account);
+        assertThat(accountRepository.findByLoginIdentifier("foo@bar")).contains(account);
+        assertThat(accountRepository.findIdByLoginIdentifier("legacy-email")).isEqualTo(account.getId());
+        assertThat(accountRepository.findIdByLoginIdentifier("foo@bar")).isEqualTo(account.getId());
+
+    }
+
+    @Test
+    public void WhenLoginIdentifierNotExists_MustReturnEmpty() throws Exception {
+
+        assertThat(accountRepository.findByLoginIdentifier("test@test.com")).isNotPresent();
+        assertThat(accountRepository.findIdByLoginIdentifier("fooandbar123")).isNull();
+
+    }
+
+    @Test
+    public void WhenFindTakenFields_MustReportEachClashingValue() throws Exception {
+
+        entityManager.persist(new Account("test@test.com", "password123", "fooandbar123"));
+        entityManager.persist(new Account("other@test.com", "password123", "other"));
+        entityManager.flush();
+
+        assertThat(accountRepository.findTakenFields("new@test.com", "new")).isEmpty();
+        assertThat(accountRepository.findTakenFields("test@test.com", "new")).containsExactly("email");
+        assertThat(accountRepository.findTakenFields("new@test.com", "fooandbar123")).containsExactly("username");
+        assertThat(accountRepository.findTakenFields("test@test.com", "other")).containsExactlyInAnyOrder("email", "username");
+
+    }
+
+    @Test
+    public void WhenFindTakenFields_MustRunOneStatement() throws Exception {
+
+        entityManager.persist(new Account("test@test.com", "password123", "fooandbar123"));
+        entityManager.flush();
+
+        SqlStatements.assertCount(1, () -> accountRepository.findTakenFields("test@test.com", "fooandbar123"));
+
+    }
+
 }
@@ -0,0 +1,105 @@
+package com.github.datasleo.mothsinmywallet.repository;
+
+import java.time.Duration;
+
+import javax.sql.DataSource;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.boot.actuate.autoconfigure.metrics.CompositeMeterRegistryAutoConfiguration;
+import org.springframework.boot.actuate.autoconfigure.metrics.MetricsAutoConfiguration;
+import org.springframework.boot.actuate.autoconfigure.metrics.export.simple.SimpleMetricsExportAutoConfiguration;
+import org.springframework.boot.actuate.autoconfigure.metrics.jdbc.DataSourcePoolMetricsAutoConfiguration;
+import org.springframework.boot.autoconfigure.ImportAutoConfiguration;
+import org.springframework.boot.test.autoconfigure.jdbc.AutoConfigureTestDatabase;
+import org.springframework.boot.test.autoconfigure.orm.jpa.DataJpaTest;
+
+import com.zaxxer.hikari.HikariDataSource;
+
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.Timer;
+
+// Runs on the pool configured by application.properties (not the embedded test database),
+// with the MySQL driver options passed through to H2, which ignores them.
+@DataJpaTest(properties = {
+    "spring.datasource.url=jdbc:h2:mem:pool;DB_CLOSE_DELAY=-1;IGNORE_UNKNOWN_SETTINGS=TRUE",
+    "spring.datasource.driver-class-name=org.h2.Driver",
+    "spring.datasource.username=sa",
+    "spring.datasource.password="
+})
+@AutoConfigureTestDatabase(replace = AutoConfigureTestDatabase.Replace.NONE)
+@ImportAutoConfiguration({
+    MetricsAutoConfiguration.class,
+    CompositeMeterRegistryAutoConfiguration.class,
+    SimpleMetricsExportAutoConfiguration.class,
+    DataSourcePoolMetricsAutoConfiguration.class
+})
+public class DataSourcePoolTest {
+
+    @Autowired
+    private DataSource dataSource;
+
+    @Autowired
+    private MeterRegistry meterRegistry;
+
+    @Autowired
+    private AccountRepository accountRepository;
+
+    @Value("${spring.mvc.async.request-timeout}")
+    private Duration asyncRequestTimeout;
+
+    @Value("${app.export.timeout:15s}")
+    private Duration exportTimeout;
+
+    @Test
+    public void WhenContextStarts_ThenPoolIsFixedSizeWithLeakDetection() throws Exception {
+
+        HikariDataSource hikari = dataSource.unwrap(HikariDataSource.class);
+
+        assertThat(hikari.getPoolName()).isEqualTo("mothsinmywallet");
+        assertThat(hikari.getMaximumPoolSize()).isEqualTo(10);
+        assertThat(hikari.getMinimumIdle()).isEqualTo(hikari.getMaximumPoolSize());
+        assertThat(hikari.getConnectionTimeout()).isEqualTo(10000);
+        assertThat(hikari.getLeakDetectionThreshold()).isEqualTo(20000);
+        assertThat(hikari.getMaxLifetime()).isGreaterThan(hikari.getLeakDetectionThreshold());
+
+    }
+
+    @Test
+    public void WhenContextStarts_ThenExportsEndBeforeLeakDetectionFires() throws Exception {
+
+        HikariDataSource hikari = dataSource.unwrap(HikariDataSource.class);
+
+        // An export holds its connection until AccountExportService cuts it off at
+        // app.export.timeout, which is also the async request timeout.
+        assertThat(hikari.getLeakDetectionThreshold()).isGreaterThan(asyncRequestTimeout.toMillis());
+        assertThat(exportTimeout).isEqualTo(asyncRequestTimeout);
+
+    }
+
+    @Test
+    public void WhenContextStarts_ThenDriverCachesServerPreparedStatements() throws Exception {
+
+        HikariDataSource hikari = dataSource.unwrap(HikariDataSource.class);
+
+        assertThat(hikari.getDataSourceProperties())
+            .containsEntry("cachePrepStmts", "true")
+            .containsEntry("useServerPrepStmts", "true")
+            .containsEntry("rewriteBatchedStatements", "true");
+
+    }
+
+    @Test
+    public void WhenConnectionIsBorrowed_ThenRecordPoolWaitTime() throws Exception {
+
+        accountRepository.count();
+
+        Timer acquire = meterRegistry.get("hikaricp.connections.acquire").tag("pool", "mothsinmywallet").timer();
+
+        assertThat(acquire.count()).isPositive();
+
+    }
+
+}
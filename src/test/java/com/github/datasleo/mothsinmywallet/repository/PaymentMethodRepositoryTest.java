@@ -1,15 +1,22 @@
 package com.github.datasleo.mothsinmywallet.repository;
 
 import java.util.List;
+import java.util.Map;
 
 import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
 import org.junit.jupiter.api.AfterEach;
 import org.junit.jupiter.api.BeforeEach;
 import org.junit.jupiter.api.Test;
 import org.springframework.beans.factory.annotation.Autowired;
 import org.springframework.boot.test.autoconfigure.orm.jpa.DataJpaTest;
 import org.springframework.boot.test.autoconfigure.orm.jpa.TestEntityManager;
+import org.springframework.dao.DataIntegrityViolationException;
+import org.springframework.data.domain.Limit;
+import org.springframework.data.domain.ScrollPosition;
+import org.springframework.data.domain.Window;
 
+import com.github.datasleo.mothsinmywallet.dto.PaymentMethodSummaryDto;
 import com.github.datasleo.mothsinmywallet.model.Account;
 import com.github.datasleo.mothsinmywallet.model.PaymentMethod;
 
@@ -112,6 +119,50 @@ public class PaymentMethodRepositoryTest {
 
     }
 
+// -------------------------------------------------- findSummariesByAccountIdOrderByIdAsc method -------------------------------------------------- 
+
+    @Test
+    public void WhenFindSummariesByAccountIdOrderByIdAscFromStart_ThenReturnFirstPageAndHasNext() throws Exception {
+
+        // ARRANGE
+        PaymentMethod paymentData1 = entityManager.persist(new PaymentMethod("data 1", "description data 1", account));
+        entityManager.persist(new PaymentMethod("data 2", "description data 2", account));
+
+
+        // ACT
+        Window<PaymentMethodSummaryDto> result = paymentRepository.findSummariesByAccountIdOrderByIdAsc(account.getId(), ScrollPosition.keyset(), Limit.of(2));
+
+
+        // ASSERT
+        assertThat(result.getContent()).extracting(PaymentMethodSummaryDto::getId).containsExactly(payment.getId(), paymentData1.getId());
+        assertThat(result.getContent().get(0).getPaymentName()).isEqualTo("credit card");
+        assertThat(result.getContent().get(0).getPaymentDescription()).isEqualTo("description");
+        assertThat(result.hasNext()).isTrue();
+
+    }
+
+    @Test
+    public void WhenFindSummariesByAccountIdOrderByIdAscAfterLastSeenId_ThenReturnNextPageOfThatAccountOnly() throws Exception {
+
+        // ARRANGE
+        Account anotherAccount = entityManager.persist(new Account("bar@bar.com", "hashed_password", "bar"));
+
+        PaymentMethod paymentData1 = entityManager.persist(new PaymentMethod("data 1", "description data 1", account));
+        entityManager.persist(new PaymentMethod("data 1", "description data 1", anotherAccount));
+        PaymentMethod paymentData2 = entityManager.persist(new PaymentMethod("data 2", "description data 2", account));
+
+
+        // ACT
+        Window<PaymentMethodSummaryDto> result = paymentRepository.findSummariesByAccountIdOrderByIdAsc(
+            account.getId(), ScrollPosition.forward(Map.of("id", payment.getId())), Limit.of(2));
+
+
+        // ASSERT
+        assertThat(result.getContent()).extracting(PaymentMethodSummaryDto::getId).containsExactly(paymentData1.getId(), paymentData2.getId());
+        assertThat(result.hasNext()).isFalse();
+
+    }
+
 // -------------------------------------------------- findOneByPaymentIdAndAccountId method -------------------------------------------------- 
 
     @Test
@@ -133,5 +184,103 @@ public class PaymentMethodRepositoryTest {
 
     }
 
+// -------------------------------------------------- updateByIdAndAccountId method -------------------------------------------------- 
+
+    @Test
+    public void WhenUpdateByIdAndAccountId_ThenUpdateOneRow() throws Exception {
+
+        // ACT
+        int updatedRows = paymentRepository.updateByIdAndAccountId(payment.getId(), account.getId(), "pix", "pix description");
+
+        entityManager.clear();
+
+
+        // ASSERT
+        assertThat(updatedRows).isEqualTo(1);
+        assertThat(paymentRepository.findById(payment.getId()).get().getPaymentName()).isEqualTo("pix");
+
+    }
+
+    @Test
+    public void WhenUpdateByIdAndAccountIdButPaymentIsFromAnotherAccount_ThenUpdateNothing() throws Exception {
+
+        // ARRANGE
+        Account anotherAccount = entityManager.persist(new Account("bar@bar.com", "hashed_password", "bar"));
+
+
+        // ACT
+        int updatedRows = paymentRepository.updateByIdAndAccountId(payment.getId(), anotherAccount.getId(), "pix", "pix description");
+
+        entityManager.clear();
+
+
+        // ASSERT
+        assertThat(updatedRows).isZero();
+        assertThat(paymentRepository.findById(payment.getId()).get().getPaymentName()).isEqualTo("credit card");
+
+    }
+
+// -------------------------------------------------- deleteByIdAndAccountId method -------------------------------------------------- 
+
+    @Test
+    public void WhenDeleteByIdAndAccountId_ThenDeleteOneRow() throws Exception {
+
+        // ACT
+        int deletedRows = paymentRepository.deleteByIdAndAccountId(payment.getId(), account.getId());
+
+        entityManager.clear();
+
+
+        // ASSERT
+        assertThat(deletedRows).isEqualTo(1);
+        assertThat(paymentRepository.findById(payment.getId())).isNotPresent();
+
+    }
+
+    @Test
+    public void WhenDeleteByIdAndAccountIdButPaymentIsFromAnotherAccount_ThenDeleteNothing() throws Exception {
+
+        // ARRANGE
+        Account anotherAccount = entityManager.persist(new Account("bar@bar.com", "hashed_password", "bar"));
+
+
+        // ACT
+        int deletedRows = paymentRepository.deleteByIdAndAccountId(payment.getId(), anotherAccount.getId());
+
+        entityManager.clear();
+
+
+        // ASSERT
+        assertThat(deletedRows).isZero();
+        assertThat(paymentRepository.findById(payment.getId())).isPresent();
+
+    }
+
+// -------------------------------------------------- uk_payment_method_table_account_payment_name -------------------------------------------------- 
+
+    @Test
+    public void WhenSavePaymentWithRepeatedNameInSameAccount_ThenThrowDataIntegrityViolationException() throws Exception {
+
+        // ACT & ASSERT
+        assertThatThrownBy(() -> paymentRepository.save(new PaymentMethod("credit card", "another description", account)))
+            .isInstanceOf(DataIntegrityViolationException.class);
+
+    }
+
+    @Test
+    public void WhenSavePaymentWithRepeatedNameInAnotherAccount_ThenSavePayment() throws Exception {
+
+        // ARRANGE
+        Account anotherAccount = entityManager.persist(new Account("bar@bar.com", "hashed_password", "bar"));
+
+
+        // ACT
+        PaymentMethod result = paymentRepository.save(new PaymentMethod("credit card", "description", anotherAccount));
+
+
+        // ASSERT
+        assertThat(result.getId()).isGreaterThan(0L);
+
+    }
 
 }
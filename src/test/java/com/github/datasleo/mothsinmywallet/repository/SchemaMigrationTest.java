@@ -0,0 +1,161 @@
+package com.github.datasleo.mothsinmywallet.repository;
+
+import java.util.List;
+
+import javax.sql.DataSource;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+import org.flywaydb.core.Flyway;
+import org.flywaydb.core.api.MigrationInfo;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.autoconfigure.jdbc.AutoConfigureTestDatabase;
+import org.springframework.boot.test.autoconfigure.orm.jpa.DataJpaTest;
+import org.springframework.boot.test.context.TestConfiguration;
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Import;
+import org.springframework.dao.DataIntegrityViolationException;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.jdbc.datasource.embedded.EmbeddedDatabaseBuilder;
+import org.springframework.jdbc.datasource.embedded.EmbeddedDatabaseType;
+
+// The database an existing install has: the baseline schema built outside Flyway, with rows that
+// predate the later constraints. Flyway baselines it at V1 and runs every later migration, then
+// Hibernate validates the mapping against the result: the context only starts if entities and
+// migrations agree. Fresh databases are covered by every other @DataJpaTest, and a database
+// built from the former schema script by its own test.
+@DataJpaTest(properties = "spring.jpa.hibernate.ddl-auto=validate")
+@AutoConfigureTestDatabase(replace = AutoConfigureTestDatabase.Replace.NONE)
+@Import(SchemaMigrationTest.TestConfig.class)
+public class SchemaMigrationTest {
+
+    @Autowired
+    private Flyway flyway;
+
+    @Autowired
+    private JdbcTemplate jdbcTemplate;
+
+    @Test
+    public void WhenContextStartsOnBaselineDatabase_ThenEveryLaterMigrationIsAppliedAndMatchesTheEntities() throws Exception {
+
+        MigrationInfo[] applied = flyway.info().applied();
+
+        assertThat(flyway.info().pending()).isEmpty();
+        assertThat(applied[0].getType().isBaseline()).isTrue();
+        assertThat(applied).extracting(info -> info.getVersion().getVersion()).containsExactly("1", "2", "3", "4", "5");
+
+    }
+
+    @Test
+    public void WhenBaselineHasRepeatedNamesInAnAccount_ThenKeepEveryRowAndRenameTheRepeats() throws Exception {
+
+        List<String> tagNames = jdbcTemplate.queryForList("SELECT tag_name FROM tag_table ORDER BY id", String.class);
+        List<String> paymentNames = jdbcTemplate.queryForList("SELECT payment_name FROM payment_method_table ORDER BY id", String.class);
+
+        assertThat(tagNames).containsExactly("food", "food (2)", "food", "bus", "food (5)");
+        assertThat(paymentNames).containsExactly("cash", "cash (2)", "cash");
+
+    }
+
+    @Test
+    public void WhenBaselineHasAccountsSharingEmailOrUsername_ThenKeepEveryAccountAndRenameTheRepeats() throws Exception {
+
+        List<String> emails = jdbcTemplate.queryForList("SELECT email FROM account_table ORDER BY id", String.class);
+        List<String> usernames = jdbcTemplate.queryForList("SELECT username FROM account_table ORDER BY id", String.class);
+
+        assertThat(emails).containsExactly("foo@foo.com", "bar@bar.com", "foo@foo.com (3)", "qux@qux.com");
+        assertThat(usernames).containsExactly("foo", "bar", "baz", "foo (4)");
+
+    }
+
+    @Test
+    public void WhenBaselineWasBuiltFromTheSchemaScript_ThenKeepItsTransactionTableAndAddTheLedgerIndex() throws Exception {
+
+        // ARRANGE
+        DataSource dataSource = new EmbeddedDatabaseBuilder()
+            .setType(EmbeddedDatabaseType.H2)
+            .generateUniqueName(true)
+            .addScript("db/migration/V1__baseline.sql")
+            .build();
+
+        JdbcTemplate scriptDatabase = new JdbcTemplate(dataSource);
+
+        // transaction_table as database/schema_mothsinmywallet.sql created it.
+        scriptDatabase.execute("""
+            CREATE TABLE transaction_table (
+              id INT NOT NULL AUTO_INCREMENT,
+              title_transaction VARCHAR(60) NOT NULL,
+              description_transaction CLOB,
+              amount_transaction DECIMAL(11,2) NOT NULL,
+              date_transaction TIMESTAMP NOT NULL DEFAULT CURRENT_TIMESTAMP,
+              fk_tag_table INT,
+              fk_company_table INT,
+              fk_payment_table INT,
+              fk_account_table INT NOT NULL,
+              PRIMARY KEY (id)
+            )
+            """);
+
+        scriptDatabase.update("INSERT INTO account_table (id, email, password, username) VALUES (1, 'foo@foo.com', 'hashed_password', 'foo')");
+        scriptDatabase.update("INSERT INTO transaction_table (title_transaction, amount_transaction, fk_account_table) VALUES ('lunch', 25.90, 1)");
+
+
+        // ACT
+        Flyway.configure().dataSource(dataSource).baselineOnMigrate(true).baselineVersion("1").load().migrate();
+
+
+        // ASSERT
+        assertThat(scriptDatabase.queryForList("SELECT title_transaction FROM transaction_table", String.class)).containsExactly("lunch");
+        assertThat(scriptDatabase.queryForObject(
+            "SELECT COUNT(*) FROM INFORMATION_SCHEMA.INDEXES WHERE INDEX_NAME = 'IDX_TRANSACTION_TABLE_ACCOUNT_DATE'", Integer.class)).isEqualTo(1);
+
+    }
+
+    @Test
+    public void WhenMigrated_ThenRepeatedNamesInAnAccountAreRejected() throws Exception {
+
+        assertThatThrownBy(() -> jdbcTemplate.update("INSERT INTO tag_table (tag_name, tag_description, fk_account_table) VALUES ('bus', 'description', 1)"))
+            .isInstanceOf(DataIntegrityViolationException.class);
+
+        assertThatThrownBy(() -> jdbcTemplate.update("INSERT INTO payment_method_table (payment_name, payment_description, fk_account_table) VALUES ('cash', 'description', 1)"))
+            .isInstanceOf(DataIntegrityViolationException.class);
+
+    }
+
+    @TestConfiguration
+    static class TestConfig {
+
+        @Bean
+        public DataSource dataSource() {
+
+            DataSource dataSource = new EmbeddedDatabaseBuilder()
+                .setType(EmbeddedDatabaseType.H2)
+                .generateUniqueName(true)
+                .addScript("db/migration/V1__baseline.sql")
+                .build();
+
+            JdbcTemplate jdbcTemplate = new JdbcTemplate(dataSource);
+
+            jdbcTemplate.update("INSERT INTO account_table (id, email, password, username) VALUES (1, 'foo@foo.com', 'hashed_password', 'foo')");
+            jdbcTemplate.update("INSERT INTO account_table (id, email, password, username) VALUES (2, 'bar@bar.com', 'hashed_password', 'bar')");
+            jdbcTemplate.update("INSERT INTO account_table (id, email, password, username) VALUES (3, 'foo@foo.com', 'hashed_password', 'baz')");
+            jdbcTemplate.update("INSERT INTO account_table (id, email, password, username) VALUES (4, 'qux@qux.com', 'hashed_password', 'foo')");
+
+            jdbcTemplate.update("INSERT INTO tag_table (id, tag_name, tag_description, fk_account_table) VALUES (1, 'food', 'first', 1)");
+            jdbcTemplate.update("INSERT INTO tag_table (id, tag_name, tag_description, fk_account_table) VALUES (2, 'food', 'repeated', 1)");
+            jdbcTemplate.update("INSERT INTO tag_table (id, tag_name, tag_description, fk_account_table) VALUES (3, 'food', 'another account', 2)");
+            jdbcTemplate.update("INSERT INTO tag_table (id, tag_name, tag_description, fk_account_table) VALUES (4, 'bus', 'description', 1)");
+            jdbcTemplate.update("INSERT INTO tag_table (id, tag_name, tag_description, fk_account_table) VALUES (5, 'food', 'repeated again', 1)");
+
+            jdbcTemplate.update("INSERT INTO payment_method_table (id, payment_name, payment_description, fk_account_table) VALUES (1, 'cash', 'first', 1)");
+            jdbcTemplate.update("INSERT INTO payment_method_table (id, payment_name, payment_description, fk_account_table) VALUES (2, 'cash', 'repeated', 1)");
+            jdbcTemplate.update("INSERT INTO payment_method_table (id, payment_name, payment_description, fk_account_table) VALUES (3, 'cash', 'another account', 2)");
+
+            return dataSource;
+
+        }
+
+    }
+
+}
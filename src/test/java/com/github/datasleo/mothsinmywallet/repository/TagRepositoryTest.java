@@ -1,13 +1,20 @@
 package com.github.datasleo.mothsinmywallet.repository;
 
 import java.util.List;
+import java.util.Map;
 import java.util.Optional;
 
 import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
 import org.junit.jupiter.api.Test;
 import org.springframework.beans.factory.annotation.Autowired;
 import org.springframework.boot.test.autoconfigure.orm.jpa.DataJpaTest;
+import org.springframework.dao.DataIntegrityViolationException;
+import org.springframework.data.domain.Limit;
+import org.springframework.data.domain.ScrollPosition;
+import org.springframework.data.domain.Window;
 
+import com.github.datasleo.mothsinmywallet.dto.TagSummaryDto;
 import com.github.datasleo.mothsinmywallet.model.Account;
 import com.github.datasleo.mothsinmywallet.model.Tag;
 
@@ -250,4 +257,179 @@ public class TagRepositoryTest {
 
     }
 
-}
\ No newline at end of file
+
+// ------------------------------------ findSummariesByAccountIdOrderByIdAsc ------------------------------------ 
+
+    @Test
+    public void WhenFindSummariesByAccountIdOrderByIdAscFromStart_MustReturnFirstPageAndHasNext() throws Exception {
+
+        Account account = new Account("test@test.com", "hashed_password", "test_");
+
+        entityManager.persist(account);
+
+        Tag tag1 = new Tag("service", "service description", account);
+        Tag tag2 = new Tag("food", "food description", account);
+        Tag tag3 = new Tag("sport", "sport description", account);
+
+        entityManager.persist(tag1);
+        entityManager.persist(tag2);
+        entityManager.persist(tag3);
+
+        Window<TagSummaryDto> windowTag = tagRepository.findSummariesByAccountIdOrderByIdAsc(account.getId(), ScrollPosition.keyset(), Limit.of(2));
+
+        assertThat(windowTag.getContent()).extracting(TagSummaryDto::getId).containsExactly(tag1.getId(), tag2.getId());
+        assertThat(windowTag.getContent().get(0).getTagName()).isEqualTo("service");
+        assertThat(windowTag.getContent().get(0).getTagDescription()).isEqualTo("service description");
+        assertThat(windowTag.hasNext()).isTrue();
+
+    }
+
+    @Test
+    public void WhenFindSummariesByAccountIdOrderByIdAscAfterLastSeenId_MustReturnNextPageOfThatAccountOnly() throws Exception {
+
+        Account account1 = new Account("test@test.com", "hashed_password", "test_");
+        Account account2 = new Account("fooandbar@fooandbar.com", "hashed_password", "fooandbar");
+
+        entityManager.persist(account1);
+        entityManager.persist(account2);
+
+        Tag tag1 = new Tag("service", "service description", account1);
+        Tag tag2 = new Tag("service", "service description", account2);
+        Tag tag3 = new Tag("food", "food description", account1);
+
+        entityManager.persist(tag1);
+        entityManager.persist(tag2);
+        entityManager.persist(tag3);
+
+        Window<TagSummaryDto> windowTag = tagRepository.findSummariesByAccountIdOrderByIdAsc(account1.getId(), ScrollPosition.forward(Map.of("id", tag1.getId())), Limit.of(2));
+
+        assertThat(windowTag.getContent()).extracting(TagSummaryDto::getId).containsExactly(tag3.getId());
+        assertThat(windowTag.hasNext()).isFalse();
+
+    }
+
+// ------------------------------------ updateByIdAndAccountId ------------------------------------ 
+
+    @Test
+    public void WhenUpdateByIdAndAccountId_MustUpdateOneRow() throws Exception {
+
+        Account account = new Account("test@test.com", "hashed_password", "test_");
+
+        entityManager.persist(account);
+
+        Tag tag = new Tag("service", "service description", account);
+
+        entityManager.persist(tag);
+        entityManager.flush();
+
+        int updatedRows = tagRepository.updateByIdAndAccountId(tag.getId(), account.getId(), "sport", "sport description");
+
+        entityManager.clear();
+
+        assertThat(updatedRows).isEqualTo(1);
+        assertThat(tagRepository.findById(tag.getId()).get().getTagName()).isEqualTo("sport");
+
+    }
+
+    @Test
+    public void WhenUpdateByIdAndAccountIdButTagIsNotFromThatAccountId_MustUpdateNothing() throws Exception {
+
+        Account account1 = new Account("test@test.com", "hashed_password", "test_");
+        Account account2 = new Account("fooandbar@fooandbar.com", "hashed_password", "fooandbar");
+
+        entityManager.persist(account1);
+        entityManager.persist(account2);
+
+        Tag tag = new Tag("service", "service description", account1);
+
+        entityManager.persist(tag);
+        entityManager.flush();
+
+        int updatedRows = tagRepository.updateByIdAndAccountId(tag.getId(), account2.getId(), "sport", "sport description");
+
+        entityManager.clear();
+
+        assertThat(updatedRows).isZero();
+        assertThat(tagRepository.findById(tag.getId()).get().getTagName()).isEqualTo("service");
+
+    }
+
+
+// ------------------------------------ deleteByIdAndAccountId ------------------------------------ 
+
+    @Test
+    public void WhenDeleteByIdAndAccountId_MustDeleteOneRow() throws Exception {
+
+        Account account = new Account("test@test.com", "hashed_password", "test_");
+
+        entityManager.persist(account);
+
+        Tag tag = new Tag("service", "service description", account);
+
+        entityManager.persist(tag);
+        entityManager.flush();
+
+        int deletedRows = tagRepository.deleteByIdAndAccountId(tag.getId(), account.getId());
+
+        entityManager.clear();
+
+        assertThat(deletedRows).isEqualTo(1);
+        assertThat(tagRepository.findById(tag.getId())).isNotPresent();
+
+    }
+
+    @Test
+    public void WhenDeleteByIdAndAccountIdButTagIsNotFromThatAccountId_MustDeleteNothing() throws Exception {
+
+        Account account1 = new Account("test@test.com", "hashed_password", "test_");
+        Account account2 = new Account("fooandbar@fooandbar.com", "hashed_password", "fooandbar");
+
+        entityManager.persist(account1);
+        entityManager.persist(account2);
+
+        Tag tag = new Tag("service", "service description", account1);
+
+        entityManager.persist(tag);
+        entityManager.flush();
+
+        int deletedRows = tagRepository.deleteByIdAndAccountId(tag.getId(), account2.getId());
+
+        entityManager.clear();
+
+        assertThat(deletedRows).isZero();
+        assertThat(tagRepository.findById(tag.getId())).isPresent();
+
+    }
+
+// ------------------------------------ uk_tag_table_account_tag_name ------------------------------------ 
+
+    @Test
+    public void WhenSaveTagWithRepeatedNameInSameAccount_MustThrowDataIntegrityViolationException() throws Exception {
+
+        Account account = new Account("test@test.com", "hashed_password", "test_");
+
+        entityManager.persist(account);
+        entityManager.persist(new Tag("service", "service description", account));
+
+        assertThatThrownBy(() -> tagRepository.save(new Tag("service", "another description", account)))
+            .isInstanceOf(DataIntegrityViolationException.class);
+
+    }
+
+    @Test
+    public void WhenSaveTagWithRepeatedNameInAnotherAccount_MustSaveTag() throws Exception {
+
+        Account account1 = new Account("test@test.com", "hashed_password", "test_");
+        Account account2 = new Account("fooandbar@fooandbar.com", "hashed_password", "fooandbar");
+
+        entityManager.persist(account1);
+        entityManager.persist(account2);
+        entityManager.persist(new Tag("service", "service description", account1));
+
+        Tag tag = tagRepository.save(new Tag("service", "service description", account2));
+
+        assertThat(tag.getId()).isGreaterThan(0L);
+
+    }
+
+}
@@ -0,0 +1,193 @@
+package com.github.datasleo.mothsinmywallet.repository;
+
+import java.math.BigDecimal;
+import java.time.LocalDateTime;
+import java.util.List;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.autoconfigure.orm.jpa.DataJpaTest;
+import org.springframework.boot.test.autoconfigure.orm.jpa.TestEntityManager;
+import org.springframework.data.domain.Limit;
+
+import com.github.datasleo.mothsinmywallet.dto.TransactionSummaryDto;
+import com.github.datasleo.mothsinmywallet.model.Account;
+import com.github.datasleo.mothsinmywallet.model.PaymentMethod;
+import com.github.datasleo.mothsinmywallet.model.Tag;
+import com.github.datasleo.mothsinmywallet.model.Transaction;
+
+@DataJpaTest
+public class TransactionRepositoryTest {
+
+    private static final LocalDateTime FROM = LocalDateTime.of(2025, 1, 1, 0, 0);
+    private static final LocalDateTime TO = LocalDateTime.of(2025, 2, 1, 0, 0);
+
+    @Autowired
+    private TransactionRepository transactionRepository;
+
+    @Autowired
+    private TestEntityManager entityManager;
+
+    private Account account;
+    private Account anotherAccount;
+
+    @BeforeEach
+    public void setup() {
+        account = entityManager.persist(new Account("foo@foo.com", "hashed_password", "foo"));
+        anotherAccount = entityManager.persist(new Account("bar@bar.com", "hashed_password", "bar"));
+    }
+
+    private Transaction persistTransaction(String title, String amount, LocalDateTime date, Account owner) {
+        return entityManager.persist(new Transaction(title, null, new BigDecimal(amount), date, owner));
+    }
+
+// -------------------------------------------------- findSummariesByAccountIdAndDateRange method -------------------------------------------------- 
+
+    @Test
+    public void WhenFindSummariesByAccountIdAndDateRange_ThenReturnNewestFirstInsideRangeOfThatAccountOnly() throws Exception {
+
+        // ARRANGE
+        Tag tag = entityManager.persist(new Tag("food", "food description", account));
+        PaymentMethod payment = entityManager.persist(new PaymentMethod("cash", "cash description", account));
+
+        Transaction lunch = persistTransaction("lunch", "25.90", LocalDateTime.of(2025, 1, 10, 12, 0), account);
+        lunch.setTag(tag);
+        lunch.setPaymentMethod(payment);
+
+        Transaction bus = persistTransaction("bus", "4.40", LocalDateTime.of(2025, 1, 20, 8, 0), account);
+
+        persistTransaction("before range", "1.00", LocalDateTime.of(2024, 12, 31, 23, 59), account);
+        persistTransaction("after range", "1.00", TO, account);
+        persistTransaction("another account", "1.00", LocalDateTime.of(2025, 1, 15, 0, 0), anotherAccount);
+
+        entityManager.flush();
+        entityManager.clear();
+
+
+        // ACT
+        List<TransactionSummaryDto> result = transactionRepository.findSummariesByAccountIdAndDateRange(
+            account.getId(), FROM, TO, TO, Long.MAX_VALUE, Limit.of(10));
+
+
+        // ASSERT
+        assertThat(result).extracting(TransactionSummaryDto::getId).containsExactly(bus.getId(), lunch.getId());
+
+        assertThat(result.get(0).getTagName()).isNull();
+        assertThat(result.get(0).getPaymentName()).isNull();
+
+        assertThat(result.get(1).getTitle()).isEqualTo("lunch");
+        assertThat(result.get(1).getAmount()).isEqualByComparingTo("25.90");
+        assertThat(result.get(1).getTagName()).isEqualTo("food");
+        assertThat(result.get(1).getPaymentName()).isEqualTo("cash");
+
+    }
+
+    @Test
+    public void WhenFindSummariesByAccountIdAndDateRangeAfterCursor_ThenReturnRowsOlderThanCursor() throws Exception {
+
+        // ARRANGE
+        LocalDateTime sameDate = LocalDateTime.of(2025, 1, 10, 12, 0);
+
+        Transaction first = persistTransaction("first", "1.00", sameDate, account);
+        Transaction second = persistTransaction("second", "2.00", sameDate, account);
+        Transaction older = persistTransaction("older", "3.00", LocalDateTime.of(2025, 1, 5, 12, 0), account);
+
+
+        // ACT
+        List<TransactionSummaryDto> result = transactionRepository.findSummariesByAccountIdAndDateRange(
+            account.getId(), FROM, TO, sameDate, second.getId(), Limit.of(10));
+
+
+        // ASSERT
+        assertThat(result).extracting(TransactionSummaryDto::getId).containsExactly(first.getId(), older.getId());
+
+    }
+
+// -------------------------------------------------- sumAmountByAccountIdAndDateRange method -------------------------------------------------- 
+
+    @Test
+    public void WhenSumAmountByAccountIdAndDateRange_ThenSumOnlyRowsInsideRangeOfThatAccount() throws Exception {
+
+        // ARRANGE
+        persistTransaction("lunch", "25.90", LocalDateTime.of(2025, 1, 10, 12, 0), account);
+        persistTransaction("bus", "4.40", LocalDateTime.of(2025, 1, 20, 8, 0), account);
+        persistTransaction("after range", "100.00", TO, account);
+        persistTransaction("another account", "100.00", LocalDateTime.of(2025, 1, 15, 0, 0), anotherAccount);
+
+
+        // ACT
+        BigDecimal result = transactionRepository.sumAmountByAccountIdAndDateRange(account.getId(), FROM, TO);
+
+
+        // ASSERT
+        assertThat(result).isEqualByComparingTo("30.30");
+
+    }
+
+    @Test
+    public void WhenSumAmountByAccountIdAndDateRangeWithoutRows_ThenReturnZero() throws Exception {
+
+        // ACT
+        BigDecimal result = transactionRepository.sumAmountByAccountIdAndDateRange(account.getId(), FROM, TO);
+
+
+        // ASSERT
+        assertThat(result).isEqualByComparingTo("0");
+
+    }
+
+// -------------------------------------------------- deleteByIdAndAccountId method -------------------------------------------------- 
+
+    @Test
+    public void WhenDeleteByIdAndAccountIdButTransactionIsFromAnotherAccount_ThenDeleteNothing() throws Exception {
+
+        // ARRANGE
+        Transaction transaction = persistTransaction("lunch", "25.90", LocalDateTime.of(2025, 1, 10, 12, 0), account);
+
+
+        // ACT
+        int deletedRows = transactionRepository.deleteByIdAndAccountId(transaction.getId(), anotherAccount.getId());
+
+        entityManager.clear();
+
+
+        // ASSERT
+        assertThat(deletedRows).isZero();
+        assertThat(transactionRepository.findById(transaction.getId())).isPresent();
+
+    }
+
+// -------------------------------------------------- fk_tag_table ON DELETE SET NULL -------------------------------------------------- 
+
+    @Test
+    public void WhenTagIsDeleted_ThenTransactionKeepsExistingWithoutTag() throws Exception {
+
+        // ARRANGE
+        Tag tag = entityManager.persist(new Tag("food", "food description", account));
+
+        Transaction transaction = persistTransaction("lunch", "25.90", LocalDateTime.of(2025, 1, 10, 12, 0), account);
+        transaction.setTag(tag);
+
+        entityManager.flush();
+
+
+        // ACT
+        entityManager.getEntityManager()
+            .createQuery("DELETE FROM Tag t WHERE t.id = :id")
+            .setParameter("id", tag.getId())
+            .executeUpdate();
+
+        entityManager.clear();
+
+
+        // ASSERT
+        Transaction result = transactionRepository.findOneByIdAndAccountId(transaction.getId(), account.getId());
+
+        assertThat(result).isNotNull();
+        assertThat(result.getTag()).isNull();
+
+    }
+
+}
@@ -0,0 +1,49 @@
+package com.github.datasleo.mothsinmywallet.security;
+
+import java.time.Duration;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+import org.junit.jupiter.api.Test;
+
+public class BCryptCostTest {
+
+    @Test
+    public void WhenMinimumCostIsFasterThanTarget_MustPickHighestCostWithinTarget() throws Exception {
+
+        // 40 ms at cost 10 -> 80 ms at 11 -> 160 ms at 12 -> 320 ms at 13
+        int cost = BCryptCost.calibrate(Duration.ofMillis(250), 10, 14, minCost -> Duration.ofMillis(40));
+
+        assertEquals(12, cost);
+
+    }
+
+    @Test
+    public void WhenMinimumCostIsSlowerThanTarget_MustKeepMinimumCost() throws Exception {
+
+        int cost = BCryptCost.calibrate(Duration.ofMillis(250), 10, 14, minCost -> Duration.ofMillis(400));
+
+        assertEquals(10, cost);
+
+    }
+
+    @Test
+    public void WhenMachineIsVeryFast_MustStopAtMaximumCost() throws Exception {
+
+        int cost = BCryptCost.calibrate(Duration.ofMillis(250), 10, 14, minCost -> Duration.ofNanos(1));
+
+        assertEquals(14, cost);
+
+    }
+
+    @Test
+    public void WhenCostRangeIsInvalid_MustThrowIllegalArgumentException() throws Exception {
+
+        assertThrows(
+            IllegalArgumentException.class,
+            () -> BCryptCost.calibrate(Duration.ofMillis(250), 12, 10, minCost -> Duration.ofMillis(1))
+        );
+
+    }
+
+}
@@ -0,0 +1,103 @@
+package com.github.datasleo.mothsinmywallet.security;
+
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.TimeUnit;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+import org.junit.jupiter.api.Test;
+import org.springframework.security.crypto.bcrypt.BCryptPasswordEncoder;
+import org.springframework.security.crypto.password.PasswordEncoder;
+
+import com.github.datasleo.mothsinmywallet.exception.PasswordHashingRejectedException;
+
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+
+public class BoundedPasswordEncoderTest {
+
+    @Test
+    public void WhenEncodeAndMatches_MustDelegateToEncoder() throws Exception {
+
+        try(BoundedPasswordEncoder encoder = new BoundedPasswordEncoder(new BCryptPasswordEncoder(4), 1, 1)) {
+
+            String hash = encoder.encode("password123");
+
+            assertTrue(encoder.matches("password123", hash));
+            assertFalse(encoder.matches("wrong", hash));
+
+        }
+
+    }
+
+    @Test
+    public void WhenStoredCostIsLowerThanCurrent_MustAskForUpgrade() throws Exception {
+
+        try(BoundedPasswordEncoder encoder = new BoundedPasswordEncoder(new BCryptPasswordEncoder(5), 1, 1)) {
+
+            assertTrue(encoder.upgradeEncoding(new BCryptPasswordEncoder(4).encode("password123")));
+            assertFalse(encoder.upgradeEncoding(new BCryptPasswordEncoder(5).encode("password123")));
+
+        }
+
+    }
+
+    @Test
+    public void WhenQueueIsFull_MustRejectAndCountIt() throws Exception {
+
+        // ARRANGE
+        CountDownLatch started = new CountDownLatch(1);
+        CountDownLatch release = new CountDownLatch(1);
+
+        PasswordEncoder blocking = new PasswordEncoder() {
+            @Override
+            public String encode(CharSequence rawPassword) {
+                started.countDown();
+                try {
+                    release.await();
+                } catch (InterruptedException e) {
+                    Thread.currentThread().interrupt();
+                }
+                return rawPassword.toString();
+            }
+
+            @Override
+            public boolean matches(CharSequence rawPassword, String encodedPassword) {
+                return false;
+            }
+        };
+
+        SimpleMeterRegistry registry = new SimpleMeterRegistry();
+
+        try(BoundedPasswordEncoder encoder = new BoundedPasswordEncoder(blocking, 1, 1)) {
+
+            encoder.bindTo(registry);
+
+            // One hash running on the only thread, one waiting in the queue.
+            CompletableFuture<String> running = CompletableFuture.supplyAsync(() -> encoder.encode("first"));
+            assertTrue(started.await(5, TimeUnit.SECONDS));
+
+            CompletableFuture<String> queued = CompletableFuture.supplyAsync(() -> encoder.encode("second"));
+
+            while(registry.get("executor.queued").tag("name", BoundedPasswordEncoder.EXECUTOR_NAME).gauge().value() < 1) {
+                Thread.onSpinWait();
+            }
+
+            // ACT & ASSERT
+            assertThrows(PasswordHashingRejectedException.class, () -> encoder.encode("third"));
+
+            assertThat(registry.get("executor.rejected").tag("name", BoundedPasswordEncoder.EXECUTOR_NAME).functionCounter().count()).isEqualTo(1);
+
+            release.countDown();
+
+            assertEquals("first", running.get(5, TimeUnit.SECONDS));
+            assertEquals("second", queued.get(5, TimeUnit.SECONDS));
+
+        }
+
+    }
+
+}
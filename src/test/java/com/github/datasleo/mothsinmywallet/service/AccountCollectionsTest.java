@@ -0,0 +1,161 @@
+package com.github.datasleo.mothsinmywallet.service;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import org.hibernate.Hibernate;
+import org.hibernate.SessionFactory;
+import org.hibernate.stat.Statistics;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.autoconfigure.orm.jpa.DataJpaTest;
+import org.springframework.context.annotation.Import;
+import org.springframework.transaction.PlatformTransactionManager;
+import org.springframework.transaction.annotation.Propagation;
+import org.springframework.transaction.annotation.Transactional;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import com.github.datasleo.mothsinmywallet.config.CacheConfig;
+import com.github.datasleo.mothsinmywallet.dto.PaymentMethodDto;
+import com.github.datasleo.mothsinmywallet.dto.TagDto;
+import com.github.datasleo.mothsinmywallet.model.Account;
+import com.github.datasleo.mothsinmywallet.model.PaymentMethod;
+import com.github.datasleo.mothsinmywallet.model.Tag;
+import com.github.datasleo.mothsinmywallet.repository.AccountRepository;
+import com.github.datasleo.mothsinmywallet.repository.PaymentMethodRepository;
+import com.github.datasleo.mothsinmywallet.repository.TagRepository;
+
+import jakarta.persistence.EntityManager;
+import jakarta.persistence.EntityManagerFactory;
+
+// Account.tags and Account.payments hold every tag and payment method of the account. Adding or
+// removing one of them must not read the others.
+@DataJpaTest(properties = "spring.jpa.properties.hibernate.generate_statistics=true")
+@Import({TagService.class, PaymentMethodService.class, SpendAnalyticsService.class, DashboardService.class, CacheConfig.class})
+@Transactional(propagation = Propagation.NOT_SUPPORTED)
+public class AccountCollectionsTest {
+
+    private static final int CHILDREN = 50;
+
+    @Autowired
+    private TagService tagService;
+
+    @Autowired
+    private PaymentMethodService paymentService;
+
+    @Autowired
+    private AccountRepository accountRepository;
+
+    @Autowired
+    private TagRepository tagRepository;
+
+    @Autowired
+    private PaymentMethodRepository paymentRepository;
+
+    @Autowired
+    private EntityManager entityManager;
+
+    @Autowired
+    private EntityManagerFactory entityManagerFactory;
+
+    @Autowired
+    private PlatformTransactionManager transactionManager;
+
+    private Statistics statistics;
+
+    private Account account;
+
+    @BeforeEach
+    public void setup() {
+
+        account = accountRepository.save(new Account("foo@foo.com", "hashed_password", "foo"));
+
+        for(int i = 0; i < CHILDREN; i++) {
+            tagRepository.save(new Tag("tag-" + i, "description", account));
+            paymentRepository.save(new PaymentMethod("payment-" + i, "description", account));
+        }
+
+        statistics = entityManagerFactory.unwrap(SessionFactory.class).getStatistics();
+        statistics.clear();
+
+    }
+
+    @AfterEach
+    public void cleanup() {
+        tagRepository.deleteAllInBatch();
+        paymentRepository.deleteAllInBatch();
+        accountRepository.deleteAllInBatch();
+    }
+
+    @Test
+    public void WhenCreateUpdateAndDeleteTag_ThenLoadNoAccountCollection() throws Exception {
+
+        // ACT
+        Tag tag = tagService.createTag(new TagDto("market", "description", account.getId()));
+        tagService.updateTag(tag.getId(), account.getId(), new TagDto("groceries", "description", account.getId()));
+        tagService.deleteTag(tag.getId(), account.getId());
+
+        // ASSERT
+        assertThat(tagRepository.count()).isEqualTo(CHILDREN);
+        assertThat(statistics.getCollectionLoadCount()).isZero();
+        assertThat(statistics.getCollectionFetchCount()).isZero();
+
+    }
+
+    @Test
+    public void WhenCreateUpdateAndDeletePaymentMethod_ThenLoadNoAccountCollection() throws Exception {
+
+        // ACT
+        PaymentMethod payment = paymentService.createPayment(new PaymentMethodDto("pix", "description", account.getId()));
+        paymentService.updatePayment(payment.getId(), account.getId(), new PaymentMethodDto("debit card", "description", account.getId()));
+        paymentService.deletePayment(payment.getId(), account.getId());
+
+        // ASSERT
+        assertThat(paymentRepository.count()).isEqualTo(CHILDREN);
+        assertThat(statistics.getCollectionLoadCount()).isZero();
+        assertThat(statistics.getCollectionFetchCount()).isZero();
+
+    }
+
+    @Test
+    public void WhenDeleteTagThroughServiceAlone_ThenRowIsGoneAndCollectionStaysUninitialized() throws Exception {
+
+        // ARRANGE
+        Tag tag = tagService.createTag(new TagDto("market", "description", account.getId()));
+
+        // ACT
+        tagService.deleteTag(tag.getId(), account.getId());
+
+        // ASSERT
+        assertThat(tagRepository.findById(tag.getId())).isNotPresent();
+
+        new TransactionTemplate(transactionManager).executeWithoutResult(status -> {
+            Account managed = entityManager.find(Account.class, account.getId());
+            assertThat(Hibernate.isInitialized(managed.getTags())).isFalse();
+            assertThat(managed.getTags()).hasSize(CHILDREN).doesNotContain(tag);
+        });
+
+    }
+
+    @Test
+    public void WhenRemoveTagFromAccountCollectionAlone_ThenRowIsGone() throws Exception {
+
+        // ARRANGE
+        Tag tag = tagService.createTag(new TagDto("market", "description", account.getId()));
+
+        // ACT
+        new TransactionTemplate(transactionManager).executeWithoutResult(status -> {
+            Account managed = entityManager.find(Account.class, account.getId());
+            managed.getTags().removeIf(child -> child.getId() == tag.getId());
+        });
+
+        // ASSERT
+        assertThat(tagRepository.findById(tag.getId())).isNotPresent();
+        assertThat(tagRepository.count()).isEqualTo(CHILDREN);
+
+        // Removing through the set read the whole collection, which is why the services do not.
+        assertThat(statistics.getCollectionLoadCount()).isEqualTo(1);
+
+    }
+
+}
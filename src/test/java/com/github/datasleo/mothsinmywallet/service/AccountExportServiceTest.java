@@ -0,0 +1,206 @@
+package com.github.datasleo.mothsinmywallet.service;
+
+import java.io.ByteArrayOutputStream;
+import java.io.StringReader;
+import java.math.BigDecimal;
+import java.nio.charset.StandardCharsets;
+import java.time.Duration;
+import java.time.LocalDateTime;
+import java.util.List;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.autoconfigure.ImportAutoConfiguration;
+import org.springframework.boot.autoconfigure.jackson.JacksonAutoConfiguration;
+import org.springframework.boot.test.autoconfigure.orm.jpa.DataJpaTest;
+import org.springframework.boot.test.autoconfigure.orm.jpa.TestEntityManager;
+import org.springframework.context.annotation.Import;
+
+import com.fasterxml.jackson.databind.JsonNode;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.github.datasleo.mothsinmywallet.config.CacheConfig;
+import com.github.datasleo.mothsinmywallet.dto.TransactionImportResultDto;
+import com.github.datasleo.mothsinmywallet.exception.ExportTimeoutException;
+import com.github.datasleo.mothsinmywallet.model.Account;
+import com.github.datasleo.mothsinmywallet.model.PaymentMethod;
+import com.github.datasleo.mothsinmywallet.model.Tag;
+import com.github.datasleo.mothsinmywallet.model.Transaction;
+import com.github.datasleo.mothsinmywallet.repository.PaymentMethodRepository;
+import com.github.datasleo.mothsinmywallet.repository.TagRepository;
+import com.github.datasleo.mothsinmywallet.repository.TransactionRepository;
+
+@DataJpaTest
+@Import({AccountExportService.class, TransactionImportService.class, MonthlySpendService.class, SpendAnalyticsService.class, DashboardService.class, CacheConfig.class})
+@ImportAutoConfiguration(JacksonAutoConfiguration.class)
+public class AccountExportServiceTest {
+
+    @Autowired
+    private AccountExportService exportService;
+
+    @Autowired
+    private TransactionImportService importService;
+
+    @Autowired
+    private ObjectMapper objectMapper;
+
+    @Autowired
+    private TestEntityManager entityManager;
+
+    @Autowired
+    private TagRepository tagRepository;
+
+    @Autowired
+    private PaymentMethodRepository paymentRepository;
+
+    @Autowired
+    private TransactionRepository transactionRepository;
+
+    private Account account;
+
+    @BeforeEach
+    public void setup() {
+
+        account = entityManager.persist(new Account("foo@foo.com", "hashed_password", "foo"));
+
+        Tag tag = entityManager.persist(new Tag("food", "lunch, dinner", account));
+        PaymentMethod payment = entityManager.persist(new PaymentMethod("cash", null, account));
+
+        Transaction lunch = entityManager.persist(new Transaction("lunch", "with \"friends\"", new BigDecimal("25.90"), LocalDateTime.of(2025, 1, 10, 12, 30), account));
+        lunch.setTag(tag);
+        lunch.setPaymentMethod(payment);
+
+        entityManager.persist(new Transaction("bus", null, new BigDecimal("4.40"), LocalDateTime.of(2025, 1, 11, 8, 0), account));
+
+        Account anotherAccount = entityManager.persist(new Account("bar@bar.com", "hashed_password", "bar"));
+        entityManager.persist(new Tag("travel", null, anotherAccount));
+
+        entityManager.flush();
+        entityManager.clear();
+
+    }
+
+    @Test
+    public void WhenWriteTagsCsv_ThenWriteOnlyTagsOfThatAccount() throws Exception {
+
+        ByteArrayOutputStream out = new ByteArrayOutputStream();
+
+        exportService.writeTagsCsv(account.getId(), out);
+
+        assertThat(out.toString(StandardCharsets.UTF_8)).isEqualTo("""
+            tag_name,tag_description
+            food,"lunch, dinner"
+            """);
+
+    }
+
+    @Test
+    public void WhenWritePaymentMethodsCsv_ThenWriteNullAsEmptyField() throws Exception {
+
+        ByteArrayOutputStream out = new ByteArrayOutputStream();
+
+        exportService.writePaymentMethodsCsv(account.getId(), out);
+
+        assertThat(out.toString(StandardCharsets.UTF_8)).isEqualTo("""
+            payment_name,payment_description
+            cash,
+            """);
+
+    }
+
+    @Test
+    public void WhenWriteTransactionsCsv_ThenWriteRowsOldestFirstInImportFormat() throws Exception {
+
+        ByteArrayOutputStream out = new ByteArrayOutputStream();
+
+        exportService.writeTransactionsCsv(account.getId(), out);
+
+        String csv = out.toString(StandardCharsets.UTF_8);
+
+        assertThat(csv).isEqualTo("""
+            title,description,amount,date,tag,payment_method
+            lunch,"with ""friends\"\"\",25.90,2025-01-10T12:30,food,cash
+            bus,,4.40,2025-01-11T08:00,,
+            """);
+
+        TransactionImportResultDto reimported = importService.importCsv(account.getId(), new StringReader(csv));
+
+        assertThat(reimported.getImportedRows()).isEqualTo(2);
+        assertThat(reimported.getRejectedRows()).isZero();
+
+    }
+
+    @Test
+    public void WhenExportedDescriptionHasLineBreaks_ThenImportReadsItBack() throws Exception {
+
+        // ARRANGE
+        Account target = entityManager.persist(new Account("baz@baz.com", "hashed_password", "baz"));
+        entityManager.persist(new Tag("food", null, target));
+        entityManager.persist(new PaymentMethod("cash", null, target));
+        entityManager.persist(new Transaction("notes", "first line\nsecond, \"quoted\" line", new BigDecimal("1.00"), LocalDateTime.of(2025, 2, 1, 9, 0), account));
+        entityManager.flush();
+
+        ByteArrayOutputStream out = new ByteArrayOutputStream();
+        exportService.writeTransactionsCsv(account.getId(), out);
+
+
+        // ACT
+        TransactionImportResultDto reimported = importService.importCsv(target.getId(), new StringReader(out.toString(StandardCharsets.UTF_8)));
+
+
+        // ASSERT
+        assertThat(reimported.getImportedRows()).isEqualTo(3);
+        assertThat(reimported.getRejectedRows()).isZero();
+
+        List<String> descriptions = entityManager.getEntityManager()
+            .createQuery("SELECT t.description FROM Transaction t WHERE t.account.id = :accountId ORDER BY t.date", String.class)
+            .setParameter("accountId", target.getId())
+            .getResultList();
+
+        assertThat(descriptions).containsExactly("with \"friends\"", null, "first line\nsecond, \"quoted\" line");
+
+    }
+
+    @Test
+    public void WhenWriteAccountJson_ThenWriteEverySection() throws Exception {
+
+        ByteArrayOutputStream out = new ByteArrayOutputStream();
+
+        exportService.writeAccountJson(account.getId(), out);
+
+        JsonNode json = objectMapper.readTree(out.toByteArray());
+
+        assertThat(json.get("tags")).hasSize(1);
+        assertThat(json.get("tags").get(0).get("tagName").asText()).isEqualTo("food");
+
+        assertThat(json.get("paymentMethods")).hasSize(1);
+        assertThat(json.get("paymentMethods").get(0).get("paymentName").asText()).isEqualTo("cash");
+
+        assertThat(json.get("transactions")).hasSize(2);
+        assertThat(json.get("transactions").get(0).get("title").asText()).isEqualTo("lunch");
+        assertThat(json.get("transactions").get(0).get("date").asText()).isEqualTo("2025-01-10T12:30:00");
+        assertThat(json.get("transactions").get(0).get("tagName").asText()).isEqualTo("food");
+
+    }
+
+    @Test
+    public void WhenExportRunsPastItsTimeout_ThenStopBeforeTheNextRow() throws Exception {
+
+        // ARRANGE
+        AccountExportService expiredExportService = new AccountExportService(tagRepository, paymentRepository, transactionRepository, objectMapper, Duration.ZERO);
+
+        ByteArrayOutputStream out = new ByteArrayOutputStream();
+
+
+        // ACT & ASSERT
+        assertThatThrownBy(() -> expiredExportService.writeTransactionsCsv(account.getId(), out))
+            .isInstanceOf(ExportTimeoutException.class)
+            .hasMessage("Export did not finish within 0 seconds.");
+
+        assertThat(out.toString(StandardCharsets.UTF_8)).doesNotContain("lunch");
+
+    }
+
+}
@@ -0,0 +1,101 @@
+package com.github.datasleo.mothsinmywallet.service;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.autoconfigure.orm.jpa.DataJpaTest;
+import org.springframework.boot.test.context.TestConfiguration;
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Import;
+import org.springframework.dao.DataIntegrityViolationException;
+import org.springframework.security.crypto.bcrypt.BCryptPasswordEncoder;
+import org.springframework.security.crypto.password.PasswordEncoder;
+import org.springframework.transaction.annotation.Propagation;
+import org.springframework.transaction.annotation.Transactional;
+
+import com.github.datasleo.mothsinmywallet.config.CacheConfig;
+import com.github.datasleo.mothsinmywallet.dto.SignUpDto;
+import com.github.datasleo.mothsinmywallet.exception.EmailAlreadyExistsException;
+import com.github.datasleo.mothsinmywallet.exception.UsernameAlreadyExistsException;
+import com.github.datasleo.mothsinmywallet.metrics.SqlStatements;
+import com.github.datasleo.mothsinmywallet.model.Account;
+import com.github.datasleo.mothsinmywallet.repository.AccountRepository;
+
+@DataJpaTest
+@Import({AccountService.class, CacheConfig.class, AccountServiceStatementCountTest.TestConfig.class})
+@Transactional(propagation = Propagation.NOT_SUPPORTED)
+public class AccountServiceStatementCountTest {
+
+    @Autowired
+    private AccountService accountService;
+
+    @Autowired
+    private AccountRepository accountRepository;
+
+    @BeforeEach
+    public void setup() {
+        accountRepository.save(new Account("foo@foo.com", "hashed_password", "foo"));
+    }
+
+    @AfterEach
+    public void cleanup() {
+        accountRepository.deleteAllInBatch();
+    }
+
+    @Test
+    public void WhenCreateAccount_ThenRunTwoStatements() throws Exception {
+
+        Account account = SqlStatements.assertCount(2, () -> accountService.createAccount(new SignUpDto("bar@bar.com", "password123", "password123", "bar")));
+
+        assertThat(accountRepository.findById(account.getId())).isPresent();
+
+    }
+
+    @Test
+    public void WhenCreateAccountWithRepeatedEmail_ThenRunOneStatement() throws Exception {
+
+        SqlStatements.assertCount(1, () -> assertThrows(
+            EmailAlreadyExistsException.class,
+            () -> accountService.createAccount(new SignUpDto("foo@foo.com", "password123", "password123", "bar"))
+        ));
+
+    }
+
+    @Test
+    public void WhenCreateAccountWithRepeatedUsername_ThenRunOneStatement() throws Exception {
+
+        SqlStatements.assertCount(1, () -> assertThrows(
+            UsernameAlreadyExistsException.class,
+            () -> accountService.createAccount(new SignUpDto("bar@bar.com", "password123", "password123", "foo"))
+        ));
+
+    }
+
+    @Test
+    public void WhenInsertRepeatedUsername_ThenConstraintNameIdentifiesIt() throws Exception {
+
+        // What the losing side of two racing sign-ups gets from the database.
+        DataIntegrityViolationException thrown = assertThrows(
+            DataIntegrityViolationException.class,
+            () -> accountRepository.save(new Account("bar@bar.com", "hashed_password", "foo"))
+        );
+
+        assertThat(ConstraintViolations.isUniqueViolationOf(thrown, "uk_account_table_username")).isTrue();
+        assertThat(ConstraintViolations.isUniqueViolationOf(thrown, "uk_account_table_email")).isFalse();
+
+    }
+
+    @TestConfiguration
+    static class TestConfig {
+
+        @Bean
+        public PasswordEncoder passwordEncoder() {
+            return new BCryptPasswordEncoder(4);
+        }
+
+    }
+
+}
@@ -1,6 +1,8 @@
 package com.github.datasleo.mothsinmywallet.service;
 
-import java.util.Optional;
+import java.sql.SQLException;
+import java.time.Duration;
+import java.util.List;
 
 import static org.junit.jupiter.api.Assertions.assertEquals;
 import static org.junit.jupiter.api.Assertions.assertNotNull;
@@ -12,13 +14,18 @@ import static org.mockito.ArgumentMatchers.any;
 import static org.mockito.ArgumentMatchers.anyString;
 import org.mockito.InjectMocks;
 import org.mockito.Mock;
+import org.mockito.Spy;
 import static org.mockito.Mockito.never;
 import static org.mockito.Mockito.times;
 import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.verifyNoInteractions;
 import static org.mockito.Mockito.when;
 import org.mockito.junit.jupiter.MockitoExtension;
+import org.hibernate.exception.ConstraintViolationException;
+import org.springframework.dao.DataIntegrityViolationException;
 import org.springframework.security.crypto.password.PasswordEncoder;
 
+import com.github.datasleo.mothsinmywallet.cache.ExpiringCache;
 import com.github.datasleo.mothsinmywallet.dto.SignUpDto;
 import com.github.datasleo.mothsinmywallet.exception.EmailAlreadyExistsException;
 import com.github.datasleo.mothsinmywallet.exception.PasswordAndRepeatPasswordAreNotEqualsException;
@@ -35,6 +42,9 @@ public class AccountServiceTest {
     @Mock
     private PasswordEncoder passwordEncoder;
 
+    @Spy
+    private ExpiringCache<String, Long> accountIdCache = new ExpiringCache<>(100, Duration.ofMinutes(1));
+
     @InjectMocks
     private AccountService accountService;
 
@@ -48,8 +58,7 @@ public class AccountServiceTest {
     @Test
     public void WhenCreateAccount_MustCreateAccount () throws Exception {
 
-        when(accountRepository.findByEmail(anyString())).thenReturn(Optional.empty());
-        when(accountRepository.findByUsername(anyString())).thenReturn(Optional.empty());
+        when(accountRepository.findTakenFields(anyString(), anyString())).thenReturn(List.of());
 
         when(passwordEncoder.encode(anyString())).thenReturn("hashed_password");
 
@@ -69,8 +78,7 @@ public class AccountServiceTest {
         assertEquals("test@test.com", result.getEmail());
         assertEquals("hashed_password", result.getPassword());
 
-        verify(accountRepository, times(1)).findByEmail(anyString());
-        verify(accountRepository, times(1)).findByUsername(anyString());
+        verify(accountRepository, times(1)).findTakenFields("test@test.com", "fooandbar123");
         verify(passwordEncoder, times(1)).encode("password123");
         verify(accountRepository, times(1)).save(any(Account.class));
 
@@ -79,9 +87,7 @@ public class AccountServiceTest {
     @Test
     public void WhenCreateAccountWithAlreadyEmail_MustReturnEmailAlreadyExistsException () throws Exception {
 
-        Account existsEmail = new Account();
-
-        when(accountRepository.findByEmail(anyString())).thenReturn(Optional.of(existsEmail));
+        when(accountRepository.findTakenFields(anyString(), anyString())).thenReturn(List.of("email"));
 
         EmailAlreadyExistsException thrown = assertThrows(
             EmailAlreadyExistsException.class,
@@ -90,20 +96,29 @@ public class AccountServiceTest {
 
         assertEquals("Email test@test.com already exists.", thrown.getMessage());
 
-        verify(accountRepository, times(1)).findByEmail(anyString());
-        verify(accountRepository, never()).findByUsername(anyString());
+        verify(accountRepository, times(1)).findTakenFields(anyString(), anyString());
         verify(passwordEncoder, never()).encode("password123");
         verify(accountRepository, never()).save(any(Account.class));
     
     }
 
+    @Test
+    public void WhenCreateAccountWithAlreadyEmailAndUsername_MustReturnEmailAlreadyExistsException () throws Exception {
+
+        when(accountRepository.findTakenFields(anyString(), anyString())).thenReturn(List.of("username", "email"));
+
+        assertThrows(
+            EmailAlreadyExistsException.class,
+            () -> accountService.createAccount(validSignUpDto)
+        );
+
+    }
+
     @Test
     public void WhenCreateAccountWithPasswordsNotEquals_MustReturnPasswordAndRepeatPasswordAreNotEqualsException() throws Exception {
 
         SignUpDto passwordsAreNotEquals = new SignUpDto("test@test.com", "password123", "123456", "fooandbar123");
 
-        when(accountRepository.findByEmail(anyString())).thenReturn(Optional.empty());
-
         PasswordAndRepeatPasswordAreNotEqualsException thrown = assertThrows(
             PasswordAndRepeatPasswordAreNotEqualsException.class,
             () -> accountService.createAccount(passwordsAreNotEquals)
@@ -111,20 +126,15 @@ public class AccountServiceTest {
 
         assertEquals("Passwords are not equals.", thrown.getMessage());
 
-        verify(accountRepository, times(1)).findByEmail(anyString());
-        verify(accountRepository, never()).findByUsername(anyString());
+        verifyNoInteractions(accountRepository);
         verify(passwordEncoder, never()).encode(anyString());
-        verify(accountRepository, never()).save(any(Account.class));
 
     }
 
     @Test
     public void WhenCreateAccountWithAlreadyUsername_MustReturnUsernameAlreadyExistsException () throws Exception {
 
-        Account existsAccount = new Account();
-
-        when(accountRepository.findByEmail(anyString())).thenReturn(Optional.empty());
-        when(accountRepository.findByUsername(anyString())).thenReturn(Optional.of(existsAccount));
+        when(accountRepository.findTakenFields(anyString(), anyString())).thenReturn(List.of("username"));
 
         UsernameAlreadyExistsException thrown = assertThrows(
             UsernameAlreadyExistsException.class,
@@ -133,11 +143,93 @@ public class AccountServiceTest {
 
         assertEquals("Username fooandbar123 already exists.", thrown.getMessage());
 
-        verify(accountRepository, times(1)).findByEmail(anyString());
-        verify(accountRepository, times(1)).findByUsername(anyString());    
+        verify(accountRepository, times(1)).findTakenFields(anyString(), anyString());
         verify(passwordEncoder, never()).encode(anyString());
         verify(accountRepository, never()).save(any(Account.class));
 
     }
 
+    @Test
+    public void WhenCreateAccountLosesRaceOnUsername_MustReturnUsernameAlreadyExistsException () throws Exception {
+
+        when(accountRepository.findTakenFields(anyString(), anyString())).thenReturn(List.of());
+        when(passwordEncoder.encode(anyString())).thenReturn("hashed_password");
+        when(accountRepository.save(any(Account.class))).thenThrow(new DataIntegrityViolationException("unique violation",
+            new ConstraintViolationException("Duplicate entry", new SQLException("Duplicate entry 'fooandbar123'", "23000", 1062), "account_table.uk_account_table_username")));
+
+        UsernameAlreadyExistsException thrown = assertThrows(
+            UsernameAlreadyExistsException.class,
+            () -> accountService.createAccount(validSignUpDto)
+        );
+
+        assertEquals("Username fooandbar123 already exists.", thrown.getMessage());
+
+        verify(accountRepository, times(1)).findTakenFields(anyString(), anyString());
+
+    }
+
+    @Test
+    public void WhenCreateAccountLosesRaceWithoutConstraintName_MustProbeAgain () throws Exception {
+
+        when(accountRepository.findTakenFields(anyString(), anyString())).thenReturn(List.of(), List.of("email"));
+        when(passwordEncoder.encode(anyString())).thenReturn("hashed_password");
+        when(accountRepository.save(any(Account.class))).thenThrow(new DataIntegrityViolationException("unique violation",
+            new SQLException("Duplicate entry 'test@test.com'", "23000", 1062)));
+
+        assertThrows(
+            EmailAlreadyExistsException.class,
+            () -> accountService.createAccount(validSignUpDto)
+        );
+
+        verify(accountRepository, times(2)).findTakenFields(anyString(), anyString());
+
+    }
+
+    @Test
+    public void WhenGetAccountIdByPrincipalNameTwice_MustQueryRepositoryOnce() throws Exception {
+
+        when(accountRepository.findIdByLoginIdentifier("fooandbar123")).thenReturn(1L);
+
+        Long first = accountService.getAccountIdByPrincipalName("fooandbar123");
+        Long second = accountService.getAccountIdByPrincipalName("fooandbar123");
+
+        assertEquals(1L, first);
+        assertEquals(1L, second);
+        assertEquals(1L, accountIdCache.getHitCount());
+        assertEquals(1L, accountIdCache.getMissCount());
+
+        verify(accountRepository, times(1)).findIdByLoginIdentifier("fooandbar123");
+
+    }
+
+    @Test
+    public void WhenGetAccountIdByPrincipalNameNotFound_MustNotCacheTheMiss() throws Exception {
+
+        when(accountRepository.findIdByLoginIdentifier("fooandbar123")).thenReturn(null);
+
+        accountService.getAccountIdByPrincipalName("fooandbar123");
+        accountService.getAccountIdByPrincipalName("fooandbar123");
+
+        assertEquals(0, accountIdCache.size());
+
+        verify(accountRepository, times(2)).findIdByLoginIdentifier("fooandbar123");
+
+    }
+
+    @Test
+    public void WhenCreateAccount_MustEvictCachedIdentifiers() throws Exception {
+
+        accountIdCache.put("test@test.com", 99L);
+        accountIdCache.put("fooandbar123", 99L);
+
+        when(accountRepository.findTakenFields(anyString(), anyString())).thenReturn(List.of());
+        when(passwordEncoder.encode(anyString())).thenReturn("hashed_password");
+        when(accountRepository.save(any(Account.class))).thenAnswer(invocation -> invocation.getArgument(0));
+
+        accountService.createAccount(validSignUpDto);
+
+        assertEquals(0, accountIdCache.size());
+
+    }
+
 }
@@ -0,0 +1,42 @@
+package com.github.datasleo.mothsinmywallet.service;
+
+import java.util.List;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+import org.junit.jupiter.api.Test;
+
+import com.github.datasleo.mothsinmywallet.exception.InvalidCsvFileException;
+
+public class CsvLineParserTest {
+
+    @Test
+    public void WhenParsePlainLine_ThenSplitOnCommas() {
+        assertEquals(List.of("lunch", "", "25.90"), CsvLineParser.parse("lunch,,25.90"));
+    }
+
+    @Test
+    public void WhenParseQuotedFields_ThenKeepCommasAndUnescapeQuotes() {
+        assertEquals(List.of("a, b", "say \"hi\"", ""), CsvLineParser.parse("\"a, b\",\"say \"\"hi\"\"\",\"\""));
+    }
+
+    @Test
+    public void WhenParseUnclosedQuote_ThenThrowInvalidCsvFileException() {
+        assertThrows(InvalidCsvFileException.class, () -> CsvLineParser.parse("\"lunch,25.90"));
+    }
+
+    @Test
+    public void WhenParseRecordWithLineBreakInQuotes_ThenKeepTheLineBreak() {
+        assertEquals(List.of("lunch", "first\nsecond"), CsvLineParser.parse("lunch,\"first\nsecond\""));
+    }
+
+    @Test
+    public void WhenTextStopsInsideQuotes_ThenRecordGoesOn() {
+        assertTrue(CsvLineParser.endsInsideQuotes("lunch,\"first"));
+        assertFalse(CsvLineParser.endsInsideQuotes("lunch,\"say \"\"hi\"\"\""));
+        assertFalse(CsvLineParser.endsInsideQuotes("lunch,25.90"));
+    }
+
+}
@@ -0,0 +1,118 @@
+package com.github.datasleo.mothsinmywallet.service;
+
+import java.time.Duration;
+import java.util.Optional;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.ArgumentCaptor;
+import static org.mockito.ArgumentMatchers.anyLong;
+import static org.mockito.ArgumentMatchers.anyString;
+import static org.mockito.ArgumentMatchers.eq;
+import org.mockito.Mock;
+import static org.mockito.Mockito.never;
+import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.when;
+import org.mockito.junit.jupiter.MockitoExtension;
+import org.springframework.security.authentication.BadCredentialsException;
+import org.springframework.security.authentication.UsernamePasswordAuthenticationToken;
+import org.springframework.security.authentication.dao.DaoAuthenticationProvider;
+import org.springframework.security.crypto.bcrypt.BCryptPasswordEncoder;
+
+import com.github.datasleo.mothsinmywallet.config.SecurityConfig;
+import com.github.datasleo.mothsinmywallet.model.Account;
+import com.github.datasleo.mothsinmywallet.repository.AccountRepository;
+import com.github.datasleo.mothsinmywallet.security.BoundedPasswordEncoder;
+
+// The provider is wired as Spring Security wires it from the beans: the configured encoder
+// (here at cost 5) and CustomUserDetailsService as both user and password service.
+@ExtendWith(MockitoExtension.class)
+public class CustomUserDetailsServiceTest {
+
+    @Mock
+    private AccountRepository accountRepository;
+
+    private BoundedPasswordEncoder passwordEncoder;
+
+    private DaoAuthenticationProvider provider;
+
+    @BeforeEach
+    public void setup() {
+
+        passwordEncoder = new SecurityConfig(null).passwordEncoder(5, Duration.ofMillis(250), 10, 14, 1, 4);
+
+        CustomUserDetailsService userDetailsService = new CustomUserDetailsService(accountRepository);
+
+        provider = new DaoAuthenticationProvider(userDetailsService);
+        provider.setPasswordEncoder(passwordEncoder);
+        provider.setUserDetailsPasswordService(userDetailsService);
+
+    }
+
+    @AfterEach
+    public void cleanup() {
+        passwordEncoder.close();
+    }
+
+    @Test
+    public void WhenLoginWithWeakerLegacyHash_MustStoreRehashedPassword() throws Exception {
+
+        // ARRANGE
+        Account account = new Account("foo@foo.com", new BCryptPasswordEncoder(4).encode("password123"), "foo");
+        account.setId(1L);
+
+        when(accountRepository.findByLoginIdentifier("foo")).thenReturn(Optional.of(account));
+
+        // ACT
+        provider.authenticate(UsernamePasswordAuthenticationToken.unauthenticated("foo", "password123"));
+
+        // ASSERT
+        ArgumentCaptor<String> rehashed = ArgumentCaptor.forClass(String.class);
+        verify(accountRepository).updatePasswordById(eq(1L), rehashed.capture());
+
+        assertThat(rehashed.getValue()).startsWith("{bcrypt}$2a$05$");
+        assertThat(passwordEncoder.matches("password123", rehashed.getValue())).isTrue();
+
+    }
+
+    @Test
+    public void WhenLoginWithCurrentHash_MustNotRehash() throws Exception {
+
+        // ARRANGE
+        Account account = new Account("foo@foo.com", passwordEncoder.encode("password123"), "foo");
+        account.setId(1L);
+
+        when(accountRepository.findByLoginIdentifier("foo")).thenReturn(Optional.of(account));
+
+        // ACT
+        provider.authenticate(UsernamePasswordAuthenticationToken.unauthenticated("foo", "password123"));
+
+        // ASSERT
+        verify(accountRepository, never()).updatePasswordById(anyLong(), anyString());
+
+    }
+
+    @Test
+    public void WhenLoginWithWrongPassword_MustNotRehash() throws Exception {
+
+        // ARRANGE
+        Account account = new Account("foo@foo.com", new BCryptPasswordEncoder(4).encode("password123"), "foo");
+        account.setId(1L);
+
+        when(accountRepository.findByLoginIdentifier("foo")).thenReturn(Optional.of(account));
+
+        // ACT & ASSERT
+        assertThrows(
+            BadCredentialsException.class,
+            () -> provider.authenticate(UsernamePasswordAuthenticationToken.unauthenticated("foo", "wrong"))
+        );
+
+        verify(accountRepository, never()).updatePasswordById(anyLong(), anyString());
+
+    }
+
+}
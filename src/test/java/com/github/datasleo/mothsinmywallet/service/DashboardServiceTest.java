@@ -0,0 +1,169 @@
+package com.github.datasleo.mothsinmywallet.service;
+
+import java.math.BigDecimal;
+import java.time.LocalDate;
+import java.time.LocalDateTime;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.autoconfigure.orm.jpa.DataJpaTest;
+import org.springframework.boot.test.autoconfigure.orm.jpa.TestEntityManager;
+import org.springframework.context.annotation.Import;
+
+import com.github.datasleo.mothsinmywallet.cache.ExpiringCache;
+import com.github.datasleo.mothsinmywallet.config.CacheConfig;
+import com.github.datasleo.mothsinmywallet.dto.DashboardSummaryDto;
+import com.github.datasleo.mothsinmywallet.dto.PaymentMethodDto;
+import com.github.datasleo.mothsinmywallet.dto.TagDto;
+import com.github.datasleo.mothsinmywallet.dto.TransactionDto;
+import com.github.datasleo.mothsinmywallet.metrics.SqlStatements;
+import com.github.datasleo.mothsinmywallet.model.Account;
+import com.github.datasleo.mothsinmywallet.model.PaymentMethod;
+import com.github.datasleo.mothsinmywallet.model.Tag;
+
+@DataJpaTest
+@Import({DashboardService.class, TagService.class, PaymentMethodService.class, TransactionService.class, MonthlySpendService.class, SpendAnalyticsService.class, CacheConfig.class})
+public class DashboardServiceTest {
+
+    @Autowired
+    private DashboardService dashboardService;
+
+    @Autowired
+    private TagService tagService;
+
+    @Autowired
+    private PaymentMethodService paymentService;
+
+    @Autowired
+    private TransactionService transactionService;
+
+    @Autowired
+    private ExpiringCache<Long, DashboardSummaryDto> dashboardCache;
+
+    @Autowired
+    private TestEntityManager entityManager;
+
+    private Account account;
+    private Tag food;
+
+    private LocalDateTime lastWeek;
+
+    @BeforeEach
+    public void setup() {
+
+        dashboardCache.invalidateAll();
+
+        lastWeek = LocalDate.now().minusDays(7).atTime(12, 0);
+
+        account = entityManager.persist(new Account("foo@foo.com", "hashed_password", "foo"));
+        food = entityManager.persist(new Tag("food", "food description", account));
+        entityManager.persist(new Tag("bus", "bus description", account));
+        PaymentMethod cash = entityManager.persist(new PaymentMethod("cash", "cash description", account));
+
+        create("lunch", lastWeek, food.getId(), cash.getId());
+        create("dinner", lastWeek.minusDays(1), food.getId(), null);
+        create("rent", lastWeek.minusDays(60), null, cash.getId());
+
+        Account anotherAccount = entityManager.persist(new Account("bar@bar.com", "hashed_password", "bar"));
+        entityManager.persist(new Tag("food", "food description", anotherAccount));
+        transactionService.createTransaction(new TransactionDto("lunch", null, new BigDecimal("99.00"), LocalDateTime.now(), null, null, anotherAccount.getId()));
+
+        entityManager.flush();
+
+    }
+
+    @Test
+    public void WhenGetSummary_ThenCountEverythingOfTheAccountInOneStatement() throws Exception {
+
+        DashboardSummaryDto summary = SqlStatements.assertCount(1, () -> dashboardService.getSummary(account.getId()));
+
+        assertThat(summary.getTagCount()).isEqualTo(2);
+        assertThat(summary.getPaymentMethodCount()).isEqualTo(1);
+        assertThat(summary.getRecentTransactionCount()).isEqualTo(2);
+        assertThat(summary.getLastTransactionDate()).isEqualTo(lastWeek);
+
+    }
+
+    @Test
+    public void WhenGetSummaryOfEmptyAccount_ThenReturnZeros() throws Exception {
+
+        Account empty = entityManager.persist(new Account("baz@baz.com", "hashed_password", "baz"));
+
+        DashboardSummaryDto summary = dashboardService.getSummary(empty.getId());
+
+        assertThat(summary.getTagCount()).isZero();
+        assertThat(summary.getPaymentMethodCount()).isZero();
+        assertThat(summary.getRecentTransactionCount()).isZero();
+        assertThat(summary.getLastTransactionDate()).isNull();
+
+    }
+
+    @Test
+    public void WhenGetSummaryOfMissingAccount_ThenReturnEmptySummary() throws Exception {
+
+        DashboardSummaryDto summary = dashboardService.getSummary(-1L);
+
+        assertThat(summary).isNotNull();
+        assertThat(summary.getTagCount()).isZero();
+        assertThat(summary.getPaymentMethodCount()).isZero();
+        assertThat(summary.getRecentTransactionCount()).isZero();
+        assertThat(summary.getLastTransactionDate()).isNull();
+
+    }
+
+    @Test
+    public void WhenGetSummaryTwice_ThenServeTheSecondFromCache() throws Exception {
+
+        dashboardService.getSummary(account.getId());
+
+        SqlStatements.assertCount(0, () -> dashboardService.getSummary(account.getId()));
+
+    }
+
+    @Test
+    public void WhenCreateOrDeleteTagAndPaymentMethod_ThenReadTheSummaryAgain() throws Exception {
+
+        // ARRANGE
+        dashboardService.getSummary(account.getId());
+
+        // ACT
+        Tag gym = tagService.createTag(new TagDto("gym", "gym description", account.getId()));
+        DashboardSummaryDto afterCreateTag = dashboardService.getSummary(account.getId());
+
+        PaymentMethod pix = paymentService.createPayment(new PaymentMethodDto("pix", "pix description", account.getId()));
+        DashboardSummaryDto afterCreatePayment = dashboardService.getSummary(account.getId());
+
+        tagService.deleteTag(gym.getId(), account.getId());
+        paymentService.deletePayment(pix.getId(), account.getId());
+        DashboardSummaryDto afterDeletes = dashboardService.getSummary(account.getId());
+
+        // ASSERT
+        assertThat(afterCreateTag.getTagCount()).isEqualTo(3);
+        assertThat(afterCreatePayment.getPaymentMethodCount()).isEqualTo(2);
+        assertThat(afterDeletes.getTagCount()).isEqualTo(2);
+        assertThat(afterDeletes.getPaymentMethodCount()).isEqualTo(1);
+
+    }
+
+    @Test
+    public void WhenCreateTransaction_ThenReadTheSummaryAgain() throws Exception {
+
+        dashboardService.getSummary(account.getId());
+
+        LocalDateTime now = LocalDateTime.now().withNano(0);
+        create("coffee", now, null, null);
+
+        DashboardSummaryDto summary = dashboardService.getSummary(account.getId());
+
+        assertThat(summary.getRecentTransactionCount()).isEqualTo(3);
+        assertThat(summary.getLastTransactionDate()).isEqualTo(now);
+
+    }
+
+    private void create(String title, LocalDateTime date, Long tagId, Long paymentId) {
+        transactionService.createTransaction(new TransactionDto(title, null, new BigDecimal("10.00"), date, tagId, paymentId, account.getId()));
+    }
+
+}
@@ -0,0 +1,232 @@
+package com.github.datasleo.mothsinmywallet.service;
+
+import java.io.StringReader;
+import java.math.BigDecimal;
+import java.time.LocalDate;
+import java.time.LocalDateTime;
+import java.time.YearMonth;
+import java.util.ArrayList;
+import java.util.List;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.tuple;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.autoconfigure.orm.jpa.DataJpaTest;
+import org.springframework.boot.test.autoconfigure.orm.jpa.TestEntityManager;
+import org.springframework.context.annotation.Import;
+
+import com.github.datasleo.mothsinmywallet.config.CacheConfig;
+import com.github.datasleo.mothsinmywallet.dto.MonthlySpendDto;
+import com.github.datasleo.mothsinmywallet.dto.MonthlyTotalDto;
+import com.github.datasleo.mothsinmywallet.dto.TransactionDto;
+import com.github.datasleo.mothsinmywallet.model.Account;
+import com.github.datasleo.mothsinmywallet.model.MonthlySpend;
+import com.github.datasleo.mothsinmywallet.model.PaymentMethod;
+import com.github.datasleo.mothsinmywallet.model.Tag;
+import com.github.datasleo.mothsinmywallet.model.Transaction;
+import com.github.datasleo.mothsinmywallet.repository.MonthlySpendRepository;
+import com.github.datasleo.mothsinmywallet.repository.TagRepository;
+import com.github.datasleo.mothsinmywallet.repository.TransactionRepository;
+
+@DataJpaTest
+@Import({MonthlySpendService.class, TransactionService.class, TransactionImportService.class, SpendAnalyticsService.class, DashboardService.class, CacheConfig.class})
+public class MonthlySpendServiceTest {
+
+    private static final YearMonth MARCH = YearMonth.of(2025, 3);
+
+    @Autowired
+    private MonthlySpendService monthlySpendService;
+
+    @Autowired
+    private TransactionService transactionService;
+
+    @Autowired
+    private TransactionImportService importService;
+
+    @Autowired
+    private MonthlySpendRepository monthlySpendRepository;
+
+    @Autowired
+    private TransactionRepository transactionRepository;
+
+    @Autowired
+    private TagRepository tagRepository;
+
+    @Autowired
+    private TestEntityManager entityManager;
+
+    private Account account;
+    private Tag tag;
+    private PaymentMethod payment;
+
+    @BeforeEach
+    public void setup() {
+
+        account = entityManager.persist(new Account("foo@foo.com", "hashed_password", "foo"));
+        tag = entityManager.persist(new Tag("food", "food description", account));
+        payment = entityManager.persist(new PaymentMethod("cash", "cash description", account));
+
+    }
+
+// -------------------------------------------------- ledger writes -------------------------------------------------- 
+
+    @Test
+    public void WhenCreateTransactionsInSameBucket_ThenKeepOneRollupRow() throws Exception {
+
+        // ACT
+        create("lunch", "25.90", LocalDateTime.of(2025, 3, 10, 12, 0), tag.getId(), payment.getId());
+        create("dinner", "40.10", LocalDateTime.of(2025, 3, 31, 23, 59), tag.getId(), payment.getId());
+
+
+        // ASSERT
+        List<MonthlySpend> rollups = monthlySpendRepository.findAll();
+
+        assertThat(rollups).hasSize(1);
+        assertThat(rollups.get(0).getMonth()).isEqualTo(LocalDate.of(2025, 3, 1));
+        assertThat(rollups.get(0).getAmount()).isEqualByComparingTo("66.00");
+        assertThat(rollups.get(0).getTransactionCount()).isEqualTo(2);
+
+    }
+
+    @Test
+    public void WhenSumBulkWrite_ThenVisitBucketsInKeyOrder() throws Exception {
+
+        // ARRANGE
+        MonthlySpendDeltas deltas = new MonthlySpendDeltas();
+
+        deltas.add(LocalDateTime.of(2025, 3, 10, 12, 0), 7L, 2L, BigDecimal.ONE);
+        deltas.add(LocalDateTime.of(2025, 1, 5, 8, 0), 9L, null, BigDecimal.ONE);
+        deltas.add(LocalDateTime.of(2025, 3, 11, 12, 0), 7L, 1L, BigDecimal.ONE);
+        deltas.add(LocalDateTime.of(2025, 3, 12, 12, 0), null, 5L, BigDecimal.ONE);
+        deltas.add(LocalDateTime.of(2025, 3, 13, 12, 0), 7L, 2L, BigDecimal.ONE);
+
+
+        // ACT
+        List<MonthlySpendDeltas.Bucket> visited = new ArrayList<>();
+        deltas.forEach((bucket, delta) -> visited.add(bucket));
+
+
+        // ASSERT
+        assertThat(visited)
+            .extracting(MonthlySpendDeltas.Bucket::month, MonthlySpendDeltas.Bucket::tagId, MonthlySpendDeltas.Bucket::paymentId)
+            .containsExactly(
+                tuple(LocalDate.of(2025, 1, 1), 9L, MonthlySpend.NONE),
+                tuple(LocalDate.of(2025, 3, 1), MonthlySpend.NONE, 5L),
+                tuple(LocalDate.of(2025, 3, 1), 7L, 1L),
+                tuple(LocalDate.of(2025, 3, 1), 7L, 2L)
+            );
+
+    }
+
+    @Test
+    public void WhenDeleteTransaction_ThenSubtractItAndHideEmptyMonths() throws Exception {
+
+        // ARRANGE
+        Transaction january = create("bus", "4.40", LocalDateTime.of(2025, 1, 5, 8, 0), null, null);
+        create("lunch", "25.90", LocalDateTime.of(2025, 3, 10, 12, 0), tag.getId(), null);
+
+
+        // ACT
+        transactionService.deleteTransaction(january.getId(), account.getId());
+
+
+        // ASSERT
+        assertThat(monthlySpendService.getMonthlyTotals(account.getId(), MARCH, 12))
+            .extracting(MonthlyTotalDto::getMonth, MonthlyTotalDto::getTransactionCount)
+            .containsExactly(tuple(LocalDate.of(2025, 3, 1), 1L));
+
+    }
+
+    @Test
+    public void WhenImportCsv_ThenRollupsMatchTheLedger() throws Exception {
+
+        // ARRANGE
+        String csv = """
+            title,amount,date,tag,payment_method
+            lunch,25.90,2025-02-10,food,cash
+            bus,4.40,2025-02-11,,cash
+            dinner,40.10,2025-03-01,food,
+            coffee,3.00,2025-03-02,food,
+            """;
+
+
+        // ACT
+        importService.importCsv(account.getId(), new StringReader(csv));
+
+
+        // ASSERT
+        List<MonthlyTotalDto> totals = monthlySpendService.getMonthlyTotals(account.getId(), MARCH, 12);
+
+        assertThat(totals).extracting(MonthlyTotalDto::getMonth).containsExactly(LocalDate.of(2025, 3, 1), LocalDate.of(2025, 2, 1));
+
+        for(MonthlyTotalDto total : totals) {
+            BigDecimal ledger = transactionRepository.sumAmountByAccountIdAndDateRange(
+                account.getId(), total.getMonth().atStartOfDay(), total.getMonth().plusMonths(1).atStartOfDay());
+
+            assertThat(total.getAmount()).isEqualByComparingTo(ledger);
+        }
+
+        assertThat(monthlySpendRepository.count()).isEqualTo(3);
+
+    }
+
+// -------------------------------------------------- reads -------------------------------------------------- 
+
+    @Test
+    public void WhenGetMonthlyTotals_ThenReturnOnlyMonthsOfWindowNewestFirst() throws Exception {
+
+        // ARRANGE
+        create("rent", "900.00", LocalDateTime.of(2024, 3, 1, 0, 0), null, null);
+        create("bus", "4.40", LocalDateTime.of(2025, 1, 5, 8, 0), null, null);
+        create("lunch", "25.90", LocalDateTime.of(2025, 3, 10, 12, 0), tag.getId(), null);
+        create("future", "1.00", LocalDateTime.of(2025, 4, 1, 0, 0), null, null);
+
+        Account anotherAccount = entityManager.persist(new Account("bar@bar.com", "hashed_password", "bar"));
+        transactionService.createTransaction(new TransactionDto("lunch", null, new BigDecimal("10.00"), LocalDateTime.of(2025, 3, 10, 12, 0), null, null, anotherAccount.getId()));
+
+
+        // ACT
+        List<MonthlyTotalDto> result = monthlySpendService.getMonthlyTotals(account.getId(), MARCH, 12);
+
+
+        // ASSERT
+        assertThat(result)
+            .extracting(MonthlyTotalDto::getMonth, total -> total.getAmount().toPlainString())
+            .containsExactly(
+                tuple(LocalDate.of(2025, 3, 1), "25.90"),
+                tuple(LocalDate.of(2025, 1, 1), "4.40")
+            );
+
+    }
+
+    @Test
+    public void WhenTagIsDeleted_ThenBreakdownFoldsItsSpendIntoNoTag() throws Exception {
+
+        // ARRANGE
+        create("lunch", "25.90", LocalDateTime.of(2025, 3, 10, 12, 0), tag.getId(), payment.getId());
+        create("snack", "4.10", LocalDateTime.of(2025, 3, 11, 12, 0), null, payment.getId());
+
+
+        // ACT
+        tagRepository.deleteByIdAndAccountId(tag.getId(), account.getId());
+        entityManager.clear();
+
+        List<MonthlySpendDto> result = monthlySpendService.getBreakdown(account.getId(), MARCH);
+
+
+        // ASSERT
+        assertThat(result)
+            .extracting(MonthlySpendDto::getTagName, MonthlySpendDto::getPaymentName, MonthlySpendDto::getTransactionCount)
+            .containsExactly(tuple(null, "cash", 2L));
+
+        assertThat(result.get(0).getAmount()).isEqualByComparingTo("30.00");
+
+    }
+
+    private Transaction create(String title, String amount, LocalDateTime date, Long tagId, Long paymentId) {
+        return transactionService.createTransaction(new TransactionDto(title, null, new BigDecimal(amount), date, tagId, paymentId, account.getId()));
+    }
+
+}
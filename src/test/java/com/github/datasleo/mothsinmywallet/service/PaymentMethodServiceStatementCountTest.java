@@ -0,0 +1,201 @@
+package com.github.datasleo.mothsinmywallet.service;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+import org.hibernate.SessionFactory;
+import org.hibernate.stat.Statistics;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.autoconfigure.orm.jpa.DataJpaTest;
+import org.springframework.context.annotation.Import;
+import org.springframework.transaction.annotation.Propagation;
+import org.springframework.transaction.annotation.Transactional;
+
+import com.github.datasleo.mothsinmywallet.config.CacheConfig;
+import com.github.datasleo.mothsinmywallet.dto.PaymentMethodDto;
+import com.github.datasleo.mothsinmywallet.exception.PaymentMethodAlreadyExistsException;
+import com.github.datasleo.mothsinmywallet.exception.PaymentMethodNotFoundOrNotAuthorizedException;
+import com.github.datasleo.mothsinmywallet.exception.UnauthorizedAccountException;
+import com.github.datasleo.mothsinmywallet.model.Account;
+import com.github.datasleo.mothsinmywallet.model.PaymentMethod;
+import com.github.datasleo.mothsinmywallet.repository.AccountRepository;
+import com.github.datasleo.mothsinmywallet.repository.PaymentMethodRepository;
+
+import jakarta.persistence.EntityManagerFactory;
+
+@DataJpaTest(properties = "spring.jpa.properties.hibernate.generate_statistics=true")
+@Import({PaymentMethodService.class, SpendAnalyticsService.class, DashboardService.class, CacheConfig.class})
+@Transactional(propagation = Propagation.NOT_SUPPORTED)
+public class PaymentMethodServiceStatementCountTest {
+
+    @Autowired
+    private PaymentMethodService paymentService;
+
+    @Autowired
+    private AccountRepository accountRepository;
+
+    @Autowired
+    private PaymentMethodRepository paymentRepository;
+
+    @Autowired
+    private EntityManagerFactory entityManagerFactory;
+
+    private Statistics statistics;
+
+    private Account account;
+
+    private PaymentMethod payment;
+
+    @BeforeEach
+    public void setup() {
+
+        account = accountRepository.save(new Account("foo@foo.com", "hashed_password", "foo"));
+        payment = paymentRepository.save(new PaymentMethod("cash", "cash description", account));
+
+        // Identity inserts are not put in the second-level cache; the first read does, as the edit page would.
+        paymentService.getOnePaymentMethod(payment.getId(), account.getId());
+
+        statistics = entityManagerFactory.unwrap(SessionFactory.class).getStatistics();
+        statistics.clear();
+
+    }
+
+    @AfterEach
+    public void cleanup() {
+        paymentRepository.deleteAllInBatch();
+        accountRepository.deleteAllInBatch();
+    }
+
+    @Test
+    public void WhenCreatePayment_ThenRunOneStatement() throws Exception {
+
+        paymentService.createPayment(new PaymentMethodDto("credit card", "description", account.getId()));
+
+        assertThat(statistics.getPrepareStatementCount()).isEqualTo(1);
+
+    }
+
+    @Test
+    public void WhenCreateRepeatedPayment_ThenThrowPaymentMethodAlreadyExistsException() throws Exception {
+
+        assertThrows(
+            PaymentMethodAlreadyExistsException.class,
+            () -> paymentService.createPayment(new PaymentMethodDto("cash", "description", account.getId()))
+        );
+
+        assertThat(statistics.getPrepareStatementCount()).isEqualTo(1);
+
+    }
+
+    @Test
+    public void WhenCreatePaymentForUnknownAccount_ThenThrowUnauthorizedAccountException() throws Exception {
+
+        assertThrows(
+            UnauthorizedAccountException.class,
+            () -> paymentService.createPayment(new PaymentMethodDto("credit card", "description", account.getId() + 1))
+        );
+
+    }
+
+    @Test
+    public void WhenGetPaymentPageByAccountId_ThenRunOneStatement() throws Exception {
+
+        paymentService.getPaymentPageByAccountId(account.getId(), null, 20);
+
+        assertThat(statistics.getPrepareStatementCount()).isEqualTo(1);
+        assertThat(statistics.getEntityLoadCount()).isZero();
+
+    }
+
+    @Test
+    public void WhenGetCachedPaymentMethod_ThenRunNoStatement() throws Exception {
+
+        paymentService.getOnePaymentMethod(payment.getId(), account.getId());
+
+        assertThat(statistics.getPrepareStatementCount()).isZero();
+        assertThat(statistics.getSecondLevelCacheHitCount()).isEqualTo(1);
+
+    }
+
+    @Test
+    public void WhenGetOnePaymentMethodWithColdCache_ThenRunOneStatement() throws Exception {
+
+        entityManagerFactory.getCache().evictAll();
+
+        paymentService.getOnePaymentMethod(payment.getId(), account.getId());
+
+        assertThat(statistics.getPrepareStatementCount()).isEqualTo(1);
+        assertThat(statistics.getSecondLevelCacheMissCount()).isEqualTo(1);
+
+    }
+
+    @Test
+    public void WhenUpdatePayment_ThenRunOneStatement() throws Exception {
+
+        paymentService.updatePayment(payment.getId(), account.getId(), new PaymentMethodDto("pix", "pix description", account.getId()));
+
+        assertThat(statistics.getPrepareStatementCount()).isEqualTo(1);
+
+    }
+
+    @Test
+    public void WhenUpdatePaymentToRepeatedName_ThenThrowPaymentMethodAlreadyExistsException() throws Exception {
+
+        PaymentMethod pix = paymentRepository.save(new PaymentMethod("pix", "pix description", account));
+
+        assertThrows(
+            PaymentMethodAlreadyExistsException.class,
+            () -> paymentService.updatePayment(pix.getId(), account.getId(), new PaymentMethodDto("cash", "description", account.getId()))
+        );
+
+    }
+
+    @Test
+    public void WhenUpdatePayment_ThenKeepPaymentMethodsOfOtherAccountsCached() throws Exception {
+
+        // ARRANGE
+        Account anotherAccount = accountRepository.save(new Account("bar@bar.com", "hashed_password", "bar"));
+        PaymentMethod anotherPayment = paymentRepository.save(new PaymentMethod("cash", "cash description", anotherAccount));
+        paymentService.getOnePaymentMethod(anotherPayment.getId(), anotherAccount.getId());
+
+        paymentService.updatePayment(payment.getId(), account.getId(), new PaymentMethodDto("pix", "pix description", account.getId()));
+        statistics.clear();
+
+        // ACT
+        paymentService.getOnePaymentMethod(anotherPayment.getId(), anotherAccount.getId());
+        long otherAccountStatements = statistics.getPrepareStatementCount();
+
+        PaymentMethod updated = paymentService.getOnePaymentMethod(payment.getId(), account.getId());
+
+        // ASSERT
+        // Only the updated payment method was evicted: it is read again, once, with its new name.
+        assertThat(otherAccountStatements).isZero();
+        assertThat(updated.getPaymentName()).isEqualTo("pix");
+        assertThat(statistics.getPrepareStatementCount()).isEqualTo(1);
+
+    }
+
+    @Test
+    public void WhenGetPaymentMethodOfAnotherAccount_ThenThrowPaymentMethodNotFoundOrNotAuthorizedException() throws Exception {
+
+        Account anotherAccount = accountRepository.save(new Account("bar@bar.com", "hashed_password", "bar"));
+
+        assertThrows(
+            PaymentMethodNotFoundOrNotAuthorizedException.class,
+            () -> paymentService.getOnePaymentMethod(payment.getId(), anotherAccount.getId())
+        );
+
+    }
+
+    @Test
+    public void WhenDeletePayment_ThenRunOneStatement() throws Exception {
+
+        paymentService.deletePayment(payment.getId(), account.getId());
+
+        assertThat(statistics.getPrepareStatementCount()).isEqualTo(1);
+
+    }
+
+}
@@ -1,7 +1,12 @@
 package com.github.datasleo.mothsinmywallet.service;
 
-import java.util.List;
+import java.sql.SQLException;
 import java.util.Optional;
+import java.util.List;
+import java.util.Map;
+
+import jakarta.persistence.Cache;
+import jakarta.persistence.EntityManagerFactory;
 
 import static org.junit.jupiter.api.Assertions.assertEquals;
 import static org.junit.jupiter.api.Assertions.assertNotNull;
@@ -15,12 +20,18 @@ import static org.mockito.ArgumentMatchers.anyString;
 import static org.mockito.ArgumentMatchers.eq;
 import org.mockito.InjectMocks;
 import org.mockito.Mock;
+import static org.mockito.Mockito.never;
 import static org.mockito.Mockito.times;
 import static org.mockito.Mockito.verify;
 import static org.mockito.Mockito.when;
 import org.mockito.junit.jupiter.MockitoExtension;
+import org.springframework.dao.DataIntegrityViolationException;
+import org.springframework.data.domain.Limit;
+import org.springframework.data.domain.ScrollPosition;
+import org.springframework.data.domain.Window;
 
 import com.github.datasleo.mothsinmywallet.dto.PaymentMethodDto;
+import com.github.datasleo.mothsinmywallet.dto.PaymentMethodSummaryDto;
 import com.github.datasleo.mothsinmywallet.exception.PaymentMethodAlreadyExistsException;
 import com.github.datasleo.mothsinmywallet.exception.PaymentMethodNotFoundOrNotAuthorizedException;
 import com.github.datasleo.mothsinmywallet.exception.UnauthorizedAccountException;
@@ -38,6 +49,18 @@ public class PaymentMethodServiceTest {
     @Mock
     private AccountRepository accountRepository;
 
+    @Mock
+    private SpendAnalyticsService spendAnalyticsService;
+
+    @Mock
+    private DashboardService dashboardService;
+
+    @Mock
+    private EntityManagerFactory entityManagerFactory;
+
+    @Mock
+    private Cache cache;
+
     @InjectMocks
     private PaymentMethodService paymentService;
 
@@ -54,7 +77,10 @@ public class PaymentMethodServiceTest {
     public void WhenCreatePaymentButAccountIdWasNotFound_ThenThrowUnauthorizedAccountException() throws Exception {
 
         // ARRANGE
-        when(accountRepository.findById(anyLong())).thenReturn(Optional.empty());
+        DataIntegrityViolationException foreignKeyViolation = new DataIntegrityViolationException("fk violation",
+            new SQLException("Cannot add or update a child row: a foreign key constraint fails", "23000", 1452));
+
+        when(paymentRepository.save(any(PaymentMethod.class))).thenThrow(foreignKeyViolation);
         
 
         // ACT & ASSERT 
@@ -65,7 +91,8 @@ public class PaymentMethodServiceTest {
 
         assertEquals("Unauthorized account.", thrown.getMessage());
 
-        verify(accountRepository, times(1)).findById(anyLong());
+        verify(accountRepository, never()).findById(anyLong());
+        verify(accountRepository, times(1)).getReferenceById(anyLong());
 
     }
 
@@ -76,8 +103,11 @@ public class PaymentMethodServiceTest {
         Account mockAccount = new Account("foo@foo.com", "hashed_password", "foo");
         mockAccount.setId(1L);
 
-        when(accountRepository.findById(eq(mockAccount.getId()))).thenReturn(Optional.of(mockAccount));
-        when(paymentRepository.findByPaymentNameAndAccountId(anyString(), eq(mockAccount.getId()))).thenReturn(new PaymentMethod());
+        DataIntegrityViolationException uniqueViolation = new DataIntegrityViolationException("unique violation",
+            new SQLException("Duplicate entry 'credit card' for key 'uk_payment_method_table_account_payment_name'", "23000", 1062));
+
+        when(accountRepository.getReferenceById(eq(mockAccount.getId()))).thenReturn(mockAccount);
+        when(paymentRepository.save(any(PaymentMethod.class))).thenThrow(uniqueViolation);
 
 
         // ACT & ASSERT
@@ -88,8 +118,8 @@ public class PaymentMethodServiceTest {
 
         assertEquals("Payment method 'credit card' already exists.", thrown.getMessage());
 
-        verify(accountRepository, times(1)).findById(eq(mockAccount.getId()));
-        verify(paymentRepository, times(1)).findByPaymentNameAndAccountId(anyString(), anyLong());
+        verify(paymentRepository, never()).findByPaymentNameAndAccountId(anyString(), anyLong());
+        verify(paymentRepository, times(1)).save(any(PaymentMethod.class));
 
     }
 
@@ -100,8 +130,7 @@ public class PaymentMethodServiceTest {
         Account mockAccount = new Account("foo@foo.com", "hashed_password", "foo");
         mockAccount.setId(1L);
 
-        when(accountRepository.findById(eq(mockAccount.getId()))).thenReturn(Optional.of(mockAccount));
-        when(paymentRepository.findByPaymentNameAndAccountId(anyString(), anyLong())).thenReturn(null);
+        when(accountRepository.getReferenceById(eq(mockAccount.getId()))).thenReturn(mockAccount);
 
         when(paymentRepository.save(any(PaymentMethod.class))).thenAnswer(answer -> {
             PaymentMethod payment = answer.getArgument(0);
@@ -122,52 +151,34 @@ public class PaymentMethodServiceTest {
         assertEquals("description", result.getPaymentDescription());
         assertEquals(1L, result.getAccount().getId());
 
-        verify(accountRepository, times(1)).findById(eq(mockAccount.getId()));
-        verify(paymentRepository, times(1)).findByPaymentNameAndAccountId(anyString(), anyLong());
+        verify(accountRepository, never()).findById(anyLong());
+        verify(paymentRepository, never()).findByPaymentNameAndAccountId(anyString(), anyLong());
         verify(paymentRepository, times(1)).save(any(PaymentMethod.class));
+        verify(dashboardService, times(1)).evict(1L);
 
     }
 
-// -------------------------------------------------- getAllPaymentsByAccountId method -------------------------------------------------- 
-
-
-    @Test
-    public void WhenGetAllPaymentsByAccountIdButAccountIdWasNotFound_ThenThrowUnauthorizedAccountException() throws Exception {
-
-        // ARRANGE
-        when(accountRepository.findById(anyLong())).thenReturn(Optional.empty());
-
-
-        // ACT & ASSERT
-        UnauthorizedAccountException thrown = assertThrows(
-            UnauthorizedAccountException.class,
-            () -> paymentService.getAllPaymentsByAccountId(anyLong())
-        );
-
-        assertEquals("Unauthorized account.", thrown.getMessage());
-
-        verify(accountRepository, times(1)).findById(anyLong());
+// -------------------------------------------------- getPaymentPageByAccountId method -------------------------------------------------- 
 
-    }
 
     @Test
-    public void WhenGetAllPaymentsByAccountId_ThenReturnListOfPayments() throws Exception {
+    public void WhenGetPaymentPageByAccountId_ThenReturnPageOfPayments() throws Exception {
 
         // ARRANGE
         Account mockAccount = new Account("foo@foo.com", "hashed_password", "foo");
         mockAccount.setId(1L);
 
-        List<PaymentMethod> mockListOfPayments = List.of(
-            new PaymentMethod("credit card", "credit card description", mockAccount),
-            new PaymentMethod("cash", "cash description", mockAccount)
+        List<PaymentMethodSummaryDto> mockListOfPayments = List.of(
+            new PaymentMethodSummaryDto(1L, "credit card", "credit card description"),
+            new PaymentMethodSummaryDto(2L, "cash", "cash description")
         );
 
-        when(accountRepository.findById(anyLong())).thenReturn(Optional.of(mockAccount));
-        when(paymentRepository.findAllByAccountId(eq(mockAccount.getId()))).thenReturn(mockListOfPayments);
+        when(paymentRepository.findSummariesByAccountIdOrderByIdAsc(eq(mockAccount.getId()), eq(ScrollPosition.keyset()), eq(Limit.of(20))))
+            .thenReturn(Window.from(mockListOfPayments, ScrollPosition::offset));
 
 
         // ACT
-        List<PaymentMethod> result = paymentService.getAllPaymentsByAccountId(mockAccount.getId());
+        List<PaymentMethodSummaryDto> result = paymentService.getPaymentPageByAccountId(mockAccount.getId(), null, 20).getContent();
 
 
         // ASSERT
@@ -181,31 +192,26 @@ public class PaymentMethodServiceTest {
 
     }
 
-// -------------------------------------------------- getOnePaymentMethod method -------------------------------------------------- 
-
     @Test
-    public void WhenGetOnePaymentMethodButAccountIdWasNotFound_ThenThrowUnauthorizedAccountException() throws Exception {
-
-        // ARRANGE 
-        long mockPaymentId = 1L;
-        long mockAccountId = 1l;
+    public void WhenGetPaymentPageByAccountIdAfterLastSeenIdWithHugePageSize_ThenSeekFromThatIdWithCappedLimit() throws Exception {
 
-        when(accountRepository.findById(anyLong())).thenReturn(Optional.empty());
+        // ARRANGE
+        when(paymentRepository.findSummariesByAccountIdOrderByIdAsc(anyLong(), any(ScrollPosition.class), any(Limit.class)))
+            .thenReturn(Window.from(List.of(), ScrollPosition::offset));
 
 
-        // ACT & ASSERT
-        UnauthorizedAccountException thrown = assertThrows(
-            UnauthorizedAccountException.class,
-            () -> paymentService.getOnePaymentMethod(mockPaymentId, mockAccountId)
-        );
+        // ACT
+        paymentService.getPaymentPageByAccountId(1L, 42L, 100_000);
 
-        
-        assertEquals("Unauthorized account.", thrown.getMessage());
 
-        verify(accountRepository, times(1)).findById(anyLong());
+        // ASSERT
+        verify(paymentRepository, times(1)).findSummariesByAccountIdOrderByIdAsc(1L, ScrollPosition.forward(Map.of("id", 42L)), Limit.of(100));
+        verify(paymentRepository, never()).findAllByAccountId(anyLong());
 
     }
 
+// -------------------------------------------------- getOnePaymentMethod method -------------------------------------------------- 
+
     @Test
     public void WhenGetOnePaymentMethodButPaymentNameWasNotFound_ThenThrowPaymentNameWasNotFoundException() throws Exception {
 
@@ -213,10 +219,7 @@ public class PaymentMethodServiceTest {
         long mockPaymentId = 1L;
         long mockAccountId = 1l;
 
-        Account mockAccount = new Account("foo@foo.com", "hashed_passowrd", "foo");
-
-        when(accountRepository.findById(anyLong())).thenReturn(Optional.of(mockAccount));
-        when(paymentRepository.findOneByIdAndAccountId(anyLong(), anyLong())).thenReturn(null);
+        when(paymentRepository.findCachedByIdAndAccountId(anyLong(), anyLong())).thenReturn(Optional.empty());
 
 
         // ACT & ASSERT
@@ -228,8 +231,7 @@ public class PaymentMethodServiceTest {
         
         assertEquals("Payment method not found or not authorized.", thrown.getMessage());
 
-        verify(accountRepository, times(1)).findById(anyLong());
-        verify(paymentRepository, times(1)).findOneByIdAndAccountId(anyLong(), anyLong());
+        verify(paymentRepository, times(1)).findCachedByIdAndAccountId(anyLong(), anyLong());
 
     }
 
@@ -243,8 +245,7 @@ public class PaymentMethodServiceTest {
         Account mockAccount = new Account("foo@foo.com", "hashed_passowrd", "foo");
         PaymentMethod mockPayment = new PaymentMethod("credit card", "description", mockAccount);
 
-        when(accountRepository.findById(anyLong())).thenReturn(Optional.of(mockAccount));
-        when(paymentRepository.findOneByIdAndAccountId(anyLong(), anyLong())).thenReturn(mockPayment);
+        when(paymentRepository.findCachedByIdAndAccountId(anyLong(), anyLong())).thenReturn(Optional.of(mockPayment));
 
 
         // ACT & ASSERT
@@ -253,42 +254,17 @@ public class PaymentMethodServiceTest {
         assertEquals("credit card", result.getPaymentName());
         assertEquals("description", result.getPaymentDescription());
 
-        verify(accountRepository, times(1)).findById(anyLong());
-        verify(paymentRepository, times(1)).findOneByIdAndAccountId(anyLong(), anyLong());
+        verify(paymentRepository, times(1)).findCachedByIdAndAccountId(anyLong(), anyLong());
 
     }
 
 // -------------------------------------------------- updatePayment method -------------------------------------------------- 
 
-    @Test
-    public void WhenUpdatePaymentButAccountIdWasNotFound_ThenThrowUnauthorizedAccountException() throws Exception {
-
-        // ARRANGE 
-        when(accountRepository.findById(anyLong())).thenReturn(Optional.empty());
-
-
-        // ACT & ASSERT
-        UnauthorizedAccountException thrown = assertThrows(
-            UnauthorizedAccountException.class,
-            () -> paymentService.updatePayment(1L, 1L, validPaymentDto)
-        );
-
-
-        assertEquals("Unauthorized account.", thrown.getMessage());
-
-        verify(accountRepository, times(1)).findById(anyLong());
-
-    }
-
     @Test
     public void WhenUpdatePaymentButPaymentNotFoundOrNotAuthorized_ThenThrowPaymentNotFoundOrNotAuthorized() throws Exception {
 
         // ARRANGE
-        Account mockAccount = new Account("foo@foo.com", "hashed_password", "foo");
-        mockAccount.setId(1L);
-
-        when(accountRepository.findById(anyLong())).thenReturn(Optional.of(mockAccount));
-        when(paymentRepository.findOneByIdAndAccountId(anyLong(), anyLong())).thenReturn(null);
+        when(paymentRepository.updateByIdAndAccountId(anyLong(), anyLong(), anyString(), anyString())).thenReturn(0);
 
 
         // ACT & ASSERT
@@ -299,8 +275,8 @@ public class PaymentMethodServiceTest {
 
         assertEquals("Payment method not found or not authorized.", thrown.getMessage());
 
-        verify(accountRepository, times(1)).findById(eq(mockAccount.getId()));
-        verify(paymentRepository, times(1)).findOneByIdAndAccountId(anyLong(), anyLong());
+        verify(paymentRepository, times(1)).updateByIdAndAccountId(eq(1L), eq(1L), eq("credit card"), eq("description"));
+        verify(entityManagerFactory, never()).getCache();
 
     } 
 
@@ -308,16 +284,10 @@ public class PaymentMethodServiceTest {
     public void WhenUpdatePaymentButPaymentAlreadyExists_ThenThrowPaymentAlreadyExistsException() throws Exception {
 
         // ARRANGE
-        Account mockAccount = new Account("foo@foo.com", "hashed_password", "foo");
-        long mockAccountId = 1L;
-        mockAccount.setId(mockAccountId);
-        
-        PaymentMethod mockPayment = new PaymentMethod("credit card", "description", mockAccount);
-        PaymentMethod mockPayment4Return = new PaymentMethod("credits card", "description", mockAccount);
+        DataIntegrityViolationException uniqueViolation = new DataIntegrityViolationException("unique violation",
+            new SQLException("Duplicate entry 'credit card' for key 'uk_payment_method_table_account_payment_name'", "23000", 1062));
 
-        when(accountRepository.findById(anyLong())).thenReturn(Optional.of(mockAccount));
-        when(paymentRepository.findOneByIdAndAccountId(anyLong(), anyLong())).thenReturn(mockPayment); 
-        when(paymentRepository.findByPaymentNameAndAccountId(anyString(), anyLong())).thenReturn(mockPayment4Return);
+        when(paymentRepository.updateByIdAndAccountId(1L, 1L, "credit card", "description")).thenThrow(uniqueViolation);
 
 
         // ACT & ASSERT
@@ -328,75 +298,37 @@ public class PaymentMethodServiceTest {
 
         assertEquals("Payment method 'credit card' already exists.", thrown.getMessage());
 
-        verify(accountRepository, times(1)).findById(eq(mockAccount.getId()));
-        verify(paymentRepository, times(1)).findOneByIdAndAccountId(anyLong(), anyLong());
-        verify(paymentRepository, times(1)).findByPaymentNameAndAccountId(anyString(), anyLong());
+        verify(entityManagerFactory, never()).getCache();
 
     }
 
     @Test
-    public void WhenUpdatePayment_ThenReturnPaymentUpdated() throws Exception {
+    public void WhenUpdatePayment_ThenUpdatePaymentEntity() throws Exception {
 
         // ARRANGE
-        Account mockAccount = new Account("foo@foo.com", "hashed_password", "foo");
-        long mockAccountId = 1L;
-        mockAccount.setId(mockAccountId);
-        
-        PaymentMethod mockPayment = new PaymentMethod("credit card", "description", mockAccount);
         PaymentMethodDto mockPaymentDto = new PaymentMethodDto("new payment", "new description", 1L);
 
-        when(accountRepository.findById(anyLong())).thenReturn(Optional.of(mockAccount));
-        when(paymentRepository.findOneByIdAndAccountId(anyLong(), anyLong())).thenReturn(mockPayment); 
-        when(paymentRepository.findByPaymentNameAndAccountId(anyString(), anyLong())).thenReturn(null);
-        when(paymentRepository.save(any(PaymentMethod.class))).thenAnswer(answer -> answer.getArgument(0)); 
+        when(paymentRepository.updateByIdAndAccountId(1L, 1L, "new payment", "new description")).thenReturn(1);
+        when(entityManagerFactory.getCache()).thenReturn(cache);
 
 
         // ACT
-        PaymentMethod result = paymentService.updatePayment(1L, 1L, mockPaymentDto);
+        paymentService.updatePayment(1L, 1L, mockPaymentDto);
 
 
         // ASSERT
-        assertEquals("new payment", result.getPaymentName());
-        assertEquals("new description", result.getPaymentDescription());
-
-        verify(accountRepository, times(1)).findById(eq(mockAccount.getId()));
-        verify(paymentRepository, times(1)).findOneByIdAndAccountId(anyLong(), anyLong());
-        verify(paymentRepository, times(1)).findByPaymentNameAndAccountId(anyString(), anyLong());
-        verify(paymentRepository, times(1)).save(any(PaymentMethod.class));
+        verify(paymentRepository, times(1)).updateByIdAndAccountId(1L, 1L, "new payment", "new description");
+        verify(cache, times(1)).evict(PaymentMethod.class, 1L);
 
     }
 
 // -------------------------------------------------- deletePayment method -------------------------------------------------- 
 
-    @Test
-    public void WhenDeletePaymentButAccountIdWasNotFound_ThenThrowUnauthorizedAccountException() throws Exception {
-
-        // ARRANGE
-        when(accountRepository.findById(anyLong())).thenReturn(Optional.empty());
-
-
-        // ACT & ASSERT
-        UnauthorizedAccountException thrown = assertThrows(
-            UnauthorizedAccountException.class,
-            () -> paymentService.deletePayment(1L, 1L)
-        );
-
-        assertEquals("Unauthorized account.", thrown.getMessage());
-
-        verify(accountRepository, times(1)).findById(anyLong());
-
-    }
-
-
     @Test
     public void WhenDeletePaymentButPaymentIdWasNotFound_ThenThrowPaymentNotFoundOrNotAuthorizedException() throws Exception {
 
         // ARRANGE
-        Account mockAccount = new Account("foo@foo.com", "hashed_password", "foo");
-        mockAccount.setId(1L);
-
-        when(accountRepository.findById(eq(1L))).thenReturn(Optional.of(mockAccount));
-        when(paymentRepository.findOneByIdAndAccountId(eq(1L), eq(1L))).thenReturn(null);
+        when(paymentRepository.deleteByIdAndAccountId(eq(1L), eq(1L))).thenReturn(0);
 
     
         // ACT & ASSERT
@@ -407,8 +339,8 @@ public class PaymentMethodServiceTest {
 
         assertEquals("Payment method not found or not authorized.", thrown.getMessage());
 
-        verify(accountRepository, times(1)).findById(eq(1L));
-        verify(paymentRepository, times(1)).findOneByIdAndAccountId(eq(1L), eq(1L));
+        verify(entityManagerFactory, never()).getCache();
+        verify(dashboardService, never()).evict(anyLong());
 
     }
 
@@ -417,27 +349,19 @@ public class PaymentMethodServiceTest {
     public void WhenDeletPayment_ThenDeletePayment() throws Exception {
 
         // ARRANGE
-        Account mockAccount = new Account("foo@foo.com", "hashed_password", "foo");
-        mockAccount.setId(1L);
-
-        PaymentMethod mockPayment = new PaymentMethod("credit card", "description", mockAccount);
-
-        when(accountRepository.findById(anyLong())).thenReturn(Optional.of(mockAccount));
-        when(paymentRepository.findOneByIdAndAccountId(anyLong(), anyLong())).thenReturn(mockPayment);
+        when(paymentRepository.deleteByIdAndAccountId(1L, 1L)).thenReturn(1);
+        when(entityManagerFactory.getCache()).thenReturn(cache);
 
 
         // ACT
-        PaymentMethod result = paymentService.deletePayment(1L, 1L);
+        paymentService.deletePayment(1L, 1L);
 
         
         // ASSERT
-        assertEquals("credit card", result.getPaymentName());
-        assertEquals("description", result.getPaymentDescription());
-        assertEquals(1L, result.getAccount().getId());
-
-        verify(accountRepository, times(1)).findById(anyLong());
-        verify(paymentRepository, times(1)).findOneByIdAndAccountId(anyLong(), anyLong());
+        verify(paymentRepository, times(1)).deleteByIdAndAccountId(1L, 1L);
+        verify(cache, times(1)).evict(PaymentMethod.class, 1L);
+        verify(dashboardService, times(1)).evict(1L);
     
     }
-    
+
 }
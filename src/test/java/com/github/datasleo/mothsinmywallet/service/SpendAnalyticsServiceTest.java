@@ -0,0 +1,117 @@
+package com.github.datasleo.mothsinmywallet.service;
+
+import java.math.BigDecimal;
+import java.time.LocalDate;
+import java.time.LocalDateTime;
+import java.time.YearMonth;
+import java.util.List;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.tuple;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.autoconfigure.orm.jpa.DataJpaTest;
+import org.springframework.boot.test.autoconfigure.orm.jpa.TestEntityManager;
+import org.springframework.context.annotation.Import;
+
+import com.github.datasleo.mothsinmywallet.analytics.SpendColumns;
+import com.github.datasleo.mothsinmywallet.cache.ExpiringCache;
+import com.github.datasleo.mothsinmywallet.config.CacheConfig;
+import com.github.datasleo.mothsinmywallet.dto.MonthlyGroupSpendDto;
+import com.github.datasleo.mothsinmywallet.dto.TransactionDto;
+import com.github.datasleo.mothsinmywallet.model.Account;
+import com.github.datasleo.mothsinmywallet.model.PaymentMethod;
+import com.github.datasleo.mothsinmywallet.model.Tag;
+
+@DataJpaTest
+@Import({SpendAnalyticsService.class, DashboardService.class, TransactionService.class, MonthlySpendService.class, CacheConfig.class})
+public class SpendAnalyticsServiceTest {
+
+    @Autowired
+    private SpendAnalyticsService analyticsService;
+
+    @Autowired
+    private TransactionService transactionService;
+
+    @Autowired
+    private ExpiringCache<Long, SpendColumns> spendColumnsCache;
+
+    @Autowired
+    private TestEntityManager entityManager;
+
+    private Account account;
+    private Tag food;
+    private PaymentMethod cash;
+
+    @BeforeEach
+    public void setup() {
+
+        spendColumnsCache.invalidateAll();
+
+        account = entityManager.persist(new Account("foo@foo.com", "hashed_password", "foo"));
+        food = entityManager.persist(new Tag("food", "food description", account));
+        cash = entityManager.persist(new PaymentMethod("cash", "cash description", account));
+
+        create("lunch", "25.90", LocalDateTime.of(2025, 1, 10, 12, 0), food.getId(), cash.getId());
+        create("bus", "4.40", LocalDateTime.of(2025, 1, 11, 8, 0), null, cash.getId());
+        create("dinner", "40.10", LocalDateTime.of(2025, 3, 1, 20, 0), food.getId(), null);
+
+        Account anotherAccount = entityManager.persist(new Account("bar@bar.com", "hashed_password", "bar"));
+        transactionService.createTransaction(new TransactionDto("lunch", null, new BigDecimal("99.00"), LocalDateTime.of(2025, 1, 10, 12, 0), null, null, anotherAccount.getId()));
+
+    }
+
+    @Test
+    public void WhenGetSpendPerTagPerMonth_ThenReturnNonEmptyCellsOldestFirst() throws Exception {
+
+        List<MonthlyGroupSpendDto> result = analyticsService.getSpendPerTagPerMonth(account.getId(), YearMonth.of(2025, 1), YearMonth.of(2025, 3));
+
+        assertThat(result)
+            .extracting(MonthlyGroupSpendDto::getMonth, MonthlyGroupSpendDto::getName, dto -> dto.getAmount().toPlainString(), MonthlyGroupSpendDto::getTransactionCount)
+            .containsExactly(
+                tuple(LocalDate.of(2025, 1, 1), null, "4.40", 1L),
+                tuple(LocalDate.of(2025, 1, 1), "food", "25.90", 1L),
+                tuple(LocalDate.of(2025, 3, 1), "food", "40.10", 1L)
+            );
+
+    }
+
+    @Test
+    public void WhenGetSpendPerPaymentMethodPerMonth_ThenGroupOnPaymentMethod() throws Exception {
+
+        List<MonthlyGroupSpendDto> result = analyticsService.getSpendPerPaymentMethodPerMonth(account.getId(), YearMonth.of(2025, 1), YearMonth.of(2025, 1));
+
+        assertThat(result)
+            .extracting(MonthlyGroupSpendDto::getName, dto -> dto.getAmount().toPlainString())
+            .containsExactly(tuple("cash", "30.30"));
+
+    }
+
+    @Test
+    public void WhenReportTwice_ThenBuildSnapshotOnce() throws Exception {
+
+        SpendColumns first = analyticsService.getColumns(account.getId());
+        SpendColumns second = analyticsService.getColumns(account.getId());
+
+        assertThat(second).isSameAs(first);
+        assertThat(first.size()).isEqualTo(3);
+
+    }
+
+    @Test
+    public void WhenTransactionIsCreated_ThenNextReportSeesIt() throws Exception {
+
+        assertThat(analyticsService.getTotal(account.getId(), LocalDate.of(2025, 1, 1), LocalDate.of(2025, 2, 1))).isEqualByComparingTo("30.30");
+
+        create("coffee", "3.00", LocalDateTime.of(2025, 1, 20, 9, 0), null, null);
+
+        assertThat(analyticsService.getTotal(account.getId(), LocalDate.of(2025, 1, 1), LocalDate.of(2025, 2, 1))).isEqualByComparingTo("33.30");
+
+    }
+
+    private void create(String title, String amount, LocalDateTime date, Long tagId, Long paymentId) {
+        transactionService.createTransaction(new TransactionDto(title, null, new BigDecimal(amount), date, tagId, paymentId, account.getId()));
+    }
+
+}
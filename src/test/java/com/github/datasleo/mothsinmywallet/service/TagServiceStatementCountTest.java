@@ -0,0 +1,166 @@
+package com.github.datasleo.mothsinmywallet.service;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.opentest4j.AssertionFailedError;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.autoconfigure.orm.jpa.DataJpaTest;
+import org.springframework.context.annotation.Import;
+import org.springframework.transaction.annotation.Propagation;
+import org.springframework.transaction.annotation.Transactional;
+
+import com.github.datasleo.mothsinmywallet.config.CacheConfig;
+import com.github.datasleo.mothsinmywallet.dto.TagDto;
+import com.github.datasleo.mothsinmywallet.exception.TagNameAlreadyExistsException;
+import com.github.datasleo.mothsinmywallet.exception.TagNotFoundOrNotAuthorizedException;
+import com.github.datasleo.mothsinmywallet.metrics.SqlStatements;
+import com.github.datasleo.mothsinmywallet.model.Account;
+import com.github.datasleo.mothsinmywallet.model.Tag;
+import com.github.datasleo.mothsinmywallet.repository.AccountRepository;
+import com.github.datasleo.mothsinmywallet.repository.TagRepository;
+
+import jakarta.persistence.EntityManagerFactory;
+
+@DataJpaTest
+@Import({TagService.class, SpendAnalyticsService.class, DashboardService.class, CacheConfig.class})
+@Transactional(propagation = Propagation.NOT_SUPPORTED)
+public class TagServiceStatementCountTest {
+
+    @Autowired
+    private TagService tagService;
+
+    @Autowired
+    private AccountRepository accountRepository;
+
+    @Autowired
+    private TagRepository tagRepository;
+
+    @Autowired
+    private EntityManagerFactory entityManagerFactory;
+
+    private Account account;
+
+    private Tag tag;
+
+    @BeforeEach
+    public void setup() {
+        account = accountRepository.save(new Account("foo@foo.com", "hashed_password", "foo"));
+        tag = tagRepository.save(new Tag("food", "food description", account));
+
+        // Identity inserts are not put in the second-level cache; the first read does, as the edit page would.
+        tagService.getTagByIdAndAccountId(tag.getId(), account.getId());
+    }
+
+    @AfterEach
+    public void cleanup() {
+        tagRepository.deleteAllInBatch();
+        accountRepository.deleteAllInBatch();
+    }
+
+    @Test
+    public void WhenCreateTag_ThenRunOneStatement() throws Exception {
+        SqlStatements.assertCount(1, () -> tagService.createTag(new TagDto("market", "description", account.getId())));
+    }
+
+    @Test
+    public void WhenCreateRepeatedTag_ThenRunOneStatement() throws Exception {
+        SqlStatements.assertCount(1, () -> assertThrows(
+            TagNameAlreadyExistsException.class,
+            () -> tagService.createTag(new TagDto("food", "description", account.getId()))
+        ));
+    }
+
+    @Test
+    public void WhenGetTagPageByAccountId_ThenRunOneStatement() throws Exception {
+        SqlStatements.assertCount(1, () -> tagService.getTagPageByAccountId(account.getId(), null, 20));
+    }
+
+    @Test
+    public void WhenGetCachedTagByIdAndAccountId_ThenRunNoStatement() throws Exception {
+        SqlStatements.assertCount(0, () -> tagService.getTagByIdAndAccountId(tag.getId(), account.getId()));
+    }
+
+    @Test
+    public void WhenGetTagByIdAndAccountIdWithColdCache_ThenRunOneStatement() throws Exception {
+
+        entityManagerFactory.getCache().evictAll();
+
+        SqlStatements.assertCount(1, () -> tagService.getTagByIdAndAccountId(tag.getId(), account.getId()));
+        SqlStatements.assertCount(0, () -> tagService.getTagByIdAndAccountId(tag.getId(), account.getId()));
+
+    }
+
+    @Test
+    public void WhenUpdateTag_ThenRunOneStatement() throws Exception {
+        SqlStatements.assertCount(1, () -> tagService.updateTag(tag.getId(), account.getId(), new TagDto("groceries", "description", account.getId())));
+    }
+
+    @Test
+    public void WhenUpdateTag_ThenReadNewValuesOnceAndCacheThem() throws Exception {
+
+        // ARRANGE
+        tagService.updateTag(tag.getId(), account.getId(), new TagDto("groceries", "groceries description", account.getId()));
+
+        // ACT
+        Tag result = SqlStatements.assertCount(1, () -> tagService.getTagByIdAndAccountId(tag.getId(), account.getId()));
+        SqlStatements.assertCount(0, () -> tagService.getTagByIdAndAccountId(tag.getId(), account.getId()));
+
+        // ASSERT
+        assertEquals("groceries", result.getTagName());
+        assertEquals("groceries description", result.getTagDescription());
+
+    }
+
+    @Test
+    public void WhenUpdateTag_ThenKeepTagsOfOtherAccountsCached() throws Exception {
+
+        // ARRANGE
+        Account anotherAccount = accountRepository.save(new Account("bar@bar.com", "hashed_password", "bar"));
+        Tag anotherTag = tagRepository.save(new Tag("food", "food description", anotherAccount));
+        tagService.getTagByIdAndAccountId(anotherTag.getId(), anotherAccount.getId());
+
+        // ACT
+        tagService.updateTag(tag.getId(), account.getId(), new TagDto("groceries", "description", account.getId()));
+        tagService.deleteTag(tag.getId(), account.getId());
+
+        // ASSERT
+        SqlStatements.assertCount(0, () -> tagService.getTagByIdAndAccountId(anotherTag.getId(), anotherAccount.getId()));
+
+    }
+
+    @Test
+    public void WhenGetTagOfAnotherAccount_ThenThrowTagNotFoundOrNotAuthorizedException() throws Exception {
+
+        Account anotherAccount = accountRepository.save(new Account("bar@bar.com", "hashed_password", "bar"));
+
+        assertThrows(
+            TagNotFoundOrNotAuthorizedException.class,
+            () -> tagService.getTagByIdAndAccountId(tag.getId(), anotherAccount.getId())
+        );
+
+    }
+
+    @Test
+    public void WhenDeleteTag_ThenRunOneStatement() throws Exception {
+        SqlStatements.assertCount(1, () -> tagService.deleteTag(tag.getId(), account.getId()));
+    }
+
+    @Test
+    public void WhenLoadingTagsOneByOne_ThenReportRepeatedStatement() throws Exception {
+
+        // ARRANGE
+        Tag market = tagRepository.save(new Tag("market", "market description", account));
+        entityManagerFactory.getCache().evictAll();
+
+        // ACT & ASSERT
+        assertThrows(AssertionFailedError.class, () -> SqlStatements.assertNoRepeatedStatements(() -> {
+            tagService.getTagByIdAndAccountId(tag.getId(), account.getId());
+            tagService.getTagByIdAndAccountId(market.getId(), account.getId());
+        }));
+
+    }
+
+}
@@ -1,13 +1,18 @@
 package com.github.datasleo.mothsinmywallet.service;
 
+import java.sql.SQLException;
 import java.util.Optional;
 
+import jakarta.persistence.Cache;
+import jakarta.persistence.EntityManagerFactory;
+
 import static org.junit.jupiter.api.Assertions.assertEquals;
 import static org.junit.jupiter.api.Assertions.assertNotNull;
 import static org.junit.jupiter.api.Assertions.assertThrows;
 import org.junit.jupiter.api.Test;
 import org.junit.jupiter.api.extension.ExtendWith;
 import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.anyLong;
 import static org.mockito.ArgumentMatchers.anyString;
 import static org.mockito.ArgumentMatchers.eq;
 import org.mockito.InjectMocks;
@@ -17,6 +22,7 @@ import static org.mockito.Mockito.times;
 import static org.mockito.Mockito.verify;
 import static org.mockito.Mockito.when;
 import org.mockito.junit.jupiter.MockitoExtension;
+import org.springframework.dao.DataIntegrityViolationException;
 
 import com.github.datasleo.mothsinmywallet.dto.TagDto;
 import com.github.datasleo.mothsinmywallet.exception.UnauthorizedAccountException;
@@ -36,6 +42,18 @@ public class TagServiceTest {
     @Mock
     private AccountRepository accountRepository;
 
+    @Mock
+    private SpendAnalyticsService spendAnalyticsService;
+
+    @Mock
+    private DashboardService dashboardService;
+
+    @Mock
+    private EntityManagerFactory entityManagerFactory;
+
+    @Mock
+    private Cache cache;
+
     @InjectMocks
     private TagService tagService;
 
@@ -47,8 +65,7 @@ public class TagServiceTest {
         Account mockAccount = new Account("test@test.com", "hashed_passowrd", "test_");
         long mockAccountId = 1L;
 
-        when(accountRepository.findById(eq(mockAccountId))).thenReturn(Optional.of(mockAccount));
-        when(tagRepository.findByTagNameAndAccountId(anyString(), eq(mockAccountId))).thenReturn(Optional.empty());
+        when(accountRepository.getReferenceById(eq(mockAccountId))).thenReturn(mockAccount);
 
         when(tagRepository.save(any(Tag.class))).thenAnswer(invocation -> {
             Tag savedTag = invocation.getArgument(0);
@@ -70,9 +87,10 @@ public class TagServiceTest {
         assertEquals("service", result.getTagName());
         assertEquals("service description", result.getTagDescription());
 
-        verify(accountRepository, times(1)).findById(eq(mockAccountId));
-        verify(tagRepository, times(1)).findByTagNameAndAccountId(anyString(), eq(mockAccountId));
+        verify(accountRepository, times(1)).getReferenceById(eq(mockAccountId));
+        verify(tagRepository, never()).findByTagNameAndAccountId(anyString(), anyLong());
         verify(tagRepository, times(1)).save(any(Tag.class));
+        verify(dashboardService, times(1)).evict(mockAccountId);
 
     }
 
@@ -83,7 +101,10 @@ public class TagServiceTest {
         // ARRANGE
         long mockAccountId = 1L;
 
-        when(accountRepository.findById(eq(mockAccountId))).thenReturn(Optional.empty());
+        when(accountRepository.getReferenceById(eq(mockAccountId))).thenReturn(new Account());
+        when(tagRepository.save(any(Tag.class))).thenThrow(
+            new DataIntegrityViolationException("fk violation", new SQLException("Cannot add or update a child row", "23000", 1452))
+        );
 
         TagDto dto = new TagDto("service", "service description", mockAccountId);
 
@@ -96,9 +117,8 @@ public class TagServiceTest {
 
         assertEquals("Account id 1 was not founded.", thrown.getMessage());
 
-        verify(accountRepository, times(1)).findById(eq(mockAccountId));
-        verify(tagRepository, never()).findByTagNameAndAccountId(anyString(), eq(mockAccountId));
-        verify(tagRepository, never()).save(any(Tag.class));
+        verify(accountRepository, times(1)).getReferenceById(eq(mockAccountId));
+        verify(tagRepository, times(1)).save(any(Tag.class));
 
 
     }
@@ -111,8 +131,10 @@ public class TagServiceTest {
         Account mockAccount = new Account("test@test.com", "hashed_password", "test_");
         long mockAccountId = 1L;
 
-        when(accountRepository.findById(eq(mockAccountId))).thenReturn(Optional.of(mockAccount));
-        when(tagRepository.findByTagNameAndAccountId(anyString(), eq(mockAccountId))).thenReturn(Optional.of(new Tag()));
+        when(accountRepository.getReferenceById(eq(mockAccountId))).thenReturn(mockAccount);
+        when(tagRepository.save(any(Tag.class))).thenThrow(
+            new DataIntegrityViolationException("unique violation", new SQLException("Duplicate entry", "23000", 1062))
+        );
 
         TagDto dto = new TagDto("service", "service description", mockAccountId);
 
@@ -125,9 +147,9 @@ public class TagServiceTest {
 
         assertEquals("Tag service already exists.", thrown.getMessage());
 
-        verify(accountRepository, times(1)).findById(eq(mockAccountId));
-        verify(tagRepository, times(1)).findByTagNameAndAccountId(anyString(), eq(mockAccountId));
-        verify(tagRepository, never()).save(any(Tag.class));
+        verify(accountRepository, times(1)).getReferenceById(eq(mockAccountId));
+        verify(tagRepository, times(1)).save(any(Tag.class));
+        verify(dashboardService, never()).evict(anyLong());
 
     }
 
@@ -142,7 +164,7 @@ public class TagServiceTest {
         long mockTagId = 1L;
         long mockAccountId = 1L;
 
-        when(tagRepository.findByIdAndAccountId(eq(mockTagId), eq(mockAccountId))).thenReturn(Optional.of(mockTag));
+        when(tagRepository.findCachedByIdAndAccountId(eq(mockTagId), eq(mockAccountId))).thenReturn(Optional.of(mockTag));
 
 
         // ACT
@@ -154,7 +176,7 @@ public class TagServiceTest {
         assertEquals("service", result.getTagName());
         assertEquals("service description", result.getTagDescription());
 
-        verify(tagRepository, times(1)).findByIdAndAccountId(eq(mockTagId), eq(mockAccountId));
+        verify(tagRepository, times(1)).findCachedByIdAndAccountId(eq(mockTagId), eq(mockAccountId));
 
     }
 
@@ -166,7 +188,7 @@ public class TagServiceTest {
         long mockTagId = 1L;
         long mockAccountId = 1L;
 
-        when(tagRepository.findByIdAndAccountId(eq(mockTagId), eq(mockAccountId))).thenReturn(Optional.empty());
+        when(tagRepository.findCachedByIdAndAccountId(eq(mockTagId), eq(mockAccountId))).thenReturn(Optional.empty());
 
 
         // ACT & ASSERT
@@ -177,7 +199,7 @@ public class TagServiceTest {
 
         assertEquals("Tag not found or not authorized.", thrown.getMessage());
 
-        verify(tagRepository, times(1)).findByIdAndAccountId(eq(mockTagId), eq(mockAccountId));
+        verify(tagRepository, times(1)).findCachedByIdAndAccountId(eq(mockTagId), eq(mockAccountId));
 
     }
 
@@ -189,7 +211,8 @@ public class TagServiceTest {
         long mockTagId = 1L;
         long mockAccountId = 1L;
 
-        when(tagRepository.findByIdAndAccountId(eq(mockTagId), eq(mockAccountId))).thenReturn(Optional.of(new Tag()));
+        when(tagRepository.deleteByIdAndAccountId(mockTagId, mockAccountId)).thenReturn(1);
+        when(entityManagerFactory.getCache()).thenReturn(cache);
         
 
         // ACT
@@ -197,8 +220,9 @@ public class TagServiceTest {
 
 
         // ASSERT
-        verify(tagRepository, times(1)).findByIdAndAccountId(mockTagId, mockAccountId);
-        verify(tagRepository, times(1)).delete(any(Tag.class));
+        verify(tagRepository, times(1)).deleteByIdAndAccountId(mockTagId, mockAccountId);
+        verify(cache, times(1)).evict(Tag.class, mockTagId);
+        verify(dashboardService, times(1)).evict(mockAccountId);
 
 
     }
@@ -211,7 +235,7 @@ public class TagServiceTest {
         long mockTagId = 1L;
         long mockAccountId = 1L;
 
-        when(tagRepository.findByIdAndAccountId(eq(mockTagId), eq(mockAccountId))).thenReturn(Optional.empty());
+        when(tagRepository.deleteByIdAndAccountId(mockTagId, mockAccountId)).thenReturn(0);
 
 
         // ACT & ASSERT
@@ -222,8 +246,8 @@ public class TagServiceTest {
 
         assertEquals("Tag not found or not authorized.", thrown.getMessage());
 
-        verify(tagRepository, times(1)).findByIdAndAccountId(mockTagId, mockAccountId);
-        verify(tagRepository, never()).delete(any(Tag.class));
+        verify(entityManagerFactory, never()).getCache();
+        verify(dashboardService, never()).evict(anyLong());
 
     }
 
@@ -235,30 +259,19 @@ public class TagServiceTest {
         long mockTagId = 1L;
         long mockAccountId = 1L;
 
-        Account mockAccount = new Account("test@test.com", "hashed_password", "test");
-        Tag mockTag = new Tag("service", "service description", mockAccount); 
         TagDto mockTagDto = new TagDto("sport", "sport description", mockAccountId);
 
-        when(tagRepository.findByIdAndAccountId(mockTagId, mockAccountId)).thenReturn(Optional.of(mockTag));
-
-        mockTag.setTagName(mockTagDto.getTagName());
-        mockTag.setTagDescription(mockTagDto.getTagDescription());
-
-        when(tagRepository.save(mockTag)).thenAnswer(invocation -> invocation.getArgument(0));    
+        when(tagRepository.updateByIdAndAccountId(mockTagId, mockAccountId, "sport", "sport description")).thenReturn(1);
+        when(entityManagerFactory.getCache()).thenReturn(cache);
 
 
         // ACT
-        Tag result = tagService.updateTag(mockTagId, mockAccountId, mockTagDto);
+        tagService.updateTag(mockTagId, mockAccountId, mockTagDto);
 
 
         // ASSERT
-        assertNotNull(result);
-        assertEquals("sport", result.getTagName());
-        assertEquals("sport description", result.getTagDescription());
-
-        verify(tagRepository, times(1)).findByIdAndAccountId(mockTagId, mockAccountId);
-        verify(tagRepository, never()).findByTagNameAndAccountId(mockTagDto.getTagName(), mockAccountId);
-        verify(tagRepository, times(1)).save(mockTag);
+        verify(tagRepository, times(1)).updateByIdAndAccountId(mockTagId, mockAccountId, "sport", "sport description");
+        verify(cache, times(1)).evict(Tag.class, mockTagId);
 
     }
 
@@ -272,7 +285,7 @@ public class TagServiceTest {
 
         TagDto mockTagDto = new TagDto("sport", "sport description", mockAccountId);
 
-        when(tagRepository.findByIdAndAccountId(mockTagId, mockAccountId)).thenReturn(Optional.empty());
+        when(tagRepository.updateByIdAndAccountId(mockTagId, mockAccountId, "sport", "sport description")).thenReturn(0);
 
         // ACT & ASSERT
 
@@ -283,26 +296,23 @@ public class TagServiceTest {
 
         assertEquals("Tag not found or not authorized.", thrown.getMessage());
         
-        verify(tagRepository, times(1)).findByIdAndAccountId(mockTagId, mockAccountId);
-        verify(tagRepository, never()).findByTagNameAndAccountId(mockTagDto.getTagName(), mockAccountId);
-        verify(tagRepository, never()).save(any(Tag.class));
+        verify(entityManagerFactory, never()).getCache();
 
     }
 
     @Test
-    public void WhenUpdateTagWithSameTagNameAlreadyPersist_MustReturnTagNameAlreadyExistsException() throws Exception {
+    public void WhenUpdateTagWithTagNameAlreadyExists_MustReturnTagNameAlreadyExistsException() throws Exception {
 
         
         // ARRANGE
         long mockTagId = 1L;
         long mockAccountId = 1L;
 
-        Account mockAccount = new Account("test@test.com", "hashed_password", "test");
-        Tag mockTag = new Tag("old tag", "old description tag", mockAccount); 
         TagDto mockTagDto = new TagDto("service", "service description", mockAccountId);
 
-        when(tagRepository.findByIdAndAccountId(mockTagId, mockAccountId)).thenReturn(Optional.of(mockTag));
-        when(tagRepository.findByTagNameAndAccountId(mockTagDto.getTagName(), mockAccountId)).thenReturn(Optional.of(mockTag));
+        when(tagRepository.updateByIdAndAccountId(mockTagId, mockAccountId, "service", "service description")).thenThrow(
+            new DataIntegrityViolationException("unique violation", new SQLException("Duplicate entry", "23000", 1062))
+        );
 
 
         // ACT & ASSERT
@@ -314,9 +324,7 @@ public class TagServiceTest {
 
         assertEquals("Tag 'service' already exists in this account.", thrown.getMessage());
 
-        verify(tagRepository, times(1)).findByIdAndAccountId(mockTagId, mockAccountId);
-        verify(tagRepository, times(1)).findByTagNameAndAccountId(mockTagDto.getTagName(), mockAccountId);
-        verify(tagRepository, never()).save(any(Tag.class));
+        verify(entityManagerFactory, never()).getCache();
 
     }
 
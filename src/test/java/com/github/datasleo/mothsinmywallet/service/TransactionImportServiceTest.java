@@ -0,0 +1,236 @@
+package com.github.datasleo.mothsinmywallet.service;
+
+import java.io.StringReader;
+import java.math.BigDecimal;
+import java.time.LocalDateTime;
+import java.util.Comparator;
+import java.util.List;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.autoconfigure.orm.jpa.DataJpaTest;
+import org.springframework.boot.test.autoconfigure.orm.jpa.TestEntityManager;
+import org.springframework.context.annotation.Import;
+
+import com.github.datasleo.mothsinmywallet.config.CacheConfig;
+import com.github.datasleo.mothsinmywallet.dto.TransactionImportResultDto;
+import com.github.datasleo.mothsinmywallet.exception.InvalidCsvFileException;
+import com.github.datasleo.mothsinmywallet.model.Account;
+import com.github.datasleo.mothsinmywallet.model.PaymentMethod;
+import com.github.datasleo.mothsinmywallet.model.Tag;
+import com.github.datasleo.mothsinmywallet.model.Transaction;
+import com.github.datasleo.mothsinmywallet.repository.TransactionRepository;
+
+@DataJpaTest(properties = "app.import.batch-size=2")
+@Import({TransactionImportService.class, MonthlySpendService.class, SpendAnalyticsService.class, DashboardService.class, CacheConfig.class})
+public class TransactionImportServiceTest {
+
+    @Autowired
+    private TransactionImportService importService;
+
+    @Autowired
+    private TransactionRepository transactionRepository;
+
+    @Autowired
+    private TestEntityManager entityManager;
+
+    private Account account;
+    private Tag tag;
+    private PaymentMethod payment;
+
+    @BeforeEach
+    public void setup() {
+
+        account = entityManager.persist(new Account("foo@foo.com", "hashed_password", "foo"));
+        tag = entityManager.persist(new Tag("food", "food description", account));
+        payment = entityManager.persist(new PaymentMethod("cash", "cash description", account));
+
+        Account anotherAccount = entityManager.persist(new Account("bar@bar.com", "hashed_password", "bar"));
+        entityManager.persist(new Tag("travel", "travel description", anotherAccount));
+
+    }
+
+    @Test
+    public void WhenImportCsv_ThenInsertEveryRowAcrossBatchesResolvingNames() throws Exception {
+
+        // ARRANGE
+        String csv = """
+            title,description,amount,date,tag,payment_method
+            lunch,"with ""friends"", downtown",25.90,2025-01-10T12:30,food,cash
+            bus,,4.40,2025-01-11,,
+            dinner,,40.00,2025-01-12,food,
+            coffee,,3.50,2025-01-13,,cash
+            market,,120.35,2025-01-14,food,cash
+            """;
+
+
+        // ACT
+        TransactionImportResultDto result = importService.importCsv(account.getId(), new StringReader(csv));
+
+        entityManager.clear();
+
+
+        // ASSERT
+        assertThat(result.getImportedRows()).isEqualTo(5);
+        assertThat(result.getRejectedRows()).isZero();
+
+        List<Transaction> transactions = transactionRepository.findAll();
+        transactions.sort(Comparator.comparing(Transaction::getDate));
+
+        assertThat(transactions).hasSize(5);
+
+        Transaction lunch = transactions.get(0);
+
+        assertThat(lunch.getTitle()).isEqualTo("lunch");
+        assertThat(lunch.getDescription()).isEqualTo("with \"friends\", downtown");
+        assertThat(lunch.getAmount()).isEqualByComparingTo(new BigDecimal("25.90"));
+        assertThat(lunch.getDate()).isEqualTo(LocalDateTime.of(2025, 1, 10, 12, 30));
+        assertThat(lunch.getTag().getId()).isEqualTo(tag.getId());
+        assertThat(lunch.getPaymentMethod().getId()).isEqualTo(payment.getId());
+        assertThat(lunch.getAccount().getId()).isEqualTo(account.getId());
+
+        Transaction bus = transactions.get(1);
+
+        assertThat(bus.getDate()).isEqualTo(LocalDateTime.of(2025, 1, 11, 0, 0));
+        assertThat(bus.getDescription()).isNull();
+        assertThat(bus.getTag()).isNull();
+        assertThat(bus.getPaymentMethod()).isNull();
+
+    }
+
+    @Test
+    public void WhenImportCsvWithInvalidLines_ThenRejectThoseLinesAndImportTheRest() throws Exception {
+
+        // ARRANGE
+        String csv = """
+            date,amount,title,tag
+            2025-01-10,25.90,lunch,food
+            2025-01-11,abc,bus,
+            2025-01-12,10.00,flight,travel
+            not a date,1.00,coffee,
+
+            2025-01-13,3.50,,
+            2025-01-14,3.50,tea,
+            """;
+
+
+        // ACT
+        TransactionImportResultDto result = importService.importCsv(account.getId(), new StringReader(csv));
+
+
+        // ASSERT
+        assertThat(result.getImportedRows()).isEqualTo(2);
+        assertThat(result.getRejectedRows()).isEqualTo(4);
+        assertThat(result.getErrors()).containsExactly(
+            "Line 3: Invalid amount 'abc'.",
+            "Line 4: Tag 'travel' was not found.",
+            "Line 5: Invalid date 'not a date', expected yyyy-MM-dd or yyyy-MM-ddTHH:mm.",
+            "Line 7: Title is required."
+        );
+
+        assertThat(transactionRepository.count()).isEqualTo(2);
+
+    }
+
+    @Test
+    public void WhenImportCsvWithoutRequiredColumn_ThenThrowInvalidCsvFileException() throws Exception {
+
+        // ACT & ASSERT
+        InvalidCsvFileException thrown = assertThrows(
+            InvalidCsvFileException.class,
+            () -> importService.importCsv(account.getId(), new StringReader("title,date\nlunch,2025-01-10\n"))
+        );
+
+        assertThat(thrown.getMessage()).isEqualTo("Missing column 'amount' in the header.");
+
+    }
+
+    @Test
+    public void WhenImportEmptyCsv_ThenThrowInvalidCsvFileException() throws Exception {
+
+        // ACT & ASSERT
+        assertThrows(InvalidCsvFileException.class, () -> importService.importCsv(account.getId(), new StringReader("")));
+
+    }
+
+    @Test
+    public void WhenImportCsvWithQuotedLineBreaks_ThenJoinTheLinesOfEachRecord() throws Exception {
+
+        // ARRANGE
+        String csv = """
+            date,amount,title,description
+            2025-01-10,25.90,lunch,"first line
+            second line"
+            2025-01-11,abc,"bus
+            ride",
+            2025-01-12,10.00,dinner,
+            """;
+
+
+        // ACT
+        TransactionImportResultDto result = importService.importCsv(account.getId(), new StringReader(csv));
+
+
+        // ASSERT
+        assertThat(result.getImportedRows()).isEqualTo(2);
+        assertThat(result.getErrors()).containsExactly("Line 4: Invalid amount 'abc'.");
+
+        assertThat(transactionRepository.findAll())
+            .extracting(Transaction::getDescription)
+            .containsExactlyInAnyOrder("first line\nsecond line", null);
+
+    }
+
+    @Test
+    public void WhenImportCsvWithStrayQuote_ThenRejectThatRecordWithoutReadingTheWholeFile() throws Exception {
+
+        // ARRANGE
+        StringBuilder csv = new StringBuilder("date,amount,title\n2025-01-10,1.00,\"lunch\n");
+
+        for(int i = 0; i < 2000; i++) {
+            csv.append("2025-01-11,1.00,coffee\n");
+        }
+
+
+        // ACT
+        TransactionImportResultDto result = importService.importCsv(account.getId(), new StringReader(csv.toString()));
+
+
+        // ASSERT
+        assertThat(result.getErrors()).containsExactly("Line 2: Unclosed quote.");
+        assertThat(result.getImportedRows()).isPositive();
+
+    }
+
+    @Test
+    public void WhenImportCsvWithValuesTheColumnsCannotHold_ThenRejectThoseLinesAndImportTheRest() throws Exception {
+
+        // ARRANGE
+        String csv = "date,amount,title,description\n"
+            + "2025-01-10,1234567890.00,rent,\n"
+            + "2025-01-11,1.005,coffee,\n"
+            + "2025-01-12,999999999.99,house,\n"
+            + "2025-01-13,25.900,lunch," + "x".repeat(256) + "\n"
+            + "2025-01-14,3.50,tea," + "x".repeat(255) + "\n";
+
+
+        // ACT
+        TransactionImportResultDto result = importService.importCsv(account.getId(), new StringReader(csv));
+
+
+        // ASSERT
+        assertThat(result.getImportedRows()).isEqualTo(2);
+        assertThat(result.getErrors()).containsExactly(
+            "Line 2: Amount '1234567890.00' is out of range.",
+            "Line 3: Amount '1.005' has more than 2 decimal places.",
+            "Line 5: Description is longer than 255 characters."
+        );
+
+        assertThat(transactionRepository.count()).isEqualTo(2);
+
+    }
+
+}
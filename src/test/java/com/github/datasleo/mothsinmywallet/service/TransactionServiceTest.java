@@ -0,0 +1,244 @@
+package com.github.datasleo.mothsinmywallet.service;
+
+import java.math.BigDecimal;
+import java.time.LocalDateTime;
+import java.util.List;
+import java.util.Map;
+import java.util.Optional;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.anyLong;
+import static org.mockito.ArgumentMatchers.eq;
+import org.mockito.InjectMocks;
+import org.mockito.Mock;
+import static org.mockito.Mockito.never;
+import static org.mockito.Mockito.times;
+import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.when;
+import org.mockito.junit.jupiter.MockitoExtension;
+import org.springframework.data.domain.Limit;
+import org.springframework.data.domain.ScrollPosition;
+import org.springframework.data.domain.Window;
+
+import com.github.datasleo.mothsinmywallet.dto.TransactionAmountDto;
+import com.github.datasleo.mothsinmywallet.dto.TransactionDto;
+import com.github.datasleo.mothsinmywallet.dto.TransactionSummaryDto;
+import com.github.datasleo.mothsinmywallet.exception.PaymentMethodNotFoundOrNotAuthorizedException;
+import com.github.datasleo.mothsinmywallet.exception.TagNotFoundOrNotAuthorizedException;
+import com.github.datasleo.mothsinmywallet.exception.TransactionNotFoundOrNotAuthorizedException;
+import com.github.datasleo.mothsinmywallet.model.Account;
+import com.github.datasleo.mothsinmywallet.model.Tag;
+import com.github.datasleo.mothsinmywallet.model.Transaction;
+import com.github.datasleo.mothsinmywallet.repository.AccountRepository;
+import com.github.datasleo.mothsinmywallet.repository.PaymentMethodRepository;
+import com.github.datasleo.mothsinmywallet.repository.TagRepository;
+import com.github.datasleo.mothsinmywallet.repository.TransactionRepository;
+
+@ExtendWith(MockitoExtension.class)
+public class TransactionServiceTest {
+
+    private static final LocalDateTime FROM = LocalDateTime.of(2025, 1, 1, 0, 0);
+    private static final LocalDateTime TO = LocalDateTime.of(2025, 2, 1, 0, 0);
+
+    @Mock
+    private TransactionRepository transactionRepository;
+
+    @Mock
+    private TagRepository tagRepository;
+
+    @Mock
+    private PaymentMethodRepository paymentRepository;
+
+    @Mock
+    private AccountRepository accountRepository;
+
+    @Mock
+    private SpendAnalyticsService spendAnalyticsService;
+
+    @Mock
+    private DashboardService dashboardService;
+
+    @Mock
+    private MonthlySpendService monthlySpendService;
+
+    @InjectMocks
+    private TransactionService transactionService;
+
+// -------------------------------------------------- createTransaction method -------------------------------------------------- 
+
+    @Test
+    public void WhenCreateTransactionWithTag_ThenSaveTransactionLinkedToTag() throws Exception {
+
+        // ARRANGE
+        Account mockAccount = new Account("foo@foo.com", "hashed_password", "foo");
+        Tag mockTag = new Tag("food", "food description", mockAccount);
+
+        TransactionDto dto = new TransactionDto("lunch", null, new BigDecimal("25.90"), LocalDateTime.of(2025, 1, 10, 12, 0), 3L, null, 1L);
+
+        when(accountRepository.getReferenceById(1L)).thenReturn(mockAccount);
+        when(tagRepository.findCachedByIdAndAccountId(3L, 1L)).thenReturn(Optional.of(mockTag));
+        when(tagRepository.getReferenceById(3L)).thenReturn(mockTag);
+        when(transactionRepository.save(any(Transaction.class))).thenAnswer(answer -> answer.getArgument(0));
+
+
+        // ACT
+        Transaction result = transactionService.createTransaction(dto);
+
+
+        // ASSERT
+        assertEquals("lunch", result.getTitle());
+        assertEquals(mockTag, result.getTag());
+        assertEquals(mockAccount, result.getAccount());
+
+        verify(paymentRepository, never()).findCachedByIdAndAccountId(anyLong(), anyLong());
+        verify(monthlySpendService, times(1)).add(1L, dto.getDate(), 3L, null, new BigDecimal("25.90"));
+
+    }
+
+    @Test
+    public void WhenCreateTransactionWithTagOfAnotherAccount_ThenThrowTagNotFoundOrNotAuthorizedException() throws Exception {
+
+        // ARRANGE
+        TransactionDto dto = new TransactionDto("lunch", null, new BigDecimal("25.90"), null, 3L, null, 1L);
+
+        when(tagRepository.findCachedByIdAndAccountId(3L, 1L)).thenReturn(Optional.empty());
+
+
+        // ACT & ASSERT
+        assertThrows(TagNotFoundOrNotAuthorizedException.class, () -> transactionService.createTransaction(dto));
+
+        verify(transactionRepository, never()).save(any(Transaction.class));
+
+    }
+
+    @Test
+    public void WhenCreateTransactionWithPaymentMethodOfAnotherAccount_ThenThrowPaymentMethodNotFoundOrNotAuthorizedException() throws Exception {
+
+        // ARRANGE
+        TransactionDto dto = new TransactionDto("lunch", null, new BigDecimal("25.90"), null, null, 5L, 1L);
+
+        when(paymentRepository.findCachedByIdAndAccountId(5L, 1L)).thenReturn(Optional.empty());
+
+
+        // ACT & ASSERT
+        assertThrows(PaymentMethodNotFoundOrNotAuthorizedException.class, () -> transactionService.createTransaction(dto));
+
+        verify(transactionRepository, never()).save(any(Transaction.class));
+
+    }
+
+// -------------------------------------------------- getTransactionPage method -------------------------------------------------- 
+
+    @Test
+    public void WhenGetFirstTransactionPageWithMoreRows_ThenReturnPageSizeRowsAndCursorOfLastRow() throws Exception {
+
+        // ARRANGE
+        LocalDateTime newest = LocalDateTime.of(2025, 1, 20, 8, 0);
+        LocalDateTime middle = LocalDateTime.of(2025, 1, 15, 8, 0);
+
+        List<TransactionSummaryDto> rows = List.of(
+            new TransactionSummaryDto(9L, "bus", new BigDecimal("4.40"), newest, null, null),
+            new TransactionSummaryDto(7L, "lunch", new BigDecimal("25.90"), middle, "food", "cash"),
+            new TransactionSummaryDto(2L, "coffee", new BigDecimal("3.00"), LocalDateTime.of(2025, 1, 2, 8, 0), null, null)
+        );
+
+        when(transactionRepository.findSummariesByAccountIdAndDateRange(1L, FROM, TO, TO, Long.MAX_VALUE, Limit.of(3))).thenReturn(rows);
+
+
+        // ACT
+        Window<TransactionSummaryDto> result = transactionService.getTransactionPage(1L, FROM, TO, ScrollPosition.keyset(), 2);
+
+
+        // ASSERT
+        assertEquals(2, result.size());
+        assertTrue(result.hasNext());
+        assertEquals(ScrollPosition.forward(Map.of("date", middle, "id", 7L)), result.positionAt(result.size() - 1));
+
+    }
+
+    @Test
+    public void WhenGetNextTransactionPage_ThenSeekFromCursor() throws Exception {
+
+        // ARRANGE
+        LocalDateTime cursorDate = LocalDateTime.of(2025, 1, 15, 8, 0);
+
+        when(transactionRepository.findSummariesByAccountIdAndDateRange(eq(1L), eq(FROM), eq(TO), eq(cursorDate), eq(7L), any(Limit.class)))
+            .thenReturn(List.of());
+
+
+        // ACT
+        Window<TransactionSummaryDto> result = transactionService.getTransactionPage(
+            1L, FROM, TO, ScrollPosition.forward(Map.of("date", cursorDate, "id", 7L)), 20);
+
+
+        // ASSERT
+        assertTrue(result.isEmpty());
+        assertFalse(result.hasNext());
+
+        verify(transactionRepository, times(1)).findSummariesByAccountIdAndDateRange(1L, FROM, TO, cursorDate, 7L, Limit.of(21));
+
+    }
+
+// -------------------------------------------------- deleteTransaction method -------------------------------------------------- 
+
+    @Test
+    public void WhenDeleteTransaction_ThenSubtractItFromMonthlyRollup() throws Exception {
+
+        // ARRANGE
+        LocalDateTime date = LocalDateTime.of(2025, 1, 10, 12, 0);
+
+        when(transactionRepository.findAmountByIdAndAccountId(1L, 1L)).thenReturn(new TransactionAmountDto(new BigDecimal("25.90"), date, 3L, null));
+        when(transactionRepository.deleteByIdAndAccountId(1L, 1L)).thenReturn(1);
+
+
+        // ACT
+        transactionService.deleteTransaction(1L, 1L);
+
+
+        // ASSERT
+        verify(monthlySpendService, times(1)).subtract(1L, date, 3L, null, new BigDecimal("25.90"));
+
+    }
+
+    @Test
+    public void WhenDeleteTransactionButTransactionWasNotFound_ThenThrowTransactionNotFoundOrNotAuthorizedException() throws Exception {
+
+        // ARRANGE
+        when(transactionRepository.findAmountByIdAndAccountId(1L, 1L)).thenReturn(null);
+
+
+        // ACT & ASSERT
+        TransactionNotFoundOrNotAuthorizedException thrown = assertThrows(
+            TransactionNotFoundOrNotAuthorizedException.class,
+            () -> transactionService.deleteTransaction(1L, 1L)
+        );
+
+        assertEquals("Transaction not found or not authorized.", thrown.getMessage());
+
+        verify(transactionRepository, never()).deleteByIdAndAccountId(anyLong(), anyLong());
+        verify(monthlySpendService, never()).subtract(anyLong(), any(), any(), any(), any());
+
+    }
+
+    @Test
+    public void WhenDeleteTransactionButAnotherRequestDeletedItFirst_ThenDoNotSubtractItTwice() throws Exception {
+
+        // ARRANGE
+        when(transactionRepository.findAmountByIdAndAccountId(1L, 1L)).thenReturn(new TransactionAmountDto(new BigDecimal("25.90"), LocalDateTime.of(2025, 1, 10, 12, 0), null, null));
+        when(transactionRepository.deleteByIdAndAccountId(1L, 1L)).thenReturn(0);
+
+
+        // ACT & ASSERT
+        assertThrows(TransactionNotFoundOrNotAuthorizedException.class, () -> transactionService.deleteTransaction(1L, 1L));
+
+        verify(monthlySpendService, never()).subtract(anyLong(), any(), any(), any(), any());
+
+    }
+
+}